@@ -0,0 +1,136 @@
+// @checkstyle JavadocPackageCheck disabled
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.loop;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.func.donothing.DoNothing32;
+import com.github.fabriciofx.shah.func.jenkins.Lookup2Hash32;
+import com.github.fabriciofx.shah.func.jenkins.OaatHash32;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.keys.KeysOf;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.seed.Seed32;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * LoopBenchmark.
+ *
+ * <p>Measure Murmur3 through the plain and the specialized loop, in a
+ * fresh JVM (clean) or after other functions have run through the plain
+ * loop (polluted). The plain loop slows down once polluted, while the
+ * specialized loop runs at the same speed in both orders.</p>
+ *
+ * @since 0.0.1
+ * @checkstyle ConstantUsageCheck (200 lines)
+ */
+@State(Scope.Thread)
+public class LoopBenchmark {
+    /**
+     * Number of keys hashed per invocation.
+     */
+    private static final int KEYS = 4096;
+
+    /**
+     * Number of rounds of the other functions to pollute the plain loop.
+     */
+    private static final int ROUNDS = 2000;
+
+    /**
+     * Loop under benchmark: plain or specialized.
+     */
+    @Param({"plain", "specialized"})
+    private String kind;
+
+    /**
+     * Whether other functions run through the plain loop before.
+     */
+    @Param({"false", "true"})
+    private boolean polluted;
+
+    /**
+     * Keys.
+     */
+    private Keys keys;
+
+    /**
+     * Loop under benchmark.
+     */
+    private Loop loop;
+
+    /**
+     * Checksum of the hashes computed while polluting, so they are used.
+     */
+    private long checksum;
+
+    /**
+     * Set up each benchmark before running.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final Seed seed = new Seed32(12_345);
+        final Key[] items = new Key[LoopBenchmark.KEYS];
+        final Keys random = new RandomKeys(16, seed, items.length);
+        for (int idx = 0; idx < items.length; ++idx) {
+            items[idx] = new KeyOf(random.item(idx).asBytes());
+        }
+        this.keys = new KeysOf(items.length, idx -> items[idx]);
+        if (this.polluted) {
+            final List<BiFunction<Key, Seed, Hash>> others = Arrays.asList(
+                (key, sed) -> new OaatHash32(key).hash(),
+                (key, sed) -> new Lookup2Hash32(key, sed).hash(),
+                (key, sed) -> new DoNothing32().hash()
+            );
+            for (int round = 0; round < LoopBenchmark.ROUNDS; ++round) {
+                for (final BiFunction<Key, Seed, Hash> other : others) {
+                    new LoopOf(other, seed).run(
+                        this.keys,
+                        0,
+                        items.length,
+                        hash -> this.checksum += hash.byteAt(0)
+                    );
+                }
+            }
+        }
+        final BiFunction<Key, Seed, Hash> func =
+            (key, sed) -> new Murmur3Hash32(key, sed).hash();
+        if ("plain".equals(this.kind)) {
+            this.loop = new LoopOf(func, seed);
+        } else {
+            this.loop = new Specialized(func, seed);
+        }
+    }
+
+    /**
+     * Benchmark hashes per second.
+     * @param blackhole The benchmark blackhole
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(LoopBenchmark.KEYS)
+    public void hashes(final Blackhole blackhole) {
+        this.loop.run(this.keys, 0, LoopBenchmark.KEYS, blackhole::consume);
+    }
+}
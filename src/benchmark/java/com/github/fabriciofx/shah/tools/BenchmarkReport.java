@@ -46,6 +46,7 @@ public final class BenchmarkReport {
                 .skip(1)
                 .map(String::trim)
                 .filter(line -> !line.startsWith("#"))
+                .filter(line -> line.matches("^\"[^\"]*PerSecond\".*"))
                 .iterator();
             while (iter.hasNext()) {
                 final String first = iter.next();
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Footprint.
+ *
+ * <p>The memory a test needs, estimated from its parameters before it
+ * runs, so that a too large test is rejected or planned with a cheaper
+ * storage up front instead of running out of memory hours later.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Footprint {
+    /**
+     * Number of hashes held until the metric is computed.
+     * @return The number of hashes
+     */
+    long hashes();
+
+    /**
+     * Largest number of hashes sorted at once to compute the metric.
+     * @return The number of hashes
+     */
+    long sorted();
+
+    /**
+     * Width of the hashes in bytes.
+     * @return The width in bytes
+     */
+    int width();
+
+    /**
+     * Bytes of the counters held until the metric is computed.
+     * @return The number of bytes
+     */
+    long counters();
+
+    /**
+     * Bytes of the transient state of a chunk in flight.
+     * @return The number of bytes
+     */
+    long chunk();
+}
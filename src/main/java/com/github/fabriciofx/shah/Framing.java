@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+
+/**
+ * Framing.
+ *
+ * <p>How the keys of a corpus file are framed, e.g. one per line: where
+ * the keys start, so the file can be split in parts holding whole keys,
+ * and how to take the keys out of a part.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Framing {
+    /**
+     * Find the start of the first key at or after a position of a file.
+     * @param channel The file
+     * @param known Position of the start of a key, at or before the
+     *  position
+     * @param position The position
+     * @return The start of the key, or the size of the file if there is
+     *  no key after the position
+     * @throws IOException If the file can't be read
+     */
+    long start(FileChannel channel, long known, long position)
+        throws IOException;
+
+    /**
+     * Hand over the keys of a part of a file.
+     * @param buffer The part, holding whole keys
+     * @param out Consume the keys, views of the buffer, in file order
+     */
+    void keys(ByteBuffer buffer, Consumer<Key> out);
+}
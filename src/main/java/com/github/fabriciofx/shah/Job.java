@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Job.
+ *
+ * <p>A named test with an estimated cost, used to schedule the tests of a
+ * suite. The cost is relative: only the order between jobs matters.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+public interface Job<T> extends Test<T> {
+    /**
+     * Name of the job, unique in a suite.
+     * @return The name
+     */
+    String name();
+
+    /**
+     * Estimated cost of the job.
+     * @return The estimated cost
+     */
+    long cost();
+}
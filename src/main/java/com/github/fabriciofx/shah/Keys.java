@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Keys.
+ *
+ * <p>An indexed source of keys. The same index always yields the same
+ * key, so keys can be generated in any order and by any thread.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Keys {
+    /**
+     * Get the number of keys.
+     * @return The number of keys
+     */
+    int count();
+
+    /**
+     * Get the key at the specified index.
+     * @param index The index of the key to retrieve
+     * @return The key at the specified index
+     */
+    Key item(int index);
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Listener.
+ *
+ * <p>Follow the progress of a running test: the test enters phases, e.g.
+ * {@code "hash"} or {@code "sort"}, and reports the units (usually keys)
+ * and bytes it has processed. The units may be reported concurrently by
+ * the chunks of a {@link Runner}.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Listener {
+    /**
+     * Enter a phase.
+     * @param name Name of the phase
+     * @param total Number of units of the phase, or zero if unknown
+     */
+    void phase(String name, long total);
+
+    /**
+     * Report processed units of the current phase.
+     * @param units Number of units processed since the last report
+     * @param bytes Number of bytes processed since the last report
+     */
+    void advance(long units, long bytes);
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+import java.util.function.Consumer;
+
+/**
+ * Loop.
+ *
+ * <p>The hot loop of a test: hash a range of keys with a hash function and
+ * hand each hash over, in key order.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Loop {
+    /**
+     * Hash the keys {@code [from, to)}.
+     * @param keys The keys
+     * @param from First key index
+     * @param to Key index after the last one
+     * @param out Consume the hashes, in key order
+     */
+    void run(Keys keys, int from, int to, Consumer<Hash> out);
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Mergeable.
+ *
+ * <p>A metric built from raw counters that can be combined with the counters
+ * of another metric of the same kind, computed over another part of the
+ * workload (a chunk, a shard or a previous session). The merge adds up the
+ * counters only: derived values are computed from the merged counters, so
+ * merging partial metrics gives exactly the metric of the whole workload,
+ * whatever the way it has been split.</p>
+ *
+ * <p>The merge must be associative. Immutable metrics return a new metric,
+ * accumulators may add the other counters to themselves and return
+ * themselves: in both cases, use the returned metric and do not use the
+ * other one afterwards.</p>
+ *
+ * @param <T> Type of the metric
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface Mergeable<T extends Mergeable<T>> {
+    /**
+     * Merge the counters of another metric, computed after this one.
+     * @param other The other metric
+     * @return The merged metric
+     */
+    T merge(T other);
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Pseudo-random number generator.
+ *
+ * <p>A splittable generator used to produce keys. Unlike
+ * {@link java.util.Random}, it is not synchronized and it can be split
+ * into deterministic independent streams, so each parallel worker (or
+ * each key) can draw from its own stream and the generated keys do not
+ * depend on the number of threads.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Prng {
+    /**
+     * Generate the next 64-bit value.
+     * @return The next 64-bit value
+     */
+    long nextLong();
+
+    /**
+     * Fill a byte array with random bytes.
+     * @param bytes The byte array to be filled
+     */
+    void nextBytes(byte[] bytes);
+
+    /**
+     * Create an independent generator derived from this one and an index.
+     *
+     * <p>It does not advance this generator: splitting the same generator
+     * with the same index always yields the same stream.</p>
+     * @param index The stream index
+     * @return A new generator
+     */
+    Prng split(long index);
+}
@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Profile.
+ *
+ * <p>A run profile: how many samples the tests take, from a quick check
+ * before a merge to a thorough qualification. The sample sizes of the
+ * tests are given for the standard profile and scaled by the profile.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Profile {
+    /**
+     * Name of the profile.
+     * @return The name
+     */
+    String name();
+
+    /**
+     * Scale a number of samples given for the standard profile.
+     * @param standard Number of samples of the standard profile
+     * @return The number of samples of this profile, at least one
+     */
+    int samples(int standard);
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Runner.
+ *
+ * <p>Runs a workload of {@code count} indexed units. The units are split in
+ * chunks of {@code grain} units, each chunk produces a partial result and
+ * the partial results are merged in chunk order. Since the chunks depend
+ * only on {@code count} and {@code grain}, the result is the same whatever
+ * the number of threads used to compute the chunks.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Runner {
+    /**
+     * Run the workload and merge the partial results.
+     * @param count Number of units
+     * @param grain Number of units per chunk
+     * @param chunk Compute the partial result of units {@code [from, to)}
+     * @param merge Merge two partial results, the first one preceding the
+     *  second one
+     * @param <T> Type of the result
+     * @return The merged result
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    <T> T reduce(
+        int count,
+        int grain,
+        BiFunction<Integer, Integer, T> chunk,
+        BinaryOperator<T> merge
+    );
+}
@@ -34,4 +34,10 @@ public interface Seed {
      * @return A {@link Random}
      */
     Random random();
+
+    /**
+     * Create a splittable {@link Prng} from seed.
+     * @return A {@link Prng}
+     */
+    Prng prng();
 }
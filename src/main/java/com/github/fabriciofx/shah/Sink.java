@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+/**
+ * Sink.
+ *
+ * <p>Consume a stream of hashes and accumulate a metric from them. Several
+ * sinks can be fed from the same hash stream, so the keys are generated and
+ * hashed only once for all of them.</p>
+ *
+ * <p>A sink is not thread-safe: to consume a stream in chunks, feed an
+ * {@link #empty()} copy per chunk and merge the copies in chunk order.</p>
+ *
+ * @param <T> Type of the metric value
+ * @since 0.0.1
+ */
+public interface Sink<T> extends Metric<T> {
+    /**
+     * Consume a hash.
+     * @param hash The hash
+     */
+    void add(Hash hash);
+
+    /**
+     * Create an empty sink of the same kind and parameters.
+     * @return A new empty sink
+     */
+    Sink<T> empty();
+
+    /**
+     * Merge the hashes consumed by another sink of the same kind, consumed
+     * after the hashes of this one.
+     * @param other The other sink
+     * @return This sink
+     */
+    Sink<T> merge(Sink<T> other);
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+import java.util.Map;
+
+/**
+ * Summarized.
+ *
+ * <p>A metric that tells the numbers of its outcome by name, e.g. the
+ * collisions and the collision ratio, for the records of a report. The
+ * values are numbers, booleans, strings, lists or maps of them, in the
+ * order they are written.</p>
+ *
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface Summarized {
+    /**
+     * The numbers that tell the outcome of the metric.
+     * @return The fields, by name
+     */
+    Map<String, Object> summary();
+}
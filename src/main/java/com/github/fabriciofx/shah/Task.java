@@ -0,0 +1,25 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah;
+
+import java.io.Serializable;
+
+/**
+ * Task.
+ *
+ * <p>A unit of work that can be sent to another JVM and run there. Both the
+ * task and its result are serialized.</p>
+ *
+ * @param <T> Type of the result
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface Task<T extends Serializable> extends Serializable {
+    /**
+     * Run the task.
+     * @return The result
+     */
+    T result();
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cache;
+
+import com.github.fabriciofx.shah.Func;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Seed;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Fingerprint.
+ *
+ * <p>The key of a test result in {@link Results}: the SHA-256 of the
+ * {@link Identity} of the hash function, of the name of the test class and
+ * of the test parameters. Only parameters of a defined encoding are
+ * taken: integers and floating point numbers by their 64 bits, strings by
+ * their UTF-8 bytes, {@link Seed}s and byte arrays by their bytes, each
+ * tagged by its kind and length. Any other parameter, whose text may
+ * change from one run to the other, is rejected.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Fingerprint implements Scalar<String> {
+    /**
+     * Identity of the hash function.
+     */
+    private final Scalar<String> identity;
+
+    /**
+     * Test class.
+     */
+    private final Class<?> test;
+
+    /**
+     * Test parameters.
+     */
+    private final Object[] params;
+
+    /**
+     * Ctor.
+     * @param func The {@link Func} class
+     * @param test Test class
+     * @param params Test parameters
+     */
+    public Fingerprint(
+        final Class<? extends Func> func,
+        final Class<?> test,
+        final Object... params
+    ) {
+        this(new Identity(func), test, params);
+    }
+
+    /**
+     * Ctor.
+     * @param identity Identity of the hash function
+     * @param test Test class
+     * @param params Test parameters
+     */
+    public Fingerprint(
+        final Scalar<String> identity,
+        final Class<?> test,
+        final Object... params
+    ) {
+        this.identity = identity;
+        this.test = test;
+        this.params = params.clone();
+    }
+
+    @Override
+    public String value() {
+        final MessageDigest digest = Identity.sha();
+        digest.update(Fingerprint.utf(this.identity.value()));
+        digest.update(Fingerprint.utf(this.test.getName()));
+        for (final Object param : this.params) {
+            digest.update(Fingerprint.encoded(param));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Encode a parameter as its kind, its length and its bytes.
+     * @param param The parameter
+     * @return The bytes
+     */
+    private static byte[] encoded(final Object param) {
+        final byte kind;
+        final byte[] bytes;
+        if (param instanceof Byte || param instanceof Short
+            || param instanceof Integer || param instanceof Long) {
+            kind = 'L';
+            bytes = ByteBuffer.allocate(Long.BYTES)
+                .putLong(((Number) param).longValue())
+                .array();
+        } else if (param instanceof Float || param instanceof Double) {
+            kind = 'D';
+            bytes = ByteBuffer.allocate(Double.BYTES)
+                .putDouble(((Number) param).doubleValue())
+                .array();
+        } else if (param instanceof String) {
+            kind = 'S';
+            bytes = Fingerprint.utf((String) param);
+        } else if (param instanceof Seed) {
+            kind = 'K';
+            bytes = ((Seed) param).asBytes();
+        } else if (param instanceof byte[]) {
+            kind = 'B';
+            bytes = (byte[]) param;
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't fingerprint a parameter of type %s",
+                    Fingerprint.kind(param)
+                )
+            );
+        }
+        return ByteBuffer.allocate(1 + Integer.BYTES + bytes.length)
+            .put(kind)
+            .putInt(bytes.length)
+            .put(bytes)
+            .array();
+    }
+
+    /**
+     * Kind of a parameter, for an error message.
+     * @param param The parameter
+     * @return Its class name, or "null"
+     */
+    private static String kind(final Object param) {
+        final String kind;
+        if (param == null) {
+            kind = "null";
+        } else {
+            kind = param.getClass().getName();
+        }
+        return kind;
+    }
+
+    /**
+     * Bytes of a text in UTF-8.
+     * @param text The text
+     * @return The bytes
+     */
+    private static byte[] utf(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cache;
+
+import com.github.fabriciofx.shah.Func;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.test.VerificationTest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Identity.
+ *
+ * <p>Identify a hash function by the SHA-256 of its class name, of the
+ * bytecode of its class and of its {@link VerificationTest} value. The
+ * identity changes whenever the class is recompiled with another code or
+ * the function computes other hashes, e.g. because a helper class it
+ * calls has changed.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Identity implements Scalar<String> {
+    /**
+     * The {@link Func} class.
+     */
+    private final Class<? extends Func> type;
+
+    /**
+     * Ctor.
+     * @param type The {@link Func} class
+     */
+    public Identity(final Class<? extends Func> type) {
+        this.type = type;
+    }
+
+    @Override
+    public String value() {
+        final MessageDigest digest = Identity.sha();
+        digest.update(this.type.getName().getBytes(StandardCharsets.UTF_8));
+        final String resource = String.format(
+            "/%s.class",
+            this.type.getName().replace('.', '/')
+        );
+        try (InputStream input = this.type.getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't find the bytecode of %s",
+                        this.type.getName()
+                    )
+                );
+            }
+            digest.update(input.readAllBytes());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        final long verification = new VerificationTest(
+            new Reflected(this.type)
+        ).metric();
+        digest.update(
+            ByteBuffer.allocate(Long.BYTES).putLong(verification).array()
+        );
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * A SHA-256 message digest.
+     * @return The message digest
+     */
+    static MessageDigest sha() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cache;
+
+import com.github.fabriciofx.shah.Scalar;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Results.
+ *
+ * <p>A cache of test results in a directory, one file per key, e.g. a
+ * {@link Fingerprint}. A result found in the cache is returned without
+ * computing it again and becomes the most recently used one. After a new
+ * result is stored, the least recently used results are evicted until the
+ * files fit in the size limit.</p>
+ *
+ * <p>The results must be {@link Serializable}. A file that can not be read
+ * any more, e.g. because the class of the result has changed, is dropped
+ * and the result computed again. The files are written to a temporary file
+ * first and moved atomically, so several JVMs may share the directory.
+ * Only the access to the files is locked: a result is computed without
+ * holding the cache, so the results of other keys are read and stored
+ * meanwhile, and a result computed twice at the same time is stored
+ * twice.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Results {
+    /**
+     * Extension of the result files.
+     */
+    private static final String EXTENSION = ".result";
+
+    /**
+     * Default size limit in bytes.
+     */
+    private static final long LIMIT = 64L << 20;
+
+    /**
+     * Directory of the results.
+     */
+    private final Path dir;
+
+    /**
+     * Size limit in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Ctor.
+     * @param dir Directory of the results
+     */
+    public Results(final Path dir) {
+        this(dir, Results.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory of the results
+     * @param limit Size limit in bytes
+     */
+    public Results(final Path dir, final long limit) {
+        this.dir = dir;
+        this.limit = limit;
+    }
+
+    /**
+     * The result of a key, computed and stored if it is not in the cache.
+     * @param key The key
+     * @param origin Compute the result
+     * @param <T> Type of the result
+     * @return The result
+     */
+    public <T> T value(final String key, final Scalar<T> origin) {
+        final Path file = this.file(key);
+        T result = this.stored(file);
+        if (result == null) {
+            result = origin.value();
+            this.store(file, result);
+        }
+        return result;
+    }
+
+    /**
+     * Remove the result of a key, if any.
+     * @param key The key
+     */
+    public synchronized void invalidate(final String key) {
+        try {
+            Files.deleteIfExists(this.file(key));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't remove result '%s'", key),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Remove all the results.
+     */
+    public synchronized void clear() {
+        for (final Path file : this.files()) {
+            Results.delete(file);
+        }
+    }
+
+    /**
+     * File of a key.
+     * @param key The key
+     * @return The file
+     */
+    private Path file(final String key) {
+        return this.dir.resolve(String.format("%s%s", key, Results.EXTENSION));
+    }
+
+    /**
+     * The stored result of a file.
+     * @param file The file
+     * @param <T> Type of the result
+     * @return The result, or null if it is not stored
+     */
+    private synchronized <T> T stored(final Path file) {
+        T result = null;
+        if (Files.exists(file)) {
+            result = this.read(file);
+        }
+        return result;
+    }
+
+    /**
+     * Store a result and evict the least recently used ones.
+     * @param file The file
+     * @param result The result
+     */
+    private synchronized void store(final Path file, final Object result) {
+        this.write(file, result);
+        this.evict();
+    }
+
+    /**
+     * Read a result and mark it as the most recently used one.
+     * @param file The file
+     * @param <T> Type of the result
+     * @return The result, or null if the file can not be read
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(final Path file) {
+        T result;
+        try (
+            ObjectInputStream input = new ObjectInputStream(
+                Files.newInputStream(file)
+            )
+        ) {
+            result = (T) input.readObject();
+            Files.setLastModifiedTime(
+                file,
+                FileTime.fromMillis(System.currentTimeMillis())
+            );
+        } catch (final IOException | ClassNotFoundException
+            | ClassCastException ex) {
+            Results.delete(file);
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Write a result.
+     * @param file The file
+     * @param result The result
+     */
+    private void write(final Path file, final Object result) {
+        if (!(result instanceof Serializable)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Result %s is not serializable",
+                    result.getClass().getName()
+                )
+            );
+        }
+        final Path temp = file.resolveSibling(
+            String.format("%s.tmp", file.getFileName())
+        );
+        try {
+            Files.createDirectories(this.dir);
+            try (
+                ObjectOutputStream output = new ObjectOutputStream(
+                    Files.newOutputStream(temp)
+                )
+            ) {
+                output.writeObject(result);
+            }
+            Files.move(
+                temp,
+                file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't write result '%s'", file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Remove the least recently used results until the files fit in the
+     * size limit.
+     */
+    private void evict() {
+        final List<Path> files = this.files();
+        files.sort(Comparator.comparing(Results::modified));
+        long size = 0L;
+        for (final Path file : files) {
+            size += Results.size(file);
+        }
+        int next = 0;
+        while (size > this.limit && next < files.size()) {
+            final Path file = files.get(next);
+            size -= Results.size(file);
+            Results.delete(file);
+            ++next;
+        }
+    }
+
+    /**
+     * The result files.
+     * @return The files
+     */
+    private List<Path> files() {
+        final List<Path> files = new ArrayList<>(0);
+        if (Files.isDirectory(this.dir)) {
+            try (
+                DirectoryStream<Path> stream = Files.newDirectoryStream(
+                    this.dir,
+                    String.format("*%s", Results.EXTENSION)
+                )
+            ) {
+                for (final Path file : stream) {
+                    files.add(file);
+                }
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't list results in '%s'", this.dir),
+                    ex
+                );
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Last use of a result file.
+     * @param file The file
+     * @return The time, or the epoch if the file is gone
+     */
+    private static FileTime modified(final Path file) {
+        FileTime time;
+        try {
+            time = Files.getLastModifiedTime(file);
+        } catch (final IOException ex) {
+            time = FileTime.fromMillis(0L);
+        }
+        return time;
+    }
+
+    /**
+     * Size of a result file.
+     * @param file The file
+     * @return The size in bytes, or zero if the file is gone
+     */
+    private static long size(final Path file) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (final IOException ex) {
+            size = 0L;
+        }
+        return size;
+    }
+
+    /**
+     * Delete a result file, if it is still there.
+     * @param file The file
+     */
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't remove result '%s'", file),
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.profile.Configured;
+import com.github.fabriciofx.shah.profile.Quick;
+import com.github.fabriciofx.shah.profile.Standard;
+import com.github.fabriciofx.shah.profile.Thorough;
+import com.github.fabriciofx.shah.report.JsonLines;
+import com.github.fabriciofx.shah.report.Output;
+import com.github.fabriciofx.shah.report.TextLines;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arguments.
+ *
+ * <p>The command line of {@link Main}: options as {@code --name=value}
+ * and the names of the hash function classes. The options are
+ * {@code --profile} ({@code quick}, {@code standard} or {@code thorough}),
+ * {@code --threads}, {@code --format} ({@code text} or {@code jsonl}) and
+ * {@code --output}, a file the records are appended to instead of the
+ * standard output, and {@code --port}, the local port of the
+ * {@link Daemon}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Arguments {
+    /**
+     * Known options.
+     */
+    private static final List<String> OPTIONS = Arrays.asList(
+        "profile", "threads", "format", "output", "port"
+    );
+
+    /**
+     * Default port of the daemon.
+     */
+    private static final int PORT = 7_878;
+
+    /**
+     * Options by name.
+     */
+    private final Map<String, String> options;
+
+    /**
+     * Names of the hash function classes.
+     */
+    private final List<String> names;
+
+    /**
+     * Ctor.
+     * @param args Command line arguments
+     */
+    public Arguments(final String... args) {
+        this.options = new HashMap<>();
+        this.names = new ArrayList<>(args.length);
+        for (final String arg : args) {
+            if (arg.startsWith("--")) {
+                final int equal = arg.indexOf('=');
+                if (equal < 0) {
+                    throw new IllegalArgumentException(
+                        String.format("Option %s has no value", arg)
+                    );
+                }
+                final String name = arg.substring(2, equal);
+                if (!Arguments.OPTIONS.contains(name)) {
+                    throw new IllegalArgumentException(
+                        String.format("Unknown option --%s", name)
+                    );
+                }
+                this.options.put(name, arg.substring(equal + 1));
+            } else {
+                this.names.add(arg);
+            }
+        }
+    }
+
+    /**
+     * Names of the hash function classes.
+     * @return The class names
+     */
+    public List<String> functions() {
+        return this.names;
+    }
+
+    /**
+     * Profile of the run, {@code standard} by default.
+     * @return The profile
+     */
+    public Profile profile() {
+        return new Configured(
+            this.options.getOrDefault("profile", "standard"),
+            new Quick(),
+            new Standard(),
+            new Thorough()
+        );
+    }
+
+    /**
+     * Number of threads, one per available processor by default.
+     * @return The number of threads
+     */
+    public int threads() {
+        final int threads;
+        if (this.options.containsKey("threads")) {
+            threads = Integer.parseInt(this.options.get("threads"));
+        } else {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                String.format("Invalid number of threads: %d", threads)
+            );
+        }
+        return threads;
+    }
+
+    /**
+     * Local port of the daemon, 7878 by default.
+     * @return The port
+     */
+    public int port() {
+        final int port;
+        if (this.options.containsKey("port")) {
+            port = Integer.parseInt(this.options.get("port"));
+        } else {
+            port = Arguments.PORT;
+        }
+        return port;
+    }
+
+    /**
+     * Output of the records, text on the standard output by default.
+     * @return The output
+     * @throws IOException If the output file can't be opened
+     */
+    public Output output() throws IOException {
+        final OutputStream stream;
+        if (this.options.containsKey("output")) {
+            stream = Files.newOutputStream(
+                Paths.get(this.options.get("output")),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+        } else {
+            stream = new FileOutputStream(FileDescriptor.out);
+        }
+        final String format = this.options.getOrDefault("format", "text");
+        final Output output;
+        if ("jsonl".equals(format)) {
+            output = new JsonLines(stream);
+        } else if ("text".equals(format)) {
+            output = new TextLines(stream);
+        } else {
+            stream.close();
+            throw new IllegalArgumentException(
+                String.format("Unknown format '%s'", format)
+            );
+        }
+        return output;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.job.Reported;
+import com.github.fabriciofx.shah.report.JsonLines;
+import com.github.fabriciofx.shah.report.Output;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.suite.Battery;
+import com.github.fabriciofx.shah.suite.Suite;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Daemon.
+ *
+ * <p>A resident JVM running the {@link Battery} for job submissions, so
+ * that repeated runs find the test code compiled and warm instead of
+ * paying the JVM startup and warmup each time. It listens on a local port
+ * ({@code --port}, 7878 by default) and reads one {@link Request} line per
+ * connection; it answers with the JSON Lines records of the jobs as they
+ * finish, or a record with an {@code error} field, and closes the
+ * connection. A failed request, even one whose jar can't be linked, is
+ * answered with its error and the daemon goes on. The line {@code stop}
+ * stops the daemon.</p>
+ *
+ * <p>The jar of each request is loaded by its own class loader, see
+ * {@link Loaders}. The requests are run one at a time, so their timings
+ * do not disturb each other, and the chunks of the tests of a request
+ * share a pool of {@code --threads} threads. The progress of the running
+ * jobs is published as JMX MBeans, see
+ * {@link com.github.fabriciofx.shah.progress.Published}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Daemon {
+    /**
+     * Local port.
+     */
+    private final int port;
+
+    /**
+     * Number of threads of a run.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * @param port Local port
+     * @param threads Number of threads of a run
+     */
+    public Daemon(final int port, final int threads) {
+        this.port = port;
+        this.threads = threads;
+    }
+
+    /**
+     * Start the daemon.
+     * @param args Command line arguments: {@code --port} and
+     *  {@code --threads}
+     * @throws IOException If the port can't be listened to
+     */
+    public static void main(final String... args) throws IOException {
+        final Arguments arguments = new Arguments(args);
+        new Daemon(arguments.port(), arguments.threads()).serve();
+    }
+
+    /**
+     * Serve the requests until a {@code stop} one.
+     * @throws IOException If the port can't be listened to
+     */
+    public void serve() throws IOException {
+        try (
+            ServerSocket server = new ServerSocket(
+                this.port,
+                0,
+                InetAddress.getLoopbackAddress()
+            );
+            Loaders loaders = new Loaders()
+        ) {
+            boolean running = true;
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    running = this.handle(socket, loaders);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handle a connection.
+     * @param socket The connection
+     * @param loaders Class loaders of the jars
+     * @return False if the daemon must stop
+     * @throws IOException If the connection fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean handle(final Socket socket, final Loaders loaders)
+        throws IOException {
+        final String line = new BufferedReader(
+            new InputStreamReader(
+                socket.getInputStream(),
+                StandardCharsets.UTF_8
+            )
+        ).readLine();
+        final boolean running = line != null && !"stop".equals(line.trim());
+        if (running) {
+            try (Output output = new JsonLines(socket.getOutputStream())) {
+                try {
+                    this.run(new Request(line), loaders, output);
+                } catch (final Exception | LinkageError ex) {
+                    final Map<String, Object> error = new LinkedHashMap<>();
+                    error.put("error", String.valueOf(ex.getMessage()));
+                    output.write(error);
+                }
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Run the jobs of a request, their chunks on a pool shared by them.
+     * @param request The request
+     * @param loaders Class loaders of the jars
+     * @param output Output of the records
+     */
+    private void run(
+        final Request request,
+        final Loaders loaders,
+        final Output output
+    ) {
+        final String name = request.function();
+        final ExecutorService chunks = Executors.newWorkStealingPool(
+            this.threads
+        );
+        try {
+            final List<Job<?>> jobs = new ArrayList<>(0);
+            for (final Job<?> job : new Battery(
+                name.substring(name.lastIndexOf('.') + 1),
+                new Reflected(name, loaders.loader(request.jar())),
+                request.profile(),
+                new Parallel(chunks, 2 * this.threads)
+            ).value()) {
+                final String test = job.name().substring(
+                    job.name().indexOf('/') + 1
+                );
+                if (request.tests().isEmpty()
+                    || request.tests().contains(test)) {
+                    jobs.add(new Reported<>(job, output));
+                }
+            }
+            if (jobs.isEmpty()) {
+                throw new IllegalArgumentException(
+                    String.format("No test in %s", request.tests())
+                );
+            }
+            new Suite(this.threads, jobs.toArray(new Job<?>[0])).value();
+        } finally {
+            chunks.shutdownNow();
+        }
+    }
+}
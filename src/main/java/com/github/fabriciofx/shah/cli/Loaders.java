@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loaders.
+ *
+ * <p>One class loader per jar of hash functions, isolated from the other
+ * jars and delegating to the loader of this library, so the functions
+ * implement its {@link com.github.fabriciofx.shah.Func}. A loader is kept
+ * while its jar is unchanged: the classes of the functions stay loaded
+ * and their compiled code warm across runs. When the jar changes, its
+ * loader is closed and replaced.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Loaders implements AutoCloseable {
+    /**
+     * Loaders by jar.
+     */
+    private final Map<Path, Versioned> loaders;
+
+    /**
+     * Ctor.
+     */
+    public Loaders() {
+        this.loaders = new HashMap<>();
+    }
+
+    /**
+     * The class loader of a jar.
+     * @param jar The jar
+     * @return The class loader
+     */
+    public synchronized ClassLoader loader(final Path jar) {
+        final Path path = jar.toAbsolutePath().normalize();
+        final String version = Loaders.version(path);
+        Versioned loaded = this.loaders.get(path);
+        if (loaded == null || !loaded.version.equals(version)) {
+            if (loaded != null) {
+                Loaders.close(loaded.loader);
+            }
+            loaded = new Versioned(version, Loaders.open(path));
+            this.loaders.put(path, loaded);
+        }
+        return loaded.loader;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (final Versioned loaded : this.loaders.values()) {
+            Loaders.close(loaded.loader);
+        }
+        this.loaders.clear();
+    }
+
+    /**
+     * Version of a jar, from its size and last modification.
+     * @param jar The jar
+     * @return The version
+     */
+    private static String version(final Path jar) {
+        try {
+            return String.format(
+                "%d@%s",
+                Files.size(jar),
+                Files.getLastModifiedTime(jar)
+            );
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't read jar '%s'", jar),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Open a class loader for a jar.
+     * @param jar The jar
+     * @return The class loader
+     */
+    private static URLClassLoader open(final Path jar) {
+        try {
+            return new URLClassLoader(
+                new URL[]{jar.toUri().toURL()},
+                Loaders.class.getClassLoader()
+            );
+        } catch (final MalformedURLException ex) {
+            throw new IllegalArgumentException(
+                String.format("Invalid jar '%s'", jar),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Close a class loader.
+     * @param loader The class loader
+     */
+    private static void close(final URLClassLoader loader) {
+        try {
+            loader.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * A class loader of a version of a jar.
+     * @since 0.0.1
+     */
+    private static final class Versioned {
+        /**
+         * Version of the jar.
+         */
+        private final String version;
+
+        /**
+         * Class loader.
+         */
+        private final URLClassLoader loader;
+
+        /**
+         * Ctor.
+         * @param version Version of the jar
+         * @param loader Class loader
+         */
+        Versioned(final String version, final URLClassLoader loader) {
+            this.version = version;
+            this.loader = loader;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.job.Reported;
+import com.github.fabriciofx.shah.metric.Verdict;
+import com.github.fabriciofx.shah.report.Output;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.suite.Battery;
+import com.github.fabriciofx.shah.suite.Suite;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Main.
+ *
+ * <p>Run the whole {@link Battery} of tests for hash functions on the
+ * classpath, given by the names of their
+ * {@link com.github.fabriciofx.shah.Func} classes, e.g.
+ * {@code java com.github.fabriciofx.shah.cli.Main --profile=quick
+ * --threads=8 --format=jsonl com.example.MyHash32}. The jobs of all the
+ * functions run in one {@link Suite} and each record is written as soon
+ * as its job is done. The chunks of the tests are run in parallel too,
+ * on a pool of as many threads shared by all the jobs, so the longest
+ * jobs do not run alone at the end of the suite. Once all the jobs are
+ * done, the failed ones are listed and the exit status is 1 if any metric
+ * is over the pass threshold of its test, see {@link Verdict}; it is 2 if
+ * no function is given, after printing the usage. See {@link Arguments} for
+ * the options. The progress of the long jobs is published as JMX MBeans,
+ * see {@link com.github.fabriciofx.shah.progress.Published}, so a run
+ * can be watched with jconsole.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Main {
+    /**
+     * Ctor.
+     */
+    private Main() {
+    }
+
+    /**
+     * Run the battery.
+     * @param args Command line arguments
+     * @throws IOException If the output fails
+     */
+    @SuppressWarnings({"PMD.SystemPrintln", "PMD.DoNotTerminateVM"})
+    public static void main(final String... args) throws IOException {
+        final Arguments arguments = new Arguments(args);
+        if (arguments.functions().isEmpty()) {
+            System.err.println(
+                String.join(
+                    "\n",
+                    "Usage: Main [--profile=quick|standard|thorough]",
+                    "  [--threads=N] [--format=text|jsonl] [--output=FILE]",
+                    "  FUNC_CLASS..."
+                )
+            );
+            System.exit(2);
+        } else {
+            final Profile profile = arguments.profile();
+            final int threads = arguments.threads();
+            final ExecutorService chunks = Executors.newWorkStealingPool(
+                threads
+            );
+            final Runner runner = new Parallel(chunks, 2 * threads);
+            final Map<String, Object> metrics;
+            try (Output output = arguments.output()) {
+                final List<Job<?>> jobs = new ArrayList<>(0);
+                for (final String name : arguments.functions()) {
+                    for (final Job<?> job : new Battery(
+                        name.substring(name.lastIndexOf('.') + 1),
+                        new Reflected(name),
+                        profile,
+                        runner
+                    ).value()) {
+                        jobs.add(new Reported<>(job, output));
+                    }
+                }
+                metrics = new Suite(
+                    threads,
+                    jobs.toArray(new Job<?>[0])
+                ).value();
+            } finally {
+                chunks.shutdownNow();
+            }
+            final List<String> failed = new ArrayList<>(0);
+            for (final Map.Entry<String, Object> entry : metrics.entrySet()) {
+                if (entry.getValue() instanceof Verdict
+                    && !((Verdict<?>) entry.getValue()).passed()) {
+                    failed.add(entry.getKey());
+                }
+            }
+            if (!failed.isEmpty()) {
+                System.err.printf(
+                    "%d of %d jobs failed: %s%n",
+                    failed.size(),
+                    metrics.size(),
+                    String.join(", ", failed)
+                );
+                System.exit(1);
+            }
+        }
+    }
+}
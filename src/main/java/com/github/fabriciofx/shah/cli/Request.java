@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.profile.Configured;
+import com.github.fabriciofx.shah.profile.Quick;
+import com.github.fabriciofx.shah.profile.Standard;
+import com.github.fabriciofx.shah.profile.Thorough;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request.
+ *
+ * <p>A job submission to the {@link Daemon}: one line of
+ * {@code name=value} fields separated by spaces, e.g.
+ * {@code jar=/tmp/my.jar func=com.example.MyHash32 profile=quick
+ * tests=avalanche-4,collision-16}. The {@code jar} and {@code func} fields
+ * are mandatory; without {@code tests}, the whole battery runs.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Request {
+    /**
+     * Fields by name.
+     */
+    private final Map<String, String> fields;
+
+    /**
+     * Ctor.
+     * @param line The request line
+     */
+    public Request(final String line) {
+        this.fields = new HashMap<>();
+        for (final String field : line.trim().split("\\s+")) {
+            final int equal = field.indexOf('=');
+            if (equal <= 0) {
+                throw new IllegalArgumentException(
+                    String.format("Malformed field '%s'", field)
+                );
+            }
+            this.fields.put(
+                field.substring(0, equal),
+                field.substring(equal + 1)
+            );
+        }
+        for (final String name : new String[]{"jar", "func"}) {
+            if (!this.fields.containsKey(name)) {
+                throw new IllegalArgumentException(
+                    String.format("Field '%s' is missing", name)
+                );
+            }
+        }
+    }
+
+    /**
+     * Jar of the hash function.
+     * @return The path of the jar
+     */
+    public Path jar() {
+        return Paths.get(this.fields.get("jar"));
+    }
+
+    /**
+     * Name of the {@link com.github.fabriciofx.shah.Func} class.
+     * @return The class name
+     */
+    public String function() {
+        return this.fields.get("func");
+    }
+
+    /**
+     * Profile of the run, {@code standard} by default.
+     * @return The profile
+     */
+    public Profile profile() {
+        return new Configured(
+            this.fields.getOrDefault("profile", "standard"),
+            new Quick(),
+            new Standard(),
+            new Thorough()
+        );
+    }
+
+    /**
+     * Names of the tests to run, empty for the whole battery.
+     * @return The test names
+     */
+    public List<String> tests() {
+        final List<String> tests;
+        if (this.fields.containsKey("tests")) {
+            tests = Arrays.asList(this.fields.get("tests").split(","));
+        } else {
+            tests = Collections.emptyList();
+        }
+        return tests;
+    }
+}
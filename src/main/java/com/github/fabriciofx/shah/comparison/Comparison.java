@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.comparison;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Sink;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.keys.KeysOf;
+import com.github.fabriciofx.shah.loop.Specialized;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Comparison.
+ *
+ * <p>Compare several hash functions on the same keys. Each chunk of keys
+ * is generated once and hashed by every function, whose hashes feed its own
+ * empty copy of the sinks. Key generation and hashing are timed
+ * separately, so cheap functions are not penalized by an expensive key
+ * generator.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Comparison implements Test<Report> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
+    /**
+     * Keys to hash.
+     */
+    private final Keys keys;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Function names.
+     */
+    private final List<String> names;
+
+    /**
+     * Functions under comparison, in the order of their names.
+     */
+    private final List<BiFunction<Key, Seed, Hash>> funcs;
+
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
+    /**
+     * Sinks fed by the hashes of each function.
+     */
+    private final List<Sink<?>> sinks;
+
+    /**
+     * Ctor.
+     * @param keys Keys to hash
+     * @param seed Hash function seed
+     * @param funcs Functions under comparison by name, in iteration order
+     * @param sinks Sinks fed by the hashes of each function
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Comparison(
+        final Keys keys,
+        final Seed seed,
+        final Map<String, BiFunction<Key, Seed, Hash>> funcs,
+        final Sink<?>... sinks
+    ) {
+        this(keys, seed, funcs, new Serial(), sinks);
+    }
+
+    /**
+     * Ctor.
+     * @param keys Keys to hash
+     * @param seed Hash function seed
+     * @param funcs Functions under comparison by name, in iteration order
+     * @param runner Runner of the chunks of keys
+     * @param sinks Sinks fed by the hashes of each function
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Comparison(
+        final Keys keys,
+        final Seed seed,
+        final Map<String, BiFunction<Key, Seed, Hash>> funcs,
+        final Runner runner,
+        final Sink<?>... sinks
+    ) {
+        this.keys = keys;
+        this.seed = seed;
+        this.names = new ArrayList<>(funcs.keySet());
+        this.funcs = new ArrayList<>(funcs.values());
+        this.runner = runner;
+        this.sinks = Arrays.asList(sinks);
+    }
+
+    @Override
+    public Report metric() {
+        final List<Loop> loops = new ArrayList<>(this.funcs.size());
+        for (final BiFunction<Key, Seed, Hash> func : this.funcs) {
+            loops.add(new Specialized(func, this.seed));
+        }
+        return this.runner.reduce(
+            this.keys.count(),
+            Comparison.GRAIN,
+            (from, to) -> this.chunk(loops, from, to),
+            Report::merge
+        );
+    }
+
+    /**
+     * Generate the keys of a chunk once and hash them by every function.
+     * @param loops Loops of the functions
+     * @param from First key index
+     * @param to Key index after the last one
+     * @return The report of the chunk
+     */
+    private Report chunk(final List<Loop> loops, final int from, final int to) {
+        final long[] nanos = new long[1 + loops.size()];
+        final long begin = System.nanoTime();
+        final Key[] generated = new Key[to - from];
+        for (int idx = from; idx < to; ++idx) {
+            generated[idx - from] = new KeyOf(this.keys.item(idx).asBytes());
+        }
+        nanos[0] = System.nanoTime() - begin;
+        final Keys chunk = new KeysOf(generated.length, idx -> generated[idx]);
+        final List<List<Sink<?>>> fed = new ArrayList<>(loops.size());
+        for (int func = 0; func < loops.size(); ++func) {
+            final List<Hash> hashes = new ArrayList<>(generated.length);
+            final long start = System.nanoTime();
+            loops.get(func).run(chunk, 0, generated.length, hashes::add);
+            nanos[1 + func] = System.nanoTime() - start;
+            final List<Sink<?>> part = new ArrayList<>(this.sinks.size());
+            for (final Sink<?> sink : this.sinks) {
+                final Sink<?> empty = sink.empty();
+                for (final Hash hash : hashes) {
+                    empty.add(hash);
+                }
+                part.add(empty);
+            }
+            fed.add(part);
+        }
+        return new Report(this.names, fed, nanos, generated.length);
+    }
+}
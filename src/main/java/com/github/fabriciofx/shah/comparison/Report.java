@@ -0,0 +1,226 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.comparison;
+
+import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Sink;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Report.
+ *
+ * <p>The result of a {@link Comparison}: the sinks fed by each function,
+ * the time spent generating the keys and the time spent by each function
+ * hashing them. Reports of consecutive chunks of keys are merged in chunk
+ * order.</p>
+ *
+ * <p>Times are summed over all chunks, so they are CPU times rather than
+ * wall times when the chunks run in parallel.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Report {
+    /**
+     * Function names.
+     */
+    private final List<String> names;
+
+    /**
+     * Sinks by function.
+     */
+    private final List<List<Sink<?>>> sinks;
+
+    /**
+     * Nanoseconds spent generating keys (index 0) and hashing them by each
+     * function (index {@code 1 + function}).
+     */
+    private final long[] nanos;
+
+    /**
+     * Number of keys.
+     */
+    private long keys;
+
+    /**
+     * Ctor.
+     * @param names Function names
+     * @param sinks Sinks by function
+     * @param nanos Nanoseconds spent generating keys (index 0) and hashing
+     *  them by each function (index {@code 1 + function})
+     * @param keys Number of keys
+     */
+    public Report(
+        final List<String> names,
+        final List<List<Sink<?>>> sinks,
+        final long[] nanos,
+        final long keys
+    ) {
+        this.names = names;
+        this.sinks = sinks;
+        this.nanos = nanos.clone();
+        this.keys = keys;
+    }
+
+    /**
+     * Merge the report of the following chunk of keys.
+     * @param other The report of the following chunk
+     * @return This report
+     */
+    public Report merge(final Report other) {
+        for (int func = 0; func < this.sinks.size(); ++func) {
+            final List<Sink<?>> mine = this.sinks.get(func);
+            final List<Sink<?>> theirs = other.sinks.get(func);
+            for (int idx = 0; idx < mine.size(); ++idx) {
+                Report.merge(mine.get(idx), theirs.get(idx));
+            }
+        }
+        for (int idx = 0; idx < this.nanos.length; ++idx) {
+            this.nanos[idx] += other.nanos[idx];
+        }
+        this.keys += other.keys;
+        return this;
+    }
+
+    /**
+     * Number of keys generated.
+     * @return The number of keys
+     */
+    public long keys() {
+        return this.keys;
+    }
+
+    /**
+     * Time spent generating the keys, once for all functions.
+     * @return The time in nanoseconds
+     */
+    public long generation() {
+        return this.nanos[0];
+    }
+
+    /**
+     * Time spent by a function hashing the keys.
+     * @param name Function name
+     * @return The time in nanoseconds
+     */
+    public long hashing(final String name) {
+        return this.nanos[1 + this.index(name)];
+    }
+
+    /**
+     * Metrics of a function, in the order of the sinks.
+     * @param name Function name
+     * @return The values of the sinks fed by the function
+     */
+    public List<Object> metrics(final String name) {
+        final List<Sink<?>> fed = this.sinks.get(this.index(name));
+        final List<Object> values = new ArrayList<>(fed.size());
+        for (final Sink<?> sink : fed) {
+            values.add(sink.value());
+        }
+        return values;
+    }
+
+    /**
+     * Comparison table: one row per function with its hashing time and
+     * the values of its sinks, followed by the key generation time.
+     * @return The table
+     */
+    public String table() {
+        final StringBuilder out = new StringBuilder(128);
+        out.append(
+            String.format(
+                Locale.ROOT,
+                "%-20s %12s %10s",
+                "function",
+                "hashing ms",
+                "ns/key"
+            )
+        );
+        for (final Sink<?> sink : this.sinks.get(0)) {
+            out.append(
+                String.format(
+                    Locale.ROOT,
+                    " %14s",
+                    sink.getClass().getSimpleName().replace("Sink", "")
+                )
+            );
+        }
+        out.append('\n');
+        for (final String name : this.names) {
+            out.append(
+                String.format(
+                    Locale.ROOT,
+                    "%-20s %12.1f %10.2f",
+                    name,
+                    this.hashing(name) / 1e6,
+                    (double) this.hashing(name) / this.keys
+                )
+            );
+            for (final Object value : this.metrics(name)) {
+                out.append(
+                    String.format(Locale.ROOT, " %14s", Report.cell(value))
+                );
+            }
+            out.append('\n');
+        }
+        out.append(
+            String.format(
+                Locale.ROOT,
+                "%-20s %12.1f %10.2f%n",
+                "(key generation)",
+                this.generation() / 1e6,
+                (double) this.generation() / this.keys
+            )
+        );
+        return out.toString();
+    }
+
+    /**
+     * Index of a function.
+     * @param name Function name
+     * @return The index
+     */
+    private int index(final String name) {
+        final int index = this.names.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                String.format("Unknown function: %s", name)
+            );
+        }
+        return index;
+    }
+
+    /**
+     * Format a metric value for a table cell.
+     * @param value The value, or a metric of it
+     * @return The formatted value
+     */
+    private static String cell(final Object value) {
+        Object plain = value;
+        if (plain instanceof Metric) {
+            plain = ((Metric<?>) plain).value();
+        }
+        final String text;
+        if (plain instanceof Double) {
+            text = String.format(Locale.ROOT, "%.6f", plain);
+        } else {
+            text = String.valueOf(plain);
+        }
+        return text;
+    }
+
+    /**
+     * Merge two sinks of the same kind.
+     * @param first The first sink
+     * @param second The second sink, of the same kind as the first one
+     * @param <T> Type of the metric value
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void merge(final Sink<T> first, final Sink<?> second) {
+        first.merge((Sink<T>) second);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.corpus;
+
+import com.github.fabriciofx.shah.Framing;
+import com.github.fabriciofx.shah.Key;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Corpus.
+ *
+ * <p>A file of real keys, e.g. URLs or identifiers, framed by a
+ * {@link Framing}. The file is split in parts of about the same size, each
+ * starting at a key, which are mapped one at a time with a
+ * {@link java.nio.MappedByteBuffer}: the keys are views of the mapped
+ * part, so the file is never read into the heap and no string is created
+ * per key. The parts can be hashed by different threads, see
+ * {@link Hashed}.</p>
+ *
+ * <p>The keys are not free, though: each one is a small
+ * {@link com.github.fabriciofx.shah.key.Sliced} view allocated by the
+ * framing, and a function reading it through {@link Key#asBytes()} gets
+ * a copy of its bytes. These objects die young, so the heap stays small
+ * whatever the size of the corpus, but the allocation rate, not the file,
+ * bounds the speed of the hashing of short keys.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Corpus {
+    /**
+     * Default size of a part in bytes.
+     */
+    private static final long PART = 64L << 20;
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Framing of the keys.
+     */
+    private final Framing framing;
+
+    /**
+     * Nominal size of a part in bytes.
+     */
+    private final long part;
+
+    /**
+     * Start of each part, followed by the size of the file, found once.
+     */
+    private long[] starts;
+
+    /**
+     * Ctor with parts of 64 MiB.
+     * @param file The file
+     * @param framing Framing of the keys
+     */
+    public Corpus(final Path file, final Framing framing) {
+        this(file, framing, Corpus.PART);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param framing Framing of the keys
+     * @param part Nominal size of a part in bytes, up to 2 GiB; a part
+     *  holds whole keys, so it can be somewhat larger
+     */
+    public Corpus(final Path file, final Framing framing, final long part) {
+        if (part <= 0 || part > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("Invalid part size %d", part)
+            );
+        }
+        this.file = file;
+        this.framing = framing;
+        this.part = part;
+    }
+
+    /**
+     * Count the parts, splitting the file at the first key start after
+     * each multiple of the part size.
+     * @return Number of parts
+     */
+    public int parts() {
+        return this.starts().length - 1;
+    }
+
+    /**
+     * Hand over the keys of a part. The keys are valid as long as they are
+     * reachable, but must not be kept for long, since they keep the part
+     * mapped.
+     * @param index Index of the part
+     * @param out Consume the keys, in file order
+     */
+    public void keys(final int index, final Consumer<Key> out) {
+        final long[] bounds = this.starts();
+        if (index < 0 || index >= bounds.length - 1) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        final long size = bounds[index + 1] - bounds[index];
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                String.format(
+                    "Part %d of corpus '%s' is larger than 2 GiB",
+                    index,
+                    this.file
+                )
+            );
+        }
+        try (FileChannel channel = FileChannel.open(this.file)) {
+            this.framing.keys(
+                channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    bounds[index],
+                    size
+                ),
+                out
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Can't read corpus '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Find the start of each part, once.
+     * @return The starts, followed by the size of the file
+     */
+    private synchronized long[] starts() {
+        if (this.starts == null) {
+            try (FileChannel channel = FileChannel.open(this.file)) {
+                final long size = channel.size();
+                final long[] found = new long[(int) (size / this.part) + 2];
+                int parts = 1;
+                for (long pos = this.part; pos < size; pos += this.part) {
+                    final long start = this.framing.start(
+                        channel,
+                        found[parts - 1],
+                        pos
+                    );
+                    if (start > found[parts - 1] && start < size) {
+                        found[parts] = start;
+                        ++parts;
+                    }
+                }
+                found[parts] = size;
+                this.starts = Arrays.copyOf(found, parts + 1);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(
+                    String.format("Can't read corpus '%s'", this.file),
+                    ex
+                );
+            }
+        }
+        return this.starts;
+    }
+}
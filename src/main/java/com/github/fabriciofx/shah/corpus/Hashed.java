@@ -0,0 +1,301 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.corpus;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.dump.Dump;
+import com.github.fabriciofx.shah.dump.Writing;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Hashed.
+ *
+ * <p>The hashes of the keys of a {@link Corpus}, written to a
+ * {@link Dump}. The keys of each part are counted first, so the hashes of
+ * every part have their place in the file, and each part is then a chunk
+ * of the {@link Runner}: a parallel runner hashes the parts in different
+ * threads, each putting its hashes into the file in batches, so only the
+ * batches in flight are in the heap, whatever the size of the corpus. The
+ * key index of a hash is the position of its key in the corpus, in file
+ * order. The hashes can then be given to the metrics, e.g.
+ * {@code new Truncated(dump.hashes())} for the collisions of the whole
+ * hash and of its ends, or {@code new DistributionScore(dump.hashes())}.
+ * </p>
+ *
+ * @since 0.0.1
+ */
+public final class Hashed implements Scalar<Dump> {
+    /**
+     * Number of hashes per batch.
+     */
+    private static final int BATCH = 16_384;
+
+    /**
+     * Name of the hash function.
+     */
+    private final String name;
+
+    /**
+     * The corpus.
+     */
+    private final Corpus corpus;
+
+    /**
+     * The hash function.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * The dump.
+     */
+    private final Dump dump;
+
+    /**
+     * Runner of the parts.
+     */
+    private final Runner runner;
+
+    /**
+     * Ctor.
+     * @param name Name of the hash function
+     * @param corpus The corpus
+     * @param func The hash function
+     * @param seed Hash function seed
+     * @param file File of the dump
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Hashed(
+        final String name,
+        final Corpus corpus,
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Path file
+    ) {
+        this(name, corpus, func, seed, file, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the hash function
+     * @param corpus The corpus
+     * @param func The hash function
+     * @param seed Hash function seed
+     * @param file File of the dump
+     * @param runner Runner of the parts
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Hashed(
+        final String name,
+        final Corpus corpus,
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Path file,
+        final Runner runner
+    ) {
+        this.name = name;
+        this.corpus = corpus;
+        this.func = func;
+        this.seed = seed;
+        this.dump = new Dump(file);
+        this.runner = runner;
+    }
+
+    @Override
+    public Dump value() {
+        final long[] starts = this.starts();
+        final long count = starts[starts.length - 1];
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                String.format("Can't dump the %d keys of the corpus", count)
+            );
+        }
+        final int width;
+        if (count == 0L) {
+            width = 0;
+        } else {
+            width = this.func.apply(new KeyOf(0), this.seed)
+                .asBytes().length;
+        }
+        final Map<String, String> header = new LinkedHashMap<>();
+        header.put("function", this.name);
+        header.put("seed", HexFormat.of().formatHex(this.seed.asBytes()));
+        header.put("test", "corpus");
+        header.put("count", Long.toString(count));
+        this.dump.write(
+            header,
+            width,
+            (int) count,
+            writing -> this.runner.reduce(
+                this.corpus.parts(),
+                1,
+                (from, to) -> {
+                    for (int part = from; part < to; ++part) {
+                        final Batch batch = new Batch(
+                            writing,
+                            width,
+                            (int) starts[part]
+                        );
+                        this.corpus.keys(
+                            part,
+                            key -> batch.add(this.func.apply(key, this.seed))
+                        );
+                        batch.flush();
+                    }
+                    return to - from;
+                },
+                Integer::sum
+            )
+        );
+        return this.dump;
+    }
+
+    /**
+     * Count the keys of each part.
+     * @return The index of the first key of each part, followed by the
+     *  number of keys of the corpus
+     */
+    private long[] starts() {
+        final long[] counts = this.runner.reduce(
+            this.corpus.parts(),
+            1,
+            (from, to) -> {
+                final long[] part = new long[to - from];
+                for (int idx = from; idx < to; ++idx) {
+                    final int slot = idx - from;
+                    this.corpus.keys(idx, key -> ++part[slot]);
+                }
+                return part;
+            },
+            (first, second) -> {
+                final long[] both = Arrays.copyOf(
+                    first,
+                    first.length + second.length
+                );
+                System.arraycopy(
+                    second,
+                    0,
+                    both,
+                    first.length,
+                    second.length
+                );
+                return both;
+            }
+        );
+        final long[] starts = new long[this.corpus.parts() + 1];
+        for (int idx = 0; idx < this.corpus.parts(); ++idx) {
+            starts[idx + 1] = starts[idx] + counts[idx];
+        }
+        return starts;
+    }
+
+    /**
+     * Batch of hashes of a part, put into the dump when full.
+     * @since 0.0.1
+     */
+    private static final class Batch {
+        /**
+         * Writing of the dump.
+         */
+        private final Writing writing;
+
+        /**
+         * Width of the hashes in bytes.
+         */
+        private final int width;
+
+        /**
+         * The bytes of the hashes of the batch.
+         */
+        private final byte[] bytes;
+
+        /**
+         * The key indices of the hashes of the batch.
+         */
+        private final int[] keys;
+
+        /**
+         * Number of hashes in the batch.
+         */
+        private int size;
+
+        /**
+         * Key index of the next hash.
+         */
+        private int next;
+
+        /**
+         * Ctor.
+         * @param writing Writing of the dump
+         * @param width Width of the hashes in bytes
+         * @param first Key index of the first hash
+         */
+        Batch(final Writing writing, final int width, final int first) {
+            this.writing = writing;
+            this.width = width;
+            this.bytes = new byte[Hashed.BATCH * width];
+            this.keys = new int[Hashed.BATCH];
+            this.next = first;
+        }
+
+        /**
+         * Add a hash, putting the batch into the dump if it is full.
+         * @param hash The hash
+         */
+        void add(final Hash hash) {
+            final byte[] value = hash.asBytes();
+            if (value.length != this.width) {
+                throw new IllegalStateException(
+                    "Hashes of other widths can't be dumped"
+                );
+            }
+            System.arraycopy(
+                value,
+                0,
+                this.bytes,
+                this.size * this.width,
+                this.width
+            );
+            this.keys[this.size] = this.next;
+            ++this.size;
+            ++this.next;
+            if (this.size == Hashed.BATCH) {
+                this.flush();
+            }
+        }
+
+        /**
+         * Put the hashes of the batch into the dump, copying the arrays of
+         * a partial batch only.
+         */
+        void flush() {
+            if (this.size == Hashed.BATCH) {
+                this.writing.put(this.next - this.size, this.bytes, this.keys);
+            } else if (this.size > 0) {
+                this.writing.put(
+                    this.next - this.size,
+                    Arrays.copyOf(this.bytes, this.size * this.width),
+                    Arrays.copyOf(this.keys, this.size)
+                );
+            }
+            this.size = 0;
+        }
+    }
+}
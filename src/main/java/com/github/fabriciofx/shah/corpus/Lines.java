@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.corpus;
+
+import com.github.fabriciofx.shah.Framing;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.key.Sliced;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+
+/**
+ * Lines.
+ *
+ * <p>Keys framed as lines: each key ends with a {@code \n}, or a
+ * {@code \r\n}, not part of the key. The last key may have no line
+ * end.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Lines implements Framing {
+    /**
+     * Size of the blocks read to find a line end.
+     */
+    private static final int BLOCK = 1 << 16;
+
+    @Override
+    public long start(
+        final FileChannel channel,
+        final long known,
+        final long position
+    ) throws IOException {
+        final long size = channel.size();
+        long start = size;
+        if (position <= known) {
+            start = known;
+        } else {
+            final ByteBuffer block = ByteBuffer.allocate(Lines.BLOCK);
+            long offset = position - 1;
+            while (start == size && offset < size) {
+                block.clear();
+                final int read = Math.max(0, channel.read(block, offset));
+                for (int idx = 0; idx < read && start == size; ++idx) {
+                    if (block.get(idx) == '\n') {
+                        start = offset + idx + 1;
+                    }
+                }
+                offset += Math.max(1, read);
+            }
+        }
+        return start;
+    }
+
+    @Override
+    public void keys(final ByteBuffer buffer, final Consumer<Key> out) {
+        final int limit = buffer.limit();
+        int start = 0;
+        for (int idx = 0; idx < limit; ++idx) {
+            if (buffer.get(idx) == '\n') {
+                out.accept(Lines.line(buffer, start, idx));
+                start = idx + 1;
+            }
+        }
+        if (start < limit) {
+            out.accept(Lines.line(buffer, start, limit));
+        }
+    }
+
+    /**
+     * The key of a line, without its {@code \r}, if any.
+     * @param buffer The buffer
+     * @param start Position of the first byte of the line
+     * @param end Position of the line end
+     * @return The key
+     */
+    private static Key line(
+        final ByteBuffer buffer,
+        final int start,
+        final int end
+    ) {
+        int last = end;
+        if (last > start && buffer.get(last - 1) == '\r') {
+            --last;
+        }
+        return new Sliced(buffer, start, last - start);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.corpus;
+
+import com.github.fabriciofx.shah.Framing;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.key.Sliced;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+
+/**
+ * Prefixed.
+ *
+ * <p>Keys framed by their length: each key follows its size in bytes, a
+ * 4-byte little-endian {@code int}. A key start can only be found by
+ * walking the sizes from a known key start, which reads one block of the
+ * file after another, skipping the keys.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Prefixed implements Framing {
+    /**
+     * Size of the blocks read to walk the sizes.
+     */
+    private static final int BLOCK = 1 << 16;
+
+    @Override
+    public long start(
+        final FileChannel channel,
+        final long known,
+        final long position
+    ) throws IOException {
+        final long size = channel.size();
+        final ByteBuffer block = ByteBuffer.allocate(Prefixed.BLOCK)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        long offset = -1L;
+        long start = known;
+        while (start < position && start < size) {
+            if (offset < 0 || start + Integer.BYTES > offset + block.limit()) {
+                block.clear();
+                offset = start;
+                int read = 0;
+                while (read >= 0 && block.hasRemaining()) {
+                    read = channel.read(block, offset + block.position());
+                }
+                block.flip();
+                if (block.remaining() < Integer.BYTES) {
+                    throw new IllegalStateException(
+                        String.format("Key size at %d is cut", start)
+                    );
+                }
+            }
+            start += Integer.BYTES
+                + Integer.toUnsignedLong(block.getInt((int) (start - offset)));
+        }
+        return Math.min(start, size);
+    }
+
+    @Override
+    public void keys(final ByteBuffer buffer, final Consumer<Key> out) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int limit = buffer.limit();
+        int start = 0;
+        while (start < limit) {
+            if (start + Integer.BYTES > limit) {
+                throw new IllegalStateException(
+                    String.format("Key size at %d is cut", start)
+                );
+            }
+            final int length = buffer.getInt(start);
+            if (length < 0 || length > limit - start - Integer.BYTES) {
+                throw new IllegalStateException(
+                    String.format("Key at %d is cut", start)
+                );
+            }
+            out.accept(new Sliced(buffer, start + Integer.BYTES, length));
+            start += Integer.BYTES + length;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.dump;
+
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.file.Aligned;
+import com.github.fabriciofx.shah.file.Buffered;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import com.github.fabriciofx.shah.hashes.Quicksort;
+import com.github.fabriciofx.shah.hashes.Sortable;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.seed.Seed64;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Dump.
+ *
+ * <p>A file with the hashes of a test and the indices of their keys, to
+ * analyze them again without running the hash function. It starts with a
+ * header of {@code name=value} lines telling the function, the seed, the
+ * test and its parameters, followed by the hashes as their bytes, one
+ * after another, and by the key indices as {@code int}s. The hashes are
+ * sorted by their unsigned bytes, the key indices following them, so equal
+ * hashes are next to each other. The numbers are little-endian and each
+ * column starts at a multiple of 8 bytes:</p>
+ *
+ * <pre>
+ * "SHAHDUMP" version:int header-size:int header:UTF-8 width:int count:int
+ * hashes:byte[count * width] keys:int[count]</pre>
+ *
+ * <p>The columns are read through {@link java.nio.MappedByteBuffer}s of
+ * up to 1 GiB each, see {@link Mapped}, so the analysis runs at the speed
+ * of the memory once the file is cached, and a dump larger than the heap,
+ * or than 2 GiB, can be read. It is
+ * written the same way: the hashes are put at their place in the file as
+ * they are computed, see {@link Writing}, and then sorted in place through
+ * a mapping of the file.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Dump {
+    /**
+     * Magic bytes of a dump.
+     */
+    private static final byte[] MAGIC = "SHAHDUMP".getBytes(
+        StandardCharsets.US_ASCII
+    );
+
+    /**
+     * Version of the format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Size of the write buffer in bytes.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public Dump(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Write the dump, replacing the file atomically.
+     * @param header Function, seed, test and parameters, by name
+     * @param hashes The hashes with the indices of their keys
+     */
+    public void write(final Map<String, String> header, final Indexed hashes) {
+        final int width = hashes.bits() / Byte.SIZE;
+        this.write(
+            header,
+            width,
+            hashes.count(),
+            writing -> {
+                final byte[] bytes = new byte[hashes.count() * width];
+                final int[] keys = new int[hashes.count()];
+                for (int idx = 0; idx < hashes.count(); ++idx) {
+                    System.arraycopy(
+                        hashes.item(idx).asBytes(),
+                        0,
+                        bytes,
+                        idx * width,
+                        width
+                    );
+                    keys[idx] = hashes.key(idx);
+                }
+                writing.put(0, bytes, keys);
+            }
+        );
+    }
+
+    /**
+     * Write the dump as its hashes are computed, sort them and replace the
+     * file atomically.
+     * @param header Function, seed, test and parameters, by name
+     * @param width Width of the hashes in bytes
+     * @param count Number of hashes
+     * @param hashes Compute the hashes and put all of them
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public void write(
+        final Map<String, String> header,
+        final int width,
+        final int count,
+        final Consumer<Writing> hashes
+    ) {
+        if (width < 0 || count < 0) {
+            throw new IllegalArgumentException(
+                String.format("Can't dump %d hashes of %d bytes", count, width)
+            );
+        }
+        final Path temp = this.file.resolveSibling(
+            String.format("%s.tmp", this.file.getFileName())
+        );
+        try {
+            try (
+                FileChannel channel = FileChannel.open(
+                    temp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                Dump.head(channel, header, width, count);
+                final long start = channel.position();
+                final long keys = new Aligned(
+                    start + (long) count * width
+                ).value();
+                hashes.accept(new Writing(channel, start, keys, width, count));
+                Dump.sort(
+                    new Region(
+                        channel,
+                        FileChannel.MapMode.READ_WRITE,
+                        start,
+                        width,
+                        count
+                    ),
+                    new Region(
+                        channel,
+                        FileChannel.MapMode.READ_WRITE,
+                        keys,
+                        Integer.BYTES,
+                        count
+                    ),
+                    width,
+                    count
+                );
+            }
+            Files.move(
+                temp,
+                this.file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Can't write dump '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Read the header.
+     * @return Function, seed, test and parameters, by name
+     */
+    public Map<String, String> header() {
+        try (FileChannel channel = FileChannel.open(this.file)) {
+            return Collections.unmodifiableMap(
+                Dump.header(Dump.layout(channel))
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Can't read dump '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Generate again the keys of the hashes, from the {@code size},
+     * {@code initial} and {@code count} fields of a header of random keys,
+     * see {@link Dumped}.
+     * @return The keys
+     */
+    public Keys keys() {
+        final Map<String, String> header = this.header();
+        if (!"random-keys".equals(header.get("test"))) {
+            throw new IllegalStateException(
+                String.format("Keys of dump '%s' are unknown", this.file)
+            );
+        }
+        final ByteBuffer initial = ByteBuffer.wrap(
+            HexFormat.of().parseHex(header.get("initial"))
+        ).order(ByteOrder.LITTLE_ENDIAN);
+        final Seed seed;
+        if (initial.remaining() == Integer.BYTES) {
+            seed = new Seed32(initial.getInt());
+        } else {
+            seed = new Seed64(initial.getLong());
+        }
+        return new RandomKeys(
+            Integer.parseInt(header.get("size")),
+            seed,
+            Integer.parseInt(header.get("count"))
+        );
+    }
+
+    /**
+     * Map the hashes and the key indices.
+     * @return The hashes, read-only
+     */
+    public Mapped hashes() {
+        try (FileChannel channel = FileChannel.open(this.file)) {
+            final ByteBuffer layout = Dump.layout(channel);
+            Dump.header(layout);
+            final int width = layout.getInt();
+            final int count = layout.getInt();
+            final long start = new Aligned(layout.position()).value();
+            final long keys = new Aligned(
+                start + (long) count * width
+            ).value();
+            if (channel.size() < keys + (long) count * Integer.BYTES) {
+                throw new IllegalStateException(
+                    String.format("Dump '%s' is cut", this.file)
+                );
+            }
+            return new Mapped(
+                new Region(
+                    channel,
+                    FileChannel.MapMode.READ_ONLY,
+                    start,
+                    width,
+                    count
+                ),
+                new Region(
+                    channel,
+                    FileChannel.MapMode.READ_ONLY,
+                    keys,
+                    Integer.BYTES,
+                    count
+                ),
+                width,
+                count
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Can't read dump '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Write the start of a dump, up to the number of hashes included, and
+     * pad it up to the column of the hashes.
+     * @param channel The channel
+     * @param header Function, seed, test and parameters, by name
+     * @param width Width of the hashes in bytes
+     * @param count Number of hashes
+     * @throws IOException If it can't be written
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static void head(
+        final FileChannel channel,
+        final Map<String, String> header,
+        final int width,
+        final int count
+    ) throws IOException {
+        final StringBuilder text = new StringBuilder();
+        header.forEach(
+            (name, value) -> {
+                if (name.indexOf('=') >= 0
+                    || (name + value).indexOf('\n') >= 0) {
+                    throw new IllegalArgumentException(
+                        String.format("Invalid header field '%s'", name)
+                    );
+                }
+                text.append(name).append('=').append(value).append('\n');
+            }
+        );
+        final byte[] fields = text.toString().getBytes(StandardCharsets.UTF_8);
+        final Buffered out = new Buffered(
+            channel,
+            Math.max(Dump.BUFFER, fields.length + 64)
+        );
+        out.room(Dump.MAGIC.length + 16 + fields.length)
+            .put(Dump.MAGIC)
+            .putInt(Dump.VERSION)
+            .putInt(fields.length)
+            .put(fields)
+            .putInt(width)
+            .putInt(count);
+        out.pad();
+        out.flush();
+    }
+
+    /**
+     * Sort the hashes of the mapped columns in place by their unsigned
+     * bytes, moving the key indices along.
+     * @param hashes Column of the hashes
+     * @param keys Column of the key indices
+     * @param width Width of the hashes in bytes
+     * @param count Number of hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static void sort(
+        final Region hashes,
+        final Region keys,
+        final int width,
+        final int count
+    ) {
+        new Quicksort(
+            new Sortable() {
+                @Override
+                public int compare(final int left, final int right) {
+                    int order = 0;
+                    for (int idx = 0; order == 0 && idx < width; ++idx) {
+                        order = Integer.compare(
+                            hashes.get(left, idx) & 0xFF,
+                            hashes.get(right, idx) & 0xFF
+                        );
+                    }
+                    return order;
+                }
+
+                @Override
+                public void swap(final int left, final int right) {
+                    final int key = keys.getInt(left);
+                    keys.putInt(left, keys.getInt(right));
+                    keys.putInt(right, key);
+                    for (int idx = 0; idx < width; ++idx) {
+                        final byte value = hashes.get(left, idx);
+                        hashes.put(left, idx, hashes.get(right, idx));
+                        hashes.put(right, idx, value);
+                    }
+                }
+            }
+        ).sort(0, count);
+    }
+
+    /**
+     * Read the start of a dump, up to its header included.
+     * @param channel The channel
+     * @return The bytes, positioned after the version
+     * @throws IOException If it can't be read
+     */
+    private static ByteBuffer layout(final FileChannel channel)
+        throws IOException {
+        final ByteBuffer start = Dump.read(channel, 0L, Dump.MAGIC.length + 8);
+        final byte[] magic = new byte[Dump.MAGIC.length];
+        start.get(magic);
+        if (!Arrays.equals(magic, Dump.MAGIC)
+            || start.getInt() != Dump.VERSION) {
+            throw new IllegalStateException("Not a dump of this version");
+        }
+        final int size = start.getInt();
+        final ByteBuffer layout = Dump.read(
+            channel,
+            0L,
+            Dump.MAGIC.length + 16 + size
+        );
+        layout.position(Dump.MAGIC.length + Integer.BYTES);
+        return layout;
+    }
+
+    /**
+     * Parse the header.
+     * @param layout The start of the dump, positioned at the header size;
+     *  it is left after the header
+     * @return Function, seed, test and parameters, by name
+     */
+    private static Map<String, String> header(final ByteBuffer layout) {
+        final byte[] bytes = new byte[layout.getInt()];
+        layout.get(bytes);
+        final String text = new String(bytes, StandardCharsets.UTF_8);
+        final Map<String, String> header = new LinkedHashMap<>();
+        for (final String line : text.split("\n")) {
+            final int equal = line.indexOf('=');
+            if (equal > 0) {
+                header.put(
+                    line.substring(0, equal),
+                    line.substring(equal + 1)
+                );
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Read bytes of a channel.
+     * @param channel The channel
+     * @param position Position of the first byte
+     * @param size Number of bytes
+     * @return The bytes, little-endian, ready to be read
+     * @throws IOException If they can't be read
+     */
+    private static ByteBuffer read(
+        final FileChannel channel,
+        final long position,
+        final int size
+    ) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(size)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalStateException("Dump is cut");
+            }
+        }
+        return buffer.flip();
+    }
+}
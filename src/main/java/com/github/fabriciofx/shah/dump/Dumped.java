@@ -0,0 +1,201 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.dump;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Dumped.
+ *
+ * <p>Hash random keys, the ones of
+ * {@link com.github.fabriciofx.shah.test.CollisionTest},
+ * {@link com.github.fabriciofx.shah.test.DistributionTest} and
+ * {@link com.github.fabriciofx.shah.test.TruncatedCollisionTest}, and
+ * write their hashes to a {@link Dump}, whose header tells the function,
+ * its seed and the parameters of the keys. Each chunk of keys is put into
+ * the file as soon as it is hashed, so only the chunks in flight are in
+ * the heap. The metrics of these tests can then be computed from the
+ * dump, e.g. {@code new Truncated(dump.hashes())}, as often as needed, and
+ * the colliding keys generated again with {@link Dump#keys()}, e.g.
+ * {@code new Collisions(dump.hashes(), dump.keys())}.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
+public final class Dumped implements Test<Dump> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
+    /**
+     * Name of the hash function.
+     */
+    private final String name;
+
+    /**
+     * The hash under test.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys to hash.
+     */
+    private final int count;
+
+    /**
+     * The dump.
+     */
+    private final Dump dump;
+
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
+    /**
+     * Ctor.
+     * @param name Name of the hash function
+     * @param func The hash function under test
+     * @param seed Key seed
+     * @param size Key size
+     * @param initial Test seed
+     * @param count Number of keys to hash
+     * @param file File of the dump
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Dumped(
+        final String name,
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Path file
+    ) {
+        this(name, func, seed, size, initial, count, file, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the hash function
+     * @param func The hash function under test
+     * @param seed Key seed
+     * @param size Key size
+     * @param initial Test seed
+     * @param count Number of keys to hash
+     * @param file File of the dump
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Dumped(
+        final String name,
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Path file,
+        final Runner runner
+    ) {
+        this.name = name;
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.dump = new Dump(file);
+        this.runner = runner;
+    }
+
+    @Override
+    public Dump metric() {
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Loop loop = new Specialized(this.func, this.seed);
+        final int width;
+        if (keys.count() == 0) {
+            width = 0;
+        } else {
+            width = this.func.apply(keys.item(0), this.seed).asBytes().length;
+        }
+        final Map<String, String> header = new LinkedHashMap<>();
+        header.put("function", this.name);
+        header.put("seed", HexFormat.of().formatHex(this.seed.asBytes()));
+        header.put("test", "random-keys");
+        header.put("size", Integer.toString(this.size));
+        header.put(
+            "initial",
+            HexFormat.of().formatHex(this.initial.asBytes())
+        );
+        header.put("count", Integer.toString(this.count));
+        this.dump.write(
+            header,
+            width,
+            keys.count(),
+            writing -> this.runner.reduce(
+                keys.count(),
+                Dumped.GRAIN,
+                (from, to) -> {
+                    final ByteBuffer hashes = ByteBuffer.allocate(
+                        (to - from) * width
+                    );
+                    loop.run(
+                        keys,
+                        from,
+                        to,
+                        hash -> {
+                            final byte[] bytes = hash.asBytes();
+                            if (bytes.length != width) {
+                                throw new IllegalStateException(
+                                    "Hashes of other widths can't be dumped"
+                                );
+                            }
+                            hashes.put(bytes);
+                        }
+                    );
+                    writing.put(
+                        from,
+                        hashes.array(),
+                        IntStream.range(from, to).toArray()
+                    );
+                    return to - from;
+                },
+                Integer::sum
+            )
+        );
+        return this.dump;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.dump;
+
+import com.github.fabriciofx.shah.hashes.Column;
+
+/**
+ * Mapped.
+ *
+ * <p>The hashes of a {@link Dump}, sorted by value, read from the
+ * memory-mapped columns of the file. No hash object is created: the hashes
+ * are compared in the mapped column and read into the buffer of the
+ * caller, so the heap holds nothing but the analysis itself, e.g.
+ * {@code new Collisions(dump.hashes(), dump.keys())}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Mapped implements Column {
+    /**
+     * Column of the hashes.
+     */
+    private final Region hashes;
+
+    /**
+     * Column of the key indices.
+     */
+    private final Region keys;
+
+    /**
+     * Width of the hashes in bytes.
+     */
+    private final int width;
+
+    /**
+     * Number of hashes.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param hashes Column of the hashes
+     * @param keys Column of the key indices
+     * @param width Width of the hashes in bytes
+     * @param count Number of hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Mapped(
+        final Region hashes,
+        final Region keys,
+        final int width,
+        final int count
+    ) {
+        this.hashes = hashes;
+        this.keys = keys;
+        this.width = width;
+        this.count = count;
+    }
+
+    @Override
+    public int count() {
+        return this.count;
+    }
+
+    @Override
+    public int bits() {
+        return this.width * Byte.SIZE;
+    }
+
+    @Override
+    public int key(final int index) {
+        this.check(index);
+        return this.keys.getInt(index);
+    }
+
+    @Override
+    public boolean same(final int left, final int right) {
+        this.check(left);
+        this.check(right);
+        boolean same = true;
+        for (int idx = 0; same && idx < this.width; ++idx) {
+            same = this.hashes.get(left, idx) == this.hashes.get(right, idx);
+        }
+        return same;
+    }
+
+    @Override
+    public void read(final int index, final byte[] bytes) {
+        this.check(index);
+        this.hashes.read(index, bytes);
+    }
+
+    /**
+     * Check the index of a hash.
+     * @param index The index
+     */
+    private void check(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.dump;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Region.
+ *
+ * <p>A column of records of a fixed width in a file, mapped in segments
+ * of whole records of up to 1 GiB each, so a column can be larger than
+ * the 2 GiB of a single {@link java.nio.MappedByteBuffer}. The multi-byte
+ * values are little-endian.</p>
+ *
+ * @since 0.0.1
+ */
+final class Region {
+    /**
+     * Largest size of a segment in bytes.
+     */
+    private static final int SEGMENT = 1 << 30;
+
+    /**
+     * The mapped segments.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * Width of the records in bytes.
+     */
+    private final int width;
+
+    /**
+     * Number of records per segment.
+     */
+    private final int records;
+
+    /**
+     * Ctor.
+     * @param channel The channel of the file
+     * @param mode Mode of the mapping
+     * @param start Position of the first record
+     * @param width Width of the records in bytes
+     * @param count Number of records
+     * @throws IOException If the file can't be mapped
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Region(
+        final FileChannel channel,
+        final FileChannel.MapMode mode,
+        final long start,
+        final int width,
+        final int count
+    ) throws IOException {
+        this.width = width;
+        this.records = Region.SEGMENT / Math.max(1, width);
+        this.segments = new ByteBuffer[
+            (int) ((count + (long) this.records - 1L) / this.records)
+        ];
+        for (int idx = 0; idx < this.segments.length; ++idx) {
+            final long first = (long) idx * this.records;
+            this.segments[idx] = channel.map(
+                mode,
+                start + first * width,
+                Math.min(this.records, count - first) * width
+            ).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Get a byte of a record.
+     * @param index Index of the record
+     * @param offset Offset of the byte in the record
+     * @return The byte
+     */
+    byte get(final int index, final int offset) {
+        return this.segments[index / this.records].get(
+            index % this.records * this.width + offset
+        );
+    }
+
+    /**
+     * Put a byte of a record.
+     * @param index Index of the record
+     * @param offset Offset of the byte in the record
+     * @param value The byte
+     */
+    void put(final int index, final int offset, final byte value) {
+        this.segments[index / this.records].put(
+            index % this.records * this.width + offset,
+            value
+        );
+    }
+
+    /**
+     * Get a record of four bytes as an integer.
+     * @param index Index of the record
+     * @return The integer
+     */
+    int getInt(final int index) {
+        return this.segments[index / this.records].getInt(
+            index % this.records * this.width
+        );
+    }
+
+    /**
+     * Put a record of four bytes as an integer.
+     * @param index Index of the record
+     * @param value The integer
+     */
+    void putInt(final int index, final int value) {
+        this.segments[index / this.records].putInt(
+            index % this.records * this.width,
+            value
+        );
+    }
+
+    /**
+     * Read a record.
+     * @param index Index of the record
+     * @param bytes Buffer of the width of the records, filled
+     */
+    void read(final int index, final byte[] bytes) {
+        this.segments[index / this.records].get(
+            index % this.records * this.width,
+            bytes,
+            0,
+            this.width
+        );
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.dump;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writing.
+ *
+ * <p>The columns of a {@link Dump} being written. Runs of hashes are put
+ * at their place in the file as soon as they are computed, in any order
+ * and from any thread, so only the runs in flight are in the heap.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Writing {
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Position of the column of the hashes.
+     */
+    private final long hashes;
+
+    /**
+     * Position of the column of the key indices.
+     */
+    private final long keys;
+
+    /**
+     * Width of the hashes in bytes.
+     */
+    private final int width;
+
+    /**
+     * Number of hashes.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param channel The channel of the file
+     * @param hashes Position of the column of the hashes
+     * @param keys Position of the column of the key indices
+     * @param width Width of the hashes in bytes
+     * @param count Number of hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Writing(
+        final FileChannel channel,
+        final long hashes,
+        final long keys,
+        final int width,
+        final int count
+    ) {
+        this.channel = channel;
+        this.hashes = hashes;
+        this.keys = keys;
+        this.width = width;
+        this.count = count;
+    }
+
+    /**
+     * Put a run of hashes and the indices of their keys.
+     * @param index Index of the first hash of the run in the dump
+     * @param bytes The bytes of the hashes, one after another
+     * @param indices The index of the key of each hash
+     */
+    public void put(final int index, final byte[] bytes, final int... indices) {
+        if (index < 0 || index > this.count - indices.length
+            || bytes.length != indices.length * this.width) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't put %d hashes of %d bytes at %d",
+                    indices.length,
+                    bytes.length,
+                    index
+                )
+            );
+        }
+        final ByteBuffer column = ByteBuffer.allocate(
+            indices.length * Integer.BYTES
+        ).order(ByteOrder.LITTLE_ENDIAN);
+        for (final int key : indices) {
+            column.putInt(key);
+        }
+        try {
+            this.write(
+                ByteBuffer.wrap(bytes),
+                this.hashes + (long) index * this.width
+            );
+            this.write(
+                column.flip(),
+                this.keys + (long) index * Integer.BYTES
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Can't write dump", ex);
+        }
+    }
+
+    /**
+     * Write bytes at a position of the file.
+     * @param buffer The bytes
+     * @param position Position of the first byte
+     * @throws IOException If they can't be written
+     */
+    private void write(final ByteBuffer buffer, final long position)
+        throws IOException {
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer, position + buffer.position());
+        }
+    }
+}
@@ -6,10 +6,12 @@ package com.github.fabriciofx.shah.family;
 
 import com.github.fabriciofx.shah.Family;
 import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Summarized;
 import com.github.fabriciofx.shah.metric.Collisions;
 import com.github.fabriciofx.shah.metric.Ratios;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * FamilyOf.
@@ -18,7 +20,7 @@ import java.util.List;
  *
  * @since 0.0.1
  */
-public final class FamilyOf implements Family {
+public final class FamilyOf implements Family, Summarized {
     /**
      * List of hashes.
      */
@@ -57,4 +59,9 @@ public final class FamilyOf implements Family {
         }
         return ratios;
     }
+
+    @Override
+    public Map<String, Object> summary() {
+        return this.ratios().summary();
+    }
 }
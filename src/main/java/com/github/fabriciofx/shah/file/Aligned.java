@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.file;
+
+import com.github.fabriciofx.shah.Scalar;
+
+/**
+ * Aligned.
+ *
+ * <p>A position of a file rounded up to the next multiple of 8 bytes,
+ * where a column of numbers starts, so that it can be mapped and read in
+ * place.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Aligned implements Scalar<Long> {
+    /**
+     * The position.
+     */
+    private final long position;
+
+    /**
+     * Ctor.
+     * @param position The position
+     */
+    public Aligned(final long position) {
+        this.position = position;
+    }
+
+    @Override
+    public Long value() {
+        return (this.position + Long.BYTES - 1) & -Long.BYTES;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Buffered.
+ *
+ * <p>Writing to a file channel through a little-endian buffer, flushed
+ * when it has no room left. The columns of the file are padded with zeroes
+ * to start at an {@link Aligned} position.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Buffered {
+    /**
+     * The channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param channel The channel, written from its position
+     * @param size Size of the buffer in bytes
+     */
+    public Buffered(final FileChannel channel, final int size) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Make room in the buffer, flushing it if needed.
+     * @param size Number of bytes to put, up to the size of the buffer
+     * @return The buffer, with room for them
+     * @throws IOException If it can't be written
+     */
+    public ByteBuffer room(final int size) throws IOException {
+        if (this.buffer.remaining() < size) {
+            this.flush();
+        }
+        return this.buffer;
+    }
+
+    /**
+     * Put bytes, flushing the buffer as often as needed.
+     * @param bytes The bytes
+     * @throws IOException If they can't be written
+     */
+    public void put(final byte... bytes) throws IOException {
+        int pos = 0;
+        while (pos < bytes.length) {
+            final ByteBuffer room = this.room(1);
+            final int part = Math.min(room.remaining(), bytes.length - pos);
+            room.put(bytes, pos, part);
+            pos += part;
+        }
+    }
+
+    /**
+     * Write zeroes up to the next multiple of 8 bytes of the file.
+     * @throws IOException If they can't be written
+     */
+    public void pad() throws IOException {
+        final long position = this.channel.position() + this.buffer.position();
+        final long aligned = new Aligned(position).value();
+        final ByteBuffer room = this.room((int) (aligned - position));
+        for (long idx = position; idx < aligned; ++idx) {
+            room.put((byte) 0);
+        }
+    }
+
+    /**
+     * Write the buffered bytes to the channel.
+     * @throws IOException If they can't be written
+     */
+    public void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
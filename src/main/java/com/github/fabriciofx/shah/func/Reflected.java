@@ -0,0 +1,301 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.func;
+
+import com.github.fabriciofx.shah.Func;
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Seed;
+import java.io.Serializable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Reflected.
+ *
+ * <p>A hash function given by the name of its {@link Func} class, which
+ * must have a public {@code (Key, Seed)} or {@code (Key)} constructor.
+ * Unlike a lambda, it can be serialized and rebuilt in another JVM or
+ * given on a command line.</p>
+ *
+ * <p>The constructor is found once and bound to a lambda with
+ * {@link LambdaMetafactory}, so the function is called as fast as one
+ * written in the code: there is no reflective call per hash. A class of
+ * another class loader can't have a lambda bound to it, so its constructor
+ * is called through a method handle instead.</p>
+ *
+ * <p>Every function shares the call sites of {@link #apply(Key, Seed)},
+ * so a loop over several functions would see them megamorphic: the
+ * {@link com.github.fabriciofx.shah.loop.Specialized} loop of a reflected
+ * function calls the {@link #constructor()} of its class instead, from a
+ * copy of the loop of its own.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Reflected implements BiFunction<Key, Seed, Hash>,
+    Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Name of the {@link Func} class.
+     */
+    private final String name;
+
+    /**
+     * Class loader of the {@link Func} class, or null for the loader of
+     * this class. It is not serialized.
+     */
+    private final transient ClassLoader loader;
+
+    /**
+     * Build the {@link Func} of a key and a seed, found on the first use.
+     */
+    private transient BiFunction<Key, Seed, Func> factory;
+
+    /**
+     * Ctor.
+     * @param type The {@link Func} class
+     */
+    public Reflected(final Class<? extends Func> type) {
+        this(type.getName());
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the {@link Func} class
+     */
+    public Reflected(final String name) {
+        this(name, null);
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the {@link Func} class
+     * @param loader Class loader of the {@link Func} class, e.g. one
+     *  isolating the jar of the function
+     */
+    public Reflected(final String name, final ClassLoader loader) {
+        this.name = name;
+        this.loader = loader;
+    }
+
+    @Override
+    public Hash apply(final Key key, final Seed seed) {
+        return this.factory().apply(key, seed).hash();
+    }
+
+    /**
+     * Bind, once, the constructor of the {@link Func} class to a lambda.
+     * @return The factory, from the {@code (Key, Seed)} constructor, or
+     *  else from the {@code (Key)} one
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private BiFunction<Key, Seed, Func> factory() {
+        if (this.factory == null) {
+            final Class<?> type = this.type();
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles
+                    .privateLookupIn(type, MethodHandles.lookup());
+                final BiFunction<Key, Seed, Func> found;
+                if (lookup.hasFullPrivilegeAccess()) {
+                    found = Reflected.bound(lookup, type);
+                } else {
+                    found = Reflected.handled(lookup, type);
+                }
+                this.factory = found;
+            } catch (final NoSuchMethodException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Can't find hash function %s", this.name),
+                    ex
+                );
+            } catch (final Throwable ex) {
+                throw new IllegalArgumentException(
+                    String.format("Can't build hash function %s", this.name),
+                    ex
+                );
+            }
+        }
+        return this.factory;
+    }
+
+    /**
+     * Constructor of the {@link Func} class, of type
+     * {@code (Key, Seed)Func}, e.g. to call it from a loop of its own.
+     * @return The {@code (Key, Seed)} constructor, or else the
+     *  {@code (Key)} one, ignoring the seed
+     */
+    public MethodHandle constructor() {
+        final Class<?> type = this.type();
+        try {
+            return Reflected.ctor(
+                MethodHandles.privateLookupIn(type, MethodHandles.lookup()),
+                type
+            );
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't find hash function %s", this.name),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Load the {@link Func} class.
+     * @return The class
+     */
+    public Class<?> type() {
+        final Class<?> type;
+        try {
+            if (this.loader == null) {
+                type = Class.forName(this.name);
+            } else {
+                type = Class.forName(this.name, true, this.loader);
+            }
+        } catch (final ClassNotFoundException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't find hash function %s", this.name),
+                ex
+            );
+        }
+        if (!Func.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(
+                String.format("%s is not a hash function", this.name)
+            );
+        }
+        return type;
+    }
+
+    /**
+     * Build the {@link Func} of a key and a seed with a lambda bound to the
+     * constructor.
+     * @param lookup Lookup of the class, with full privilege access
+     * @param type The {@link Func} class
+     * @return The factory
+     * @throws Throwable If the constructor can't be found or bound
+     */
+    @SuppressWarnings({"unchecked", "PMD.SignatureDeclareThrowsException"})
+    private static BiFunction<Key, Seed, Func> bound(
+        final MethodHandles.Lookup lookup,
+        final Class<?> type
+    ) throws Throwable {
+        BiFunction<Key, Seed, Func> found;
+        try {
+            found = (BiFunction<Key, Seed, Func>) Reflected.bind(
+                lookup,
+                BiFunction.class,
+                lookup.findConstructor(
+                    type,
+                    MethodType.methodType(void.class, Key.class, Seed.class)
+                )
+            );
+        } catch (final NoSuchMethodException ex) {
+            final Function<Key, Func> unseeded =
+                (Function<Key, Func>) Reflected.bind(
+                    lookup,
+                    Function.class,
+                    lookup.findConstructor(
+                        type,
+                        MethodType.methodType(void.class, Key.class)
+                    )
+                );
+            found = (key, seed) -> unseeded.apply(key);
+        }
+        return found;
+    }
+
+    /**
+     * Build the {@link Func} of a key and a seed by invoking the method
+     * handle of the constructor. It is used when the class lives in another
+     * module, like a class of a separate class loader, where a lambda can't
+     * be bound to the constructor.
+     * @param lookup Lookup of the class
+     * @param type The {@link Func} class
+     * @return The factory
+     * @throws ReflectiveOperationException If the constructor can't be found
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static BiFunction<Key, Seed, Func> handled(
+        final MethodHandles.Lookup lookup,
+        final Class<?> type
+    ) throws ReflectiveOperationException {
+        final MethodHandle handle = Reflected.ctor(lookup, type);
+        return (key, seed) -> {
+            try {
+                return (Func) handle.invokeExact(key, seed);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new IllegalStateException(
+                    String.format("Can't build hash function %s", type),
+                    ex
+                );
+            }
+        };
+    }
+
+    /**
+     * Find the constructor of a {@link Func} class.
+     * @param lookup Lookup of the class
+     * @param type The {@link Func} class
+     * @return The constructor, of type {@code (Key, Seed)Func}
+     * @throws ReflectiveOperationException If the constructor can't be found
+     */
+    private static MethodHandle ctor(
+        final MethodHandles.Lookup lookup,
+        final Class<?> type
+    ) throws ReflectiveOperationException {
+        MethodHandle ctor;
+        try {
+            ctor = lookup.findConstructor(
+                type,
+                MethodType.methodType(void.class, Key.class, Seed.class)
+            );
+        } catch (final NoSuchMethodException ex) {
+            ctor = MethodHandles.dropArguments(
+                lookup.findConstructor(
+                    type,
+                    MethodType.methodType(void.class, Key.class)
+                ),
+                1,
+                Seed.class
+            );
+        }
+        return ctor.asType(
+            MethodType.methodType(Func.class, Key.class, Seed.class)
+        );
+    }
+
+    /**
+     * Bind a constructor to a functional interface.
+     * @param lookup Lookup of the class of the constructor
+     * @param iface Functional interface, whose method is {@code apply}
+     * @param ctor Constructor
+     * @return The lambda
+     * @throws Throwable If the lambda can't be made
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    private static Object bind(
+        final MethodHandles.Lookup lookup,
+        final Class<?> iface,
+        final MethodHandle ctor
+    ) throws Throwable {
+        final MethodType type = ctor.type();
+        return LambdaMetafactory.metafactory(
+            lookup,
+            "apply",
+            MethodType.methodType(iface),
+            type.generic(),
+            ctor,
+            type
+        ).getTarget().invoke();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+/**
+ * Column.
+ *
+ * <p>Hashes of the same width, each with the index of its key, that can't
+ * be changed. They are compared and read as their bytes, into a buffer of
+ * the caller, so that scanning them creates no object, e.g. to analyze the
+ * hashes of a {@link com.github.fabriciofx.shah.dump.Dump} at the speed of
+ * the memory.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Column {
+    /**
+     * Get the number of hashes.
+     * @return The number of hashes
+     */
+    int count();
+
+    /**
+     * Get the width of the hashes.
+     * @return The width in bits
+     */
+    int bits();
+
+    /**
+     * Get the key index of a hash.
+     * @param index The index of the hash
+     * @return The index of its key
+     */
+    int key(int index);
+
+    /**
+     * Compare two hashes.
+     * @param left Index of a hash
+     * @param right Index of another hash
+     * @return Whether the hashes are equal
+     */
+    boolean same(int left, int right);
+
+    /**
+     * Read the bytes of a hash.
+     * @param index The index of the hash
+     * @param bytes Buffer of the width of the hashes, filled
+     */
+    void read(int index, byte[] bytes);
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Mergeable;
+import java.io.InvalidObjectException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * Compact.
+ *
+ * <p>A collection of hashes of the same width stored as their bytes, one
+ * after another, in a single array. A 32-bit hash takes 4 bytes instead of
+ * the 20 to 24 bytes of a hash object and its reference; the hash objects
+ * are created again when the hashes are read.</p>
+ *
+ * <p>Hashes compacted apart, e.g. by different threads, can be merged,
+ * appending the bytes of the other collection. The array grows by doubling,
+ * so merging many parts one after another copies each byte a few times
+ * only, up to the 2 GiB of an array.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Compact implements Hashes, Mergeable<Compact> {
+    /**
+     * Largest number of bytes of an array.
+     */
+    private static final int LIMIT = Integer.MAX_VALUE - 8;
+
+    /**
+     * Expected number of hashes.
+     */
+    private final int capacity;
+
+    /**
+     * Bytes of the hashes.
+     */
+    private byte[] bytes;
+
+    /**
+     * Width of the hashes in bytes, known from the first hash.
+     */
+    private int width;
+
+    /**
+     * Number of hashes.
+     */
+    private int hashes;
+
+    /**
+     * Ctor.
+     */
+    public Compact() {
+        this(0);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Expected number of hashes
+     */
+    public Compact(final int capacity) {
+        this.capacity = capacity;
+        this.bytes = new byte[0];
+        this.width = 0;
+        this.hashes = 0;
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        final byte[] value = hash.asBytes();
+        if (this.hashes == 0) {
+            this.bytes = new byte[0];
+            this.width = value.length;
+            this.grow(Math.max(1, this.capacity));
+        }
+        if (value.length != this.width) {
+            throw new IllegalArgumentException(
+                "Hashes of different widths can not be compacted"
+            );
+        }
+        this.grow(this.hashes + 1L);
+        System.arraycopy(
+            value,
+            0,
+            this.bytes,
+            this.hashes * this.width,
+            this.width
+        );
+        this.hashes += 1;
+    }
+
+    @Override
+    public int count() {
+        return this.hashes;
+    }
+
+    @Override
+    public Hash item(final int index) {
+        if (index < 0 || index >= this.hashes) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        try {
+            return Packed.hash(
+                Arrays.copyOfRange(
+                    this.bytes,
+                    index * this.width,
+                    (index + 1) * this.width
+                )
+            );
+        } catch (final InvalidObjectException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public Iterator<Hash> iterator() {
+        return IntStream.range(0, this.hashes).mapToObj(this::item).iterator();
+    }
+
+    @Override
+    public Compact merge(final Compact other) {
+        if (other.hashes > 0) {
+            if (this.hashes == 0) {
+                this.width = other.width;
+                this.bytes = new byte[0];
+            }
+            if (other.width != this.width) {
+                throw new IllegalArgumentException(
+                    "Hashes of different widths can not be compacted"
+                );
+            }
+            this.grow((long) this.hashes + other.hashes);
+            System.arraycopy(
+                other.bytes,
+                0,
+                this.bytes,
+                this.hashes * this.width,
+                other.hashes * this.width
+            );
+            this.hashes += other.hashes;
+        }
+        return this;
+    }
+
+    /**
+     * Make room for a number of hashes, doubling the array if needed.
+     * @param size Number of hashes
+     */
+    private void grow(final long size) {
+        final long end = size * this.width;
+        if (end > Compact.LIMIT) {
+            throw new IllegalStateException(
+                String.format(
+                    "Can't compact %d hashes of %d bytes",
+                    size,
+                    this.width
+                )
+            );
+        }
+        if (end > this.bytes.length) {
+            this.bytes = Arrays.copyOf(
+                this.bytes,
+                (int) Math.max(
+                    end,
+                    Math.min(this.bytes.length * 2L, Compact.LIMIT)
+                )
+            );
+        }
+    }
+}
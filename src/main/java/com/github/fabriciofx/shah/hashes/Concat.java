@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import java.util.function.BinaryOperator;
+
+/**
+ * Concat.
+ *
+ * <p>Merge two collections of hashes by appending the second one to the
+ * first one, which is returned. It is used to merge the partial hashes of
+ * chunks computed by a {@link com.github.fabriciofx.shah.Runner}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Concat implements BinaryOperator<Hashes> {
+    @Override
+    public Hashes apply(final Hashes first, final Hashes second) {
+        for (final Hash hash : second) {
+            first.add(hash);
+        }
+        return first;
+    }
+}
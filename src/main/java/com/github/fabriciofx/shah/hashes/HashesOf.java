@@ -6,6 +6,9 @@ package com.github.fabriciofx.shah.hashes;
 
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -13,11 +16,17 @@ import java.util.List;
 /**
  * HashesOf.
  *
- * <p>It represents a collection of hashes.</p>
+ * <p>It represents a collection of hashes. It is serialized as
+ * {@link Packed} bytes.</p>
  *
  * @since 0.0.1
  */
-public final class HashesOf implements Hashes {
+public final class HashesOf implements Hashes, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Items.
      */
@@ -57,4 +66,22 @@ public final class HashesOf implements Hashes {
     public Iterator<Hash> iterator() {
         return this.items.iterator();
     }
+
+    /**
+     * Replace by the packed form when serialized.
+     * @return The packed hashes
+     */
+    private Object writeReplace() {
+        return new Packed(this.items);
+    }
+
+    /**
+     * Reject a direct serialized form, which is never written.
+     * @param input Input stream
+     * @throws InvalidObjectException Always
+     */
+    private void readObject(final ObjectInputStream input)
+        throws InvalidObjectException {
+        throw new InvalidObjectException("Packed form required");
+    }
 }
@@ -0,0 +1,337 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Mergeable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * Indexed.
+ *
+ * <p>A collection of hashes of the same width stored as their bytes, like
+ * {@link Compact}, together with the index of the key of each hash in a
+ * parallel {@code int} array. The keys of a test are generated from their
+ * index (see {@link com.github.fabriciofx.shah.Keys}), so the key behind
+ * any hash can be generated again, e.g. to report the keys that collide,
+ * for 4 more bytes per hash instead of the key itself.</p>
+ *
+ * <p>Hashes added without a key index get the index of the key following
+ * the previous one, starting at the given first index. The hashes can be
+ * sorted in place by value, their key indices following them.</p>
+ *
+ * <p>It is serialized as the bytes and the key indices of the hashes it
+ * holds, without the room left for more, so that a checkpoint of a test
+ * keeps the keys of its colliding hashes.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Indexed implements Hashes, Mergeable<Indexed>,
+    Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Index of the key of the first hash added without index.
+     */
+    private final int first;
+
+    /**
+     * Expected number of hashes.
+     */
+    private final int capacity;
+
+    /**
+     * Bytes of the hashes.
+     */
+    private transient byte[] bytes;
+
+    /**
+     * Key index of each hash.
+     */
+    private transient int[] keys;
+
+    /**
+     * Width of the hashes in bytes, known from the first hash.
+     */
+    private int width;
+
+    /**
+     * Number of hashes.
+     */
+    private int hashes;
+
+    /**
+     * Ctor.
+     */
+    public Indexed() {
+        this(0, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param first Index of the key of the first hash
+     * @param capacity Expected number of hashes
+     */
+    public Indexed(final int first, final int capacity) {
+        this.first = first;
+        this.capacity = capacity;
+        this.bytes = new byte[0];
+        this.keys = new int[0];
+        this.width = 0;
+        this.hashes = 0;
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        final int key;
+        if (this.hashes == 0) {
+            key = this.first;
+        } else {
+            key = this.keys[this.hashes - 1] + 1;
+        }
+        this.add(key, hash);
+    }
+
+    /**
+     * Add the hash of a key.
+     * @param key Index of the key
+     * @param hash The hash
+     */
+    public void add(final int key, final Hash hash) {
+        final byte[] value = hash.asBytes();
+        if (this.hashes == 0 && this.width == 0) {
+            this.width = value.length;
+        }
+        if (value.length != this.width) {
+            throw new IllegalArgumentException(
+                "Hashes of different widths can not be indexed"
+            );
+        }
+        this.grow(this.hashes + 1);
+        System.arraycopy(
+            value,
+            0,
+            this.bytes,
+            this.hashes * this.width,
+            this.width
+        );
+        this.keys[this.hashes] = key;
+        this.hashes += 1;
+    }
+
+    @Override
+    public int count() {
+        return this.hashes;
+    }
+
+    @Override
+    public Hash item(final int index) {
+        if (index < 0 || index >= this.hashes) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        try {
+            return Packed.hash(
+                Arrays.copyOfRange(
+                    this.bytes,
+                    index * this.width,
+                    (index + 1) * this.width
+                )
+            );
+        } catch (final InvalidObjectException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public Iterator<Hash> iterator() {
+        return IntStream.range(0, this.hashes).mapToObj(this::item).iterator();
+    }
+
+    /**
+     * Get the key index of a hash.
+     * @param index The index of the hash
+     * @return The index of its key
+     */
+    public int key(final int index) {
+        if (index < 0 || index >= this.hashes) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.keys[index];
+    }
+
+    /**
+     * Compare two hashes of this collection without creating them.
+     * @param left Index of a hash
+     * @param right Index of another hash
+     * @return Whether the hashes are equal
+     */
+    public boolean same(final int left, final int right) {
+        return this.compare(left, right) == 0;
+    }
+
+    /**
+     * Get the width of the hashes.
+     * @return The width in bits, 0 if there is no hash
+     */
+    public int bits() {
+        return this.width * Byte.SIZE;
+    }
+
+    /**
+     * Sort the hashes in place by their unsigned bytes, moving the key
+     * indices along. Equal hashes end up next to each other.
+     */
+    public void sort() {
+        new Quicksort(
+            new Sortable() {
+                @Override
+                public int compare(final int left, final int right) {
+                    return Indexed.this.compare(left, right);
+                }
+
+                @Override
+                public void swap(final int left, final int right) {
+                    Indexed.this.swap(left, right);
+                }
+            }
+        ).sort(0, this.hashes);
+    }
+
+    @Override
+    public Indexed merge(final Indexed other) {
+        if (other.hashes > 0) {
+            if (this.hashes == 0) {
+                this.width = other.width;
+            }
+            if (other.width != this.width) {
+                throw new IllegalArgumentException(
+                    "Hashes of different widths can not be indexed"
+                );
+            }
+            this.grow(this.hashes + other.hashes);
+            System.arraycopy(
+                other.bytes,
+                0,
+                this.bytes,
+                this.hashes * this.width,
+                other.hashes * this.width
+            );
+            System.arraycopy(
+                other.keys,
+                0,
+                this.keys,
+                this.hashes,
+                other.hashes
+            );
+            this.hashes += other.hashes;
+        }
+        return this;
+    }
+
+    /**
+     * Write the bytes and the key indices of the hashes.
+     * @param output Output stream
+     * @throws IOException If fails
+     */
+    private void writeObject(final ObjectOutputStream output)
+        throws IOException {
+        output.defaultWriteObject();
+        output.write(this.bytes, 0, this.hashes * this.width);
+        for (int idx = 0; idx < this.hashes; ++idx) {
+            output.writeInt(this.keys[idx]);
+        }
+    }
+
+    /**
+     * Read the bytes and the key indices of the hashes.
+     * @param input Input stream
+     * @throws IOException If fails
+     * @throws ClassNotFoundException If fails
+     */
+    private void readObject(final ObjectInputStream input)
+        throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+        if (this.hashes < 0 || this.width < 0
+            || (long) this.hashes * this.width > Integer.MAX_VALUE) {
+            throw new InvalidObjectException(
+                String.format(
+                    "Invalid %d hashes of %d bytes",
+                    this.hashes,
+                    this.width
+                )
+            );
+        }
+        this.bytes = new byte[this.hashes * this.width];
+        input.readFully(this.bytes);
+        this.keys = new int[this.hashes];
+        for (int idx = 0; idx < this.hashes; ++idx) {
+            this.keys[idx] = input.readInt();
+        }
+    }
+
+    /**
+     * Make room for a number of hashes.
+     * @param size Number of hashes
+     */
+    private void grow(final int size) {
+        if (size > this.keys.length) {
+            final int length = Math.max(
+                Math.max(size, this.capacity),
+                this.keys.length * 2
+            );
+            this.bytes = Arrays.copyOf(this.bytes, length * this.width);
+            this.keys = Arrays.copyOf(this.keys, length);
+        }
+    }
+
+    /**
+     * Compare two hashes by their unsigned bytes.
+     * @param left Index of a hash
+     * @param right Index of another hash
+     * @return Negative, zero or positive as the left hash is lower, equal or
+     *  greater than the right one
+     */
+    private int compare(final int left, final int right) {
+        return Arrays.compareUnsigned(
+            this.bytes,
+            left * this.width,
+            (left + 1) * this.width,
+            this.bytes,
+            right * this.width,
+            (right + 1) * this.width
+        );
+    }
+
+    /**
+     * Swap two hashes and their key indices.
+     * @param left Index of a hash
+     * @param right Index of another hash
+     */
+    private void swap(final int left, final int right) {
+        if (left != right) {
+            final int key = this.keys[left];
+            this.keys[left] = this.keys[right];
+            this.keys[right] = key;
+            final int lbase = left * this.width;
+            final int rbase = right * this.width;
+            for (int idx = 0; idx < this.width; ++idx) {
+                final byte value = this.bytes[lbase + idx];
+                this.bytes[lbase + idx] = this.bytes[rbase + idx];
+                this.bytes[rbase + idx] = value;
+            }
+        }
+    }
+}
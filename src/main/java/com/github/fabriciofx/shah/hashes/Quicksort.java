@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+/**
+ * Quicksort.
+ *
+ * <p>Sort {@link Sortable} items in place: three-way partitions around the
+ * median of the first, middle and last items, so that runs of equal items
+ * (colliding hashes) are done at once, recursing on the smaller part only,
+ * and an insertion sort of the small ranges. It needs no memory but the
+ * stack, so it sorts items out of the heap as well, e.g. the columns of a
+ * memory-mapped file.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Quicksort {
+    /**
+     * Number of items below which a range is sorted by insertion.
+     */
+    private static final int SMALL = 16;
+
+    /**
+     * The items.
+     */
+    private final Sortable items;
+
+    /**
+     * Ctor.
+     * @param items The items
+     */
+    public Quicksort(final Sortable items) {
+        this.items = items;
+    }
+
+    /**
+     * Sort a range of items.
+     * @param from First item of the range
+     * @param to Item after the last one of the range
+     */
+    public void sort(final int from, final int to) {
+        int low = from;
+        int high = to;
+        while (high - low > Quicksort.SMALL) {
+            this.items.swap(low, this.median(low, high));
+            int less = low;
+            int greater = high;
+            int idx = low + 1;
+            while (idx < greater) {
+                final int order = this.items.compare(idx, less);
+                if (order < 0) {
+                    this.items.swap(idx, less);
+                    ++less;
+                    ++idx;
+                } else if (order > 0) {
+                    --greater;
+                    this.items.swap(idx, greater);
+                } else {
+                    ++idx;
+                }
+            }
+            if (less - low < high - greater) {
+                this.sort(low, less);
+                low = greater;
+            } else {
+                this.sort(greater, high);
+                high = less;
+            }
+        }
+        for (int idx = low + 1; idx < high; ++idx) {
+            int pos = idx;
+            while (pos > low && this.items.compare(pos - 1, pos) > 0) {
+                this.items.swap(pos - 1, pos);
+                --pos;
+            }
+        }
+    }
+
+    /**
+     * Index of the median of the first, middle and last items of a range.
+     * @param from First item of the range
+     * @param to Item after the last one of the range
+     * @return The index of the median
+     */
+    private int median(final int from, final int to) {
+        final int middle = (from + to) >>> 1;
+        final int last = to - 1;
+        final int median;
+        if (this.items.compare(from, middle) < 0) {
+            if (this.items.compare(middle, last) < 0) {
+                median = middle;
+            } else if (this.items.compare(from, last) < 0) {
+                median = last;
+            } else {
+                median = from;
+            }
+        } else if (this.items.compare(from, last) < 0) {
+            median = from;
+        } else if (this.items.compare(middle, last) < 0) {
+            median = last;
+        } else {
+            median = middle;
+        }
+        return median;
+    }
+}
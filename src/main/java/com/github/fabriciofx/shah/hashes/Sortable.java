@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+/**
+ * Sortable.
+ *
+ * <p>Items that a {@link Quicksort} sorts in place, seen only through the
+ * comparison and the swap of two of them, by index.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Sortable {
+    /**
+     * Compare two items.
+     * @param left Index of an item
+     * @param right Index of another item
+     * @return Negative, zero or positive as the left item is lower, equal or
+     *  greater than the right one
+     */
+    int compare(int left, int right);
+
+    /**
+     * Swap two items.
+     * @param left Index of an item
+     * @param right Index of another item
+     */
+    void swap(int left, int right);
+}
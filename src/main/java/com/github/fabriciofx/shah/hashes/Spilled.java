@@ -0,0 +1,242 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.hashes;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Spilled.
+ *
+ * <p>A collection of hashes of the same width stored as their bytes in a
+ * temporary file. Only a small write buffer is kept in the heap; the hash
+ * objects are created again when the hashes are read.</p>
+ *
+ * <p>The file is created with the first hashes written and kept open until
+ * {@link #close()}, which deletes it, so a long running process doesn't
+ * leave a file behind for each set of hashes.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Spilled implements Hashes, AutoCloseable {
+    /**
+     * Size of the write and read buffers in bytes.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Channel of the temporary file, once created.
+     */
+    private final List<FileChannel> channel;
+
+    /**
+     * Hashes not written to the file yet.
+     */
+    private final ByteArrayOutputStream pending;
+
+    /**
+     * Width of the hashes in bytes, known from the first hash.
+     */
+    private int width;
+
+    /**
+     * Number of hashes.
+     */
+    private int hashes;
+
+    /**
+     * Number of bytes written to the file.
+     */
+    private long written;
+
+    /**
+     * Ctor.
+     */
+    public Spilled() {
+        this.channel = new ArrayList<>(1);
+        this.pending = new ByteArrayOutputStream();
+        this.width = 0;
+        this.hashes = 0;
+        this.written = 0L;
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        final byte[] value = hash.asBytes();
+        if (this.hashes == 0) {
+            this.width = value.length;
+        }
+        if (value.length != this.width) {
+            throw new IllegalArgumentException(
+                "Hashes of different widths can not be spilled"
+            );
+        }
+        this.pending.writeBytes(value);
+        this.hashes += 1;
+        if (this.pending.size() >= Spilled.BUFFER) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public int count() {
+        return this.hashes;
+    }
+
+    @Override
+    public Hash item(final int index) {
+        if (index < 0 || index >= this.hashes) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        this.flush();
+        final ByteBuffer buffer = ByteBuffer.allocate(this.width);
+        this.read(buffer, (long) index * this.width);
+        return Spilled.hash(buffer.array());
+    }
+
+    @Override
+    public Iterator<Hash> iterator() {
+        this.flush();
+        final int count = this.hashes;
+        final int size = this.width;
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            Math.max(1, Spilled.BUFFER / Math.max(1, size)) * size
+        );
+        buffer.limit(0);
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < count;
+            }
+
+            @Override
+            public Hash next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (!buffer.hasRemaining()) {
+                    buffer.clear();
+                    buffer.limit(
+                        (int) Math.min(
+                            buffer.capacity(),
+                            (long) (count - this.next) * size
+                        )
+                    );
+                    Spilled.this.read(buffer, (long) this.next * size);
+                    buffer.flip();
+                }
+                final byte[] bytes = new byte[size];
+                buffer.get(bytes);
+                this.next += 1;
+                return Spilled.hash(bytes);
+            }
+        };
+    }
+
+    /**
+     * Close the file, deleting it. The hashes can't be read afterwards.
+     */
+    @Override
+    public void close() {
+        if (!this.channel.isEmpty()) {
+            try {
+                this.channel.get(0).close();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Append the pending hashes to the file.
+     */
+    private void flush() {
+        if (this.pending.size() > 0) {
+            final ByteBuffer buffer = ByteBuffer.wrap(
+                this.pending.toByteArray()
+            );
+            try {
+                while (buffer.hasRemaining()) {
+                    this.written += this.file().write(buffer, this.written);
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            this.pending.reset();
+        }
+    }
+
+    /**
+     * Fill a buffer with the bytes of the file at a position.
+     * @param buffer The buffer, filled up to its limit
+     * @param position Position of the first byte in the file
+     */
+    private void read(final ByteBuffer buffer, final long position) {
+        final int start = buffer.position();
+        try {
+            while (buffer.hasRemaining()) {
+                final int read = this.file().read(
+                    buffer,
+                    position + buffer.position() - start
+                );
+                if (read < 0) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "Spilled hashes are cut at byte %d",
+                            position + buffer.position() - start
+                        )
+                    );
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Build a hash from its bytes read from the file.
+     * @param bytes The bytes of the hash
+     * @return The hash
+     */
+    private static Hash hash(final byte... bytes) {
+        try {
+            return Packed.hash(bytes);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Channel of the temporary file, created and opened on the first call.
+     * @return The channel
+     * @throws IOException If the file can't be created
+     */
+    private FileChannel file() throws IOException {
+        if (this.channel.isEmpty()) {
+            this.channel.add(
+                FileChannel.open(
+                    Files.createTempFile("shah", ".hashes"),
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE
+                )
+            );
+        }
+        return this.channel.get(0);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Hashing event.
+ *
+ * <p>A JDK Flight Recorder event for a range of keys hashed by a
+ * {@link com.github.fabriciofx.shah.Loop}, usually one chunk of a test,
+ * with the number of keys and bytes hashed: divided by the duration of the
+ * event, they give the throughput of the hash function over time. When no
+ * recording is running the event is disabled and costs nothing but its
+ * (scalar replaced) allocation.</p>
+ *
+ * @since 0.0.1
+ */
+@Name("com.github.fabriciofx.shah.Hashing")
+@Label("Hashing")
+@Category("Shah")
+@Description("Keys hashed by a loop")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class HashingEvent extends Event {
+    /**
+     * Number of keys hashed.
+     */
+    @Label("Keys")
+    private long keys;
+
+    /**
+     * Number of bytes hashed.
+     */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Stop timing and commit the event.
+     * @param count Number of keys hashed
+     * @param size Number of bytes hashed
+     */
+    public void record(final long count, final long size) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.keys = count;
+            this.bytes = size;
+            this.commit();
+        }
+    }
+}
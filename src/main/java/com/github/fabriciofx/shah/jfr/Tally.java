@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.jfr;
+
+import com.github.fabriciofx.shah.Scalar;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tally.
+ *
+ * <p>The number of keys and of bytes hashed by the loops of a test, for its
+ * {@link TestEvent}. A loop takes the tally of the thread that creates it,
+ * usually the one computing the metric, and adds each range it hashes,
+ * whatever the thread of the runner it runs on. Outside of
+ * {@link #during(Scalar)} the tally of a thread is idle: it counts
+ * nothing, so the loops don't have to size their keys.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Tally {
+    /**
+     * Tally of each thread.
+     */
+    private static final ThreadLocal<Tally> CURRENT =
+        ThreadLocal.withInitial(() -> new Tally(false));
+
+    /**
+     * Whether it counts.
+     */
+    private final boolean counting;
+
+    /**
+     * Number of keys hashed.
+     */
+    private final LongAdder hashed;
+
+    /**
+     * Number of bytes hashed.
+     */
+    private final LongAdder size;
+
+    /**
+     * Ctor.
+     * @param counting Whether it counts
+     */
+    public Tally(final boolean counting) {
+        this.counting = counting;
+        this.hashed = new LongAdder();
+        this.size = new LongAdder();
+    }
+
+    /**
+     * Tally of the current thread.
+     * @return The tally
+     */
+    public static Tally current() {
+        return Tally.CURRENT.get();
+    }
+
+    /**
+     * Make this tally the one of the current thread while computing a
+     * value.
+     * @param action Compute the value
+     * @param <T> Type of the value
+     * @return The value
+     */
+    public <T> T during(final Scalar<T> action) {
+        final Tally previous = Tally.CURRENT.get();
+        Tally.CURRENT.set(this);
+        final T value;
+        try {
+            value = action.value();
+        } finally {
+            Tally.CURRENT.set(previous);
+        }
+        return value;
+    }
+
+    /**
+     * Whether it counts, so the bytes of the keys must be summed.
+     * @return True if it counts
+     */
+    public boolean counting() {
+        return this.counting;
+    }
+
+    /**
+     * Add a range of keys hashed.
+     * @param count Number of keys
+     * @param bytes Number of bytes
+     */
+    public void add(final long count, final long bytes) {
+        if (this.counting) {
+            this.hashed.add(count);
+            this.size.add(bytes);
+        }
+    }
+
+    /**
+     * Number of keys hashed.
+     * @return The number of keys
+     */
+    public long keys() {
+        return this.hashed.sum();
+    }
+
+    /**
+     * Number of bytes hashed.
+     * @return The number of bytes
+     */
+    public long bytes() {
+        return this.size.sum();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Test event.
+ *
+ * <p>A JDK Flight Recorder event for the computation of the metric of a
+ * {@link com.github.fabriciofx.shah.Test}, with the test class, the hash
+ * function, the test parameters and the number of keys and of bytes
+ * hashed. Its duration is
+ * the cost of the test; the {@link HashingEvent}s and the garbage
+ * collection events recorded meanwhile tell where it is spent.</p>
+ *
+ * @since 0.0.1
+ */
+@Name("com.github.fabriciofx.shah.Test")
+@Label("Test")
+@Category("Shah")
+@Description("Metric computed by a test")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class TestEvent extends Event {
+    /**
+     * Test class.
+     */
+    @Label("Test")
+    private String test;
+
+    /**
+     * Hash function.
+     */
+    @Label("Function")
+    private String function;
+
+    /**
+     * Test parameters.
+     */
+    @Label("Parameters")
+    private String parameters;
+
+    /**
+     * Number of keys hashed.
+     */
+    @Label("Keys")
+    private long keys;
+
+    /**
+     * Number of bytes hashed.
+     */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Stop timing and commit the event.
+     * @param type Test class
+     * @param func Hash function
+     * @param params Test parameters
+     * @param count Number of keys hashed, or zero if unknown
+     * @param size Number of bytes hashed, or zero if unknown
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public void record(
+        final Class<?> type,
+        final String func,
+        final String params,
+        final long count,
+        final long size
+    ) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.test = type.getName();
+            this.function = func;
+            this.parameters = params;
+            this.keys = count;
+            this.bytes = size;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.job;
+
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.Test;
+
+/**
+ * JobOf.
+ *
+ * <p>The cost can be given directly or estimated from the number of keys
+ * the test hashes and the hash width: each key costs one hash evaluation
+ * plus the handling of every 32-bit word of its hash (collision sorting,
+ * bit counting, etc.).</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+public final class JobOf<T> implements Job<T> {
+    /**
+     * Name.
+     */
+    private final String label;
+
+    /**
+     * Test.
+     */
+    private final Test<T> test;
+
+    /**
+     * Estimated cost.
+     */
+    private final long estimated;
+
+    /**
+     * Ctor.
+     * @param name Name of the job
+     * @param test Test to run
+     * @param keys Number of keys hashed by the test
+     * @param bits Hash width in bits
+     */
+    public JobOf(
+        final String name,
+        final Test<T> test,
+        final long keys,
+        final int bits
+    ) {
+        this(name, test, keys * (1L + (bits + 31L) / 32L));
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the job
+     * @param test Test to run
+     * @param cost Estimated cost of the job
+     */
+    public JobOf(final String name, final Test<T> test, final long cost) {
+        this.label = name;
+        this.test = test;
+        this.estimated = cost;
+    }
+
+    @Override
+    public String name() {
+        return this.label;
+    }
+
+    @Override
+    public long cost() {
+        return this.estimated;
+    }
+
+    @Override
+    public T metric() {
+        return this.test.metric();
+    }
+}
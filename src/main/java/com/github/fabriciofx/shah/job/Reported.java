@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.job;
+
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.report.Output;
+import com.github.fabriciofx.shah.report.Summary;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reported.
+ *
+ * <p>A job that writes a record as soon as its metric is computed: the job
+ * name, the time taken in milliseconds and the {@link Summary} of the
+ * metric, e.g. in JSON Lines
+ * {@code {"job":"collision","millis":812,"collisions":3,"ratio":0.86}}.
+ * If the metric fails, the record tells the error instead of the summary,
+ * e.g. {@code {"job":"collision","millis":3,"error":"..."}}, and the
+ * error is thrown again, so a report tells every job that ran.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+public final class Reported<T> implements Job<T> {
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final long NANOS = 1_000_000L;
+
+    /**
+     * The job.
+     */
+    private final Job<T> origin;
+
+    /**
+     * Output of the records.
+     */
+    private final Output lines;
+
+    /**
+     * Ctor.
+     * @param origin The job
+     * @param lines Output of the records
+     */
+    public Reported(final Job<T> origin, final Output lines) {
+        this.origin = origin;
+        this.lines = lines;
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public long cost() {
+        return this.origin.cost();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public T metric() {
+        final long start = System.nanoTime();
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("job", this.origin.name());
+        final T metric;
+        try {
+            metric = this.origin.metric();
+        } catch (final RuntimeException | Error ex) {
+            record.put("millis", (System.nanoTime() - start) / Reported.NANOS);
+            record.put("error", String.valueOf(ex));
+            this.lines.write(record);
+            throw ex;
+        }
+        record.put("millis", (System.nanoTime() - start) / Reported.NANOS);
+        record.putAll(new Summary(metric).value());
+        this.lines.write(record);
+        return metric;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.job;
+
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.progress.Published;
+
+/**
+ * Watched.
+ *
+ * <p>A job whose test reports its progress to a {@link Published} listener,
+ * so it can be watched with jconsole while it runs. The MBean is withdrawn
+ * once the metric is computed, or has failed.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+public final class Watched<T> implements Job<T> {
+    /**
+     * The job.
+     */
+    private final Job<T> origin;
+
+    /**
+     * Listener given to the test of the job.
+     */
+    private final Published published;
+
+    /**
+     * Ctor.
+     * @param origin The job
+     * @param published Listener given to the test of the job
+     */
+    public Watched(final Job<T> origin, final Published published) {
+        this.origin = origin;
+        this.published = published;
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public long cost() {
+        return this.origin.cost();
+    }
+
+    @Override
+    public T metric() {
+        try {
+            return this.origin.metric();
+        } finally {
+            this.published.close();
+        }
+    }
+}
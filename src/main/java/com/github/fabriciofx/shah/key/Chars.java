@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.key;
+
+import com.github.fabriciofx.shah.Key;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Chars.
+ *
+ * <p>A text as a key, encoded in UTF-8 like {@link KeyOf#KeyOf(String)},
+ * so that any hash function can hash a {@link CharSequence} directly,
+ * e.g. a {@link StringBuilder} or a part of a larger text, without making
+ * a string of it first. An ASCII text, the common case of identifiers and
+ * words, is copied char by char into the bytes, which is its UTF-8
+ * encoding, with no encoder involved; other texts are encoded.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Chars implements Key {
+    /**
+     * The text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Ctor.
+     * @param text The text
+     */
+    public Chars(final CharSequence text) {
+        this.text = text;
+    }
+
+    @Override
+    public byte[] asBytes() {
+        final int length = this.text.length();
+        byte[] bytes = new byte[length];
+        int idx = 0;
+        while (idx < length) {
+            final char chr = this.text.charAt(idx);
+            if (chr >= 0x80) {
+                bytes = Chars.encoded(this.text);
+                idx = length;
+            } else {
+                bytes[idx] = (byte) chr;
+                ++idx;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public String asString() {
+        return new KeyOf(this.asBytes()).asString();
+    }
+
+    @Override
+    public int bits() {
+        return this.size() * Byte.SIZE;
+    }
+
+    @Override
+    public int size() {
+        return this.asBytes().length;
+    }
+
+    /**
+     * Encode a text with non-ASCII chars in UTF-8.
+     * @param text The text
+     * @return The bytes
+     */
+    private static byte[] encoded(final CharSequence text) {
+        final byte[] bytes;
+        if (text instanceof String) {
+            bytes = ((String) text).getBytes(StandardCharsets.UTF_8);
+        } else {
+            final ByteBuffer buffer = StandardCharsets.UTF_8
+                .encode(CharBuffer.wrap(text));
+            bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+        }
+        return bytes;
+    }
+}
@@ -5,6 +5,7 @@
 package com.github.fabriciofx.shah.key;
 
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Prng;
 import com.github.fabriciofx.shah.Scalar;
 import com.github.fabriciofx.shah.scalar.Cached;
 import java.security.SecureRandom;
@@ -59,6 +60,22 @@ public final class Randomized implements Key {
         );
     }
 
+    /**
+     * Ctor.
+     *
+     * @param key Key
+     * @param prng Splittable generator for randomization
+     */
+    public Randomized(final Key key, final Prng prng) {
+        this.bytes = new Cached<>(
+            () -> {
+                final byte[] bts = key.asBytes();
+                prng.nextBytes(bts);
+                return bts;
+            }
+        );
+    }
+
     @Override
     public byte[] asBytes() {
         return this.bytes.value();
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.key;
+
+import com.github.fabriciofx.shah.Key;
+import java.nio.ByteBuffer;
+
+/**
+ * Sliced.
+ *
+ * <p>A key that is a part of a larger buffer, e.g. of a memory-mapped
+ * keyset: the buffer is not copied, only the bytes of the key are read,
+ * when they are asked for. Many keys can share the same buffer, read from
+ * many threads.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Sliced implements Key {
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Position of the first byte of the key in the buffer.
+     */
+    private final int offset;
+
+    /**
+     * Size of the key in bytes.
+     */
+    private final int length;
+
+    /**
+     * Ctor.
+     * @param buffer The buffer, not modified
+     * @param offset Position of the first byte of the key in the buffer
+     * @param length Size of the key in bytes
+     */
+    public Sliced(final ByteBuffer buffer, final int offset, final int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public byte[] asBytes() {
+        final byte[] bytes = new byte[this.length];
+        this.buffer.get(this.offset, bytes);
+        return bytes;
+    }
+
+    @Override
+    public String asString() {
+        return new KeyOf(this.asBytes()).asString();
+    }
+
+    @Override
+    public int bits() {
+        return this.length * Byte.SIZE;
+    }
+
+    @Override
+    public int size() {
+        return this.length;
+    }
+}
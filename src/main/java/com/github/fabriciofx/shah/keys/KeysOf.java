@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.keys;
+
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.key.Chars;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * KeysOf.
+ *
+ * <p>Keys built by a function of their index, e.g.
+ * {@code new KeysOf(count, idx -> new Cycled(new KeyOf(size), 4, idx))}.
+ * The function must be thread-safe and return the same key for the same
+ * index.</p>
+ *
+ * @since 0.0.1
+ */
+public final class KeysOf implements Keys {
+    /**
+     * Number of keys.
+     */
+    private final int count;
+
+    /**
+     * Build the key at an index.
+     */
+    private final IntFunction<Key> items;
+
+    /**
+     * Ctor.
+     * @param strings The strings, encoded in UTF-8
+     */
+    public KeysOf(final List<String> strings) {
+        this(strings.size(), idx -> new Chars(strings.get(idx)));
+    }
+
+    /**
+     * Ctor.
+     * @param count Number of keys
+     * @param items Build the key at an index
+     */
+    public KeysOf(final int count, final IntFunction<Key> items) {
+        this.count = count;
+        this.items = items;
+    }
+
+    @Override
+    public int count() {
+        return this.count;
+    }
+
+    @Override
+    public Key item(final int index) {
+        return this.items.apply(index);
+    }
+}
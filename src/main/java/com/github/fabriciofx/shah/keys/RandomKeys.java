@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.keys;
+
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Prng;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.key.Randomized;
+
+/**
+ * RandomKeys.
+ *
+ * <p>Random keys of a fixed size. The key at index {@code i} is filled
+ * from the {@code i}-th split stream of the generator, so any key can be
+ * generated independently of the others, in any order and by any
+ * thread.</p>
+ *
+ * @since 0.0.1
+ */
+public final class RandomKeys implements Keys {
+    /**
+     * Key's size in bytes.
+     */
+    private final int size;
+
+    /**
+     * Root generator.
+     */
+    private final Prng prng;
+
+    /**
+     * Number of keys.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param size Key's size in bytes
+     * @param seed Key's seed
+     * @param count Number of keys
+     */
+    public RandomKeys(final int size, final Seed seed, final int count) {
+        this(size, seed.prng(), count);
+    }
+
+    /**
+     * Ctor.
+     * @param size Key's size in bytes
+     * @param prng Root generator
+     * @param count Number of keys
+     */
+    public RandomKeys(final int size, final Prng prng, final int count) {
+        this.size = size;
+        this.prng = prng;
+        this.count = count;
+    }
+
+    @Override
+    public int count() {
+        return this.count;
+    }
+
+    @Override
+    public Key item(final int index) {
+        return new Randomized(new KeyOf(this.size), this.prng.split(index));
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.keys;
+
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Mergeable;
+import com.github.fabriciofx.shah.Prng;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.key.Sliced;
+import com.github.fabriciofx.shah.runner.Serial;
+import com.github.fabriciofx.shah.seed.Seed64;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * RandomWords.
+ *
+ * <p>Distinct random alphanumeric words, the keys of
+ * {@link com.github.fabriciofx.shah.test.WordsTest}. Unlike
+ * {@link com.github.fabriciofx.shah.collection.Words}, no string is
+ * created: the words are written as ASCII bytes, one after another, in a
+ * single arena with the end of each word in an {@code int} array, and the
+ * keys are views of the arena.</p>
+ *
+ * <p>The words are generated in batches of 16384, the {@code i}-th batch
+ * drawn from the {@code i}-th split stream of the generator, so a
+ * parallel {@link Runner} generates them in different threads and the
+ * words do not depend on the number of threads. The duplicates are then
+ * dropped, the first word kept, through an open-addressing set of word
+ * indices, and more batches are generated until there are enough
+ * words.</p>
+ *
+ * @since 0.0.1
+ */
+public final class RandomWords implements Keys {
+    /**
+     * Letters of the words (alphanumeric).
+     */
+    private static final byte[] CHARS =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Number of words per batch.
+     */
+    private static final int BATCH = 16_384;
+
+    /**
+     * Default word count.
+     */
+    private static final int DEFAULT_COUNT = 100_000;
+
+    /**
+     * Default minimum word length.
+     */
+    private static final int DEFAULT_MIN_LEN = 2;
+
+    /**
+     * Default maximum word length.
+     */
+    private static final int DEFAULT_MAX_LEN = 20;
+
+    /**
+     * Default random seed.
+     */
+    private static final long DEFAULT_SEED = 82_762L;
+
+    /**
+     * Number of words.
+     */
+    private final int count;
+
+    /**
+     * Minimum word length.
+     */
+    private final int min;
+
+    /**
+     * Maximum word length, excluded.
+     */
+    private final int max;
+
+    /**
+     * Root generator.
+     */
+    private final Prng prng;
+
+    /**
+     * Runner of the batches.
+     */
+    private final Runner runner;
+
+    /**
+     * The words, generated once.
+     */
+    private Arena words;
+
+    /**
+     * The arena as a buffer shared by the keys.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Ctor with defaults.
+     */
+    public RandomWords() {
+        this(
+            RandomWords.DEFAULT_COUNT,
+            RandomWords.DEFAULT_MIN_LEN,
+            RandomWords.DEFAULT_MAX_LEN
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param count Number of words
+     * @param min Minimum word length
+     * @param max Maximum word length, excluded
+     */
+    public RandomWords(final int count, final int min, final int max) {
+        this(count, min, max, new Seed64(RandomWords.DEFAULT_SEED));
+    }
+
+    /**
+     * Ctor.
+     * @param count Number of words
+     * @param min Minimum word length
+     * @param max Maximum word length, excluded
+     * @param seed Words' seed
+     */
+    public RandomWords(
+        final int count,
+        final int min,
+        final int max,
+        final Seed seed
+    ) {
+        this(count, min, max, seed, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param count Number of words
+     * @param min Minimum word length
+     * @param max Maximum word length, excluded
+     * @param seed Words' seed
+     * @param runner Runner of the batches
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public RandomWords(
+        final int count,
+        final int min,
+        final int max,
+        final Seed seed,
+        final Runner runner
+    ) {
+        if (min < 0 || max <= min) {
+            throw new IllegalArgumentException(
+                String.format("Invalid word lengths [%d, %d)", min, max)
+            );
+        }
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.prng = seed.prng();
+        this.runner = runner;
+    }
+
+    @Override
+    public int count() {
+        return this.count;
+    }
+
+    @Override
+    public Key item(final int index) {
+        final Arena arena = this.arena();
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        final int start = arena.start(index);
+        return new Sliced(this.buffer, start, arena.ends[index] - start);
+    }
+
+    /**
+     * Generate the words, once.
+     * @return The words
+     */
+    private synchronized Arena arena() {
+        if (this.words == null) {
+            Arena arena = new Arena();
+            int batches = 0;
+            while (arena.count < this.count) {
+                final int first = batches;
+                final int more = (this.count - arena.count
+                    + RandomWords.BATCH - 1) / RandomWords.BATCH;
+                arena = arena.merge(
+                    this.runner.reduce(
+                        more,
+                        1,
+                        (from, to) -> {
+                            final Arena batch = new Arena();
+                            for (int idx = from; idx < to; ++idx) {
+                                batch.fill(
+                                    this.prng.split(first + idx),
+                                    this.min,
+                                    this.max
+                                );
+                            }
+                            return batch;
+                        },
+                        Arena::merge
+                    )
+                );
+                batches += more;
+                arena.distinct(this.count);
+            }
+            this.words = arena;
+            this.buffer = ByteBuffer.wrap(arena.bytes).asReadOnlyBuffer();
+        }
+        return this.words;
+    }
+
+    /**
+     * Words in a byte arena.
+     * @since 0.0.1
+     */
+    private static final class Arena implements Mergeable<Arena> {
+        /**
+         * Bytes of the words.
+         */
+        private byte[] bytes;
+
+        /**
+         * End of each word in the arena.
+         */
+        private int[] ends;
+
+        /**
+         * Hash of each word.
+         */
+        private int[] hashes;
+
+        /**
+         * Number of words.
+         */
+        private int count;
+
+        /**
+         * Ctor.
+         */
+        Arena() {
+            this.bytes = new byte[0];
+            this.ends = new int[0];
+            this.hashes = new int[0];
+            this.count = 0;
+        }
+
+        @Override
+        public Arena merge(final Arena other) {
+            final int base = this.end();
+            final int size = this.count + other.count;
+            this.bytes = Arrays.copyOf(this.bytes, base + other.end());
+            System.arraycopy(other.bytes, 0, this.bytes, base, other.end());
+            this.ends = Arrays.copyOf(this.ends, size);
+            this.hashes = Arrays.copyOf(this.hashes, size);
+            for (int idx = 0; idx < other.count; ++idx) {
+                this.ends[this.count + idx] = base + other.ends[idx];
+                this.hashes[this.count + idx] = other.hashes[idx];
+            }
+            this.count = size;
+            return this;
+        }
+
+        /**
+         * Append a batch of random words.
+         * @param prng Generator of the batch
+         * @param min Minimum word length
+         * @param max Maximum word length, excluded
+         */
+        void fill(final Prng prng, final int min, final int max) {
+            final int base = this.end();
+            this.bytes = Arrays.copyOf(
+                this.bytes,
+                base + RandomWords.BATCH * (max - 1)
+            );
+            this.ends = Arrays.copyOf(
+                this.ends,
+                this.count + RandomWords.BATCH
+            );
+            this.hashes = Arrays.copyOf(
+                this.hashes,
+                this.count + RandomWords.BATCH
+            );
+            int pos = base;
+            for (int word = 0; word < RandomWords.BATCH; ++word) {
+                final int length = min
+                    + (int) Long.remainderUnsigned(prng.nextLong(), max - min);
+                int hash = 0;
+                long bits = 0L;
+                for (int idx = 0; idx < length; ++idx) {
+                    if (idx % 2 == 0) {
+                        bits = prng.nextLong();
+                    } else {
+                        bits >>>= Integer.SIZE;
+                    }
+                    final byte letter = RandomWords.CHARS[
+                        (int) ((bits & 0xFFFF_FFFFL)
+                            * RandomWords.CHARS.length >>> Integer.SIZE)
+                    ];
+                    this.bytes[pos] = letter;
+                    hash = 31 * hash + letter;
+                    ++pos;
+                }
+                this.ends[this.count] = pos;
+                this.hashes[this.count] = hash;
+                ++this.count;
+            }
+            this.bytes = Arrays.copyOf(this.bytes, pos);
+        }
+
+        /**
+         * Drop the duplicate words, keeping the first one, and the words
+         * beyond a limit.
+         * @param limit Maximum number of words kept
+         */
+        void distinct(final int limit) {
+            final int[] table = new int[
+                Integer.highestOneBit(Math.max(1, this.count)) * 4
+            ];
+            final int mask = table.length - 1;
+            int kept = 0;
+            int end = 0;
+            for (int word = 0; word < this.count && kept < limit; ++word) {
+                final int start = this.start(word);
+                final int hash = this.hashes[word];
+                final int mixed = hash * 0x9E37_79B9;
+                int slot = (mixed ^ mixed >>> 16) & mask;
+                boolean seen = false;
+                while (!seen && table[slot] != 0) {
+                    final int other = table[slot] - 1;
+                    seen = this.hashes[other] == hash
+                        && Arrays.equals(
+                            this.bytes,
+                            this.start(other),
+                            this.ends[other],
+                            this.bytes,
+                            start,
+                            this.ends[word]
+                        );
+                    slot = (slot + 1) & mask;
+                }
+                if (!seen) {
+                    System.arraycopy(
+                        this.bytes,
+                        start,
+                        this.bytes,
+                        end,
+                        this.ends[word] - start
+                    );
+                    end += this.ends[word] - start;
+                    this.ends[kept] = end;
+                    this.hashes[kept] = hash;
+                    ++kept;
+                    table[slot] = kept;
+                }
+            }
+            this.count = kept;
+            this.bytes = Arrays.copyOf(this.bytes, end);
+            this.ends = Arrays.copyOf(this.ends, kept);
+            this.hashes = Arrays.copyOf(this.hashes, kept);
+        }
+
+        /**
+         * Start of a word in the arena.
+         * @param word Index of the word
+         * @return The start
+         */
+        int start(final int word) {
+            final int start;
+            if (word == 0) {
+                start = 0;
+            } else {
+                start = this.ends[word - 1];
+            }
+            return start;
+        }
+
+        /**
+         * End of the words in the arena.
+         * @return The end
+         */
+        private int end() {
+            final int end;
+            if (this.count == 0) {
+                end = 0;
+            } else {
+                end = this.ends[this.count - 1];
+            }
+            return end;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.keys;
+
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.file.Aligned;
+import com.github.fabriciofx.shah.file.Buffered;
+import com.github.fabriciofx.shah.key.Sliced;
+import com.github.fabriciofx.shah.scalar.Synced;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stored.
+ *
+ * <p>A keyset generated once, by other keys, into a file of a directory
+ * and read from the file from then on, by any test of any function and by
+ * later runs. The file is named after the keyset, e.g. {@code words}, and
+ * its header holds the label of the keyset: the name followed by the
+ * parameters of the generator, e.g.
+ * {@code words{count=100000, max=20, min=2, seed=82762}}. A file whose
+ * label isn't the one of the keyset, because the name was reused with
+ * other parameters, is stale and is generated again.</p>
+ *
+ * <p>The file holds the bytes of all the keys, one after another, in an
+ * arena, followed by the table of the offsets of the keys in the arena.
+ * Both are memory-mapped, and a key is a {@link Sliced} view of the
+ * arena, so no key is generated again and reading one costs the copy of
+ * its bytes. The numbers are little-endian and the arena and the table
+ * start at a multiple of 8 bytes:</p>
+ *
+ * <pre>
+ * "SHAHKEYS" version:int count:int arena-size:long label-size:int label:UTF-8
+ * arena:byte[arena-size] offsets:int[count + 1]</pre>
+ *
+ * <p>The arena is limited to 2 GiB.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Stored implements Keys {
+    /**
+     * Magic bytes of a keyset.
+     */
+    private static final byte[] MAGIC = "SHAHKEYS".getBytes(
+        StandardCharsets.US_ASCII
+    );
+
+    /**
+     * Version of the format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Size of the write buffer in bytes.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Size of the fixed part of the header in bytes.
+     */
+    private static final int FIXED = 28;
+
+    /**
+     * Directory of the keysets.
+     */
+    private final Path dir;
+
+    /**
+     * Name of the keyset.
+     */
+    private final String name;
+
+    /**
+     * Parameters of the generator of the keyset.
+     */
+    private final Map<String, String> params;
+
+    /**
+     * Keys generating the keyset.
+     */
+    private final Scalar<Keys> origin;
+
+    /**
+     * Arena and offsets, mapped once, on the first use.
+     */
+    private final Scalar<ByteBuffer[]> columns;
+
+    /**
+     * Ctor.
+     * @param dir Directory of the keysets
+     * @param name Name of the keyset
+     * @param params Parameters of the generator of the keyset
+     * @param origin Keys generating the keyset, used only once
+     */
+    public Stored(
+        final Path dir,
+        final String name,
+        final Map<String, String> params,
+        final Keys origin
+    ) {
+        this(dir, name, params, () -> origin);
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory of the keysets
+     * @param name Name of the keyset
+     * @param params Parameters of the generator of the keyset
+     * @param origin Keys generating the keyset, built only if the keyset
+     *  isn't stored yet
+     */
+    public Stored(
+        final Path dir,
+        final String name,
+        final Map<String, String> params,
+        final Scalar<Keys> origin
+    ) {
+        this.dir = dir;
+        this.name = name;
+        this.params = params;
+        this.origin = origin;
+        this.columns = new Synced<>(this::mapped);
+    }
+
+    @Override
+    public int count() {
+        return this.columns.value()[1].capacity() / Integer.BYTES - 1;
+    }
+
+    @Override
+    public Key item(final int index) {
+        final ByteBuffer[] mapped = this.columns.value();
+        if (index < 0 || index >= mapped[1].capacity() / Integer.BYTES - 1) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        final int start = mapped[1].getInt(index * Integer.BYTES);
+        return new Sliced(
+            mapped[0],
+            start,
+            mapped[1].getInt((index + 1) * Integer.BYTES) - start
+        );
+    }
+
+    /**
+     * Map the arena and the offsets, generating the file if needed.
+     * @return The arena and the offsets
+     */
+    private ByteBuffer[] mapped() {
+        final Path file = this.dir.resolve(
+            String.format("%s.keys", this.name)
+        );
+        try {
+            if (!Files.exists(file)
+                || !this.label().equals(this.stored(file))) {
+                this.generate(file);
+            }
+            return this.map(file);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Can't store keyset '%s'", this.name),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Generate the file, replacing it atomically.
+     * @param file The file
+     * @throws IOException If it can't be written
+     */
+    private void generate(final Path file) throws IOException {
+        Files.createDirectories(this.dir);
+        final Path temp = Files.createTempFile(this.dir, this.name, ".tmp");
+        final byte[] title = this.label().getBytes(StandardCharsets.UTF_8);
+        final Keys keys = this.origin.value();
+        final int count = keys.count();
+        final int[] offsets = new int[count + 1];
+        try (
+            FileChannel channel = FileChannel.open(
+                temp,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            final Buffered out = new Buffered(
+                channel,
+                Math.max(Stored.BUFFER, Stored.FIXED + title.length + 8)
+            );
+            out.room(Stored.FIXED + title.length)
+                .put(Stored.MAGIC)
+                .putInt(Stored.VERSION)
+                .putInt(count)
+                .putLong(0L)
+                .putInt(title.length)
+                .put(title);
+            out.pad();
+            long size = 0L;
+            for (int idx = 0; idx < count; ++idx) {
+                final byte[] key = keys.item(idx).asBytes();
+                if (size + key.length > Integer.MAX_VALUE) {
+                    throw new IllegalStateException(
+                        String.format("Keyset '%s' is too large", this.name)
+                    );
+                }
+                offsets[idx] = (int) size;
+                size += key.length;
+                out.put(key);
+            }
+            offsets[count] = (int) size;
+            out.pad();
+            for (final int offset : offsets) {
+                out.room(Integer.BYTES).putInt(offset);
+            }
+            out.flush();
+            channel.write(
+                ByteBuffer.allocate(Long.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .putLong(size)
+                    .flip(),
+                Stored.MAGIC.length + 8L
+            );
+        }
+        Files.move(
+            temp,
+            file,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+
+    /**
+     * Map the arena and the offsets of a file.
+     * @param file The file
+     * @return The arena and the offsets
+     * @throws IOException If it can't be read
+     */
+    private ByteBuffer[] map(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            final ByteBuffer fixed = Stored.fixed(channel);
+            if (!this.label().equals(Stored.label(channel, fixed))) {
+                throw new IllegalStateException(
+                    String.format(
+                        "File '%s' is not the keyset '%s'",
+                        file,
+                        this.label()
+                    )
+                );
+            }
+            final int count = fixed.getInt(Stored.MAGIC.length + 4);
+            final long size = fixed.getLong(Stored.MAGIC.length + 8);
+            final long start = new Aligned(
+                Stored.FIXED + fixed.getInt(Stored.MAGIC.length + 16)
+            ).value();
+            return new ByteBuffer[]{
+                channel.map(FileChannel.MapMode.READ_ONLY, start, size),
+                channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    new Aligned(start + size).value(),
+                    (count + 1L) * Integer.BYTES
+                ).order(ByteOrder.LITTLE_ENDIAN),
+            };
+        }
+    }
+
+    /**
+     * Label of the keyset: its name followed by the parameters of its
+     * generator, sorted by name.
+     * @return The label
+     */
+    private String label() {
+        return String.format("%s%s", this.name, new TreeMap<>(this.params));
+    }
+
+    /**
+     * Label of the keyset stored in a file.
+     * @param file The file
+     * @return The label, or an empty string if the file isn't a keyset of
+     *  this version
+     * @throws IOException If it can't be read
+     */
+    private String stored(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return Stored.label(channel, Stored.fixed(channel));
+        }
+    }
+
+    /**
+     * Read the fixed part of the header of a file.
+     * @param channel The channel of the file
+     * @return The fixed part, shorter if the file is
+     * @throws IOException If it can't be read
+     */
+    private static ByteBuffer fixed(final FileChannel channel)
+        throws IOException {
+        final ByteBuffer fixed = ByteBuffer.allocate(Stored.FIXED)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int read = 0;
+        while (fixed.hasRemaining() && read >= 0) {
+            read = channel.read(fixed, fixed.position());
+        }
+        return fixed.flip();
+    }
+
+    /**
+     * Read the label of the header of a file.
+     * @param channel The channel of the file
+     * @param fixed The fixed part of the header
+     * @return The label, or an empty string if the file isn't a keyset of
+     *  this version
+     * @throws IOException If it can't be read
+     */
+    private static String label(
+        final FileChannel channel,
+        final ByteBuffer fixed
+    ) throws IOException {
+        final byte[] magic = new byte[Stored.MAGIC.length];
+        if (fixed.remaining() == Stored.FIXED) {
+            fixed.get(0, magic);
+        }
+        String label = "";
+        if (Arrays.equals(magic, Stored.MAGIC)
+            && fixed.getInt(Stored.MAGIC.length) == Stored.VERSION) {
+            final int size = fixed.getInt(Stored.MAGIC.length + 16);
+            if (size >= 0 && size <= channel.size() - Stored.FIXED) {
+                final ByteBuffer title = ByteBuffer.allocate(size);
+                int read = 0;
+                while (title.hasRemaining() && read >= 0) {
+                    read = channel.read(
+                        title,
+                        Stored.FIXED + title.position()
+                    );
+                }
+                label = new String(title.array(), StandardCharsets.UTF_8);
+            }
+        }
+        return label;
+    }
+}
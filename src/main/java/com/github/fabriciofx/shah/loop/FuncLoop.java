@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.loop;
+
+import com.github.fabriciofx.shah.Func;
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.jfr.HashingEvent;
+import com.github.fabriciofx.shah.jfr.Tally;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Consumer;
+
+/**
+ * FuncLoop.
+ *
+ * <p>The template of the loop of a hash function given by its
+ * {@link Func} class, e.g. through
+ * {@link com.github.fabriciofx.shah.func.Reflected}. It is never used as
+ * it is: {@link Specialized} defines a hidden copy of it for each
+ * {@link Func} class, whose class data is the {@code (Key, Seed)Func}
+ * constructor of the class. The constructor is a constant of the copy, so
+ * it is inlined into the loop, and the call to {@link Func#hash()} only
+ * ever sees one class.</p>
+ *
+ * <p>It must not use lambdas or nested classes.</p>
+ *
+ * @since 0.0.1
+ */
+public final class FuncLoop implements Loop {
+    /**
+     * Constructor of the {@link Func} class, the class data of the copy.
+     */
+    private static final MethodHandle CTOR = FuncLoop.constructor();
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Tally of the keys hashed.
+     */
+    private final Tally tally;
+
+    /**
+     * Ctor.
+     * @param seed Hash function seed
+     * @param tally Tally of the keys hashed
+     */
+    public FuncLoop(final Seed seed, final Tally tally) {
+        this.seed = seed;
+        this.tally = tally;
+    }
+
+    @Override
+    public void run(
+        final Keys keys,
+        final int from,
+        final int to,
+        final Consumer<Hash> out
+    ) {
+        final HashingEvent event = new HashingEvent();
+        final boolean recording = event.isEnabled()
+            || this.tally.counting();
+        event.begin();
+        long bytes = 0L;
+        for (int idx = from; idx < to; ++idx) {
+            final Key key = keys.item(idx);
+            if (recording) {
+                bytes += key.size();
+            }
+            out.accept(this.hash(key));
+        }
+        event.record(to - from, bytes);
+        this.tally.add(to - from, bytes);
+    }
+
+    /**
+     * Hash a key.
+     * @param key The key
+     * @return The hash
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private Hash hash(final Key key) {
+        final Func func;
+        try {
+            func = (Func) FuncLoop.CTOR.invokeExact(key, this.seed);
+        } catch (final RuntimeException | Error ex) {
+            throw ex;
+        } catch (final Throwable ex) {
+            throw new IllegalStateException("Can't build hash function", ex);
+        }
+        return func.hash();
+    }
+
+    /**
+     * Constructor of the {@link Func} class, from the class data.
+     * @return The constructor
+     */
+    private static MethodHandle constructor() {
+        try {
+            return MethodHandles.classData(
+                MethodHandles.lookup(),
+                ConstantDescs.DEFAULT_NAME,
+                MethodHandle.class
+            );
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException(
+                "The loop of a Func class must be a specialized copy",
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.loop;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.jfr.HashingEvent;
+import com.github.fabriciofx.shah.jfr.Tally;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * LoopOf.
+ *
+ * <p>The plain loop. All instances share the same call site to the hash
+ * function, which turns megamorphic once a JVM has run several functions
+ * through it; see {@link Specialized}. Each run is recorded as a
+ * {@link HashingEvent} when a flight recording is on, and added to the
+ * {@link Tally} of the thread that created the loop.</p>
+ *
+ * <p>This class is also the template copied by {@link Specialized}, so it
+ * must not use lambdas or nested classes.</p>
+ *
+ * @since 0.0.1
+ */
+public final class LoopOf implements Loop {
+    /**
+     * The hash function.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Tally of the keys hashed.
+     */
+    private final Tally tally;
+
+    /**
+     * Ctor.
+     * @param func The hash function
+     * @param seed Hash function seed
+     */
+    public LoopOf(final BiFunction<Key, Seed, Hash> func, final Seed seed) {
+        this(func, seed, Tally.current());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function
+     * @param seed Hash function seed
+     * @param tally Tally of the keys hashed
+     */
+    public LoopOf(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Tally tally
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.tally = tally;
+    }
+
+    @Override
+    public void run(
+        final Keys keys,
+        final int from,
+        final int to,
+        final Consumer<Hash> out
+    ) {
+        final HashingEvent event = new HashingEvent();
+        final boolean recording = event.isEnabled()
+            || this.tally.counting();
+        event.begin();
+        long bytes = 0L;
+        for (int idx = from; idx < to; ++idx) {
+            final Key key = keys.item(idx);
+            if (recording) {
+                bytes += key.size();
+            }
+            out.accept(this.func.apply(key, this.seed));
+        }
+        event.record(to - from, bytes);
+        this.tally.add(to - from, bytes);
+    }
+}
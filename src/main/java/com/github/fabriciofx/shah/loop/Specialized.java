@@ -0,0 +1,259 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.loop;
+
+import com.github.fabriciofx.shah.Func;
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.jfr.Tally;
+import com.github.fabriciofx.shah.scalar.Cached;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Specialized.
+ *
+ * <p>A private copy of {@link LoopOf} for one hash function. The bytecode
+ * of {@link LoopOf} is defined again as a hidden class, so the copy has its
+ * own call site to the hash function, with its own profile: the site stays
+ * monomorphic and the hash function can be inlined into the loop, whatever
+ * the other functions run by the JVM and in whatever order.</p>
+ *
+ * <p>The copy is defined once per class of hash function, on the first
+ * run, and kept with that class: the loops of later tests of the same
+ * function, e.g. the requests of a daemon, share the copy and find its
+ * code already compiled. If the bytecode of {@link LoopOf} can't be read,
+ * the plain loop is used.</p>
+ *
+ * <p>All the functions given by name, like those of the command line and
+ * of the daemon, are of the same class, {@link Reflected}, and share its
+ * call sites. Their loop is a copy of {@link FuncLoop} per {@link Func}
+ * class instead, kept with that class, which builds and calls the
+ * {@link Func} itself.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Specialized implements Loop {
+    /**
+     * Type of the constructor of the loops.
+     */
+    private static final MethodType CTOR = MethodType.methodType(
+        void.class,
+        BiFunction.class,
+        Seed.class,
+        Tally.class
+    );
+
+    /**
+     * Type of the constructor of the loops of a {@link Func} class.
+     */
+    private static final MethodType BOUND = MethodType.methodType(
+        void.class,
+        Seed.class,
+        Tally.class
+    );
+
+    /**
+     * Constructor of the copy of each {@link Func} class given by name.
+     */
+    private static final ClassValue<MethodHandle> FUNCS =
+        new ClassValue<>() {
+            @Override
+            protected MethodHandle computeValue(final Class<?> type) {
+                return Specialized.copy(
+                    new Reflected(type.getName(), type.getClassLoader())
+                );
+            }
+        };
+
+    /**
+     * Constructor of the copy of each class of hash function.
+     */
+    private static final ClassValue<MethodHandle> COPIES =
+        new ClassValue<>() {
+            @Override
+            protected MethodHandle computeValue(final Class<?> type) {
+                return Specialized.copy();
+            }
+        };
+
+    /**
+     * The specialized loop.
+     */
+    private final Scalar<Loop> loop;
+
+    /**
+     * Ctor.
+     * @param func The hash function
+     * @param seed Hash function seed
+     */
+    public Specialized(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed
+    ) {
+        final Tally tally = Tally.current();
+        this.loop = new Cached<>(
+            () -> Specialized.instance(func, seed, tally)
+        );
+    }
+
+    @Override
+    public void run(
+        final Keys keys,
+        final int from,
+        final int to,
+        final Consumer<Hash> out
+    ) {
+        this.loop.value().run(keys, from, to, out);
+    }
+
+    /**
+     * Instantiate the copy of the class of a hash function.
+     * @param func The hash function
+     * @param seed Hash function seed
+     * @param tally Tally of the keys hashed
+     * @return The loop
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static Loop instance(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Tally tally
+    ) {
+        final Loop loop;
+        try {
+            if (func instanceof Reflected) {
+                loop = (Loop) Specialized.FUNCS
+                    .get(((Reflected) func).type())
+                    .invoke(seed, tally);
+            } else {
+                loop = (Loop) Specialized.COPIES.get(func.getClass())
+                    .invoke(func, seed, tally);
+            }
+        } catch (final Throwable ex) {
+            throw new IllegalStateException(
+                "Can't specialize the loop of the hash function",
+                ex
+            );
+        }
+        return loop;
+    }
+
+    /**
+     * Define a hidden copy of {@link LoopOf}.
+     * @return The constructor of the copy
+     */
+    private static MethodHandle copy() {
+        MethodHandle ctor;
+        try {
+            final byte[] bytes = Specialized.bytecode(LoopOf.class);
+            if (bytes.length == 0) {
+                ctor = Specialized.plain();
+            } else {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClass(bytes, true);
+                ctor = lookup.findConstructor(
+                    lookup.lookupClass(),
+                    Specialized.CTOR
+                );
+            }
+        } catch (final IOException ex) {
+            ctor = Specialized.plain();
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException(
+                "Can't specialize the loop of the hash function",
+                ex
+            );
+        }
+        return ctor;
+    }
+
+    /**
+     * Define a hidden copy of {@link FuncLoop} for a {@link Func} class.
+     * @param func The function of the class
+     * @return The constructor of the copy
+     */
+    private static MethodHandle copy(final Reflected func) {
+        MethodHandle ctor;
+        try {
+            final byte[] bytes = Specialized.bytecode(FuncLoop.class);
+            if (bytes.length == 0) {
+                ctor = MethodHandles.insertArguments(
+                    Specialized.plain(),
+                    0,
+                    func
+                );
+            } else {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(
+                        bytes,
+                        func.constructor(),
+                        true
+                    );
+                ctor = lookup.findConstructor(
+                    lookup.lookupClass(),
+                    Specialized.BOUND
+                );
+            }
+        } catch (final IOException ex) {
+            ctor = MethodHandles.insertArguments(Specialized.plain(), 0, func);
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException(
+                "Can't specialize the loop of the hash function",
+                ex
+            );
+        }
+        return ctor;
+    }
+
+    /**
+     * Read the bytecode of a template loop.
+     * @param template The class of the loop
+     * @return The bytecode, empty if it can't be found
+     * @throws IOException If it can't be read
+     */
+    private static byte[] bytecode(final Class<?> template)
+        throws IOException {
+        final byte[] bytes;
+        try (InputStream input = template.getResourceAsStream(
+            String.format("%s.class", template.getSimpleName())
+        )) {
+            if (input == null) {
+                bytes = new byte[0];
+            } else {
+                bytes = input.readAllBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Constructor of the plain loop.
+     * @return The constructor
+     */
+    private static MethodHandle plain() {
+        final MethodHandle ctor;
+        try {
+            ctor = MethodHandles.lookup()
+                .findConstructor(LoopOf.class, Specialized.CTOR);
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException(
+                "Can't find the constructor of the plain loop",
+                ex
+            );
+        }
+        return ctor;
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Loops.
+ *
+ * @since 0.0.1
+ */
+package com.github.fabriciofx.shah.loop;
@@ -4,7 +4,12 @@
  */
 package com.github.fabriciofx.shah.metric;
 
+import com.github.fabriciofx.shah.Mergeable;
 import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Summarized;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Bit Independence Criterion (BIC) bias metric from SMHasher.
@@ -15,6 +20,9 @@ import com.github.fabriciofx.shah.Metric;
  * The bias is {@code |count / expected - 1|}. SMHasher considers
  * a bias above 5% (0.05) as a failure.</p>
  *
+ * <p>Biases of disjoint sets of repetitions can be merged by adding their
+ * bins and repetitions.</p>
+ *
  * @see <a href="https://github.com/aappleby/smhasher">SMHasher</a>
  * @since 0.0.1
  * @checkstyle CyclomaticComplexityCheck (100 lines)
@@ -26,7 +34,13 @@ import com.github.fabriciofx.shah.Metric;
     "PMD.ArrayIsStoredDirectly",
     "PMD.MethodReturnsInternalArray"
 })
-public final class BicBias implements Metric<int[][][][]> {
+public final class BicBias implements Metric<int[][][][]>,
+    Mergeable<BicBias>, Summarized, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Contingency tables: bins[outputBit1][outputBit2][outcome].
      */
@@ -52,6 +66,34 @@ public final class BicBias implements Metric<int[][][][]> {
         return this.bins;
     }
 
+    /**
+     * Number of repetitions used to fill the bins.
+     * @return The number of repetitions
+     */
+    public int repetitions() {
+        return this.repetitions;
+    }
+
+    @Override
+    public BicBias merge(final BicBias other) {
+        final int[][][][] sum = new int[this.bins.length][][][];
+        for (int bit = 0; bit < sum.length; ++bit) {
+            sum[bit] = new int[this.bins[bit].length][][];
+            for (int one = 0; one < sum[bit].length; ++one) {
+                sum[bit][one] = new int[this.bins[bit][one].length][];
+                for (int two = 0; two < sum[bit][one].length; ++two) {
+                    final int[] mine = this.bins[bit][one][two];
+                    final int[] theirs = other.bins[bit][one][two];
+                    sum[bit][one][two] = new int[mine.length];
+                    for (int idx = 0; idx < mine.length; ++idx) {
+                        sum[bit][one][two][idx] = mine[idx] + theirs[idx];
+                    }
+                }
+            }
+        }
+        return new BicBias(sum, this.repetitions + other.repetitions);
+    }
+
     /**
      * Compute the worst BIC bias.
      *
@@ -79,4 +121,12 @@ public final class BicBias implements Metric<int[][][][]> {
         }
         return worst;
     }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("bias", this.max());
+        fields.put("repetitions", this.repetitions());
+        return fields;
+    }
 }
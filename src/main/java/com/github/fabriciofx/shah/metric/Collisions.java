@@ -5,11 +5,28 @@
 package com.github.fabriciofx.shah.metric;
 
 import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Mergeable;
 import com.github.fabriciofx.shah.Metric;
 import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Summarized;
+import com.github.fabriciofx.shah.hashes.Column;
+import com.github.fabriciofx.shah.hashes.Indexed;
 import com.github.fabriciofx.shah.hashes.Sorted;
+import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.scalar.Cached;
 import com.github.fabriciofx.shah.stat.Expected;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Collisions metric from SMHasher.
@@ -23,10 +40,32 @@ import com.github.fabriciofx.shah.stat.Expected;
  * The collision ratio is computed against the expected number from
  * the birthday paradox.</p>
  *
+ * <p>Collisions of independent trials (other seeds, other key sets) can be
+ * merged by adding their collisions and expected collisions. Collisions of
+ * shards of the same key set can not, since the collisions between hashes
+ * of different shards would be missed: merge their hashes instead.</p>
+ *
+ * <p>Given {@link Indexed} hashes, or a {@link Column} already sorted,
+ * and the keys they come from, the keys
+ * of the colliding hashes are generated again from their indices after the
+ * sort and kept, up to {@value #LIMIT} groups of up to {@value #GROUP}
+ * keys, the first ones, to be reported: a degenerate function would
+ * otherwise keep the whole key set.</p>
+ *
+ * <p>It is serialized as its numbers of collisions and expected collisions
+ * and the bytes of the colliding keys, so it can be cached or checkpointed
+ * once computed.</p>
+ *
  * @see <a href="https://github.com/aappleby/smhasher">SMHasher</a>
  * @since 0.0.1
  */
-public final class Collisions implements Metric<Integer> {
+public final class Collisions implements Metric<Integer>,
+    Mergeable<Collisions>, Summarized, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Threshold for expected collisions to avoid division by small
      * numbers.
@@ -34,33 +73,165 @@ public final class Collisions implements Metric<Integer> {
     private static final double EPSILON = 0.001;
 
     /**
-     * The hashes.
+     * Maximum number of groups of colliding keys kept.
      */
-    private final Hashes hashes;
+    private static final int LIMIT = 16;
+
+    /**
+     * Maximum number of keys kept in a group of colliding keys.
+     */
+    private static final int GROUP = 16;
 
     /**
      * Number of collisions.
      */
-    private final Scalar<Integer> colls;
+    private final transient Scalar<Integer> colls;
+
+    /**
+     * Expected number of collisions.
+     */
+    private final transient Scalar<Double> expected;
+
+    /**
+     * Groups of keys with the same hash.
+     */
+    private final transient Scalar<List<List<Key>>> colliding;
 
     /**
      * Ctor.
      * @param hashes The hashes
      */
     public Collisions(final Hashes hashes) {
-        this.hashes = new Sorted(hashes);
-        this.colls = new Cached<>(
-            () -> {
-                int collisions = 0;
-                for (int idx = 1; idx < this.hashes.count(); ++idx) {
-                    if (
-                        this.hashes.item(idx).equals(this.hashes.item(idx - 1))
-                    ) {
-                        ++collisions;
+        this(new Sorted(hashes));
+    }
+
+    /**
+     * Ctor.
+     * @param collisions Number of collisions
+     * @param count Number of hashes
+     * @param bits Hash width in bits
+     */
+    public Collisions(final int collisions, final int count, final int bits) {
+        this(
+            () -> collisions,
+            new Expected(count, bits),
+            Collections::emptyList
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param collisions Number of collisions
+     * @param expected Expected number of collisions
+     */
+    public Collisions(final int collisions, final Scalar<Double> expected) {
+        this(() -> collisions, expected, Collections::emptyList);
+    }
+
+    /**
+     * Ctor.
+     * @param hashes The hashes with the indices of their keys, sorted in
+     *  place
+     * @param keys The keys of the hashes
+     */
+    public Collisions(final Indexed hashes, final Keys keys) {
+        this(Collisions.sorted(hashes), keys);
+    }
+
+    /**
+     * Ctor.
+     * @param sorted The hashes sorted by value, with the indices of their
+     *  keys
+     * @param keys The keys of the hashes
+     */
+    public Collisions(final Column sorted, final Keys keys) {
+        this(() -> sorted, keys);
+    }
+
+    /**
+     * Ctor.
+     * @param sorted The sorted hashes
+     */
+    private Collisions(final Sorted sorted) {
+        this(
+            new Cached<>(
+                () -> {
+                    int collisions = 0;
+                    for (int idx = 1; idx < sorted.count(); ++idx) {
+                        if (sorted.item(idx).equals(sorted.item(idx - 1))) {
+                            ++collisions;
+                        }
                     }
+                    return collisions;
                 }
-                return collisions;
-            }
+            ),
+            () -> new Expected(sorted).value(),
+            Collections::emptyList
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sorted The sorted hashes with the indices of their keys
+     * @param keys The keys of the hashes
+     */
+    private Collisions(final Scalar<Column> sorted, final Keys keys) {
+        this(
+            new Cached<>(
+                () -> {
+                    final Column hashes = sorted.value();
+                    int collisions = 0;
+                    for (int idx = 1; idx < hashes.count(); ++idx) {
+                        if (hashes.same(idx, idx - 1)) {
+                            ++collisions;
+                        }
+                    }
+                    return collisions;
+                }
+            ),
+            () -> new Expected(
+                sorted.value().count(),
+                sorted.value().bits()
+            ).value(),
+            new Cached<>(() -> Collisions.groups(sorted.value(), keys))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param colls Number of collisions
+     * @param expected Expected number of collisions
+     * @param colliding Groups of keys with the same hash
+     */
+    private Collisions(
+        final Scalar<Integer> colls,
+        final Scalar<Double> expected,
+        final Scalar<List<List<Key>>> colliding
+    ) {
+        this.colls = colls;
+        this.expected = expected;
+        this.colliding = colliding;
+    }
+
+    @Override
+    public Collisions merge(final Collisions other) {
+        return new Collisions(
+            new Cached<>(() -> this.colls.value() + other.colls.value()),
+            new Cached<>(
+                () -> this.expected.value() + other.expected.value()
+            ),
+            new Cached<>(
+                () -> {
+                    final List<List<Key>> groups = new ArrayList<>(
+                        this.colliding.value()
+                    );
+                    groups.addAll(other.colliding.value());
+                    return groups.subList(
+                        0,
+                        Math.min(groups.size(), Collisions.LIMIT)
+                    );
+                }
+            )
         );
     }
 
@@ -77,12 +248,204 @@ public final class Collisions implements Metric<Integer> {
      */
     public Ratio ratio() {
         final Ratio ratio;
-        final double expected = new Expected(this.hashes).value();
-        if (expected < Collisions.EPSILON) {
+        final double expect = this.expected.value();
+        if (expect < Collisions.EPSILON) {
             ratio = new Ratio(this.colls.value(), 1.0);
         } else {
-            ratio = new Ratio(this.colls.value(), expected);
+            ratio = new Ratio(this.colls.value(), expect);
         }
         return ratio;
     }
+
+    /**
+     * Groups of keys with the same hash, up to {@value #LIMIT}. They are
+     * known only for collisions computed from {@link Indexed} hashes or
+     * from a {@link Column}.
+     * @return The groups of colliding keys, each of its first
+     *  {@value #GROUP} keys in the order of the keys
+     */
+    public List<List<Key>> colliding() {
+        return this.colliding.value();
+    }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("collisions", this.value());
+        fields.put("ratio", this.ratio().value());
+        if (!this.colliding().isEmpty()) {
+            final List<List<String>> groups = new ArrayList<>(0);
+            for (final List<Key> keys : this.colliding()) {
+                final List<String> group = new ArrayList<>(keys.size());
+                for (final Key key : keys) {
+                    group.add(HexFormat.of().formatHex(key.asBytes()));
+                }
+                groups.add(group);
+            }
+            fields.put("colliding", groups);
+        }
+        return fields;
+    }
+
+    /**
+     * Sort the hashes in place, once.
+     * @param hashes The hashes
+     * @return The sorted hashes
+     */
+    private static Scalar<Column> sorted(final Indexed hashes) {
+        return new Cached<>(
+            () -> {
+                hashes.sort();
+                return new Column() {
+                    @Override
+                    public int count() {
+                        return hashes.count();
+                    }
+
+                    @Override
+                    public int bits() {
+                        return hashes.bits();
+                    }
+
+                    @Override
+                    public int key(final int index) {
+                        return hashes.key(index);
+                    }
+
+                    @Override
+                    public boolean same(final int left, final int right) {
+                        return hashes.same(left, right);
+                    }
+
+                    @Override
+                    public void read(final int index, final byte[] bytes) {
+                        System.arraycopy(
+                            hashes.item(index).asBytes(),
+                            0,
+                            bytes,
+                            0,
+                            bytes.length
+                        );
+                    }
+                };
+            }
+        );
+    }
+
+    /**
+     * Generate again the keys of the runs of equal hashes.
+     * @param hashes The sorted hashes
+     * @param keys The keys of the hashes
+     * @return The groups of colliding keys
+     */
+    private static List<List<Key>> groups(
+        final Column hashes,
+        final Keys keys
+    ) {
+        final List<List<Key>> groups = new ArrayList<>(0);
+        int start = 0;
+        for (int idx = 1; idx <= hashes.count(); ++idx) {
+            if (idx == hashes.count() || !hashes.same(idx, start)) {
+                if (idx - start > 1 && groups.size() < Collisions.LIMIT) {
+                    final int[] indices = new int[idx - start];
+                    for (int pos = start; pos < idx; ++pos) {
+                        indices[pos - start] = hashes.key(pos);
+                    }
+                    Arrays.sort(indices);
+                    final int size = Math.min(indices.length, Collisions.GROUP);
+                    final List<Key> group = new ArrayList<>(size);
+                    for (int pos = 0; pos < size; ++pos) {
+                        group.add(keys.item(indices[pos]));
+                    }
+                    groups.add(group);
+                }
+                start = idx;
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Replace by the computed form when serialized.
+     * @return The computed collisions
+     */
+    private Object writeReplace() {
+        return new Collisions.Computed(this);
+    }
+
+    /**
+     * Reject a direct serialized form, which is never written.
+     * @param input Input stream
+     * @throws InvalidObjectException Always
+     */
+    private void readObject(final ObjectInputStream input)
+        throws InvalidObjectException {
+        throw new InvalidObjectException("Computed form required");
+    }
+
+    /**
+     * Serialized form of the collisions: their numbers and the bytes of the
+     * colliding keys.
+     * @since 0.0.1
+     */
+    private static final class Computed implements Serializable {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Number of collisions.
+         */
+        private final int colls;
+
+        /**
+         * Expected number of collisions.
+         */
+        private final double expected;
+
+        /**
+         * Bytes of the keys of each group of colliding keys.
+         */
+        private final byte[][][] colliding;
+
+        /**
+         * Ctor.
+         * @param collisions The collisions
+         */
+        Computed(final Collisions collisions) {
+            this.colls = collisions.colls.value();
+            this.expected = collisions.expected.value();
+            final List<List<Key>> groups = collisions.colliding.value();
+            this.colliding = new byte[groups.size()][][];
+            for (int group = 0; group < groups.size(); ++group) {
+                final List<Key> keys = groups.get(group);
+                this.colliding[group] = new byte[keys.size()][];
+                for (int idx = 0; idx < keys.size(); ++idx) {
+                    this.colliding[group][idx] = keys.get(idx).asBytes();
+                }
+            }
+        }
+
+        /**
+         * Restore the collisions.
+         * @return The collisions
+         */
+        private Object readResolve() {
+            final List<List<Key>> groups = new ArrayList<>(
+                this.colliding.length
+            );
+            for (final byte[][] group : this.colliding) {
+                final List<Key> keys = new ArrayList<>(group.length);
+                for (final byte[] bytes : group) {
+                    keys.add(new KeyOf(bytes));
+                }
+                groups.add(Collections.unmodifiableList(keys));
+            }
+            final int collisions = this.colls;
+            final double expect = this.expected;
+            final List<List<Key>> all = Collections.unmodifiableList(groups);
+            return new Collisions(() -> collisions, () -> expect, () -> all);
+        }
+    }
 }
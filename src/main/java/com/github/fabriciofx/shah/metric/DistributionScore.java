@@ -6,8 +6,14 @@ package com.github.fabriciofx.shah.metric;
 
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Mergeable;
 import com.github.fabriciofx.shah.Metric;
-import com.github.fabriciofx.shah.scalar.Window;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.hashes.Column;
+import com.github.fabriciofx.shah.scalar.Cached;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 
 /**
  * Distribution (window) score metric from SMHasher.
@@ -24,6 +30,12 @@ import com.github.fabriciofx.shah.scalar.Window;
  * where {@code k} is the number of keys, {@code n} is the number of
  * bins, and {@code rms} is the root-mean-square of bin counts.</p>
  *
+ * <p>The hashes are scanned once into a {@link Histogram} of 16-bit
+ * windows, whose bins are folded for the narrower widths. Scores of
+ * disjoint sets of hashes are merged through their histograms, and the
+ * score is computed again from the merged bins. It is serialized as its
+ * histogram.</p>
+ *
  * <p>A score of 0.0 means perfect distribution. SMHasher considers
  * a score above 1% (0.01) as a failure. The worst score across all
  * window positions and widths is returned.</p>
@@ -32,44 +44,101 @@ import com.github.fabriciofx.shah.scalar.Window;
  * @since 0.0.1
  * @checkstyle NestedForDepthCheck (200 lines)
  */
-public final class DistributionScore implements Metric<Double> {
+public final class DistributionScore implements Metric<Double>,
+    Mergeable<DistributionScore>, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Small value to check error.
      */
     private static final double EPSILON = 1e-10;
 
     /**
-     * Hashes to analyze.
+     * Window histograms of the hashes to analyze.
      */
-    private final Hashes hashes;
+    private final transient Scalar<Histogram> histogram;
 
     /**
      * Ctor.
      * @param hashes Hash to analyze
      */
     public DistributionScore(final Hashes hashes) {
-        this.hashes = hashes;
+        this(
+            new Cached<>(
+                () -> {
+                    final Histogram histo = new Histogram();
+                    for (final Hash hash : hashes) {
+                        histo.add(hash);
+                    }
+                    return histo;
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param hashes Hash to analyze, read into a single buffer
+     */
+    public DistributionScore(final Column hashes) {
+        this(
+            new Cached<>(
+                () -> {
+                    final Histogram histo = new Histogram();
+                    final byte[] bytes = new byte[hashes.bits() / Byte.SIZE];
+                    for (int idx = 0; idx < hashes.count(); ++idx) {
+                        hashes.read(idx, bytes);
+                        histo.add(bytes);
+                    }
+                    return histo;
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param histogram Window histograms of the hashes to analyze
+     */
+    public DistributionScore(final Histogram histogram) {
+        this(() -> histogram);
+    }
+
+    /**
+     * Ctor.
+     * @param histogram Window histograms of the hashes to analyze
+     */
+    private DistributionScore(final Scalar<Histogram> histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public DistributionScore merge(final DistributionScore other) {
+        return new DistributionScore(
+            new Cached<>(
+                () -> new Histogram()
+                    .merge(this.histogram.value())
+                    .merge(other.histogram.value())
+            )
+        );
     }
 
     @Override
     public Double value() {
-        final int bits = this.hashes.item(0).bits();
+        final Histogram histo = this.histogram.value();
+        final int max = Math.min(
+            16,
+            DistributionScore.maxWidth(histo.count())
+        );
         double worst = 0.0;
-        for (int start = 0; start < bits; ++start) {
-            final int max = Math.min(
-                16,
-                DistributionScore.maxWidth(this.hashes.count())
-            );
+        for (int start = 0; start < histo.bits(); ++start) {
             for (int width = max; width >= 8; --width) {
                 final int nbins = 1 << width;
-                final int mask = nbins - 1;
-                final int[] bins = new int[nbins];
-                for (final Hash hash : this.hashes) {
-                    final int window = new Window(hash, start).value();
-                    bins[window & mask] += 1;
-                }
                 final double score = DistributionScore.score(
-                    bins, nbins, this.hashes.count()
+                    histo.bins(start, width), nbins, histo.count()
                 );
                 if (score > worst) {
                     worst = score;
@@ -123,4 +192,54 @@ public final class DistributionScore implements Metric<Double> {
         }
         return score;
     }
+
+    /**
+     * Replace by the histogram when serialized.
+     * @return The computed score
+     */
+    private Object writeReplace() {
+        return new DistributionScore.Computed(this.histogram.value());
+    }
+
+    /**
+     * Reject a direct serialized form, which is never written.
+     * @param input Input stream
+     * @throws InvalidObjectException Always
+     */
+    private void readObject(final ObjectInputStream input)
+        throws InvalidObjectException {
+        throw new InvalidObjectException("Computed form required");
+    }
+
+    /**
+     * Serialized form of the score: its histogram.
+     * @since 0.0.1
+     */
+    private static final class Computed implements Serializable {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Window histograms of the hashes.
+         */
+        private final Histogram histogram;
+
+        /**
+         * Ctor.
+         * @param histogram Window histograms of the hashes
+         */
+        Computed(final Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        /**
+         * Restore the score.
+         * @return The score
+         */
+        private Object readResolve() {
+            return new DistributionScore(this.histogram);
+        }
+    }
 }
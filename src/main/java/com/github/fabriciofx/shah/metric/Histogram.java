@@ -0,0 +1,139 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.metric;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Mergeable;
+import java.io.Serializable;
+
+/**
+ * Histogram.
+ *
+ * <p>Count, for every bit start position of the hash, the values of the
+ * 16-bit window starting there (wrapping around the end of the hash, like
+ * {@link com.github.fabriciofx.shah.scalar.Window}). Narrower windows are
+ * obtained by folding the 16-bit bins, so the hashes are scanned only once
+ * whatever the number of widths analyzed.</p>
+ *
+ * <p>Histograms of disjoint sets of hashes can be merged by adding their
+ * bins.</p>
+ *
+ * @since 0.0.1
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+public final class Histogram implements Serializable, Mergeable<Histogram> {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of bins of a 16-bit window.
+     */
+    private static final int BINS = 1 << 16;
+
+    /**
+     * Bins by bit start position, allocated with the first hash.
+     */
+    private int[][] bins;
+
+    /**
+     * Number of hashes counted.
+     */
+    private int hashes;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this.bins = new int[0][];
+        this.hashes = 0;
+    }
+
+    /**
+     * Count a hash.
+     * @param hash The hash
+     */
+    public void add(final Hash hash) {
+        this.add(hash.asBytes());
+    }
+
+    /**
+     * Count a hash, given by its bytes.
+     * @param bytes The bytes of the hash
+     */
+    public void add(final byte... bytes) {
+        if (this.bins.length == 0) {
+            this.bins = new int[bytes.length * Byte.SIZE][Histogram.BINS];
+        }
+        final int size = bytes.length;
+        for (int pos = 0; pos < size; ++pos) {
+            final int word = bytes[pos] & 0xFF
+                | (bytes[(pos + 1) % size] & 0xFF) << 8
+                | (bytes[(pos + 2) % size] & 0xFF) << 16;
+            for (int bit = 0; bit < Byte.SIZE; ++bit) {
+                this.bins[pos * Byte.SIZE + bit][(word >>> bit) & 0xFFFF] += 1;
+            }
+        }
+        this.hashes += 1;
+    }
+
+    /**
+     * Add the bins of another histogram to this one.
+     * @param other The other histogram
+     * @return This histogram
+     */
+    @Override
+    public Histogram merge(final Histogram other) {
+        if (this.bins.length == 0) {
+            this.bins = new int[other.bins.length][];
+            for (int start = 0; start < other.bins.length; ++start) {
+                this.bins[start] = other.bins[start].clone();
+            }
+        } else {
+            for (int start = 0; start < other.bins.length; ++start) {
+                final int[] mine = this.bins[start];
+                final int[] theirs = other.bins[start];
+                for (int idx = 0; idx < Histogram.BINS; ++idx) {
+                    mine[idx] += theirs[idx];
+                }
+            }
+        }
+        this.hashes += other.hashes;
+        return this;
+    }
+
+    /**
+     * Number of hashes counted.
+     * @return The number of hashes
+     */
+    public int count() {
+        return this.hashes;
+    }
+
+    /**
+     * Number of bit start positions, the hash width in bits.
+     * @return The number of bit start positions
+     */
+    public int bits() {
+        return this.bins.length;
+    }
+
+    /**
+     * Bins of the {@code width}-bit window at a bit start position.
+     * @param start Bit start position
+     * @param width Window width, up to 16 bits
+     * @return A new array with the {@code 2^width} bins
+     */
+    public int[] bins(final int start, final int width) {
+        final int nbins = 1 << width;
+        final int[] folded = new int[nbins];
+        final int[] full = this.bins[start];
+        for (int idx = 0; idx < Histogram.BINS; ++idx) {
+            folded[idx & (nbins - 1)] += full[idx];
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.metric;
+
+import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Summarized;
+import com.github.fabriciofx.shah.report.Summary;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Partial.
+ *
+ * <p>A metric computed from a part of the samples of a test, because the
+ * test has been cancelled or has reached its deadline, with the number of
+ * samples actually used. A metric from fewer samples is less precise:
+ * the {@link #coverage()} tells how much of the test it stands for, and
+ * the {@link #precision()} how much wider the error of the metric is than
+ * the one of the whole test. Neither is a confidence interval of the
+ * metric, which depends on its distribution, e.g. the Poisson bounds of
+ * {@link com.github.fabriciofx.shah.test.SequentialCollisionTest}.</p>
+ *
+ * <p>It is serializable when its metric is.</p>
+ *
+ * @param <T> Type of the metric
+ * @since 0.0.1
+ */
+public final class Partial<T> implements Metric<T>, Summarized,
+    Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Metric.
+     */
+    private final T metric;
+
+    /**
+     * Number of samples used.
+     */
+    private final long used;
+
+    /**
+     * Number of samples of the whole test.
+     */
+    private final long all;
+
+    /**
+     * Ctor.
+     * @param metric Metric
+     * @param samples Number of samples used
+     * @param total Number of samples of the whole test
+     */
+    public Partial(final T metric, final long samples, final long total) {
+        this.metric = metric;
+        this.used = samples;
+        this.all = total;
+    }
+
+    @Override
+    public T value() {
+        return this.metric;
+    }
+
+    /**
+     * Number of samples used.
+     * @return The number of samples
+     */
+    public long samples() {
+        return this.used;
+    }
+
+    /**
+     * Number of samples of the whole test.
+     * @return The number of samples
+     */
+    public long total() {
+        return this.all;
+    }
+
+    /**
+     * Whether all the samples have been used.
+     * @return True if complete
+     */
+    public boolean complete() {
+        return this.used == this.all;
+    }
+
+    /**
+     * Fraction of the samples used, between 0.0 and 1.0.
+     * @return The coverage
+     */
+    public double coverage() {
+        final double coverage;
+        if (this.all == 0L) {
+            coverage = 1.0;
+        } else {
+            coverage = this.used / (double) this.all;
+        }
+        return coverage;
+    }
+
+    /**
+     * Standard error of the metric of the whole test over the one of this
+     * metric, between 0.0 and 1.0, for a metric averaging independent
+     * samples, whose error shrinks like {@code 1 / sqrt(n)}: a metric from
+     * a quarter of the samples has an error twice as large, so a
+     * precision of 0.5, and any margin of the whole test must be divided
+     * by it. It is a ratio of errors, not a confidence level.
+     * @return The precision, the square root of the coverage
+     */
+    public double precision() {
+        return Math.sqrt(this.coverage());
+    }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>(
+            new Summary(this.metric).value()
+        );
+        fields.put("samples", this.used);
+        fields.put("total", this.all);
+        return fields;
+    }
+}
@@ -4,13 +4,28 @@
  */
 package com.github.fabriciofx.shah.metric;
 
+import com.github.fabriciofx.shah.Mergeable;
 import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Summarized;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Ratio.
+ *
+ * <p>Ratios of independent trials can be merged by adding their
+ * antecedents and consequents, which gives the pooled ratio.</p>
+ *
  * @since 0.0.1
  */
-public final class Ratio implements Metric<Double> {
+public final class Ratio implements Metric<Double>, Mergeable<Ratio>,
+    Summarized, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Antecedent, the ratio numerator.
      */
@@ -31,6 +46,14 @@ public final class Ratio implements Metric<Double> {
         this.consequent = consequent;
     }
 
+    @Override
+    public Ratio merge(final Ratio other) {
+        return new Ratio(
+            this.antecedent + other.antecedent,
+            this.consequent + other.consequent
+        );
+    }
+
     @Override
     public Double value() {
         final double ratio;
@@ -41,4 +64,11 @@ public final class Ratio implements Metric<Double> {
         }
         return ratio;
     }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("ratio", this.value());
+        return fields;
+    }
 }
@@ -4,16 +4,31 @@
  */
 package com.github.fabriciofx.shah.metric;
 
+import com.github.fabriciofx.shah.Mergeable;
 import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Summarized;
+import java.io.Serializable;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Ratios.
+ *
+ * <p>Ratios can be merged by appending the ratios of the other one to
+ * the ratios of this one.</p>
+ *
  * @since 0.0.1
  */
-public final class Ratios implements Metric<List<Ratio>> {
+public final class Ratios implements Metric<List<Ratio>>,
+    Mergeable<Ratios>, Summarized, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * List of Ratio.
      */
@@ -42,6 +57,13 @@ public final class Ratios implements Metric<List<Ratio>> {
         this.items.add(ratio);
     }
 
+    @Override
+    public Ratios merge(final Ratios other) {
+        final List<Ratio> all = new LinkedList<>(this.items);
+        all.addAll(other.items);
+        return new Ratios(all);
+    }
+
     @Override
     public List<Ratio> value() {
         return Collections.unmodifiableList(this.items);
@@ -61,4 +83,11 @@ public final class Ratios implements Metric<List<Ratio>> {
         }
         return worst;
     }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("ratio", this.worst().value());
+        return fields;
+    }
 }
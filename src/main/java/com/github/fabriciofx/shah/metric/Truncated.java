@@ -0,0 +1,364 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.metric;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Mergeable;
+import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Summarized;
+import com.github.fabriciofx.shah.hashes.Column;
+import com.github.fabriciofx.shah.scalar.Cached;
+import com.github.fabriciofx.shah.stat.Occupancy;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Truncated collisions metric from SMHasher.
+ *
+ * <p>Count the exact {@link Collisions} of the low and of the high
+ * {@code w} bits of the hashes, for several widths {@code w}, as a hash
+ * table indexed by a part of the hash would see them. They are named
+ * {@code low-w} and {@code high-w}, and their ratios are taken against the
+ * {@link Occupancy} of {@code 2^w} values, which stays right when the
+ * hashes fill them.</p>
+ *
+ * <p>Each end of the hash is sorted once for all the widths: the low end
+ * bit-reversed, so that hashes sharing their low {@code w} bits are next
+ * to each other for every {@code w}. The number of leading bits shared by
+ * two neighbours tells at once at which widths they collide. The 64 bits
+ * of each end are kept in a single {@code long} array, reused by both
+ * ends. The hashes of a {@link Column} are read into a single buffer, so
+ * no hash is created.</p>
+ *
+ * <p>Truncated collisions of independent trials can be merged slice by
+ * slice, like {@link Collisions}. They are serialized as the collisions of
+ * each slice.</p>
+ *
+ * @see <a href="https://github.com/aappleby/smhasher">SMHasher</a>
+ * @since 0.0.1
+ */
+public final class Truncated implements Metric<Map<String, Collisions>>,
+    Mergeable<Truncated>, Summarized, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Collisions of each slice, by name.
+     */
+    private final transient Scalar<Map<String, Collisions>> slices;
+
+    /**
+     * Ctor with the widths of 16, 20, 24 and 32 bits.
+     * @param hashes The hashes
+     */
+    public Truncated(final Hashes hashes) {
+        this(hashes, 16, 20, 24, 32);
+    }
+
+    /**
+     * Ctor.
+     * @param hashes The hashes
+     * @param widths Widths of the slices in bits, up to 64 and to the width
+     *  of the hashes
+     */
+    public Truncated(final Hashes hashes, final int... widths) {
+        this(
+            new Cached<>(
+                () -> Truncated.slices(
+                    hashes.count(),
+                    hashes.item(0).bits(),
+                    Truncated.ends(hashes),
+                    widths
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor with the widths of 16, 20, 24 and 32 bits.
+     * @param hashes The hashes
+     */
+    public Truncated(final Column hashes) {
+        this(hashes, 16, 20, 24, 32);
+    }
+
+    /**
+     * Ctor.
+     * @param hashes The hashes
+     * @param widths Widths of the slices in bits, up to 64 and to the width
+     *  of the hashes
+     */
+    public Truncated(final Column hashes, final int... widths) {
+        this(
+            new Cached<>(
+                () -> Truncated.slices(
+                    hashes.count(),
+                    hashes.bits(),
+                    Truncated.ends(hashes),
+                    widths
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param slices Collisions of each slice, by name
+     */
+    private Truncated(final Scalar<Map<String, Collisions>> slices) {
+        this.slices = slices;
+    }
+
+    @Override
+    public Truncated merge(final Truncated other) {
+        return new Truncated(
+            new Cached<>(
+                () -> {
+                    final Map<String, Collisions> merged =
+                        new LinkedHashMap<>(this.slices.value());
+                    other.slices.value().forEach(
+                        (name, colls) -> merged.merge(
+                            name,
+                            colls,
+                            Collisions::merge
+                        )
+                    );
+                    return merged;
+                }
+            )
+        );
+    }
+
+    @Override
+    public Map<String, Collisions> value() {
+        return Collections.unmodifiableMap(this.slices.value());
+    }
+
+    /**
+     * Compute the worst collision ratio of the slices.
+     * @return The worst ratio
+     */
+    public Ratio worst() {
+        Ratio worst = new Ratio(0.0, 1.0);
+        for (final Collisions colls : this.slices.value().values()) {
+            final Ratio ratio = colls.ratio();
+            if (ratio.value() > worst.value()) {
+                worst = ratio;
+            }
+        }
+        return worst;
+    }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("ratio", this.worst().value());
+        final Map<String, Object> slices = new LinkedHashMap<>();
+        this.value().forEach(
+            (name, colls) -> slices.put(name, colls.summary())
+        );
+        fields.put("slices", slices);
+        return fields;
+    }
+
+    /**
+     * Count the collisions of the slices.
+     * @param count Number of hashes
+     * @param bits Width of the hashes in bits
+     * @param ends Fill the column with an end of each hash, the low one or
+     *  the high one
+     * @param widths Widths of the slices in bits
+     * @return The collisions of each slice, by name
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static Map<String, Collisions> slices(
+        final int count,
+        final int bits,
+        final BiConsumer<Boolean, long[]> ends,
+        final int... widths
+    ) {
+        for (final int width : widths) {
+            if (width <= 0 || width > Math.min(bits, Long.SIZE)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't truncate %d-bit hashes to %d bits",
+                        bits,
+                        width
+                    )
+                );
+            }
+        }
+        final long[] column = new long[count];
+        final Map<String, Collisions> slices = new LinkedHashMap<>();
+        for (final boolean low : new boolean[]{true, false}) {
+            ends.accept(low, column);
+            final int[] shared = Truncated.shared(column);
+            for (final int width : widths) {
+                int collisions = 0;
+                for (int prefix = width; prefix <= Long.SIZE; ++prefix) {
+                    collisions += shared[prefix];
+                }
+                final String name;
+                if (low) {
+                    name = String.format("low-%d", width);
+                } else {
+                    name = String.format("high-%d", width);
+                }
+                slices.put(
+                    name,
+                    new Collisions(
+                        collisions,
+                        new Occupancy(column.length, width)
+                    )
+                );
+            }
+        }
+        return slices;
+    }
+
+    /**
+     * Fill a column with an end of each hash.
+     * @param hashes The hashes
+     * @return Fill the column with the low end, or the high one
+     */
+    private static BiConsumer<Boolean, long[]> ends(final Hashes hashes) {
+        return (low, column) -> {
+            int idx = 0;
+            for (final Hash hash : hashes) {
+                column[idx] = Truncated.end(hash.asBytes(), low);
+                ++idx;
+            }
+        };
+    }
+
+    /**
+     * Fill a column with an end of each hash, read into a single buffer.
+     * @param hashes The hashes
+     * @return Fill the column with the low end, or the high one
+     */
+    private static BiConsumer<Boolean, long[]> ends(final Column hashes) {
+        return (low, column) -> {
+            final byte[] bytes = new byte[hashes.bits() / Byte.SIZE];
+            for (int idx = 0; idx < column.length; ++idx) {
+                hashes.read(idx, bytes);
+                column[idx] = Truncated.end(bytes, low);
+            }
+        };
+    }
+
+    /**
+     * Take up to 64 bits of an end of a hash, its first bit as the most
+     * significant one: the lowest bit for the low end, the highest bit for
+     * the high end.
+     * @param bytes The bytes of the hash, little-endian
+     * @param low Whether to take the low end
+     * @return The bits
+     */
+    private static long end(final byte[] bytes, final boolean low) {
+        final int size = Math.min(bytes.length, Long.BYTES);
+        final int from;
+        if (low) {
+            from = 0;
+        } else {
+            from = bytes.length - size;
+        }
+        long value = 0L;
+        for (int idx = size - 1; idx >= 0; --idx) {
+            value = (value << Byte.SIZE) | (bytes[from + idx] & 0xFFL);
+        }
+        final long bits;
+        if (low) {
+            bits = Long.reverse(value);
+        } else {
+            bits = value << (Long.SIZE - size * Byte.SIZE);
+        }
+        return bits;
+    }
+
+    /**
+     * Sort the column and count the neighbours by the number of leading
+     * bits they share. The count of neighbours sharing at least {@code w}
+     * bits is the number of collisions of the first {@code w} bits. The
+     * signed order of the values keeps those sharing leading bits together
+     * as well as the unsigned one.
+     * @param column The column, sorted in place
+     * @return The number of neighbours sharing each number of bits, from 0
+     *  to 64
+     */
+    private static int[] shared(final long... column) {
+        Arrays.sort(column);
+        final int[] counts = new int[Long.SIZE + 1];
+        for (int idx = 1; idx < column.length; ++idx) {
+            counts[
+                Long.numberOfLeadingZeros(column[idx] ^ column[idx - 1])
+            ] += 1;
+        }
+        return counts;
+    }
+
+    /**
+     * Replace by the collisions of the slices when serialized.
+     * @return The computed slices
+     */
+    private Object writeReplace() {
+        return new Truncated.Computed(
+            new LinkedHashMap<>(this.slices.value())
+        );
+    }
+
+    /**
+     * Reject a direct serialized form, which is never written.
+     * @param input Input stream
+     * @throws InvalidObjectException Always
+     */
+    private void readObject(final ObjectInputStream input)
+        throws InvalidObjectException {
+        throw new InvalidObjectException("Computed form required");
+    }
+
+    /**
+     * Serialized form of the truncated collisions: the collisions of each
+     * slice.
+     * @since 0.0.1
+     */
+    private static final class Computed implements Serializable {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Collisions of each slice, by name.
+         */
+        private final LinkedHashMap<String, Collisions> slices;
+
+        /**
+         * Ctor.
+         * @param slices Collisions of each slice, by name
+         */
+        Computed(final LinkedHashMap<String, Collisions> slices) {
+            this.slices = slices;
+        }
+
+        /**
+         * Restore the truncated collisions.
+         * @return The truncated collisions
+         */
+        private Object readResolve() {
+            final Map<String, Collisions> all = this.slices;
+            return new Truncated(() -> all);
+        }
+    }
+}
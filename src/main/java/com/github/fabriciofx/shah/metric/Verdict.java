@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.metric;
+
+import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Summarized;
+import com.github.fabriciofx.shah.report.Summary;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verdict.
+ *
+ * <p>A metric judged against the pass threshold of its test: the number
+ * that tells the outcome of the metric, e.g. a collision ratio or a bias,
+ * must be below the threshold. A score that is not a number fails. It is
+ * serializable when its metric is.</p>
+ *
+ * @param <T> Type of the metric
+ * @since 0.0.1
+ */
+public final class Verdict<T> implements Metric<T>, Summarized,
+    Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Metric.
+     */
+    private final T metric;
+
+    /**
+     * Score of the metric.
+     */
+    private final double points;
+
+    /**
+     * Pass threshold of the score.
+     */
+    private final double threshold;
+
+    /**
+     * Ctor.
+     * @param metric Metric
+     * @param score Score of the metric
+     * @param limit Pass threshold of the score
+     */
+    public Verdict(final T metric, final double score, final double limit) {
+        this.metric = metric;
+        this.points = score;
+        this.threshold = limit;
+    }
+
+    @Override
+    public T value() {
+        return this.metric;
+    }
+
+    /**
+     * Score of the metric.
+     * @return The score
+     */
+    public double score() {
+        return this.points;
+    }
+
+    /**
+     * Pass threshold of the score.
+     * @return The threshold
+     */
+    public double limit() {
+        return this.threshold;
+    }
+
+    /**
+     * Whether the score is below the threshold.
+     * @return True if the metric passes
+     */
+    public boolean passed() {
+        return this.points < this.threshold;
+    }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>(
+            new Summary(this.metric).value()
+        );
+        fields.put("score", this.points);
+        fields.put("limit", this.threshold);
+        fields.put("pass", this.passed());
+        return fields;
+    }
+}
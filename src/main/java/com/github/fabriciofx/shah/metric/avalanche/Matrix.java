@@ -4,9 +4,14 @@
  */
 package com.github.fabriciofx.shah.metric.avalanche;
 
+import com.github.fabriciofx.shah.Mergeable;
 import com.github.fabriciofx.shah.Metric;
 import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Summarized;
 import com.github.fabriciofx.shah.scalar.Cached;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Avalanche matrix.
@@ -24,20 +29,39 @@ import com.github.fabriciofx.shah.scalar.Cached;
  * that flipping any single input bit causes each output bit to change with
  * equal probability.<p>
  *
+ * <p>Matrices of disjoint sets of repetitions can be merged by adding their
+ * flips and repetitions.</p>
+ *
  * @since 0.0.1
  * @checkstyle NestedForDepthCheck (100 lines)
  * @checkstyle ParameterNumberCheck (100 lines)
  */
-public final class Matrix implements Metric<double[][]> {
+public final class Matrix implements Metric<double[][]>, Mergeable<Matrix>,
+    Summarized, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Threshold of 50%.
      */
     private static final double DEFAULT_THRESHOLD = 0.50;
 
+    /**
+     * Number of repetitions.
+     */
+    private final int repetitions;
+
+    /**
+     * Flips matrix.
+     */
+    private final int[][] flips;
+
     /**
      * Probabilities matrix.
      */
-    private final Scalar<double[][]> probs;
+    private final transient Scalar<double[][]> probs;
 
     /**
      * Ctor.
@@ -45,6 +69,8 @@ public final class Matrix implements Metric<double[][]> {
      * @param flips Flips matrix
      */
     public Matrix(final int repetitions, final int[]... flips) {
+        this.repetitions = repetitions;
+        this.flips = flips;
         this.probs = new Cached<>(
             () -> {
                 final double[][] matrix =
@@ -60,6 +86,37 @@ public final class Matrix implements Metric<double[][]> {
         );
     }
 
+    /**
+     * Number of times each output bit flipped for each flipped input bit.
+     * @return A copy of the flips matrix
+     */
+    public int[][] flips() {
+        final int[][] copy = new int[this.flips.length][];
+        for (int row = 0; row < this.flips.length; ++row) {
+            copy[row] = this.flips[row].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Number of repetitions.
+     * @return The number of repetitions
+     */
+    public int repetitions() {
+        return this.repetitions;
+    }
+
+    @Override
+    public Matrix merge(final Matrix other) {
+        final int[][] sum = this.flips();
+        for (int row = 0; row < sum.length; ++row) {
+            for (int column = 0; column < sum[row].length; ++column) {
+                sum[row][column] += other.flips[row][column];
+            }
+        }
+        return new Matrix(this.repetitions + other.repetitions, sum);
+    }
+
     @Override
     public double[][] value() {
         return this.probs.value();
@@ -97,4 +154,20 @@ public final class Matrix implements Metric<double[][]> {
     public Bias bias() {
         return new Bias(this.value());
     }
+
+    @Override
+    public Map<String, Object> summary() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("bias", this.bias().max());
+        fields.put("repetitions", this.repetitions());
+        return fields;
+    }
+
+    /**
+     * Restore the probabilities matrix once deserialized.
+     * @return A matrix of the same flips and repetitions
+     */
+    private Object readResolve() {
+        return new Matrix(this.repetitions, this.flips);
+    }
 }
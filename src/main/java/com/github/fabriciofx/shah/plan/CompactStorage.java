@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Footprint;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.hashes.Compact;
+
+/**
+ * Compact storage.
+ *
+ * <p>Hold the hashes as their bytes in a single array, so they take only
+ * their width. The hash objects are created again to sort a set of
+ * hashes.</p>
+ *
+ * @since 0.0.1
+ */
+public final class CompactStorage implements Storage {
+    @Override
+    public Hashes apply(final int capacity) {
+        return new Compact(capacity);
+    }
+
+    @Override
+    public String name() {
+        return "compact";
+    }
+
+    @Override
+    public long held(final Footprint footprint) {
+        return footprint.hashes() * footprint.width();
+    }
+
+    @Override
+    public long sorting(final Footprint footprint) {
+        final HeapStorage heap = new HeapStorage();
+        return heap.objects(footprint.sorted(), footprint.width())
+            + heap.sorting(footprint);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Footprint;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.hashes.Spilled;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Disk storage.
+ *
+ * <p>Hold the hashes as their bytes in temporary files, so they take only
+ * the write buffer of each set of hashes until a set is sorted, when its
+ * hash objects are created again.</p>
+ *
+ * <p>The storage keeps the sets it creates, so {@link #close()} deletes
+ * their files once the tests using it are done.</p>
+ *
+ * @since 0.0.1
+ */
+public final class DiskStorage implements Storage, AutoCloseable {
+    /**
+     * Bytes of the write buffer of a set of hashes, at most.
+     */
+    private static final long BUFFER = 1L << 17;
+
+    /**
+     * Sets of hashes created and not closed yet.
+     */
+    private final List<Spilled> sets;
+
+    /**
+     * Ctor.
+     */
+    public DiskStorage() {
+        this.sets = new ArrayList<>(0);
+    }
+
+    @Override
+    public synchronized Hashes apply(final int capacity) {
+        final Spilled set = new Spilled();
+        this.sets.add(set);
+        return set;
+    }
+
+    /**
+     * Close all the sets of hashes created, deleting their files.
+     */
+    @Override
+    public synchronized void close() {
+        for (final Spilled set : this.sets) {
+            set.close();
+        }
+        this.sets.clear();
+    }
+
+    @Override
+    public String name() {
+        return "disk";
+    }
+
+    @Override
+    public long held(final Footprint footprint) {
+        final long sets = (footprint.hashes() + footprint.sorted() - 1L)
+            / Math.max(1L, footprint.sorted());
+        return Math.min(
+            sets * DiskStorage.BUFFER,
+            new CompactStorage().held(footprint)
+        );
+    }
+
+    @Override
+    public long sorting(final Footprint footprint) {
+        return new CompactStorage().sorting(footprint);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Footprint;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.hashes.HashesOf;
+import java.util.ArrayList;
+
+/**
+ * Heap storage.
+ *
+ * <p>Hold the hashes as objects in a list, the fastest and largest storage.
+ * A hash object takes a 12-byte header plus its value, aligned to 8 bytes,
+ * and the 128 and 256-bit hashes hold their value in an array of longs with
+ * a header of its own; each one is referenced from the list.</p>
+ *
+ * @since 0.0.1
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+public final class HeapStorage implements Storage {
+    @Override
+    public Hashes apply(final int capacity) {
+        return new HashesOf(new ArrayList<>(capacity));
+    }
+
+    @Override
+    public String name() {
+        return "heap";
+    }
+
+    @Override
+    public long held(final Footprint footprint) {
+        return this.objects(footprint.hashes(), footprint.width());
+    }
+
+    @Override
+    public long sorting(final Footprint footprint) {
+        return footprint.sorted() * 2L * Long.BYTES;
+    }
+
+    /**
+     * Bytes of hash objects and their references.
+     * @param hashes Number of hashes
+     * @param width Width of the hashes in bytes
+     * @return The number of bytes
+     */
+    long objects(final long hashes, final int width) {
+        final long object;
+        if (width <= Long.BYTES) {
+            object = HeapStorage.aligned(12L + width);
+        } else {
+            object = 16L + HeapStorage.aligned(16L + width);
+        }
+        return hashes * (object + Long.BYTES);
+    }
+
+    /**
+     * Align a number of bytes to 8 bytes, like the JVM does with objects.
+     * @param bytes Number of bytes
+     * @return The aligned number of bytes
+     */
+    private static long aligned(final long bytes) {
+        return (bytes + 7L) & -8L;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.runner.Serial;
+
+/**
+ * Plan.
+ *
+ * <p>The storage and the number of threads chosen by a {@link Planner} for
+ * a test, and the memory they are estimated to take.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Plan {
+    /**
+     * Storage of the hashes.
+     */
+    private final Storage store;
+
+    /**
+     * Number of threads.
+     */
+    private final int workers;
+
+    /**
+     * Estimated peak memory in bytes.
+     */
+    private final long peak;
+
+    /**
+     * Ctor.
+     * @param storage Storage of the hashes
+     * @param threads Number of threads
+     * @param bytes Estimated peak memory in bytes
+     */
+    public Plan(final Storage storage, final int threads, final long bytes) {
+        this.store = storage;
+        this.workers = threads;
+        this.peak = bytes;
+    }
+
+    /**
+     * Storage of the hashes.
+     * @return The storage
+     */
+    public Storage storage() {
+        return this.store;
+    }
+
+    /**
+     * Number of threads.
+     * @return The number of threads
+     */
+    public int threads() {
+        return this.workers;
+    }
+
+    /**
+     * Runner with the planned number of threads.
+     * @return The runner
+     */
+    public Runner runner() {
+        final Runner runner;
+        if (this.workers > 1) {
+            runner = new Parallel(this.workers);
+        } else {
+            runner = new Serial();
+        }
+        return runner;
+    }
+
+    /**
+     * Estimated peak memory.
+     * @return The number of bytes
+     */
+    public long bytes() {
+        return this.peak;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s storage, %d thread(s), %d bytes",
+            this.store.name(),
+            this.workers,
+            this.peak
+        );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Footprint;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Planner.
+ *
+ * <p>Choose how to run a test within a memory budget, from its
+ * {@link Footprint}. The storages are tried from the fastest to the
+ * smallest (heap, compact, disk) and, for the first one that fits, the
+ * largest number of threads that still fits is chosen. A test that does
+ * not fit even on disk with a single thread is rejected before it
+ * runs.</p>
+ *
+ * <p>The estimated peak is the hashes held by the storage, the sorting of
+ * the largest set of hashes, the counters and the chunks in flight, two
+ * per thread.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Planner {
+    /**
+     * Memory budget in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Maximum number of threads.
+     */
+    private final int threads;
+
+    /**
+     * Storages, from the fastest to the smallest.
+     */
+    private final List<Storage> storages;
+
+    /**
+     * Ctor with three quarters of the maximum heap as budget.
+     */
+    public Planner() {
+        this(Runtime.getRuntime().maxMemory() / 4L * 3L);
+    }
+
+    /**
+     * Ctor with one thread per available processor at most.
+     * @param budget Memory budget in bytes
+     */
+    public Planner(final long budget) {
+        this(budget, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param budget Memory budget in bytes
+     * @param threads Maximum number of threads
+     */
+    public Planner(final long budget, final int threads) {
+        this(
+            budget,
+            threads,
+            new HeapStorage(),
+            new CompactStorage(),
+            new DiskStorage()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param budget Memory budget in bytes
+     * @param threads Maximum number of threads
+     * @param storages Storages, from the fastest to the smallest
+     */
+    public Planner(
+        final long budget,
+        final int threads,
+        final Storage... storages
+    ) {
+        this.budget = budget;
+        this.threads = threads;
+        this.storages = Arrays.asList(storages);
+    }
+
+    /**
+     * Plan a test.
+     * @param footprint Footprint of the test
+     * @return The plan
+     * @throws IllegalStateException If the test does not fit in the budget
+     */
+    public Plan plan(final Footprint footprint) {
+        Plan chosen = null;
+        long least = Long.MAX_VALUE;
+        final Iterator<Storage> iter = this.storages.iterator();
+        while (chosen == null && iter.hasNext()) {
+            final Storage storage = iter.next();
+            final long fixed = storage.held(footprint)
+                + storage.sorting(footprint)
+                + footprint.counters();
+            int count = Math.max(1, this.threads);
+            while (chosen == null && count > 0) {
+                final long peak = fixed + 2L * count * footprint.chunk();
+                if (peak <= this.budget) {
+                    chosen = new Plan(storage, count, peak);
+                }
+                least = Math.min(least, peak);
+                --count;
+            }
+        }
+        if (chosen == null) {
+            throw new IllegalStateException(
+                String.format(
+                    "Test needs at least %d bytes but the budget is %d bytes",
+                    least,
+                    this.budget
+                )
+            );
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Footprint;
+import com.github.fabriciofx.shah.Hashes;
+import java.util.function.IntFunction;
+
+/**
+ * Storage.
+ *
+ * <p>A way to hold the hashes of a test, creating an empty collection of
+ * hashes for an expected number of hashes, and the memory it takes.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Storage extends IntFunction<Hashes> {
+    /**
+     * Name of the storage.
+     * @return The name
+     */
+    String name();
+
+    /**
+     * Bytes of the hashes held by a test.
+     * @param footprint Footprint of the test
+     * @return The number of bytes
+     */
+    long held(Footprint footprint);
+
+    /**
+     * Bytes needed to sort the largest set of hashes of a test.
+     * @param footprint Footprint of the test
+     * @return The number of bytes
+     */
+    long sorting(Footprint footprint);
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.profile;
+
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.stat.SampleSize;
+
+/**
+ * Calibrated profile.
+ *
+ * <p>A profile defined by the smallest bias it detects. The sample sizes
+ * are scaled by the ratio between the {@link SampleSize} needed to detect
+ * this bias and the one needed to detect the bias of the standard profile,
+ * 0.5%.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Calibrated implements Profile {
+    /**
+     * Bias detected by the standard profile.
+     */
+    private static final double STANDARD = 0.005;
+
+    /**
+     * Name.
+     */
+    private final String label;
+
+    /**
+     * Bias to detect.
+     */
+    private final double bias;
+
+    /**
+     * Ctor.
+     * @param name Name of the profile
+     * @param bias Smallest bias to detect
+     */
+    public Calibrated(final String name, final double bias) {
+        this.label = name;
+        this.bias = bias;
+    }
+
+    @Override
+    public String name() {
+        return this.label;
+    }
+
+    @Override
+    public int samples(final int standard) {
+        final double scale = new SampleSize(this.bias).value()
+            / new SampleSize(Calibrated.STANDARD).value();
+        return (int) Math.max(
+            1L,
+            Math.min(Integer.MAX_VALUE, Math.round(standard * scale))
+        );
+    }
+}
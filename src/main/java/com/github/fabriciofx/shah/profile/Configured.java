@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.profile;
+
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.scalar.Cached;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configured profile.
+ *
+ * <p>The profile named by the {@code shah.profile} system property
+ * ({@code quick}, {@code standard} or {@code thorough}), or the standard
+ * profile if the property is not set. It is the single setting that
+ * scales the default sample sizes of all tests, e.g.
+ * {@code -Dshah.profile=quick}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Configured implements Profile {
+    /**
+     * System property naming the profile.
+     */
+    private static final String PROPERTY = "shah.profile";
+
+    /**
+     * Chosen profile.
+     */
+    private final Scalar<Profile> origin;
+
+    /**
+     * Ctor.
+     */
+    public Configured() {
+        this(
+            System.getProperty(Configured.PROPERTY, "standard"),
+            new Quick(),
+            new Standard(),
+            new Thorough()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the profile
+     * @param profiles Available profiles
+     */
+    public Configured(final String name, final Profile... profiles) {
+        final List<Profile> all = Arrays.asList(profiles);
+        this.origin = new Cached<>(
+            () -> all.stream()
+                .filter(profile -> profile.name().equals(name))
+                .findFirst()
+                .orElseThrow(
+                    () -> new IllegalArgumentException(
+                        String.format("Unknown profile '%s'", name)
+                    )
+                )
+        );
+    }
+
+    @Override
+    public String name() {
+        return this.origin.value().name();
+    }
+
+    @Override
+    public int samples(final int standard) {
+        return this.origin.value().samples(standard);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.profile;
+
+import com.github.fabriciofx.shah.Profile;
+
+/**
+ * Quick profile.
+ *
+ * <p>Detect a bias of 2%, with a sixteenth of the standard samples, for a check
+ * before a merge.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Quick implements Profile {
+    /**
+     * Calibrated profile.
+     */
+    private final Profile origin;
+
+    /**
+     * Ctor.
+     */
+    public Quick() {
+        this.origin = new Calibrated("quick", 0.02);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public int samples(final int standard) {
+        return this.origin.samples(standard);
+    }
+}
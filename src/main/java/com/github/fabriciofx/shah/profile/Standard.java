@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.profile;
+
+import com.github.fabriciofx.shah.Profile;
+
+/**
+ * Standard profile.
+ *
+ * <p>Detect a bias of 0.5%, with the sample sizes given by the tests.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Standard implements Profile {
+    /**
+     * Calibrated profile.
+     */
+    private final Profile origin;
+
+    /**
+     * Ctor.
+     */
+    public Standard() {
+        this.origin = new Calibrated("standard", 0.005);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public int samples(final int standard) {
+        return this.origin.samples(standard);
+    }
+}
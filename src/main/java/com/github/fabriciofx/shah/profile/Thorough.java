@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.profile;
+
+import com.github.fabriciofx.shah.Profile;
+
+/**
+ * Thorough profile.
+ *
+ * <p>Detect a bias of 0.125%, with sixteen times the standard samples, for a
+ * nightly qualification.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Thorough implements Profile {
+    /**
+     * Calibrated profile.
+     */
+    private final Profile origin;
+
+    /**
+     * Ctor.
+     */
+    public Thorough() {
+        this.origin = new Calibrated("thorough", 0.001_25);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public int samples(final int standard) {
+        return this.origin.samples(standard);
+    }
+}
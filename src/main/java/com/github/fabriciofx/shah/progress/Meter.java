@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+import com.github.fabriciofx.shah.Listener;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meter.
+ *
+ * <p>A listener that keeps the progress of the current phase: the units
+ * and bytes processed, their rates since the phase has started and the
+ * estimated time left. It can be read from any thread while the test
+ * runs.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Meter implements Listener {
+    /**
+     * Nanoseconds per second.
+     */
+    private static final double NANOS = 1.0e9;
+
+    /**
+     * Units processed in the current phase.
+     */
+    private final AtomicLong units;
+
+    /**
+     * Bytes processed in the current phase.
+     */
+    private final AtomicLong bytes;
+
+    /**
+     * Name of the current phase.
+     */
+    private volatile String name;
+
+    /**
+     * Number of units of the current phase.
+     */
+    private volatile long total;
+
+    /**
+     * Start of the current phase, in nanoseconds.
+     */
+    private volatile long start;
+
+    /**
+     * Ctor.
+     */
+    public Meter() {
+        this.units = new AtomicLong();
+        this.bytes = new AtomicLong();
+        this.name = "idle";
+        this.total = 0L;
+        this.start = System.nanoTime();
+    }
+
+    @Override
+    public void phase(final String phase, final long count) {
+        this.name = phase;
+        this.total = count;
+        this.units.set(0L);
+        this.bytes.set(0L);
+        this.start = System.nanoTime();
+    }
+
+    @Override
+    public void advance(final long processed, final long size) {
+        this.units.addAndGet(processed);
+        this.bytes.addAndGet(size);
+    }
+
+    /**
+     * Name of the current phase.
+     * @return The name
+     */
+    public String current() {
+        return this.name;
+    }
+
+    /**
+     * Units processed in the current phase.
+     * @return The number of units
+     */
+    public long done() {
+        return this.units.get();
+    }
+
+    /**
+     * Number of units of the current phase.
+     * @return The number of units, or zero if unknown
+     */
+    public long total() {
+        return this.total;
+    }
+
+    /**
+     * Units processed per second in the current phase.
+     * @return The rate
+     */
+    public double rate() {
+        return this.units.get() / this.elapsed();
+    }
+
+    /**
+     * Bytes processed per second in the current phase.
+     * @return The rate
+     */
+    public double throughput() {
+        return this.bytes.get() / this.elapsed();
+    }
+
+    /**
+     * Estimated time left in the current phase.
+     * @return The time left, or {@link Duration#ZERO} if it can't be
+     *  estimated yet
+     */
+    public Duration eta() {
+        final double rate = this.rate();
+        final long left = this.total - this.units.get();
+        Duration eta = Duration.ZERO;
+        if (rate > 0.0 && left > 0L) {
+            eta = Duration.ofNanos((long) (left / rate * Meter.NANOS));
+        }
+        return eta;
+    }
+
+    /**
+     * Seconds since the start of the current phase.
+     * @return The seconds, never zero
+     */
+    private double elapsed() {
+        return Math.max(1L, System.nanoTime() - this.start) / Meter.NANOS;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+/**
+ * Progress.
+ *
+ * <p>The {@link ProgressMBean} of a {@link Meter}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Progress implements ProgressMBean {
+    /**
+     * Meter.
+     */
+    private final Meter meter;
+
+    /**
+     * Ctor.
+     * @param meter Meter
+     */
+    public Progress(final Meter meter) {
+        this.meter = meter;
+    }
+
+    @Override
+    public String getPhase() {
+        return this.meter.current();
+    }
+
+    @Override
+    public long getKeys() {
+        return this.meter.done();
+    }
+
+    @Override
+    public long getTotal() {
+        return this.meter.total();
+    }
+
+    @Override
+    public double getHashesPerSecond() {
+        return this.meter.rate();
+    }
+
+    @Override
+    public double getBytesPerSecond() {
+        return this.meter.throughput();
+    }
+
+    @Override
+    public long getEtaSeconds() {
+        return this.meter.eta().toSeconds();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+/**
+ * Progress MBean.
+ *
+ * <p>The attributes of a running test shown by JMX clients like
+ * jconsole.</p>
+ *
+ * @since 0.0.1
+ */
+public interface ProgressMBean {
+    /**
+     * Name of the current phase.
+     * @return The name
+     */
+    String getPhase();
+
+    /**
+     * Keys processed in the current phase.
+     * @return The number of keys
+     */
+    long getKeys();
+
+    /**
+     * Number of keys of the current phase.
+     * @return The number of keys, or zero if unknown
+     */
+    long getTotal();
+
+    /**
+     * Keys hashed per second in the current phase.
+     * @return The rate
+     */
+    double getHashesPerSecond();
+
+    /**
+     * Bytes hashed per second in the current phase.
+     * @return The rate
+     */
+    double getBytesPerSecond();
+
+    /**
+     * Estimated seconds left in the current phase.
+     * @return The seconds, or zero if they can't be estimated yet
+     */
+    long getEtaSeconds();
+}
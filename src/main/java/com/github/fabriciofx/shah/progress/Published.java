@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+import com.github.fabriciofx.shah.Listener;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Published.
+ *
+ * <p>A listener that publishes the progress of a test as a JMX MBean named
+ * {@code com.github.fabriciofx.shah:type=Progress,name="<name>"}, so that a
+ * running suite can be watched with jconsole. The MBean is registered when
+ * the test enters its first phase and unregistered on {@link #close()}.
+ * </p>
+ *
+ * @since 0.0.1
+ */
+public final class Published implements Listener, AutoCloseable {
+    /**
+     * Name of the MBean.
+     */
+    private final String name;
+
+    /**
+     * Meter of the progress.
+     */
+    private final Meter meter;
+
+    /**
+     * MBean server.
+     */
+    private final MBeanServer server;
+
+    /**
+     * Whether the MBean is registered.
+     */
+    private final AtomicBoolean registered;
+
+    /**
+     * Ctor.
+     * @param name Name of the MBean, e.g. the name of the test
+     */
+    public Published(final String name) {
+        this(name, new Meter(), ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the MBean, e.g. the name of the test
+     * @param meter Meter of the progress
+     * @param server MBean server
+     */
+    public Published(
+        final String name,
+        final Meter meter,
+        final MBeanServer server
+    ) {
+        this.name = name;
+        this.meter = meter;
+        this.server = server;
+        this.registered = new AtomicBoolean();
+    }
+
+    @Override
+    public void phase(final String phase, final long total) {
+        if (this.registered.compareAndSet(false, true)) {
+            try {
+                this.server.registerMBean(
+                    new Progress(this.meter),
+                    this.object()
+                );
+            } catch (final JMException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't publish progress of %s", this.name),
+                    ex
+                );
+            }
+        }
+        this.meter.phase(phase, total);
+    }
+
+    @Override
+    public void advance(final long units, final long bytes) {
+        this.meter.advance(units, bytes);
+    }
+
+    @Override
+    public void close() {
+        if (this.registered.compareAndSet(true, false)) {
+            try {
+                this.server.unregisterMBean(this.object());
+            } catch (final InstanceNotFoundException ex) {
+                // Already unregistered by someone else.
+            } catch (final JMException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't withdraw progress of %s", this.name),
+                    ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Object name of the MBean.
+     * @return The object name
+     * @throws JMException If the name is malformed
+     */
+    private ObjectName object() throws JMException {
+        return new ObjectName(
+            String.format(
+                "com.github.fabriciofx.shah:type=Progress,name=%s",
+                ObjectName.quote(this.name)
+            )
+        );
+    }
+}
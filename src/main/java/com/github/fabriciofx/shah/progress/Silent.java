@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+import com.github.fabriciofx.shah.Listener;
+
+/**
+ * Silent.
+ *
+ * <p>A listener that ignores the progress. It is the listener of the tests
+ * when none is given.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Silent implements Listener {
+    @Override
+    public void phase(final String name, final long total) {
+        // Nothing to follow.
+    }
+
+    @Override
+    public void advance(final long units, final long bytes) {
+        // Nothing to follow.
+    }
+}
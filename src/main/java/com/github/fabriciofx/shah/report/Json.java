@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import com.github.fabriciofx.shah.Scalar;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Json.
+ *
+ * <p>A value as a JSON text on a single line. Maps become objects, lists
+ * become arrays, numbers and booleans are kept, and any other value
+ * becomes a string. Not a number and infinite doubles become
+ * {@code null}, as JSON has no literal for them.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Json implements Scalar<String> {
+    /**
+     * The value.
+     */
+    private final Object json;
+
+    /**
+     * Ctor.
+     * @param value The value
+     */
+    public Json(final Object value) {
+        this.json = value;
+    }
+
+    @Override
+    public String value() {
+        final StringBuilder text = new StringBuilder(64);
+        Json.append(text, this.json);
+        return text.toString();
+    }
+
+    /**
+     * Append a value.
+     * @param text The text
+     * @param value The value
+     */
+    private static void append(final StringBuilder text, final Object value) {
+        if (value instanceof Map) {
+            text.append('{');
+            String sep = "";
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                text.append(sep);
+                Json.quote(text, String.valueOf(entry.getKey()));
+                text.append(':');
+                Json.append(text, entry.getValue());
+                sep = ",";
+            }
+            text.append('}');
+        } else if (value instanceof List) {
+            text.append('[');
+            String sep = "";
+            for (final Object item : (List<?>) value) {
+                text.append(sep);
+                Json.append(text, item);
+                sep = ",";
+            }
+            text.append(']');
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if (Double.isFinite(number)) {
+                text.append(number);
+            } else {
+                text.append("null");
+            }
+        } else if (value == null || value instanceof Number
+            || value instanceof Boolean) {
+            text.append(value);
+        } else {
+            Json.quote(text, value.toString());
+        }
+    }
+
+    /**
+     * Append a string, quoted and escaped.
+     * @param text The text
+     * @param value The string
+     */
+    private static void quote(final StringBuilder text, final String value) {
+        text.append('"');
+        for (int idx = 0; idx < value.length(); ++idx) {
+            final char chr = value.charAt(idx);
+            if (chr == '"' || chr == '\\') {
+                text.append('\\').append(chr);
+            } else if (chr < ' ') {
+                text.append(String.format("\\u%04x", (int) chr));
+            } else {
+                text.append(chr);
+            }
+        }
+        text.append('"');
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * JSON Lines.
+ *
+ * <p>Write records as JSON Lines: one JSON object per line, flushed as
+ * soon as it is written, so that a file can be tailed while a suite runs
+ * and nothing is held until its end. Records may be written concurrently,
+ * e.g. by the jobs of a suite.</p>
+ *
+ * @see <a href="https://jsonlines.org">JSON Lines</a>
+ * @since 0.0.1
+ */
+public final class JsonLines implements Output {
+    /**
+     * Output.
+     */
+    private final Writer output;
+
+    /**
+     * Ctor, appending to a file.
+     * @param file The file
+     * @throws IOException If the file can't be opened
+     */
+    public JsonLines(final Path file) throws IOException {
+        this(
+            Files.newOutputStream(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output, closed by {@link #close()}
+     */
+    public JsonLines(final OutputStream output) {
+        this.output = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void write(final Map<String, Object> record) {
+        try {
+            this.output.write(new Json(record).value());
+            this.output.write('\n');
+            this.output.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.output.close();
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Output.
+ *
+ * <p>Where the records of a suite run go, one record per finished job.
+ * Records may be written concurrently.</p>
+ *
+ * @since 0.0.1
+ */
+public interface Output extends AutoCloseable {
+    /**
+     * Write a record.
+     * @param record The record fields
+     */
+    void write(Map<String, Object> record);
+
+    @Override
+    void close() throws IOException;
+}
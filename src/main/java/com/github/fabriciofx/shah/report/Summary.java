@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Summarized;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary.
+ *
+ * <p>The numbers that tell the outcome of a test metric, by name: the
+ * {@link Summarized#summary()} of a metric that summarizes itself, e.g.
+ * the collision ratio of
+ * {@link com.github.fabriciofx.shah.metric.Collisions}, and the value of
+ * the other metrics. A list of metrics gives the list of their
+ * summaries.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Summary implements Scalar<Map<String, Object>> {
+    /**
+     * The metric.
+     */
+    private final Object metric;
+
+    /**
+     * Ctor.
+     * @param metric The metric
+     */
+    public Summary(final Object metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public Map<String, Object> value() {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        if (this.metric instanceof Summarized) {
+            fields.putAll(((Summarized) this.metric).summary());
+        } else if (this.metric instanceof List) {
+            final List<Object> items = new ArrayList<>(0);
+            for (final Object item : (List<?>) this.metric) {
+                items.add(new Summary(item).value());
+            }
+            fields.put("items", items);
+        } else if (this.metric instanceof Metric) {
+            fields.put(
+                "value",
+                Summary.plain(((Metric<?>) this.metric).value())
+            );
+        } else {
+            fields.put("value", Summary.plain(this.metric));
+        }
+        return fields;
+    }
+
+    /**
+     * A value as a JSON value: numbers, booleans and null are kept, the
+     * other values become their text.
+     * @param value The value
+     * @return The JSON value
+     */
+    private static Object plain(final Object value) {
+        final Object plain;
+        if (value == null || value instanceof Number
+            || value instanceof Boolean) {
+            plain = value;
+        } else {
+            plain = String.valueOf(value);
+        }
+        return plain;
+    }
+}
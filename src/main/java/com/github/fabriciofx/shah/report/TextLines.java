@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Text lines.
+ *
+ * <p>Write records for people: one line per record with its fields as
+ * {@code name=value}, e.g.
+ * {@code job=collision millis=812 collisions=3 ratio=0.86}, flushed as
+ * soon as it is written.</p>
+ *
+ * @since 0.0.1
+ */
+public final class TextLines implements Output {
+    /**
+     * Output.
+     */
+    private final Writer output;
+
+    /**
+     * Ctor.
+     * @param output The output, closed by {@link #close()}
+     */
+    public TextLines(final OutputStream output) {
+        this.output = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void write(final Map<String, Object> record) {
+        final StringJoiner line = new StringJoiner(" ", "", "\n");
+        for (final Map.Entry<String, Object> field : record.entrySet()) {
+            line.add(String.format("%s=%s", field.getKey(), field.getValue()));
+        }
+        try {
+            this.output.write(line.toString());
+            this.output.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.output.close();
+    }
+}
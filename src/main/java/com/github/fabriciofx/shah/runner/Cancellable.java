@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.Runner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Cancellable.
+ *
+ * <p>Check a {@link Token} before each chunk. Once the token has expired,
+ * the remaining chunks are computed as empty chunks ({@code from == to}),
+ * which run at once, so every thread of a parallel runner stops after its
+ * current chunk and the result merges only the chunks done before. The
+ * units of these chunks are counted, giving the actual sample count of a
+ * partial result.</p>
+ *
+ * <p>The counts add up over all the reductions of the runner, so a runner
+ * belongs to one test run.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Cancellable implements Runner {
+    /**
+     * Cancellation token.
+     */
+    private final Token token;
+
+    /**
+     * Runner of the chunks.
+     */
+    private final Runner origin;
+
+    /**
+     * Number of units done.
+     */
+    private final AtomicLong done;
+
+    /**
+     * Number of units to do.
+     */
+    private final AtomicLong units;
+
+    /**
+     * Ctor.
+     * @param token Cancellation token
+     */
+    public Cancellable(final Token token) {
+        this(token, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param token Cancellation token
+     * @param origin Runner of the chunks
+     */
+    public Cancellable(final Token token, final Runner origin) {
+        this.token = token;
+        this.origin = origin;
+        this.done = new AtomicLong();
+        this.units = new AtomicLong();
+    }
+
+    @Override
+    public <T> T reduce(
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) {
+        this.units.addAndGet(count);
+        return this.origin.reduce(
+            count,
+            grain,
+            (from, to) -> {
+                final T part;
+                if (this.token.expired()) {
+                    part = chunk.apply(from, from);
+                } else {
+                    part = chunk.apply(from, to);
+                    this.done.addAndGet(to - from);
+                }
+                return part;
+            },
+            merge
+        );
+    }
+
+    /**
+     * Number of units done so far.
+     * @return The number of units
+     */
+    public long samples() {
+        return this.done.get();
+    }
+
+    /**
+     * Number of units to do.
+     * @return The number of units
+     */
+    public long total() {
+        return this.units.get();
+    }
+}
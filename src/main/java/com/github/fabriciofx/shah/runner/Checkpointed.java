@@ -0,0 +1,415 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Scalar;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Checkpointed.
+ *
+ * <p>Run the workload in batches of {@code every} chunks with another
+ * runner and, after each batch, append the merged result of the batch and
+ * the next unit to a checkpoint file. If the file exists when the workload
+ * starts, the run resumes from it: the results of the batches are merged
+ * again and the units already run are skipped. The file is deleted once
+ * the workload is done.</p>
+ *
+ * <p>Only the result of the new batch is written at each checkpoint, not
+ * the whole result so far, so the checkpoints of a run write each result
+ * once. A batch cut by a crash while being written is dropped when the
+ * run resumes.</p>
+ *
+ * <p>The keys of the tests are generated from their index, so the progress
+ * index is all the state needed besides the partial results. The batches
+ * start at chunk boundaries, so a resumed run gives exactly the result of
+ * an uninterrupted one. The partial results must be
+ * {@link Serializable}.</p>
+ *
+ * <p>A checkpoint file belongs to one test run, told by its identity, e.g.
+ * the {@link com.github.fabriciofx.shah.cache.Fingerprint} of the test: a
+ * run does not resume from the file of another run.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Checkpointed implements Runner {
+    /**
+     * Default number of chunks per checkpoint.
+     */
+    private static final int EVERY = 64;
+
+    /**
+     * Checkpoint file.
+     */
+    private final Path file;
+
+    /**
+     * Identity of the run.
+     */
+    private final Scalar<String> identity;
+
+    /**
+     * Number of chunks per checkpoint.
+     */
+    private final int every;
+
+    /**
+     * Runner of the batches.
+     */
+    private final Runner origin;
+
+    /**
+     * Ctor.
+     * @param file Checkpoint file
+     * @param identity Identity of the run
+     */
+    public Checkpointed(final Path file, final Scalar<String> identity) {
+        this(file, identity, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param file Checkpoint file
+     * @param identity Identity of the run
+     * @param origin Runner of the batches
+     */
+    public Checkpointed(
+        final Path file,
+        final Scalar<String> identity,
+        final Runner origin
+    ) {
+        this(file, identity, Checkpointed.EVERY, origin);
+    }
+
+    /**
+     * Ctor.
+     * @param file Checkpoint file
+     * @param identity Identity of the run
+     * @param every Number of chunks per checkpoint
+     * @param origin Runner of the batches
+     */
+    public Checkpointed(
+        final Path file,
+        final Scalar<String> identity,
+        final int every,
+        final Runner origin
+    ) {
+        this.file = file;
+        this.identity = identity;
+        this.every = every;
+        this.origin = origin;
+    }
+
+    @Override
+    public <T> T reduce(
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) {
+        final T result;
+        try {
+            try (
+                FileChannel channel = FileChannel.open(
+                    this.file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                result = this.resume(channel, count, grain, chunk, merge);
+            }
+            Files.deleteIfExists(this.file);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't use checkpoint '%s'", this.file),
+                ex
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Run the batches after the ones of the checkpoint, appending their
+     * results to it.
+     * @param channel The checkpoint file
+     * @param count Number of units
+     * @param grain Number of units per chunk
+     * @param chunk Compute the partial result of units {@code [from, to)}
+     * @param merge Merge two partial results
+     * @param <T> Type of the result
+     * @return The merged result
+     * @throws IOException If the checkpoint can't be read or written
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private <T> T resume(
+        final FileChannel channel,
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) throws IOException {
+        final long step = (long) grain * Math.max(1, this.every);
+        final Batch state = this.load(
+            channel,
+            new Header(count, grain, this.identity.value()),
+            merge
+        );
+        int from = state.next;
+        @SuppressWarnings("unchecked")
+        T result = (T) state.result;
+        do {
+            final int to = (int) Math.min(from + step, count);
+            final T part = new Slice(from, to, this.origin).reduce(
+                count,
+                grain,
+                chunk,
+                merge
+            );
+            if (to < count) {
+                Checkpointed.append(channel, new Batch(to, part));
+            }
+            if (result == null) {
+                result = part;
+            } else {
+                result = merge.apply(result, part);
+            }
+            from = to;
+        } while (from < count);
+        return result;
+    }
+
+    /**
+     * Read the checkpoint, writing its header if it has none, and merge
+     * the results of its batches. A batch cut at the end is dropped.
+     * @param channel The checkpoint file, left at its end
+     * @param header Header of the workload
+     * @param merge Merge two partial results
+     * @param <T> Type of the result
+     * @return The next unit to run and the merged result before it, if any
+     * @throws IOException If the file can't be read or written
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Batch load(
+        final FileChannel channel,
+        final Header header,
+        final BinaryOperator<T> merge
+    ) throws IOException {
+        int next = 0;
+        T result = null;
+        final Object first = Checkpointed.read(channel, 0L);
+        if (first == null) {
+            channel.truncate(0L);
+            Checkpointed.append(channel, header);
+        } else {
+            long position = 0L;
+            if (!header.equals(first)) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Checkpoint '%s' belongs to another workload",
+                        this.file
+                    )
+                );
+            }
+            position = Checkpointed.after(channel, position);
+            Object batch = Checkpointed.read(channel, position);
+            while (batch != null) {
+                next = ((Batch) batch).next;
+                if (result == null) {
+                    result = (T) ((Batch) batch).result;
+                } else {
+                    result = merge.apply(result, (T) ((Batch) batch).result);
+                }
+                position = Checkpointed.after(channel, position);
+                batch = Checkpointed.read(channel, position);
+            }
+            channel.truncate(position);
+            channel.position(position);
+        }
+        return new Batch(next, result);
+    }
+
+    /**
+     * Append a record, its size followed by its serialized form, and
+     * force it to the disk.
+     * @param channel The checkpoint file, at its end
+     * @param record The record
+     * @throws IOException If it can't be written
+     */
+    private static void append(
+        final FileChannel channel,
+        final Serializable record
+    ) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(record);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            Integer.BYTES + bytes.size()
+        );
+        buffer.putInt(bytes.size()).put(bytes.toByteArray()).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Read a record.
+     * @param channel The checkpoint file
+     * @param position Position of the record
+     * @return The record, or {@code null} if it is cut
+     * @throws IOException If it can't be read
+     */
+    private static Object read(final FileChannel channel, final long position)
+        throws IOException {
+        Object record = null;
+        final long end = Checkpointed.after(channel, position);
+        if (end <= channel.size()) {
+            final ByteBuffer buffer = ByteBuffer.allocate(
+                (int) (end - position - Integer.BYTES)
+            );
+            while (buffer.hasRemaining()) {
+                channel.read(
+                    buffer,
+                    position + Integer.BYTES + buffer.position()
+                );
+            }
+            try (
+                ObjectInputStream input = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.array())
+                )
+            ) {
+                record = input.readObject();
+            } catch (final ClassNotFoundException ex) {
+                throw new IllegalStateException(
+                    "Checkpoint holds an unknown result",
+                    ex
+                );
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Position after a record.
+     * @param channel The checkpoint file
+     * @param position Position of the record
+     * @return The position after it, beyond the end of the file if the
+     *  record is cut
+     * @throws IOException If it can't be read
+     */
+    private static long after(final FileChannel channel, final long position)
+        throws IOException {
+        final ByteBuffer size = ByteBuffer.allocate(Integer.BYTES);
+        int read = 0;
+        while (read >= 0 && size.hasRemaining()) {
+            read = channel.read(size, position + size.position());
+        }
+        final long end;
+        if (size.hasRemaining()) {
+            end = Long.MAX_VALUE;
+        } else {
+            end = position + Integer.BYTES + size.getInt(0);
+        }
+        return end;
+    }
+
+    /**
+     * Header of a checkpoint: the workload and the identity of its run.
+     * @since 0.0.1
+     */
+    private static final class Header implements Serializable {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Number of units.
+         */
+        private final int count;
+
+        /**
+         * Number of units per chunk.
+         */
+        private final int grain;
+
+        /**
+         * Identity of the run.
+         */
+        private final String identity;
+
+        /**
+         * Ctor.
+         * @param count Number of units
+         * @param grain Number of units per chunk
+         * @param identity Identity of the run
+         */
+        Header(final int count, final int grain, final String identity) {
+            this.count = count;
+            this.grain = grain;
+            this.identity = identity;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof Header
+                && this.count == ((Header) other).count
+                && this.grain == ((Header) other).grain
+                && this.identity.equals(((Header) other).identity);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.count, this.grain, this.identity);
+        }
+    }
+
+    /**
+     * Merged result of a batch and the unit after it.
+     * @since 0.0.1
+     */
+    private static final class Batch implements Serializable {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Unit after the batch.
+         */
+        private final int next;
+
+        /**
+         * Merged result of the batch.
+         */
+        private final Object result;
+
+        /**
+         * Ctor.
+         * @param next Unit after the batch
+         * @param result Merged result of the batch
+         */
+        Batch(final int next, final Object result) {
+            this.next = next;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Scalar;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Parallel.
+ *
+ * <p>Run the chunks concurrently on an executor and merge the partial
+ * results in chunk order in the calling thread. At most {@code window}
+ * chunks are in flight at once, so the memory held by partial results
+ * stays bounded whatever the number of chunks.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Parallel implements Runner {
+    /**
+     * Executor service.
+     */
+    private final Scalar<ExecutorService> executor;
+
+    /**
+     * Whether the executor is created (and shut down) by each reduction.
+     */
+    private final boolean owned;
+
+    /**
+     * Maximum number of chunks in flight.
+     */
+    private final int window;
+
+    /**
+     * Ctor with one thread per available processor.
+     */
+    public Parallel() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param threads Number of threads
+     */
+    public Parallel(final int threads) {
+        this(() -> Executors.newFixedThreadPool(threads), true, 2 * threads);
+    }
+
+    /**
+     * Ctor.
+     * @param executor Executor service, not shut down by this runner
+     * @param window Maximum number of chunks in flight
+     */
+    public Parallel(final ExecutorService executor, final int window) {
+        this(() -> executor, false, window);
+    }
+
+    /**
+     * Ctor.
+     * @param executor Executor service
+     * @param owned Whether the executor is created by each reduction
+     * @param window Maximum number of chunks in flight
+     */
+    private Parallel(
+        final Scalar<ExecutorService> executor,
+        final boolean owned,
+        final int window
+    ) {
+        this.executor = executor;
+        this.owned = owned;
+        this.window = window;
+    }
+
+    @Override
+    public <T> T reduce(
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) {
+        final ExecutorService service = this.executor.value();
+        try {
+            return this.fold(service, count, grain, chunk, merge);
+        } finally {
+            if (this.owned) {
+                service.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Submit the chunks, keeping at most {@code window} in flight, and merge
+     * their results in order.
+     * @param service Executor service
+     * @param count Number of units
+     * @param grain Number of units per chunk
+     * @param chunk Compute the partial result of a chunk
+     * @param merge Merge two partial results
+     * @param <T> Type of the result
+     * @return The merged result
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private <T> T fold(
+        final ExecutorService service,
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) {
+        final int chunks = (int) Math.max(1L, (count - 1L + grain) / grain);
+        final int limit = Math.max(1, this.window);
+        final Deque<Future<T>> pending = new ArrayDeque<>(limit);
+        int next = 0;
+        try {
+            while (next < chunks && pending.size() < limit) {
+                pending.add(
+                    Parallel.submit(service, next, count, grain, chunk)
+                );
+                ++next;
+            }
+            T result = pending.remove().get();
+            while (!pending.isEmpty()) {
+                if (next < chunks) {
+                    pending.add(
+                        Parallel.submit(service, next, count, grain, chunk)
+                    );
+                    ++next;
+                }
+                result = merge.apply(result, pending.remove().get());
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running", ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("Chunk has failed", ex.getCause());
+        } finally {
+            for (final Future<T> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Submit a chunk.
+     * @param service Executor service
+     * @param index Chunk index
+     * @param count Number of units
+     * @param grain Number of units per chunk
+     * @param chunk Compute the partial result of a chunk
+     * @param <T> Type of the result
+     * @return The future partial result
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static <T> Future<T> submit(
+        final ExecutorService service,
+        final int index,
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk
+    ) {
+        final long from = (long) index * grain;
+        final long to = Math.min(from + grain, count);
+        return service.submit(() -> chunk.apply((int) from, (int) to));
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.Runner;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Serial.
+ *
+ * <p>Run all chunks one after another in the calling thread.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Serial implements Runner {
+    @Override
+    public <T> T reduce(
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) {
+        T result = chunk.apply(0, Math.min(grain, count));
+        for (long from = grain; from < count; from += grain) {
+            result = merge.apply(
+                result,
+                chunk.apply((int) from, (int) Math.min(from + grain, count))
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.Runner;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Slice.
+ *
+ * <p>Run only the units {@code [from, to)} of a workload, with another
+ * runner, e.g. the share of a test computed by one worker. The chunks start
+ * at {@code from}, so the partial result is only exact for tests whose
+ * merge does not depend on the chunk boundaries (sums of counters,
+ * concatenation of hashes).</p>
+ *
+ * @since 0.0.1
+ */
+public final class Slice implements Runner {
+    /**
+     * First unit.
+     */
+    private final int from;
+
+    /**
+     * Unit after the last one.
+     */
+    private final int to;
+
+    /**
+     * Runner of the units of the slice.
+     */
+    private final Runner origin;
+
+    /**
+     * Ctor.
+     * @param from First unit
+     * @param to Unit after the last one
+     */
+    public Slice(final int from, final int to) {
+        this(from, to, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param from First unit
+     * @param to Unit after the last one
+     * @param origin Runner of the units of the slice
+     */
+    public Slice(final int from, final int to, final Runner origin) {
+        this.from = from;
+        this.to = to;
+        this.origin = origin;
+    }
+
+    @Override
+    public <T> T reduce(
+        final int count,
+        final int grain,
+        final BiFunction<Integer, Integer, T> chunk,
+        final BinaryOperator<T> merge
+    ) {
+        final int first = Math.min(this.from, count);
+        final int last = Math.min(this.to, count);
+        return this.origin.reduce(
+            last - first,
+            grain,
+            (start, end) -> chunk.apply(first + start, first + end),
+            merge
+        );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Token.
+ *
+ * <p>A cancellation token, expired once it is cancelled or once its
+ * deadline has passed. It is safe to share between threads.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Token {
+    /**
+     * Deadline, as a {@link System#nanoTime()} value.
+     */
+    private final long deadline;
+
+    /**
+     * Whether the token has a deadline.
+     */
+    private final boolean timed;
+
+    /**
+     * Whether the token has been cancelled.
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * Ctor of a token without deadline.
+     */
+    public Token() {
+        this(0L, false);
+    }
+
+    /**
+     * Ctor of a token expiring after a timeout from now.
+     * @param timeout Timeout
+     */
+    public Token(final Duration timeout) {
+        this(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    /**
+     * Ctor.
+     * @param deadline Deadline, as a {@link System#nanoTime()} value
+     * @param timed Whether the token has a deadline
+     */
+    private Token(final long deadline, final boolean timed) {
+        this.deadline = deadline;
+        this.timed = timed;
+        this.cancelled = new AtomicBoolean(false);
+    }
+
+    /**
+     * Cancel the token.
+     */
+    public void cancel() {
+        this.cancelled.set(true);
+    }
+
+    /**
+     * Whether the token is cancelled or its deadline has passed.
+     * @return True if expired
+     */
+    public boolean expired() {
+        return this.cancelled.get()
+            || this.timed && System.nanoTime() - this.deadline >= 0L;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.scalar;
+
+import com.github.fabriciofx.shah.Scalar;
+
+/**
+ * Synced.
+ *
+ * <p>A scalar computed once, like {@link Cached}, even when several
+ * threads ask for it at the same time. Only the first computation takes
+ * the lock: from then on, the value is a plain read.</p>
+ *
+ * @param <T> Type of the value
+ * @since 0.0.1
+ */
+public final class Synced<T> implements Scalar<T> {
+    /**
+     * Scalar to be cached.
+     */
+    private final Scalar<T> scalar;
+
+    /**
+     * The value, once computed.
+     */
+    private volatile T cached;
+
+    /**
+     * Ctor.
+     * @param scalar Scalar to be cached, never giving {@code null}
+     */
+    public Synced(final Scalar<T> scalar) {
+        this.scalar = scalar;
+    }
+
+    @Override
+    public T value() {
+        T value = this.cached;
+        if (value == null) {
+            value = this.computed();
+        }
+        return value;
+    }
+
+    /**
+     * Compute the value, unless another thread did it first.
+     * @return The value
+     */
+    private synchronized T computed() {
+        if (this.cached == null) {
+            this.cached = this.scalar.value();
+        }
+        return this.cached;
+    }
+}
@@ -4,7 +4,10 @@
  */
 package com.github.fabriciofx.shah.seed;
 
+import com.github.fabriciofx.shah.Prng;
 import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.prng.SplitMix64;
+import java.io.Serializable;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -12,7 +15,12 @@ import java.util.concurrent.ThreadLocalRandom;
  * Seed32.
  * @since 0.0.1
  */
-public final class Seed32 implements Seed {
+public final class Seed32 implements Seed, Serializable {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The seed value.
      */
@@ -57,4 +65,9 @@ public final class Seed32 implements Seed {
     public Random random() {
         return new Random(this.value);
     }
+
+    @Override
+    public Prng prng() {
+        return new SplitMix64(this.value);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.sink;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Sink;
+
+/**
+ * BitBiasSink.
+ *
+ * <p>Count how many times each output bit of the consumed hashes is set.
+ * For a good hash, every bit is set half of the time.</p>
+ *
+ * <p>Returns the worst bias across all output bits, computed as
+ * {@code |2 * ones / hashes - 1|}: 0.0 means no bias and 1.0 means a
+ * constant bit.</p>
+ *
+ * @since 0.0.1
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+public final class BitBiasSink implements Sink<Double> {
+    /**
+     * Number of times each bit is set, allocated with the first hash.
+     */
+    private long[] ones;
+
+    /**
+     * Number of hashes consumed.
+     */
+    private long hashes;
+
+    /**
+     * Ctor.
+     */
+    public BitBiasSink() {
+        this.ones = new long[0];
+        this.hashes = 0L;
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        final byte[] bytes = hash.asBytes();
+        if (this.ones.length == 0) {
+            this.ones = new long[bytes.length * Byte.SIZE];
+        }
+        for (int bit = 0; bit < this.ones.length; ++bit) {
+            this.ones[bit] += (bytes[bit >> 3] >> (bit & 7)) & 1;
+        }
+        this.hashes += 1L;
+    }
+
+    @Override
+    public Sink<Double> empty() {
+        return new BitBiasSink();
+    }
+
+    @Override
+    public Sink<Double> merge(final Sink<Double> other) {
+        final BitBiasSink that = (BitBiasSink) other;
+        if (this.ones.length == 0) {
+            this.ones = new long[that.ones.length];
+        }
+        for (int bit = 0; bit < that.ones.length; ++bit) {
+            this.ones[bit] += that.ones[bit];
+        }
+        this.hashes += that.hashes;
+        return this;
+    }
+
+    @Override
+    public Double value() {
+        double worst = 0.0;
+        for (final long count : this.ones) {
+            worst = Math.max(
+                worst,
+                Math.abs(2.0 * count / this.hashes - 1.0)
+            );
+        }
+        return worst;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.sink;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Sink;
+import com.github.fabriciofx.shah.hashes.Concat;
+import com.github.fabriciofx.shah.hashes.HashesOf;
+import com.github.fabriciofx.shah.metric.Collisions;
+import java.util.ArrayList;
+
+/**
+ * CollisionSink.
+ *
+ * <p>Keep the consumed hashes to count their {@link Collisions}.</p>
+ *
+ * @since 0.0.1
+ */
+public final class CollisionSink implements Sink<Collisions> {
+    /**
+     * Consumed hashes.
+     */
+    private final Hashes hashes;
+
+    /**
+     * Ctor.
+     */
+    public CollisionSink() {
+        this.hashes = new HashesOf(new ArrayList<>(0));
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        this.hashes.add(hash);
+    }
+
+    @Override
+    public Sink<Collisions> empty() {
+        return new CollisionSink();
+    }
+
+    @Override
+    public Sink<Collisions> merge(final Sink<Collisions> other) {
+        new Concat().apply(this.hashes, ((CollisionSink) other).hashes);
+        return this;
+    }
+
+    @Override
+    public Collisions value() {
+        return new Collisions(this.hashes);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.sink;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Sink;
+import com.github.fabriciofx.shah.metric.DistributionScore;
+import com.github.fabriciofx.shah.metric.Histogram;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HistogramSink.
+ *
+ * <p>Count the windows of the consumed hashes in a {@link Histogram} to
+ * compute their {@link DistributionScore}, without keeping the hashes.</p>
+ *
+ * <p>A histogram takes 256 KiB per bit of the hash, 8 MiB for a 32-bit
+ * hash, so the chunks of a run do not get one each. The {@link #empty()}
+ * copy of a sink starts a run, and the {@link #empty()} copies of that
+ * copy, the sinks of its chunks, count into one histogram per thread of
+ * the run. The bins are integers, so the sum of the histograms of the
+ * threads does not depend on which thread hashed which chunk.</p>
+ *
+ * @since 0.0.1
+ */
+public final class HistogramSink implements Sink<DistributionScore> {
+    /**
+     * Histograms of the run, by thread.
+     */
+    private final Map<Thread, Histogram> histograms;
+
+    /**
+     * Whether the empty copies share the histograms of this sink.
+     */
+    private final boolean shared;
+
+    /**
+     * Ctor.
+     */
+    public HistogramSink() {
+        this(new ConcurrentHashMap<>(), false);
+    }
+
+    /**
+     * Ctor.
+     * @param histograms Histograms of the run, by thread
+     * @param shared Whether the empty copies share the histograms
+     */
+    private HistogramSink(
+        final Map<Thread, Histogram> histograms,
+        final boolean shared
+    ) {
+        this.histograms = histograms;
+        this.shared = shared;
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        this.local().add(hash);
+    }
+
+    @Override
+    public Sink<DistributionScore> empty() {
+        final Sink<DistributionScore> sink;
+        if (this.shared) {
+            sink = new HistogramSink(this.histograms, true);
+        } else {
+            sink = new HistogramSink(new ConcurrentHashMap<>(), true);
+        }
+        return sink;
+    }
+
+    @Override
+    public Sink<DistributionScore> merge(
+        final Sink<DistributionScore> other
+    ) {
+        final HistogramSink sink = (HistogramSink) other;
+        if (sink.histograms != this.histograms) {
+            this.local().merge(sink.sum());
+        }
+        return this;
+    }
+
+    @Override
+    public DistributionScore value() {
+        return new DistributionScore(this.sum());
+    }
+
+    /**
+     * The histogram of the current thread.
+     * @return The histogram
+     */
+    private Histogram local() {
+        return this.histograms.computeIfAbsent(
+            Thread.currentThread(),
+            thread -> new Histogram()
+        );
+    }
+
+    /**
+     * Sum the histograms of the threads.
+     * @return The sum
+     */
+    private Histogram sum() {
+        final Histogram sum = new Histogram();
+        for (final Histogram histogram : this.histograms.values()) {
+            sum.merge(histogram);
+        }
+        return sum;
+    }
+}
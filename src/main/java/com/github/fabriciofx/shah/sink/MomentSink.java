@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.sink;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Sink;
+
+/**
+ * MomentSink.
+ *
+ * <p>Accumulate the first two moments of the popcount (number of set bits)
+ * of the consumed hashes. For a good hash, the popcount of an n-bit hash
+ * follows a binomial distribution with mean {@code n/2} and variance
+ * {@code n/4}.</p>
+ *
+ * <p>Returns the worst chi-squared value (one degree of freedom) of the
+ * observed mean and variance against the binomial ones: below 3.84 passes
+ * at the 5% level.</p>
+ *
+ * @since 0.0.1
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+public final class MomentSink implements Sink<Double> {
+    /**
+     * Hash width in bits.
+     */
+    private long bits;
+
+    /**
+     * Number of hashes consumed.
+     */
+    private long hashes;
+
+    /**
+     * Sum of popcounts.
+     */
+    private long sum;
+
+    /**
+     * Sum of squared popcounts.
+     */
+    private long squares;
+
+    /**
+     * Ctor.
+     */
+    public MomentSink() {
+        this.bits = 0L;
+        this.hashes = 0L;
+        this.sum = 0L;
+        this.squares = 0L;
+    }
+
+    @Override
+    public void add(final Hash hash) {
+        long ones = 0L;
+        for (final byte octet : hash.asBytes()) {
+            ones += Integer.bitCount(octet & 0xFF);
+        }
+        this.bits = hash.bits();
+        this.hashes += 1L;
+        this.sum += ones;
+        this.squares += ones * ones;
+    }
+
+    @Override
+    public Sink<Double> empty() {
+        return new MomentSink();
+    }
+
+    @Override
+    public Sink<Double> merge(final Sink<Double> other) {
+        final MomentSink that = (MomentSink) other;
+        this.bits = Math.max(this.bits, that.bits);
+        this.hashes += that.hashes;
+        this.sum += that.sum;
+        this.squares += that.squares;
+        return this;
+    }
+
+    @Override
+    public Double value() {
+        double worst = 0.0;
+        if (this.hashes > 1L) {
+            final double num = this.hashes;
+            final double mean = this.sum / num;
+            final double variance = this.squares / num - mean * mean;
+            final double expected = this.bits / 4.0;
+            final double dmean = mean - this.bits / 2.0;
+            final double dvar = variance - expected;
+            worst = Math.max(
+                dmean * dmean / (expected / num),
+                dvar * dvar
+                    / (expected * expected * (2.0 - 2.0 / this.bits) / num)
+            );
+        }
+        return worst;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.stat;
+
+import com.github.fabriciofx.shah.Scalar;
+
+/**
+ * Occupancy.
+ *
+ * <p>Compute the expected number of collisions, counted as the number of
+ * hashes minus the number of distinct ones, of {@code n} random hashes of
+ * {@code bits} bits: {@code n - m * (1 - (1 - 1/m)^n)} with
+ * {@code m = 2^bits}. Unlike {@link Expected}, it stays right when the
+ * hashes fill the {@code m} values, e.g. for the low 16 bits of a million
+ * hashes.</p>
+ *
+ * <p>When {@code n} is tiny against {@code m}, the formula loses all its
+ * precision to cancellation, so the birthday paradox approximation of
+ * {@link Expected}, exact enough there, is used instead.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Occupancy implements Scalar<Double> {
+    /**
+     * Fill ratio {@code n / m} below which the birthday paradox is used.
+     */
+    private static final double SPARSE = 1.0e-6;
+
+    /**
+     * The amount of hashes.
+     */
+    private final int count;
+
+    /**
+     * The size of the hash in bits.
+     */
+    private final int bits;
+
+    /**
+     * Ctor.
+     * @param count The amount of hashes
+     * @param bits The size of the hash in bits
+     */
+    public Occupancy(final int count, final int bits) {
+        this.count = count;
+        this.bits = bits;
+    }
+
+    @Override
+    public Double value() {
+        final double values = Math.pow(2.0, this.bits);
+        final double expected;
+        if (this.count < values * Occupancy.SPARSE) {
+            expected = new Expected(this.count, this.bits).value();
+        } else {
+            expected = this.count + values * Math.expm1(
+                this.count * Math.log1p(-1.0 / values)
+            );
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.stat;
+
+import com.github.fabriciofx.shah.Scalar;
+
+/**
+ * Quantile.
+ *
+ * <p>Compute the quantile of the standard normal distribution for a
+ * probability, i.e. the value {@code z} such that {@code P(Z <= z) = p}.
+ * It uses the rational approximation of Peter Acklam, whose relative error
+ * is below 1.15e-9.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Quantile implements Scalar<Double> {
+    /**
+     * Coefficients of the numerator of the central region.
+     */
+    private static final double[] CENTRAL_NUM = {
+        -3.969_683_028_665_376e+01,
+        2.209_460_984_245_205e+02,
+        -2.759_285_104_469_687e+02,
+        1.383_577_518_672_690e+02,
+        -3.066_479_806_614_716e+01,
+        2.506_628_277_459_239e+00,
+    };
+
+    /**
+     * Coefficients of the denominator of the central region.
+     */
+    private static final double[] CENTRAL_DEN = {
+        -5.447_609_879_822_406e+01,
+        1.615_858_368_580_409e+02,
+        -1.556_989_798_598_866e+02,
+        6.680_131_188_771_972e+01,
+        -1.328_068_155_288_572e+01,
+        1.0,
+    };
+
+    /**
+     * Coefficients of the numerator of the tails.
+     */
+    private static final double[] TAIL_NUM = {
+        -7.784_894_002_430_293e-03,
+        -3.223_964_580_411_365e-01,
+        -2.400_758_277_161_838e+00,
+        -2.549_732_539_343_734e+00,
+        4.374_664_141_464_968e+00,
+        2.938_163_982_698_783e+00,
+    };
+
+    /**
+     * Coefficients of the denominator of the tails.
+     */
+    private static final double[] TAIL_DEN = {
+        7.784_695_709_041_462e-03,
+        3.224_671_290_700_398e-01,
+        2.445_134_137_142_996e+00,
+        3.754_408_661_907_416e+00,
+        1.0,
+    };
+
+    /**
+     * Probability where the tails start.
+     */
+    private static final double LOW = 0.024_25;
+
+    /**
+     * Probability.
+     */
+    private final double probability;
+
+    /**
+     * Ctor.
+     * @param probability Probability, between 0.0 and 1.0 (exclusive)
+     */
+    public Quantile(final double probability) {
+        this.probability = probability;
+    }
+
+    @Override
+    public Double value() {
+        if (this.probability <= 0.0 || this.probability >= 1.0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Probability %f is not between 0.0 and 1.0",
+                    this.probability
+                )
+            );
+        }
+        final double quantile;
+        if (this.probability < Quantile.LOW) {
+            quantile = Quantile.tail(this.probability);
+        } else if (this.probability > 1.0 - Quantile.LOW) {
+            quantile = -Quantile.tail(1.0 - this.probability);
+        } else {
+            final double centered = this.probability - 0.5;
+            final double squared = centered * centered;
+            quantile = centered
+                * Quantile.poly(Quantile.CENTRAL_NUM, squared)
+                / Quantile.poly(Quantile.CENTRAL_DEN, squared);
+        }
+        return quantile;
+    }
+
+    /**
+     * Quantile of a probability in the lower tail.
+     * @param probability Probability below the tail limit
+     * @return The quantile
+     */
+    private static double tail(final double probability) {
+        final double root = Math.sqrt(-2.0 * Math.log(probability));
+        return Quantile.poly(Quantile.TAIL_NUM, root)
+            / Quantile.poly(Quantile.TAIL_DEN, root);
+    }
+
+    /**
+     * Evaluate a polynomial with the Horner's method.
+     * @param coefficients Coefficients, from the highest degree
+     * @param value Value of the variable
+     * @return The result
+     */
+    private static double poly(
+        final double[] coefficients,
+        final double value
+    ) {
+        double result = 0.0;
+        for (final double coefficient : coefficients) {
+            result = result * value + coefficient;
+        }
+        return result;
+    }
+}
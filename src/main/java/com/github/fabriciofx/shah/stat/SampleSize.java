@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.stat;
+
+import com.github.fabriciofx.shah.Scalar;
+
+/**
+ * Sample size.
+ *
+ * <p>Compute the number of samples needed to detect a bias of a fair bit
+ * (a probability of 0.5, like an output bit flip) with a two-sided test at
+ * 99% confidence and 90% power. The formula is
+ * {@code n = ((z(0.995) + z(0.90)) * 0.5 / bias)^2}: halving the bias to
+ * detect takes four times the samples.</p>
+ *
+ * @since 0.0.1
+ */
+public final class SampleSize implements Scalar<Double> {
+    /**
+     * Quantile of the normal distribution for a 99% two-sided confidence.
+     */
+    private static final double CONFIDENCE = 2.575_829;
+
+    /**
+     * Quantile of the normal distribution for a 90% power.
+     */
+    private static final double POWER = 1.281_552;
+
+    /**
+     * Standard deviation of a fair bit.
+     */
+    private static final double DEVIATION = 0.5;
+
+    /**
+     * Bias to detect.
+     */
+    private final double bias;
+
+    /**
+     * Ctor.
+     * @param bias Bias to detect, e.g. 0.01 for a probability of 0.51
+     */
+    public SampleSize(final double bias) {
+        this.bias = bias;
+    }
+
+    @Override
+    public Double value() {
+        final double deviations = (SampleSize.CONFIDENCE + SampleSize.POWER)
+            * SampleSize.DEVIATION / this.bias;
+        return deviations * deviations;
+    }
+}
@@ -0,0 +1,657 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.suite;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.job.JobOf;
+import com.github.fabriciofx.shah.keys.RandomWords;
+import com.github.fabriciofx.shah.job.Watched;
+import com.github.fabriciofx.shah.metric.Verdict;
+import com.github.fabriciofx.shah.progress.Published;
+import com.github.fabriciofx.shah.runner.Serial;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.seed.Seed64;
+import com.github.fabriciofx.shah.test.AppendedZeroesTest;
+import com.github.fabriciofx.shah.test.AvalancheTest;
+import com.github.fabriciofx.shah.test.BadSeedsTest;
+import com.github.fabriciofx.shah.test.BicTest;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import com.github.fabriciofx.shah.test.CyclicKeyTest;
+import com.github.fabriciofx.shah.test.DiffDistTest;
+import com.github.fabriciofx.shah.test.DifferentialTest;
+import com.github.fabriciofx.shah.test.DistributionTest;
+import com.github.fabriciofx.shah.test.JudgedTest;
+import com.github.fabriciofx.shah.test.MomentChi2Test;
+import com.github.fabriciofx.shah.test.PerlinNoiseTest;
+import com.github.fabriciofx.shah.test.PermutationTest;
+import com.github.fabriciofx.shah.test.PrngTest;
+import com.github.fabriciofx.shah.test.SanityTest;
+import com.github.fabriciofx.shah.test.SeedTest;
+import com.github.fabriciofx.shah.test.SparseKeyTest;
+import com.github.fabriciofx.shah.test.TextTest;
+import com.github.fabriciofx.shah.test.TruncatedCollisionTest;
+import com.github.fabriciofx.shah.test.TwoBytesTest;
+import com.github.fabriciofx.shah.test.VerificationTest;
+import com.github.fabriciofx.shah.test.WindowedKeyTest;
+import com.github.fabriciofx.shah.test.WordsTest;
+import com.github.fabriciofx.shah.test.ZeroesTest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Battery.
+ *
+ * <p>The jobs of the whole battery of tests for a hash function, with the
+ * parameters of the SMHasher tests and fixed seeds, so two runs of the
+ * same function give the same metrics. The size of every test is scaled
+ * by the profile: the number of samples of the sampled tests, and the
+ * parameters setting the number of keys of the exhaustive ones. The bytes
+ * of the zeroes test and the keys of the two-bytes test grow with the
+ * square of their parameter, which is then scaled by the square root of
+ * the profile; the keys of the Perlin noise and windowed tests grow with
+ * the power of two of theirs, which is scaled by its logarithm. Every
+ * metric but the verification code, which is only known for a given
+ * function, is judged against a pass threshold of its test, as a
+ * {@link Verdict}. The thresholds are the ones of the standard profile,
+ * widened or narrowed as the noise of the scores with the profile. The
+ * jobs are named
+ * {@code <function>/<test>} and can be run by a {@link Suite}.</p>
+ *
+ * <p>The chunks of every test are run by the given runner, e.g. a
+ * {@link com.github.fabriciofx.shah.runner.Parallel} one, so the most
+ * expensive jobs, which set the wall time of the suite, are split among
+ * the threads too; the PRNG test, a chain of hashes each keying the
+ * next, and the verification test, hashing 256 keys, are always serial.
+ * The bad seeds test only checks the zero seed, as SMHasher does when it
+ * knows no bad seed of the function.</p>
+ *
+ * <p>The long tests, hashing many keys, report their progress to a
+ * {@link Published} listener under the name of their job, so a running
+ * battery can be watched with jconsole; each MBean is registered when its
+ * job starts and withdrawn when it ends.</p>
+ *
+ * @since 0.0.1
+ * @checkstyle ClassFanOutComplexityCheck (300 lines)
+ * @checkstyle ExecutableStatementCountCheck (300 lines)
+ */
+@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.ExcessiveImports"})
+public final class Battery implements Scalar<List<Job<?>>> {
+    /**
+     * Standard number of avalanche repetitions.
+     */
+    private static final int AVALANCHE = 300_000;
+
+    /**
+     * Standard number of BIC repetitions.
+     */
+    private static final int BIC = 100_000;
+
+    /**
+     * Standard number of keys of the collision and distribution tests.
+     */
+    private static final int KEYS = 1_000_000;
+
+    /**
+     * Standard number of keys of the differential tests.
+     */
+    private static final int DIFFERENTIAL = 100_000;
+
+    /**
+     * Standard number of seeds of the seed test.
+     */
+    private static final int SEEDS = 100_000;
+
+    /**
+     * Standard largest key of the zeroes test, SMHasher's one.
+     */
+    private static final int ZEROES = 204_800;
+
+    /**
+     * Standard key size of the two-bytes test.
+     */
+    private static final int TWO_BYTES = 4;
+
+    /**
+     * Standard number of varying positions of the text test.
+     */
+    private static final int TEXT = 4;
+
+    /**
+     * Standard number of words of the words test.
+     */
+    private static final int WORDS = 100_000;
+
+    /**
+     * Standard number of bits of the keys and seeds of the Perlin noise
+     * test.
+     */
+    private static final int PERLIN = 20;
+
+    /**
+     * Standard window width of the windowed test.
+     */
+    private static final int WINDOW = 12;
+
+    /**
+     * Name of the hash function.
+     */
+    private final String name;
+
+    /**
+     * The hash function.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Profile of the run.
+     */
+    private final Profile profile;
+
+    /**
+     * Runner of the chunks of the tests.
+     */
+    private final Runner runner;
+
+    /**
+     * Ctor.
+     * @param name Name of the hash function
+     * @param func The hash function
+     * @param profile Profile of the run
+     */
+    public Battery(
+        final String name,
+        final BiFunction<Key, Seed, Hash> func,
+        final Profile profile
+    ) {
+        this(name, func, profile, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the hash function
+     * @param func The hash function
+     * @param profile Profile of the run
+     * @param runner Runner of the chunks of the tests
+     */
+    public Battery(
+        final String name,
+        final BiFunction<Key, Seed, Hash> func,
+        final Profile profile,
+        final Runner runner
+    ) {
+        this.name = name;
+        this.func = func;
+        this.profile = profile;
+        this.runner = runner;
+    }
+
+    @Override
+    public List<Job<?>> value() {
+        final Seed seed = new Seed32(12_345);
+        final Seed initial = new Seed32(54_321);
+        final int avalanche = this.profile.samples(Battery.AVALANCHE);
+        final int keys = this.profile.samples(Battery.KEYS);
+        final int differential = this.profile.samples(Battery.DIFFERENTIAL);
+        final List<Job<?>> jobs = new ArrayList<>(26);
+        jobs.add(this.job("verification", new VerificationTest(this.func), 1L));
+        jobs.add(
+            this.job(
+                "sanity",
+                new SanityTest(
+                    this.func,
+                    new Seed32(0),
+                    32,
+                    this.profile,
+                    this.runner
+                ),
+                1L << 20,
+                ratio -> ratio.value(),
+                this.threshold(0.0, 0.01)
+            )
+        );
+        jobs.add(
+            this.job(
+                "appended-zeroes",
+                new AppendedZeroesTest(
+                    this.func,
+                    seed,
+                    this.profile,
+                    this.runner
+                ),
+                1L << 20,
+                ratio -> ratio.value(),
+                this.threshold(0.0, 0.01)
+            )
+        );
+        for (final int size : new int[]{4, 8, 16}) {
+            jobs.add(
+                this.watched(
+                    String.format("avalanche-%d", size),
+                    listener -> new AvalancheTest(
+                        this.func,
+                        seed,
+                        size,
+                        initial,
+                        avalanche,
+                        this.runner,
+                        listener
+                    ),
+                    (long) avalanche * (size * Byte.SIZE + 1),
+                    matrix -> matrix.bias().mean(),
+                    this.threshold(0.0, 0.01)
+                )
+            );
+        }
+        final int bic = this.profile.samples(Battery.BIC);
+        jobs.add(
+            this.watched(
+                "bic-4",
+                listener -> new BicTest(
+                    this.func,
+                    seed,
+                    4,
+                    initial,
+                    bic,
+                    this.runner,
+                    listener
+                ),
+                (long) bic * (4 * Byte.SIZE + 1),
+                bias -> bias.max(),
+                this.threshold(0.0, 0.05)
+            )
+        );
+        jobs.add(
+            this.watched(
+                "collision-16",
+                listener -> new CollisionTest(
+                    this.func,
+                    seed,
+                    16,
+                    initial,
+                    keys,
+                    this.runner,
+                    listener
+                ),
+                keys,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "truncated-16",
+                new TruncatedCollisionTest(
+                    this.func,
+                    seed,
+                    16,
+                    initial,
+                    keys,
+                    this.runner
+                ),
+                keys,
+                truncated -> truncated.worst().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "distribution-16",
+                new DistributionTest(
+                    this.func,
+                    seed,
+                    16,
+                    initial,
+                    keys,
+                    this.runner
+                ),
+                keys,
+                score -> score.value(),
+                this.threshold(0.0, 0.01)
+            )
+        );
+        final int zeroes = this.squared(Battery.ZEROES);
+        jobs.add(
+            this.job(
+                "zeroes",
+                new ZeroesTest(this.func, new Seed32(0), zeroes, this.runner),
+                (long) zeroes * zeroes / 32L,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "cyclic-4",
+                new CyclicKeyTest(
+                    this.func,
+                    seed,
+                    4,
+                    8,
+                    this.profile,
+                    this.runner
+                ),
+                1L << 20,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        final int two = this.squared(Battery.TWO_BYTES);
+        jobs.add(
+            this.watched(
+                "two-bytes",
+                listener -> new TwoBytesTest(
+                    this.func,
+                    seed,
+                    two,
+                    this.runner,
+                    listener
+                ),
+                1L + two * 255L + two * (two - 1L) / 2L * 255L * 255L,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "sparse-32",
+                new SparseKeyTest(this.func, seed, 32, 3, this.runner),
+                1L << 16,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 10.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "permutation",
+                new PermutationTest(
+                    this.func,
+                    seed,
+                    new byte[]{0, 1, 2, 3, 4, 5, 6, 7},
+                    4,
+                    this.runner
+                ),
+                1L << 12,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 10.0)
+            )
+        );
+        final int window = this.logarithm(Battery.WINDOW);
+        jobs.add(
+            this.watched(
+                "windowed-4",
+                listener -> new WindowedKeyTest(
+                    this.func,
+                    seed,
+                    4,
+                    window,
+                    this.runner,
+                    listener
+                ),
+                (1L << window) * 33L,
+                family -> family.ratios().worst().value(),
+                this.threshold(1.0, 10.0)
+            )
+        );
+        final int text = this.profile.samples(Battery.TEXT);
+        jobs.add(
+            this.job(
+                "text",
+                new TextTest(
+                    this.func,
+                    seed,
+                    "Foo".getBytes(StandardCharsets.UTF_8),
+                    "Bar".getBytes(StandardCharsets.UTF_8),
+                    text,
+                    this.runner
+                ),
+                1L + text * 255L,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 10.0)
+            )
+        );
+        jobs.add(
+            this.watched(
+                "differential-4",
+                listener -> new DifferentialTest(
+                    this.func,
+                    seed,
+                    4,
+                    initial,
+                    differential,
+                    this.runner,
+                    listener
+                ),
+                differential * 32L,
+                family -> family.ratios().worst().value(),
+                this.threshold(1.0, 10.0)
+            )
+        );
+        jobs.add(
+            this.watched(
+                "diff-dist-4",
+                listener -> new DiffDistTest(
+                    this.func,
+                    seed,
+                    4,
+                    initial,
+                    differential,
+                    this.runner,
+                    listener
+                ),
+                differential * 32L,
+                score -> score,
+                this.threshold(0.0, 0.01)
+            )
+        );
+        final int seeds = this.profile.samples(Battery.SEEDS);
+        jobs.add(
+            this.watched(
+                "seed",
+                listener -> new SeedTest(
+                    this.func,
+                    seeds,
+                    this.runner,
+                    listener
+                ),
+                seeds,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        final int words = this.profile.samples(Battery.WORDS);
+        jobs.add(
+            this.job(
+                "words",
+                new WordsTest(
+                    this.func,
+                    seed,
+                    new RandomWords(words, 2, 20, initial, this.runner),
+                    this.runner
+                ),
+                words,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "bad-seeds",
+                new BadSeedsTest(this.func, this.runner, new Seed64(0L)),
+                1L << 8,
+                ratio -> ratio.value(),
+                0.01
+            )
+        );
+        final int perlin = this.logarithm(Battery.PERLIN);
+        jobs.add(
+            this.watched(
+                "perlin-noise",
+                listener -> new PerlinNoiseTest(
+                    this.func,
+                    4,
+                    perlin - perlin / 2,
+                    perlin / 2,
+                    this.runner,
+                    listener
+                ),
+                1L << perlin,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "prng",
+                new PrngTest(this.func, seed, this.profile),
+                1L << 20,
+                colls -> colls.ratio().value(),
+                this.threshold(1.0, 2.0)
+            )
+        );
+        jobs.add(
+            this.job(
+                "moment-chi2",
+                new MomentChi2Test(
+                    this.func,
+                    seed,
+                    this.profile,
+                    this.runner
+                ),
+                1L << 20,
+                chi -> chi,
+                500.0
+            )
+        );
+        return jobs;
+    }
+
+    /**
+     * Scale the pass threshold of a score whose noise around its expected
+     * value shrinks like the inverse of the square root of the number of
+     * samples, so the profile only changes the smallest bias detected.
+     * @param expected Expected score of a good hash function
+     * @param standard Threshold of the standard profile
+     * @return The threshold of the profile
+     */
+    private double threshold(final double expected, final double standard) {
+        return expected + (standard - expected) * Math.sqrt(
+            (double) Battery.KEYS / this.profile.samples(Battery.KEYS)
+        );
+    }
+
+    /**
+     * Scale a parameter whose square is proportional to the cost of the
+     * test.
+     * @param standard Parameter of the standard profile
+     * @return The parameter of the profile, at least one
+     */
+    private int squared(final int standard) {
+        return (int) Math.max(
+            1L,
+            Math.round(
+                Math.sqrt((double) standard * this.profile.samples(standard))
+            )
+        );
+    }
+
+    /**
+     * Scale a parameter whose power of two is proportional to the cost of
+     * the test.
+     * @param standard Parameter of the standard profile, below 31
+     * @return The parameter of the profile
+     */
+    private int logarithm(final int standard) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(
+            this.profile.samples(1 << standard)
+        );
+    }
+
+    /**
+     * A job of the battery, judged against the pass threshold of its test.
+     * @param test Name of the test
+     * @param origin The test
+     * @param keys Estimated number of keys hashed by the test, counting a
+     *  long key as several 16-byte ones
+     * @param score Score of the metric, e.g. its collision ratio
+     * @param limit Pass threshold of the score
+     * @param <T> Type of the test metric
+     * @return The job
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private <T> Job<Verdict<T>> job(
+        final String test,
+        final Test<T> origin,
+        final long keys,
+        final ToDoubleFunction<T> score,
+        final double limit
+    ) {
+        return this.job(test, new JudgedTest<>(origin, score, limit), keys);
+    }
+
+    /**
+     * A job of the battery whose test reports its progress, judged against
+     * the pass threshold of its test.
+     * @param test Name of the test
+     * @param origin The test, given the listener of its progress
+     * @param keys Estimated number of keys hashed by the test, counting a
+     *  long key as several 16-byte ones
+     * @param score Score of the metric, e.g. its collision ratio
+     * @param limit Pass threshold of the score
+     * @param <T> Type of the test metric
+     * @return The job
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private <T> Job<Verdict<T>> watched(
+        final String test,
+        final Function<Listener, Test<T>> origin,
+        final long keys,
+        final ToDoubleFunction<T> score,
+        final double limit
+    ) {
+        final String name = String.format("%s/%s", this.name, test);
+        final Published published = new Published(name);
+        return new Watched<>(
+            new JobOf<>(
+                name,
+                new JudgedTest<>(origin.apply(published), score, limit),
+                keys
+            ),
+            published
+        );
+    }
+
+    /**
+     * A job of the battery.
+     * @param test Name of the test
+     * @param origin The test
+     * @param keys Estimated number of keys hashed by the test, counting a
+     *  long key as several 16-byte ones
+     * @param <T> Type of the test metric
+     * @return The job
+     */
+    private <T> Job<T> job(
+        final String test,
+        final Test<T> origin,
+        final long keys
+    ) {
+        return new JobOf<>(
+            String.format("%s/%s", this.name, test),
+            origin,
+            keys
+        );
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.suite;
+
+import com.github.fabriciofx.shah.Job;
+import com.github.fabriciofx.shah.Scalar;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Suite.
+ *
+ * <p>Run many jobs concurrently. The jobs are submitted longest-first, by
+ * estimated cost, to a work-stealing pool, so the cheap jobs fill the gaps
+ * left by the expensive ones and the wall time of the whole suite approaches
+ * the wall time of its most expensive job.</p>
+ *
+ * <p>The metrics are returned by job name, in the order the jobs were
+ * given.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Suite implements Scalar<Map<String, Object>> {
+    /**
+     * Executor service.
+     */
+    private final Scalar<ExecutorService> executor;
+
+    /**
+     * Whether the executor is created (and shut down) by each run.
+     */
+    private final boolean owned;
+
+    /**
+     * Jobs.
+     */
+    private final List<Job<?>> jobs;
+
+    /**
+     * Ctor with one thread per available processor.
+     * @param jobs Jobs to run
+     */
+    public Suite(final Job<?>... jobs) {
+        this(Runtime.getRuntime().availableProcessors(), jobs);
+    }
+
+    /**
+     * Ctor.
+     * @param threads Number of threads
+     * @param jobs Jobs to run
+     */
+    public Suite(final int threads, final Job<?>... jobs) {
+        this(
+            () -> Executors.newWorkStealingPool(threads),
+            true,
+            Arrays.asList(jobs)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param executor Executor service, not shut down by this suite
+     * @param jobs Jobs to run
+     */
+    public Suite(final ExecutorService executor, final List<Job<?>> jobs) {
+        this(() -> executor, false, jobs);
+    }
+
+    /**
+     * Ctor.
+     * @param executor Executor service
+     * @param owned Whether the executor is created by each run
+     * @param jobs Jobs to run
+     */
+    private Suite(
+        final Scalar<ExecutorService> executor,
+        final boolean owned,
+        final List<Job<?>> jobs
+    ) {
+        this.executor = executor;
+        this.owned = owned;
+        this.jobs = jobs;
+    }
+
+    @Override
+    public Map<String, Object> value() {
+        final ExecutorService service = this.executor.value();
+        try {
+            return this.run(service);
+        } finally {
+            if (this.owned) {
+                service.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Submit the jobs longest-first and collect their metrics.
+     * @param service Executor service
+     * @return The metrics by job name
+     */
+    private Map<String, Object> run(final ExecutorService service) {
+        final Set<String> names = new HashSet<>();
+        for (final Job<?> job : this.jobs) {
+            if (!names.add(job.name())) {
+                throw new IllegalArgumentException(
+                    String.format("Duplicated job name: %s", job.name())
+                );
+            }
+        }
+        final List<Job<?>> sorted = new ArrayList<>(this.jobs);
+        sorted.sort(Comparator.comparingLong(Job<?>::cost).reversed());
+        final Map<Job<?>, Future<?>> futures = new LinkedHashMap<>();
+        for (final Job<?> job : sorted) {
+            futures.put(job, service.submit(job::metric));
+        }
+        final Map<String, Object> metrics = new LinkedHashMap<>();
+        try {
+            for (final Job<?> job : this.jobs) {
+                metrics.put(job.name(), Suite.metric(job, futures.get(job)));
+            }
+        } finally {
+            for (final Future<?> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Wait for the metric of a job.
+     * @param job The job
+     * @param future The future metric
+     * @return The metric
+     */
+    private static Object metric(final Job<?> job, final Future<?> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                String.format("Interrupted while running job %s", job.name()),
+                ex
+            );
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(
+                String.format("Job %s has failed", job.name()),
+                ex.getCause()
+            );
+        }
+    }
+}
@@ -6,14 +6,18 @@ package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.key.Appended;
 import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
+import com.github.fabriciofx.shah.keys.RandomKeys;
 import com.github.fabriciofx.shah.metric.Ratio;
+import com.github.fabriciofx.shah.profile.Configured;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.seed.Seed64;
-import java.util.Random;
 import java.util.function.BiFunction;
 
 /**
@@ -37,6 +41,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
 public final class AppendedZeroesTest implements Test<Ratio> {
+    /**
+     * Number of repetitions per chunk.
+     */
+    private static final int GRAIN = 64;
+
     /**
      * Minimum key size.
      */
@@ -87,6 +96,11 @@ public final class AppendedZeroesTest implements Test<Ratio> {
      */
     private final int repetitions;
 
+    /**
+     * Runner of the chunks of repetitions.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -95,6 +109,36 @@ public final class AppendedZeroesTest implements Test<Ratio> {
     public AppendedZeroesTest(
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed
+    ) {
+        this(func, seed, new Configured());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param profile Run profile, scaling the default repetitions
+     */
+    public AppendedZeroesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Profile profile
+    ) {
+        this(func, seed, profile, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param profile Run profile, scaling the default repetitions
+     * @param runner Runner of the chunks of repetitions
+     */
+    public AppendedZeroesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Profile profile,
+        final Runner runner
     ) {
         this(
             func,
@@ -102,7 +146,8 @@ public final class AppendedZeroesTest implements Test<Ratio> {
             AppendedZeroesTest.MIN_SIZE,
             AppendedZeroesTest.DEFAULT_INITIAL,
             AppendedZeroesTest.MAX_ZEROES,
-            AppendedZeroesTest.DEFAULT_REPS
+            profile.samples(AppendedZeroesTest.DEFAULT_REPS),
+            runner
         );
     }
 
@@ -122,6 +167,28 @@ public final class AppendedZeroesTest implements Test<Ratio> {
         final Seed initial,
         final int max,
         final int repetitions
+    ) {
+        this(func, seed, size, initial, max, repetitions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size The key's size
+     * @param initial The key's seed
+     * @param max The max number of zeroes
+     * @param repetitions Number of repetitions
+     * @param runner Runner of the chunks of repetitions
+     */
+    public AppendedZeroesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int max,
+        final int repetitions,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
@@ -129,26 +196,60 @@ public final class AppendedZeroesTest implements Test<Ratio> {
         this.initial = initial;
         this.max = max;
         this.repetitions = repetitions;
+        this.runner = runner;
     }
 
     @Override
     public Ratio metric() {
-        final Random random = this.initial.random();
-        int checks = 0;
-        int failures = 0;
-        for (int rep = 0; rep < this.repetitions; ++rep) {
-            final Key key = new Randomized(new KeyOf(this.size), random);
-            Hash previous = this.func.apply(new KeyOf(), this.seed);
-            for (int zeroes = 0; zeroes < this.max; ++zeroes) {
-                final Key extended = new Appended(key, new byte[zeroes]);
-                final Hash current = this.func.apply(extended, this.seed);
-                ++checks;
-                if (current.equals(previous)) {
-                    ++failures;
+        final Keys keys = new RandomKeys(
+            this.size,
+            this.initial,
+            this.repetitions
+        );
+        final int[] totals = this.runner.reduce(
+            this.repetitions,
+            AppendedZeroesTest.GRAIN,
+            (from, to) -> {
+                final int[] part = new int[2];
+                for (int rep = from; rep < to; ++rep) {
+                    AppendedZeroesTest.sum(part, this.check(keys.item(rep)));
                 }
-                previous = current;
+                return part;
+            },
+            AppendedZeroesTest::sum
+        );
+        return new Ratio(totals[0], totals[1]);
+    }
+
+    /**
+     * Check that appending zeroes to a key always changes its hash.
+     * @param key The key
+     * @return The number of checks and the number of failures
+     */
+    private int[] check(final Key key) {
+        final int[] result = new int[2];
+        Hash previous = this.func.apply(new KeyOf(), this.seed);
+        for (int zeroes = 0; zeroes < this.max; ++zeroes) {
+            final Key extended = new Appended(key, new byte[zeroes]);
+            final Hash current = this.func.apply(extended, this.seed);
+            ++result[0];
+            if (current.equals(previous)) {
+                ++result[1];
             }
+            previous = current;
         }
-        return new Ratio(checks, failures);
+        return result;
+    }
+
+    /**
+     * Sum two pairs of (checks, failures).
+     * @param first First pair, which receives the sum
+     * @param second Second pair
+     * @return The first pair
+     */
+    private static int[] sum(final int[] first, final int... second) {
+        first[0] += second[0];
+        first[1] += second[1];
+        return first;
     }
 }
@@ -6,15 +6,19 @@ package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.key.Flipped;
 import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
+import com.github.fabriciofx.shah.keys.RandomKeys;
 import com.github.fabriciofx.shah.metric.avalanche.Bias;
 import com.github.fabriciofx.shah.metric.avalanche.Matrix;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.scalar.BitDiff;
-import java.util.Random;
 import java.util.function.BiFunction;
 
 /**
@@ -39,6 +43,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
 public final class AvalancheTest implements Test<Matrix> {
+    /**
+     * Number of repetitions per chunk.
+     */
+    private static final int GRAIN = 64;
+
     /**
      * The hash function under test.
      */
@@ -64,6 +73,16 @@ public final class AvalancheTest implements Test<Matrix> {
      */
     private final int repetitions;
 
+    /**
+     * Runner of the chunks of repetitions.
+     */
+    private final Runner runner;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -79,33 +98,105 @@ public final class AvalancheTest implements Test<Matrix> {
         final int size,
         final Seed initial,
         final int repetitions
+    ) {
+        this(func, seed, size, initial, repetitions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function.
+     * @param size Size in key
+     * @param initial Initial value for key generation
+     * @param repetitions Number of repetitions
+     * @param runner Runner of the chunks of repetitions
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public AvalancheTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final Runner runner
+    ) {
+        this(func, seed, size, initial, repetitions, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function.
+     * @param size Size in key
+     * @param initial Initial value for key generation
+     * @param repetitions Number of repetitions
+     * @param runner Runner of the chunks of repetitions
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public AvalancheTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final Runner runner,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.initial = initial;
         this.repetitions = repetitions;
+        this.runner = runner;
+        this.listener = listener;
     }
 
     @Override
     public Matrix metric() {
-        final Random random = this.initial.random();
-        final Key probe = new Randomized(new KeyOf(this.size), random);
+        final Key probe = new KeyOf(this.size);
         final Hash hash = this.func.apply(probe, this.seed);
-        final int[][] flips = new int[probe.bits()][hash.bits()];
-        for (int rep = 0; rep < this.repetitions; ++rep) {
-            final Key key = new Randomized(new KeyOf(this.size), random);
-            final Hash original = this.func.apply(key, this.seed);
-            for (int row = 0; row < probe.bits(); ++row) {
-                final Key flipped = new Flipped(key, row);
-                final Hash changed = this.func.apply(flipped, this.seed);
-                for (int column = 0; column < hash.bits(); ++column) {
-                    final int obit = original.bitAt(column);
-                    final int cbit = changed.bitAt(column);
-                    flips[row][column] += new BitDiff(obit, cbit).value();
+        final Keys keys = new RandomKeys(
+            this.size,
+            this.initial,
+            this.repetitions
+        );
+        this.listener.phase("hash", this.repetitions);
+        final Matrix matrix = this.runner.reduce(
+            this.repetitions,
+            AvalancheTest.GRAIN,
+            (from, to) -> {
+                final int[][] flips = new int[probe.bits()][hash.bits()];
+                for (int rep = from; rep < to; ++rep) {
+                    this.flip(keys.item(rep), flips);
                 }
+                this.listener.advance(
+                    to - from,
+                    (long) (to - from) * (probe.bits() + 1) * this.size
+                );
+                return new Matrix(to - from, flips);
+            },
+            Matrix::merge
+        );
+        this.listener.phase("done", 0L);
+        return matrix;
+    }
+
+    /**
+     * Flip every bit of a key and count the changed output bits.
+     * @param key The key
+     * @param flips Flips matrix to be updated
+     */
+    private void flip(final Key key, final int[][] flips) {
+        final Hash original = this.func.apply(key, this.seed);
+        for (int row = 0; row < flips.length; ++row) {
+            final Key flipped = new Flipped(key, row);
+            final Hash changed = this.func.apply(flipped, this.seed);
+            for (int column = 0; column < flips[row].length; ++column) {
+                final int obit = original.bitAt(column);
+                final int cbit = changed.bitAt(column);
+                flips[row][column] += new BitDiff(obit, cbit).value();
             }
         }
-        return new Matrix(this.repetitions, flips);
     }
 }
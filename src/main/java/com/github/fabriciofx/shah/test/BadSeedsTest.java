@@ -7,6 +7,7 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.hashes.HashesOf;
@@ -14,6 +15,7 @@ import com.github.fabriciofx.shah.key.Filled;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
 import com.github.fabriciofx.shah.metric.Ratio;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.scalar.AllZero;
 import com.github.fabriciofx.shah.seed.Seed64;
 import java.util.Arrays;
@@ -62,6 +64,11 @@ public final class BadSeedsTest implements Test<Ratio> {
         0, 32, '0', 127, 128, 255,
     };
 
+    /**
+     * Number of seeds per chunk.
+     */
+    private static final int GRAIN = 64;
+
     /**
      * The hash under test, accepting (key, seed).
      */
@@ -72,6 +79,11 @@ public final class BadSeedsTest implements Test<Ratio> {
      */
     private final Seed[] seeds;
 
+    /**
+     * Runner of the chunks of seeds.
+     */
+    private final Runner runner;
+
     /**
      * Ctor with default seed 0.
      * @param func The hash function under test, accepting (key, seed)
@@ -88,20 +100,47 @@ public final class BadSeedsTest implements Test<Ratio> {
     public BadSeedsTest(
         final BiFunction<Key, Seed, Hash> func,
         final Seed... seeds
+    ) {
+        this(func, new Serial(), seeds);
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test, accepting (key, seed)
+     * @param runner Runner of the chunks of seeds
+     * @param seeds Known seed values to test
+     */
+    public BadSeedsTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Runner runner,
+        final Seed... seeds
     ) {
         this.func = func;
+        this.runner = runner;
         this.seeds = Arrays.copyOf(seeds, seeds.length);
     }
 
     @Override
     public Ratio metric() {
-        int failures = 0;
-        for (final Seed seed : this.seeds) {
-            if (!this.testSeed(seed)) {
-                ++failures;
+        final int[] totals = this.runner.reduce(
+            this.seeds.length,
+            BadSeedsTest.GRAIN,
+            (from, to) -> {
+                final int[] part = {0, to - from};
+                for (int idx = from; idx < to; ++idx) {
+                    if (!this.testSeed(this.seeds[idx])) {
+                        ++part[0];
+                    }
+                }
+                return part;
+            },
+            (first, second) -> {
+                first[0] += second[0];
+                first[1] += second[1];
+                return first;
             }
-        }
-        return new Ratio(failures, this.seeds.length);
+        );
+        return new Ratio(totals[0], totals[1]);
     }
 
     /**
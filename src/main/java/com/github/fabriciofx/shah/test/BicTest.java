@@ -4,17 +4,22 @@
  */
 package com.github.fabriciofx.shah.test;
 
+import com.github.fabriciofx.shah.Footprint;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.key.Flipped;
 import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
+import com.github.fabriciofx.shah.keys.RandomKeys;
 import com.github.fabriciofx.shah.metric.BicBias;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.scalar.ByteDiff;
 import com.github.fabriciofx.shah.scalar.FirstBit;
-import java.util.Random;
 import java.util.function.BiFunction;
 
 /**
@@ -36,7 +41,12 @@ import java.util.function.BiFunction;
  * @checkstyle NestedForDepthCheck (200 lines)
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
-public final class BicTest implements Test<BicBias> {
+public final class BicTest implements Test<BicBias>, Footprint {
+    /**
+     * Number of repetitions per chunk.
+     */
+    private static final int GRAIN = 256;
+
     /**
      * The hash function under test.
      */
@@ -62,6 +72,16 @@ public final class BicTest implements Test<BicBias> {
      */
     private final int repetitions;
 
+    /**
+     * Runner of the chunks of repetitions.
+     */
+    private final Runner runner;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -77,50 +97,171 @@ public final class BicTest implements Test<BicBias> {
         final int size,
         final Seed initial,
         final int repetitions
+    ) {
+        this(func, seed, size, initial, repetitions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function
+     * @param size Key's size in bytes
+     * @param initial Key's seed
+     * @param repetitions Number of repetitions
+     * @param runner Runner of the chunks of repetitions
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public BicTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final Runner runner
+    ) {
+        this(func, seed, size, initial, repetitions, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function
+     * @param size Key's size in bytes
+     * @param initial Key's seed
+     * @param repetitions Number of repetitions
+     * @param runner Runner of the chunks of repetitions
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public BicTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final Runner runner,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.initial = initial;
         this.repetitions = repetitions;
+        this.runner = runner;
+        this.listener = listener;
     }
 
     @Override
     public BicBias metric() {
-        final Random random = this.initial.random();
-        final Key probe = new Randomized(new KeyOf(this.size), random);
+        final Key probe = new KeyOf(this.size);
         final Hash hash = this.func.apply(probe, this.seed);
-        final int[][][][] bins =
-            new int[probe.bits()][hash.bits()][hash.bits()][4];
-        for (int bit = 0; bit < probe.bits(); ++bit) {
-            for (int rep = 0; rep < this.repetitions; ++rep) {
-                final Key key = new Randomized(new KeyOf(this.size), random);
-                final Hash original = this.func.apply(key, this.seed);
-                final Hash flipped = this.func.apply(
-                    new Flipped(key, bit),
-                    this.seed
+        final Keys keys = new RandomKeys(
+            this.size,
+            this.initial,
+            probe.bits() * this.repetitions
+        );
+        this.listener.phase("hash", (long) probe.bits() * this.repetitions);
+        final BicBias bias = this.runner.reduce(
+            this.repetitions,
+            BicTest.GRAIN,
+            (from, to) -> {
+                final int[][][][] tables = new int[probe.bits()][][][];
+                for (int bit = 0; bit < tables.length; ++bit) {
+                    tables[bit] = this.tables(keys, bit, from, to, hash.bits());
+                }
+                this.listener.advance(
+                    (long) (to - from) * probe.bits(),
+                    2L * (to - from) * probe.bits() * this.size
                 );
-                for (int one = 0; one < hash.bits(); ++one) {
-                    final int idx = one >> 3;
-                    final int first = new FirstBit(
-                        new ByteDiff(original.byteAt(idx), flipped.byteAt(idx)),
-                        one
+                return new BicBias(tables, to - from);
+            },
+            BicBias::merge
+        );
+        this.listener.phase("done", 0L);
+        return bias;
+    }
+
+    @Override
+    public long hashes() {
+        return 0L;
+    }
+
+    @Override
+    public long sorted() {
+        return 0L;
+    }
+
+    @Override
+    public int width() {
+        return this.func.apply(new KeyOf(this.size), this.seed).bits()
+            / Byte.SIZE;
+    }
+
+    /**
+     * Bytes of the contingency tables of all input bits: an array of four
+     * counters (16 bytes of header and 16 of counters) per pair of output
+     * bits, plus the arrays referencing them. Each chunk in flight fills
+     * tables of the same size, see {@link #chunk()}.
+     * @return The number of bytes
+     * @checkstyle MagicNumberCheck (10 lines)
+     */
+    @Override
+    public long counters() {
+        final long bits = this.width() * (long) Byte.SIZE;
+        return this.size * (long) Byte.SIZE * bits * (bits * 36L + 16L);
+    }
+
+    @Override
+    public long chunk() {
+        return this.counters();
+    }
+
+    /**
+     * Build the contingency tables of an input bit over a slice of the
+     * repetitions.
+     * @param keys The keys
+     * @param bit The input bit
+     * @param from First repetition
+     * @param to Repetition after the last one
+     * @param bits Number of bits in hash
+     * @return Contingency tables tables[outBit1][outBit2][outcome]
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private int[][][] tables(
+        final Keys keys,
+        final int bit,
+        final int from,
+        final int to,
+        final int bits
+    ) {
+        final int[][][] bins = new int[bits][bits][4];
+        for (int rep = from; rep < to; ++rep) {
+            final Key key = keys.item(bit * this.repetitions + rep);
+            final Hash original = this.func.apply(key, this.seed);
+            final Hash flipped = this.func.apply(
+                new Flipped(key, bit),
+                this.seed
+            );
+            for (int one = 0; one < bits; ++one) {
+                final int idx = one >> 3;
+                final int first = new FirstBit(
+                    new ByteDiff(original.byteAt(idx), flipped.byteAt(idx)),
+                    one
+                ).value();
+                for (int two = one + 1; two < bits; ++two) {
+                    final int pos = two >> 3;
+                    final int second = new FirstBit(
+                        new ByteDiff(
+                            original.byteAt(pos),
+                            flipped.byteAt(pos)
+                        ),
+                        two
                     ).value();
-                    for (int two = one + 1; two < hash.bits(); ++two) {
-                        final int pos = two >> 3;
-                        final int second = new FirstBit(
-                            new ByteDiff(
-                                original.byteAt(pos),
-                                flipped.byteAt(pos)
-                            ),
-                            two
-                        ).value();
-                        final int index = first | (second << 1);
-                        ++bins[bit][one][two][index];
-                    }
+                    final int index = first | (second << 1);
+                    ++bins[one][two][index];
                 }
             }
         }
-        return new BicBias(bins, this.repetitions);
+        return bins;
     }
 }
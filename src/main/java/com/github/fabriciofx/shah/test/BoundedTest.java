@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.metric.Partial;
+import com.github.fabriciofx.shah.runner.Cancellable;
+import com.github.fabriciofx.shah.runner.Serial;
+import com.github.fabriciofx.shah.runner.Token;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded test.
+ *
+ * <p>Run a test with a {@link Cancellable} runner, so that it stops once
+ * its token is cancelled or its deadline has passed, and return its metric
+ * as a {@link Partial} metric with the number of samples actually used.
+ * The test is built from the runner, e.g.
+ * {@code runner -> new CollisionTest(func, seed, 8, initial, count,
+ * runner)}.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class BoundedTest<T> implements Test<Partial<T>> {
+    /**
+     * Test, built from its runner.
+     */
+    private final Function<Runner, Test<T>> test;
+
+    /**
+     * Cancellation token.
+     */
+    private final Scalar<Token> token;
+
+    /**
+     * Runner of the chunks.
+     */
+    private final Runner origin;
+
+    /**
+     * Ctor with a deadline counted from the start of the test.
+     * @param test Test, built from its runner
+     * @param timeout Time budget of the test
+     */
+    public BoundedTest(
+        final Function<Runner, Test<T>> test,
+        final Duration timeout
+    ) {
+        this(test, timeout, new Serial());
+    }
+
+    /**
+     * Ctor with a deadline counted from the start of the test.
+     * @param test Test, built from its runner
+     * @param timeout Time budget of the test
+     * @param origin Runner of the chunks
+     */
+    public BoundedTest(
+        final Function<Runner, Test<T>> test,
+        final Duration timeout,
+        final Runner origin
+    ) {
+        this(test, () -> new Token(timeout), origin);
+    }
+
+    /**
+     * Ctor.
+     * @param test Test, built from its runner
+     * @param token Cancellation token
+     * @param origin Runner of the chunks
+     */
+    public BoundedTest(
+        final Function<Runner, Test<T>> test,
+        final Token token,
+        final Runner origin
+    ) {
+        this(test, () -> token, origin);
+    }
+
+    /**
+     * Ctor.
+     * @param test Test, built from its runner
+     * @param token Cancellation token, got at the start of the test
+     * @param origin Runner of the chunks
+     */
+    private BoundedTest(
+        final Function<Runner, Test<T>> test,
+        final Scalar<Token> token,
+        final Runner origin
+    ) {
+        this.test = test;
+        this.token = token;
+        this.origin = origin;
+    }
+
+    @Override
+    public Partial<T> metric() {
+        final Cancellable runner = new Cancellable(
+            this.token.value(),
+            this.origin
+        );
+        final T metric = this.test.apply(runner).metric();
+        return new Partial<>(metric, runner.samples(), runner.total());
+    }
+}
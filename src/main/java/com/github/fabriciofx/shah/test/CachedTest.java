@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Scalar;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.cache.Results;
+
+/**
+ * Cached test.
+ *
+ * <p>Return the metric of a test from {@link Results} if it has already
+ * been computed for the same key, usually a
+ * {@link com.github.fabriciofx.shah.cache.Fingerprint} of the hash
+ * function, the test and its parameters; otherwise run the test and store
+ * its metric, which must be {@link java.io.Serializable}.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class CachedTest<T> implements Test<T> {
+    /**
+     * Cache of the results.
+     */
+    private final Results results;
+
+    /**
+     * Key of the result.
+     */
+    private final Scalar<String> key;
+
+    /**
+     * Test.
+     */
+    private final Test<T> origin;
+
+    /**
+     * Ctor.
+     * @param results Cache of the results
+     * @param key Key of the result
+     * @param origin Test
+     */
+    public CachedTest(
+        final Results results,
+        final Scalar<String> key,
+        final Test<T> origin
+    ) {
+        this.results = results;
+        this.key = key;
+        this.origin = origin;
+    }
+
+    @Override
+    public T metric() {
+        return this.results.value(this.key.value(), this.origin::metric);
+    }
+}
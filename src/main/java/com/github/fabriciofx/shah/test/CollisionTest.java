@@ -5,15 +5,19 @@
 package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
-import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
-import com.github.fabriciofx.shah.hashes.HashesOf;
-import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
 import com.github.fabriciofx.shah.metric.Collisions;
-import java.util.Random;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
 import java.util.function.BiFunction;
 
 /**
@@ -26,11 +30,19 @@ import java.util.function.BiFunction;
  *
  * <p>Supports hash outputs of any width (32, 64, 128, 256 bits, etc.).</p>
  *
+ * <p>The hashes are kept with the indices of their keys, so the colliding
+ * keys are generated again and given by {@link Collisions#colliding()}.</p>
+ *
  * @see <a href="https://github.com/aappleby/smhasher">SMHasher</a>
  * @since 0.0.1
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
 public final class CollisionTest implements Test<Collisions> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * The hash under test.
      */
@@ -56,6 +68,16 @@ public final class CollisionTest implements Test<Collisions> {
      */
     private final int count;
 
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -71,22 +93,85 @@ public final class CollisionTest implements Test<Collisions> {
         final int size,
         final Seed initial,
         final int count
+    ) {
+        this(func, seed, size, initial, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Key seed
+     * @param size Key size
+     * @param initial Test seed
+     * @param count Number of keys to hash
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner
+    ) {
+        this(func, seed, size, initial, count, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Key seed
+     * @param size Key size
+     * @param initial Test seed
+     * @param count Number of keys to hash
+     * @param runner Runner of the chunks of keys
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.initial = initial;
         this.count = count;
+        this.runner = runner;
+        this.listener = listener;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
-        final Random random = this.initial.random();
-        for (int idx = 0; idx < this.count; ++idx) {
-            final Key key = new Randomized(new KeyOf(this.size), random);
-            hashes.add(this.func.apply(key, this.seed));
-        }
-        return new Collisions(hashes);
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Loop loop = new Specialized(this.func, this.seed);
+        this.listener.phase("hash", keys.count());
+        final Collisions collisions = new Collisions(
+            this.runner.reduce(
+                keys.count(),
+                CollisionTest.GRAIN,
+                (from, to) -> {
+                    final Indexed hashes = new Indexed(from, to - from);
+                    loop.run(keys, from, to, hashes::add);
+                    this.listener.advance(
+                        to - from,
+                        (long) (to - from) * this.size
+                    );
+                    return hashes;
+                },
+                Indexed::merge
+            ),
+            keys
+        );
+        this.listener.phase("sort", keys.count());
+        collisions.value();
+        this.listener.phase("done", 0L);
+        return collisions;
     }
 }
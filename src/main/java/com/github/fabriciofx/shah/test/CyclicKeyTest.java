@@ -5,14 +5,21 @@
 package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
-import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
-import com.github.fabriciofx.shah.hashes.HashesOf;
+import com.github.fabriciofx.shah.hashes.Indexed;
 import com.github.fabriciofx.shah.key.Cycled;
 import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.keys.KeysOf;
+import com.github.fabriciofx.shah.loop.Specialized;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.profile.Configured;
+import com.github.fabriciofx.shah.runner.Serial;
 import java.util.function.BiFunction;
 
 /**
@@ -31,7 +38,9 @@ import java.util.function.BiFunction;
  * f3mix function {@code f3mix(i ^ 0x746a94f1)}.</p>
  *
  * <p>Supports hash outputs of any width (32, 64, 128, 256 bits,
- * etc.).</p>
+ * etc.). The keys can also be given, e.g. as a
+ * {@link com.github.fabriciofx.shah.keys.Stored} keyset of them generated
+ * once for all the functions.</p>
  *
  * @see <a href="https://github.com/rurban/smhasher">SMHasher</a>
  * @since 0.0.1
@@ -41,6 +50,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
 public final class CyclicKeyTest implements Test<Collisions> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * Default number of keys.
      */
@@ -57,19 +71,30 @@ public final class CyclicKeyTest implements Test<Collisions> {
     private final Seed seed;
 
     /**
-     * Cycle length (pattern length in bytes).
+     * The cyclic keys.
      */
-    private final int length;
+    private final Keys keys;
 
     /**
-     * Number of cycle repetitions.
+     * Runner of the chunks of keys.
      */
-    private final int repetitions;
+    private final Runner runner;
 
     /**
-     * Number of keys to generate.
+     * Ctor with default key count.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param length Cycle pattern length in bytes
+     * @param repetitions Number of cycle repetitions
      */
-    private final int count;
+    public CyclicKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int length,
+        final int repetitions
+    ) {
+        this(func, seed, length, repetitions, new Configured());
+    }
 
     /**
      * Ctor with default key count.
@@ -77,14 +102,45 @@ public final class CyclicKeyTest implements Test<Collisions> {
      * @param seed The hash function seed
      * @param length Cycle pattern length in bytes
      * @param repetitions Number of cycle repetitions
+     * @param profile Run profile, scaling the default key count
+     * @checkstyle ParameterNumberCheck (10 lines)
      */
     public CyclicKeyTest(
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed,
         final int length,
-        final int repetitions
+        final int repetitions,
+        final Profile profile
     ) {
-        this(func, seed, length, CyclicKeyTest.DEFAULT_COUNT, repetitions);
+        this(func, seed, length, repetitions, profile, new Serial());
+    }
+
+    /**
+     * Ctor with default key count.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param length Cycle pattern length in bytes
+     * @param repetitions Number of cycle repetitions
+     * @param profile Run profile, scaling the default key count
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CyclicKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int length,
+        final int repetitions,
+        final Profile profile,
+        final Runner runner
+    ) {
+        this(
+            func,
+            seed,
+            length,
+            profile.samples(CyclicKeyTest.DEFAULT_COUNT),
+            repetitions,
+            runner
+        );
     }
 
     /**
@@ -102,22 +158,77 @@ public final class CyclicKeyTest implements Test<Collisions> {
         final int length,
         final int count,
         final int repetitions
+    ) {
+        this(func, seed, length, count, repetitions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param length Cycle pattern length in bytes
+     * @param count Number of keys to generate
+     * @param repetitions Number of cycle repetitions
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CyclicKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int length,
+        final int count,
+        final int repetitions,
+        final Runner runner
+    ) {
+        this(
+            func,
+            seed,
+            new KeysOf(
+                count,
+                idx -> new Cycled(
+                    new KeyOf(length * repetitions),
+                    length,
+                    idx
+                )
+            ),
+            runner
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param keys The cyclic keys, e.g. a stored keyset of them
+     * @param runner Runner of the chunks of keys
+     */
+    public CyclicKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Keys keys,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
-        this.length = length;
-        this.count = count;
-        this.repetitions = repetitions;
+        this.keys = keys;
+        this.runner = runner;
     }
 
     @Override
     public Collisions metric() {
-        final int size = this.length * this.repetitions;
-        final Hashes hashes = new HashesOf();
-        for (int idx = 0; idx < this.count; ++idx) {
-            final Key cycled = new Cycled(new KeyOf(size), this.length, idx);
-            hashes.add(this.func.apply(cycled, this.seed));
-        }
-        return new Collisions(hashes);
+        final Loop loop = new Specialized(this.func, this.seed);
+        return new Collisions(
+            this.runner.reduce(
+                this.keys.count(),
+                CyclicKeyTest.GRAIN,
+                (from, to) -> {
+                    final Indexed hashes = new Indexed(from, to - from);
+                    loop.run(this.keys, from, to, hashes::add);
+                    return hashes;
+                },
+                Indexed::merge
+            ),
+            this.keys
+        );
     }
 }
@@ -7,14 +7,19 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.Flipped;
 import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
+import com.github.fabriciofx.shah.keys.RandomKeys;
 import com.github.fabriciofx.shah.metric.DistributionScore;
-import java.util.Random;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -39,6 +44,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
 public final class DiffDistTest implements Test<Double> {
+    /**
+     * Number of input bits per chunk.
+     */
+    private static final int GRAIN = 1;
+
     /**
      * The hash function under test.
      */
@@ -64,6 +74,16 @@ public final class DiffDistTest implements Test<Double> {
      */
     private final int count;
 
+    /**
+     * Runner of the chunks of input bits.
+     */
+    private final Runner runner;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -79,35 +99,109 @@ public final class DiffDistTest implements Test<Double> {
         final int size,
         final Seed initial,
         final int count
+    ) {
+        this(func, seed, size, initial, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key's size in byte
+     * @param initial Key's seed
+     * @param count Number of keys
+     * @param runner Runner of the chunks of input bits
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DiffDistTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner
+    ) {
+        this(func, seed, size, initial, count, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key's size in byte
+     * @param initial Key's seed
+     * @param count Number of keys
+     * @param runner Runner of the chunks of input bits
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DiffDistTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.initial = initial;
         this.count = count;
+        this.runner = runner;
+        this.listener = listener;
     }
 
     @Override
     public Double metric() {
-        final Random random = this.initial.random();
-        final Key probe = new Randomized(new KeyOf(this.size), random);
-        double worst = 0.0;
-        for (int bit = 0; bit < probe.bits(); ++bit) {
-            final Hashes diffs = new HashesOf();
-            for (int idx = 0; idx < this.count; ++idx) {
-                final Key key = new Randomized(new KeyOf(this.size), random);
-                final Hash original = this.func.apply(key, this.seed);
-                final Hash flipped = this.func.apply(
-                    new Flipped(key, bit),
-                    this.seed
-                );
-                diffs.add(original.diff(flipped));
-            }
-            final double score = new DistributionScore(diffs).value();
-            if (score > worst) {
-                worst = score;
-            }
+        final Key probe = new KeyOf(this.size);
+        final Keys keys = new RandomKeys(
+            this.size,
+            this.initial,
+            probe.bits() * this.count
+        );
+        this.listener.phase("hash", (long) probe.bits() * this.count);
+        final double score = this.runner.reduce(
+            probe.bits(),
+            DiffDistTest.GRAIN,
+            (from, to) -> {
+                double worst = 0.0;
+                for (int bit = from; bit < to; ++bit) {
+                    worst = Math.max(
+                        worst,
+                        new DistributionScore(this.diffs(keys, bit)).value()
+                    );
+                    this.listener.advance(
+                        this.count,
+                        2L * this.count * this.size
+                    );
+                }
+                return worst;
+            },
+            Math::max
+        );
+        this.listener.phase("done", 0L);
+        return score;
+    }
+
+    /**
+     * Compute the hash differences of flipping an input bit.
+     * @param keys The keys
+     * @param bit The input bit
+     * @return The hash differences
+     */
+    private Hashes diffs(final Keys keys, final int bit) {
+        final Hashes diffs = new HashesOf(new ArrayList<>(this.count));
+        for (int idx = 0; idx < this.count; ++idx) {
+            final Key key = keys.item(bit * this.count + idx);
+            final Hash original = this.func.apply(key, this.seed);
+            final Hash flipped = this.func.apply(
+                new Flipped(key, bit),
+                this.seed
+            );
+            diffs.add(original.diff(flipped));
         }
-        return worst;
+        return diffs;
     }
 }
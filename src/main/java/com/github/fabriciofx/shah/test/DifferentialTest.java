@@ -5,18 +5,26 @@
 package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Family;
+import com.github.fabriciofx.shah.Footprint;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.family.FamilyOf;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.Flipped;
 import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
-import java.util.Random;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 
 /**
  * Differential test from SMHasher.
@@ -36,7 +44,12 @@ import java.util.function.BiFunction;
  * @since 0.0.1
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
-public final class DifferentialTest implements Test<Family> {
+public final class DifferentialTest implements Test<Family>, Footprint {
+    /**
+     * Number of input bits per chunk.
+     */
+    private static final int GRAIN = 1;
+
     /**
      * The hash under test.
      */
@@ -62,6 +75,21 @@ public final class DifferentialTest implements Test<Family> {
      */
     private final int count;
 
+    /**
+     * Runner of the chunks of input bits.
+     */
+    private final Runner runner;
+
+    /**
+     * Storage of the hashes of an input bit, by expected number of hashes.
+     */
+    private final IntFunction<Hashes> storage;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -77,32 +105,195 @@ public final class DifferentialTest implements Test<Family> {
         final int size,
         final Seed initial,
         final int count
+    ) {
+        this(func, seed, size, initial, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key's size in bytes
+     * @param initial Key's seed
+     * @param count Number of keys
+     * @param runner Runner of the chunks of input bits
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DifferentialTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner
+    ) {
+        this(func, seed, size, initial, count, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key's size in bytes
+     * @param initial Key's seed
+     * @param count Number of keys
+     * @param runner Runner of the chunks of input bits
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DifferentialTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner,
+        final Listener listener
+    ) {
+        this(
+            func,
+            seed,
+            size,
+            initial,
+            count,
+            runner,
+            total -> new HashesOf(new ArrayList<>(total)),
+            listener
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key's size in bytes
+     * @param initial Key's seed
+     * @param count Number of keys
+     * @param runner Runner of the chunks of input bits
+     * @param storage Storage of the hashes, by expected number of hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DifferentialTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner,
+        final IntFunction<Hashes> storage
+    ) {
+        this(func, seed, size, initial, count, runner, storage, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key's size in bytes
+     * @param initial Key's seed
+     * @param count Number of keys
+     * @param runner Runner of the chunks of input bits
+     * @param storage Storage of the hashes, by expected number of hashes
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DifferentialTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner,
+        final IntFunction<Hashes> storage,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.initial = initial;
         this.count = count;
+        this.runner = runner;
+        this.storage = storage;
+        this.listener = listener;
     }
 
     @Override
     public Family metric() {
-        final Random random = this.initial.random();
-        final Key probe = new Randomized(new KeyOf(this.size), random);
-        final Family family = new FamilyOf();
-        for (int bit = 0; bit < probe.bits(); ++bit) {
-            final Hashes diffs = new HashesOf();
-            for (int idx = 0; idx < this.count; ++idx) {
-                final Key key = new Randomized(new KeyOf(this.size), random);
-                final Hash original = this.func.apply(key, this.seed);
-                final Hash flipped = this.func.apply(
-                    new Flipped(key, bit),
-                    this.seed
-                );
-                diffs.add(original.diff(flipped));
-            }
-            family.add(diffs);
-        }
+        final Key probe = new KeyOf(this.size);
+        final Keys keys = new RandomKeys(
+            this.size,
+            this.initial,
+            probe.bits() * this.count
+        );
+        this.listener.phase("hash", this.hashes());
+        final Family family = new FamilyOf(
+            this.runner.reduce(
+                probe.bits(),
+                DifferentialTest.GRAIN,
+                (from, to) -> {
+                    final List<Hashes> part = new ArrayList<>(to - from);
+                    for (int bit = from; bit < to; ++bit) {
+                        part.add(this.diffs(keys, bit));
+                        this.listener.advance(
+                            this.count,
+                            2L * this.count * this.size
+                        );
+                    }
+                    return part;
+                },
+                (first, second) -> {
+                    first.addAll(second);
+                    return first;
+                }
+            )
+        );
+        this.listener.phase("done", 0L);
         return family;
     }
+
+    @Override
+    public long hashes() {
+        return (long) this.size * Byte.SIZE * this.count;
+    }
+
+    @Override
+    public long sorted() {
+        return this.count;
+    }
+
+    @Override
+    public int width() {
+        return this.func.apply(new KeyOf(this.size), this.seed).bits()
+            / Byte.SIZE;
+    }
+
+    @Override
+    public long counters() {
+        return 0L;
+    }
+
+    @Override
+    public long chunk() {
+        return 0L;
+    }
+
+    /**
+     * Compute the hash differences of flipping an input bit.
+     * @param keys The keys
+     * @param bit The input bit
+     * @return The hash differences
+     */
+    private Hashes diffs(final Keys keys, final int bit) {
+        final Hashes diffs = this.storage.apply(this.count);
+        for (int idx = 0; idx < this.count; ++idx) {
+            final Key key = keys.item(bit * this.count + idx);
+            final Hash original = this.func.apply(key, this.seed);
+            final Hash flipped = this.func.apply(
+                new Flipped(key, bit),
+                this.seed
+            );
+            diffs.add(original.diff(flipped));
+        }
+        return diffs;
+    }
 }
@@ -7,13 +7,18 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
-import com.github.fabriciofx.shah.key.KeyOf;
-import com.github.fabriciofx.shah.key.Randomized;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
 import com.github.fabriciofx.shah.metric.DistributionScore;
-import java.util.Random;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -34,6 +39,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
 public final class DistributionTest implements Test<DistributionScore> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * The hash function under test.
      */
@@ -59,6 +69,11 @@ public final class DistributionTest implements Test<DistributionScore> {
      */
     private final int count;
 
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -74,22 +89,53 @@ public final class DistributionTest implements Test<DistributionScore> {
         final int size,
         final Seed initial,
         final int count
+    ) {
+        this(func, seed, size, initial, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key's size
+     * @param initial Key's seed
+     * @param count Number of keys to hash
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DistributionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.initial = initial;
         this.count = count;
+        this.runner = runner;
     }
 
     @Override
     public DistributionScore metric() {
-        final Hashes hashes = new HashesOf();
-        final Random random = this.initial.random();
-        for (int idx = 0; idx < this.count; ++idx) {
-            final Key key = new Randomized(new KeyOf(this.size), random);
-            hashes.add(this.func.apply(key, this.seed));
-        }
-        return new DistributionScore(hashes);
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Loop loop = new Specialized(this.func, this.seed);
+        return new DistributionScore(
+            this.runner.reduce(
+                keys.count(),
+                DistributionTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf(
+                        new ArrayList<>(to - from)
+                    );
+                    loop.run(keys, from, to, hashes::add);
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
     }
 }
@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Sink;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Fan-out test.
+ *
+ * <p>Generate random keys, hash each of them once and feed the hash to
+ * several {@link Sink}s at the same time, e.g. a
+ * {@link com.github.fabriciofx.shah.sink.CollisionSink} and a
+ * {@link com.github.fabriciofx.shah.sink.HistogramSink} get the same
+ * metrics as {@link CollisionTest} and {@link DistributionTest} with the
+ * same parameters, for half of the hashing work.</p>
+ *
+ * <p>Each run takes an empty copy of the sinks, and each chunk of keys
+ * feeds its own empty copy of the copies of the run, merged in chunk
+ * order. Sinks whose chunk copies share state within a run, like
+ * {@link com.github.fabriciofx.shah.sink.HistogramSink}, keep it apart
+ * from the other runs. The metric is the list of the sink values, in the
+ * order of the sinks.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class FanOutTest implements Test<List<Object>> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 65_536;
+
+    /**
+     * The hash under test.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys to hash.
+     */
+    private final int count;
+
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
+    /**
+     * Sinks fed by the hashes.
+     */
+    private final List<Sink<?>> sinks;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param count Number of keys to hash
+     * @param sinks Sinks fed by the hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public FanOutTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Sink<?>... sinks
+    ) {
+        this(func, seed, size, initial, count, new Serial(), sinks);
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param count Number of keys to hash
+     * @param runner Runner of the chunks of keys
+     * @param sinks Sinks fed by the hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public FanOutTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner,
+        final Sink<?>... sinks
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.runner = runner;
+        this.sinks = Arrays.asList(sinks);
+    }
+
+    @Override
+    public List<Object> metric() {
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Loop loop = new Specialized(this.func, this.seed);
+        final List<Sink<?>> run = new ArrayList<>(this.sinks.size());
+        for (final Sink<?> sink : this.sinks) {
+            run.add(sink.empty());
+        }
+        final List<Sink<?>> merged = this.runner.reduce(
+            keys.count(),
+            FanOutTest.GRAIN,
+            (from, to) -> {
+                final List<Sink<?>> part = new ArrayList<>(run.size());
+                for (final Sink<?> sink : run) {
+                    part.add(sink.empty());
+                }
+                loop.run(
+                    keys,
+                    from,
+                    to,
+                    hash -> {
+                        for (final Sink<?> sink : part) {
+                            sink.add(hash);
+                        }
+                    }
+                );
+                return part;
+            },
+            (first, second) -> {
+                for (int idx = 0; idx < first.size(); ++idx) {
+                    FanOutTest.merge(first.get(idx), second.get(idx));
+                }
+                return first;
+            }
+        );
+        final List<Object> values = new ArrayList<>(merged.size());
+        for (final Sink<?> sink : merged) {
+            values.add(sink.value());
+        }
+        return values;
+    }
+
+    /**
+     * Merge two sinks of the same kind.
+     * @param first The first sink
+     * @param second The second sink, of the same kind as the first one
+     * @param <T> Type of the metric value
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void merge(final Sink<T> first, final Sink<?> second) {
+        first.merge((Sink<T>) second);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.metric.Verdict;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Judged test.
+ *
+ * <p>Compute the metric of a test and judge it against a pass threshold,
+ * as a {@link Verdict}. The score is taken from the metric, e.g.
+ * {@code new JudgedTest<>(new CollisionTest(...),
+ * collisions -> collisions.ratio().value(), 2.0)}.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class JudgedTest<T> implements Test<Verdict<T>> {
+    /**
+     * Test.
+     */
+    private final Test<T> origin;
+
+    /**
+     * Score of a metric.
+     */
+    private final ToDoubleFunction<T> score;
+
+    /**
+     * Pass threshold of the score.
+     */
+    private final double limit;
+
+    /**
+     * Ctor.
+     * @param origin Test
+     * @param score Score of a metric
+     * @param limit Pass threshold of the score
+     */
+    public JudgedTest(
+        final Test<T> origin,
+        final ToDoubleFunction<T> score,
+        final double limit
+    ) {
+        this.origin = origin;
+        this.score = score;
+        this.limit = limit;
+    }
+
+    @Override
+    public Verdict<T> metric() {
+        final T metric = this.origin.metric();
+        return new Verdict<>(
+            metric,
+            this.score.applyAsDouble(metric),
+            this.limit
+        );
+    }
+}
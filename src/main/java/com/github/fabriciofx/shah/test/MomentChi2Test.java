@@ -6,9 +6,13 @@ package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.profile.Configured;
+import com.github.fabriciofx.shah.runner.Serial;
 import java.util.function.BiFunction;
 
 /**
@@ -34,12 +38,22 @@ import java.util.function.BiFunction;
  * bits-0). Lower values indicate better hash quality: below 5.0
  * is "Great", below 50.0 is "Good", below 500.0 is "pass".</p>
  *
+ * <p>The moments are divided by the number of keys actually hashed, so a
+ * run cut short by a {@link com.github.fabriciofx.shah.runner.Cancellable}
+ * runner, whose remaining chunks are empty, gives the statistic of the
+ * keys it has seen. Without any key it is 0.0.</p>
+ *
  * @see <a href="https://github.com/rurban/smhasher">SMHasher</a>
  * @since 0.0.1
  * @checkstyle MagicNumberCheck (300 lines)
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class MomentChi2Test implements Test<Double> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * Reference mean for 32-bit hashes.
      */
@@ -105,6 +119,11 @@ public final class MomentChi2Test implements Test<Double> {
      */
     private final int count;
 
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
     /**
      * Ctor with defaults.
      * @param func The hash function under test
@@ -113,13 +132,44 @@ public final class MomentChi2Test implements Test<Double> {
     public MomentChi2Test(
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed
+    ) {
+        this(func, seed, new Configured());
+    }
+
+    /**
+     * Ctor with defaults.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param profile Run profile, scaling the default key count
+     */
+    public MomentChi2Test(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Profile profile
+    ) {
+        this(func, seed, profile, new Serial());
+    }
+
+    /**
+     * Ctor with defaults.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param profile Run profile, scaling the default key count
+     * @param runner Runner of the chunks of keys
+     */
+    public MomentChi2Test(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Profile profile,
+        final Runner runner
     ) {
         this(
             func,
             seed,
             MomentChi2Test.DEFAULT_SIZE,
             MomentChi2Test.DEFAULT_STEP,
-            MomentChi2Test.DEFAULT_COUNT
+            profile.samples(MomentChi2Test.DEFAULT_COUNT),
+            runner
         );
     }
 
@@ -138,12 +188,34 @@ public final class MomentChi2Test implements Test<Double> {
         final int size,
         final int step,
         final int count
+    ) {
+        this(func, seed, size, step, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key size in bytes
+     * @param step Step between consecutive key values
+     * @param count Number of keys to generate
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public MomentChi2Test(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final int step,
+        final int count,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.step = step;
         this.count = count;
+        this.runner = runner;
     }
 
     @Override
@@ -153,29 +225,77 @@ public final class MomentChi2Test implements Test<Double> {
             64
         );
         final double[] ref = MomentChi2Test.refs(bits);
-        return MomentChi2Test.worstChi(
-            this.accumulate(bits),
-            this.count,
-            ref[0],
-            ref[1]
-        );
+        final double[] moments = this.accumulate(bits);
+        double worst = 0.0;
+        if (moments[8] > 0.0) {
+            worst = MomentChi2Test.worstChi(
+                moments,
+                moments[8],
+                ref[0],
+                ref[1]
+            );
+        }
+        return worst;
     }
 
     /**
      * Accumulate popcount moments over all keys.
-     * Returns 8 values: mean/var for bits-1, bits-0, dbits-1, dbits-0.
+     * Returns 8 values: mean/var for bits-1, bits-0, dbits-1, dbits-0,
+     * followed by the number of keys.
      * @param bits Number of hash bits to analyze
-     * @return Array of 8 accumulated moment values
+     * @return Array of 8 accumulated moment values and the number of keys
      */
     private double[] accumulate(final int bits) {
-        final double[] result = new double[8];
+        return this.runner.reduce(
+            this.count,
+            MomentChi2Test.GRAIN,
+            (from, to) -> this.accumulate(bits, from, to),
+            (first, second) -> {
+                for (int idx = 0; idx < first.length; ++idx) {
+                    first[idx] += second[idx];
+                }
+                return first;
+            }
+        );
+    }
+
+    /**
+     * Accumulate popcount moments over the keys {@code [from, to)}.
+     * @param bits Number of hash bits to analyze
+     * @param from First key index
+     * @param to Key index after the last one
+     * @return Array of 8 accumulated moment values and the number of keys
+     */
+    private double[] accumulate(final int bits, final int from, final int to) {
+        final double[] result = new double[9];
+        if (from < to) {
+            this.moments(result, bits, from, to);
+        }
+        result[8] = to - from;
+        return result;
+    }
+
+    /**
+     * Add the popcount moments of the keys {@code [from, to)}.
+     * @param result Accumulator of the 8 moment values
+     * @param bits Number of hash bits to analyze
+     * @param from First key index
+     * @param to Key index after the last one
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void moments(
+        final double[] result,
+        final int bits,
+        final int from,
+        final int to
+    ) {
         final byte[] bytes = new byte[this.size];
-        MomentChi2Test.toLittleEndian(bytes, (long) -this.step);
+        MomentChi2Test.toLittleEndian(bytes, (from - 1L) * this.step);
         long prev = MomentChi2Test.hashToLong(
             this.func.apply(new KeyOf(bytes.clone()), this.seed),
             bits
         );
-        for (int idx = 0; idx < this.count; ++idx) {
+        for (int idx = from; idx < to; ++idx) {
             MomentChi2Test.toLittleEndian(bytes, (long) idx * this.step);
             final long hash = MomentChi2Test.hashToLong(
                 this.func.apply(new KeyOf(bytes.clone()), this.seed),
@@ -185,7 +305,6 @@ public final class MomentChi2Test implements Test<Double> {
             MomentChi2Test.addMoments(result, 4, prev ^ hash, bits);
             prev = hash;
         }
-        return result;
     }
 
     /**
@@ -7,13 +7,19 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.key.Noised;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.seed.Seed64;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -36,6 +42,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class PerlinNoiseTest implements Test<Collisions> {
+    /**
+     * Number of coordinates per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * Default X bits.
      */
@@ -71,6 +82,16 @@ public final class PerlinNoiseTest implements Test<Collisions> {
      */
     private final int ybits;
 
+    /**
+     * Runner of the chunks of coordinates.
+     */
+    private final Runner runner;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor with defaults (10-bit X, 10-bit Y, 4-byte keys).
      * @param func The hash function under test, accepting (key, seed)
@@ -97,27 +118,96 @@ public final class PerlinNoiseTest implements Test<Collisions> {
         final int xbits,
         final int ybits
     ) {
+        this(func, size, xbits, ybits, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test, accepting (key, seed)
+     * @param size Input key length in bytes
+     * @param xbits Number of bits for X coordinate
+     * @param ybits Number of bits for Y coordinate (seed)
+     * @param runner Runner of the chunks of coordinates
+     */
+    public PerlinNoiseTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final int size,
+        final int xbits,
+        final int ybits,
+        final Runner runner
+    ) {
+        this(func, size, xbits, ybits, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test, accepting (key, seed)
+     * @param size Input key length in bytes
+     * @param xbits Number of bits for X coordinate
+     * @param ybits Number of bits for Y coordinate (seed)
+     * @param runner Runner of the chunks of coordinates
+     * @param listener Listener of the progress
+     */
+    public PerlinNoiseTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final int size,
+        final int xbits,
+        final int ybits,
+        final Runner runner,
+        final Listener listener
+    ) {
+        if (xbits < 0 || ybits < 0 || xbits + ybits >= Integer.SIZE - 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't hash 2^(%d + %d) keys, at most 2^30",
+                    xbits,
+                    ybits
+                )
+            );
+        }
         this.func = func;
         this.size = size;
         this.xbits = xbits;
         this.ybits = ybits;
+        this.runner = runner;
+        this.listener = listener;
     }
 
     @Override
     public Collisions metric() {
-        final int xmax = 1 << this.xbits;
-        final int ymax = 1 << this.ybits;
-        final Hashes hashes = new HashesOf();
-        for (int noise = 0; noise < xmax; ++noise) {
-            for (long seed = 0L; seed < ymax; ++seed) {
-                hashes.add(
-                    this.func.apply(
-                        new Noised(new KeyOf(this.size), noise),
-                        new Seed64(seed)
-                    )
-                );
-            }
-        }
-        return new Collisions(hashes);
+        final int count = 1 << (this.xbits + this.ybits);
+        this.listener.phase("hash", count);
+        final Collisions collisions = new Collisions(
+            this.runner.reduce(
+                count,
+                PerlinNoiseTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf(
+                        new ArrayList<>(to - from)
+                    );
+                    for (int idx = from; idx < to; ++idx) {
+                        hashes.add(
+                            this.func.apply(
+                                new Noised(
+                                    new KeyOf(this.size),
+                                    idx >>> this.ybits
+                                ),
+                                new Seed64(idx & ((1L << this.ybits) - 1L))
+                            )
+                        );
+                    }
+                    this.listener.advance(
+                        to - from,
+                        (long) (to - from) * this.size
+                    );
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
+        this.listener.phase("sort", count);
+        collisions.value();
+        this.listener.phase("done", 0L);
+        return collisions;
     }
 }
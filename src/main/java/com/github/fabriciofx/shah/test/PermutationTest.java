@@ -7,11 +7,15 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -35,6 +39,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class PermutationTest implements Test<Collisions> {
+    /**
+     * Number of permutations per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * The hash under test.
      */
@@ -55,6 +64,11 @@ public final class PermutationTest implements Test<Collisions> {
      */
     private final int positions;
 
+    /**
+     * Runner of the chunks of permutations.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -67,11 +81,30 @@ public final class PermutationTest implements Test<Collisions> {
         final Seed seed,
         final byte[] values,
         final int positions
+    ) {
+        this(func, seed, values, positions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param values Byte values to permute
+     * @param positions Number of positions in the key
+     * @param runner Runner of the chunks of permutations
+     */
+    public PermutationTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final byte[] values,
+        final int positions,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.values = values.clone();
         this.positions = positions;
+        this.runner = runner;
     }
 
     @Override
@@ -80,16 +113,29 @@ public final class PermutationTest implements Test<Collisions> {
         for (int idx = 0; idx < this.positions; ++idx) {
             total *= this.values.length;
         }
-        final Hashes hashes = new HashesOf();
-        final byte[] bytes = new byte[this.positions];
-        for (int idx = 0; idx < total; ++idx) {
-            int num = idx;
-            for (int pos = 0; pos < this.positions; ++pos) {
-                bytes[pos] = this.values[num % this.values.length];
-                num /= this.values.length;
-            }
-            hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
-        }
-        return new Collisions(hashes);
+        return new Collisions(
+            this.runner.reduce(
+                total,
+                PermutationTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf(
+                        new ArrayList<>(to - from)
+                    );
+                    final byte[] bytes = new byte[this.positions];
+                    for (int idx = from; idx < to; ++idx) {
+                        int num = idx;
+                        for (int pos = 0; pos < this.positions; ++pos) {
+                            bytes[pos] = this.values[num % this.values.length];
+                            num /= this.values.length;
+                        }
+                        hashes.add(
+                            this.func.apply(new KeyOf(bytes), this.seed)
+                        );
+                    }
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
     }
 }
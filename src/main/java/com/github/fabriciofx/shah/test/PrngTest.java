@@ -7,11 +7,13 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Profile;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.profile.Configured;
 import java.util.function.BiFunction;
 
 /**
@@ -58,7 +60,21 @@ public final class PrngTest implements Test<Collisions> {
      * @param seed The hash function seed
      */
     public PrngTest(final BiFunction<Key, Seed, Hash> func, final Seed seed) {
-        this(func, seed, PrngTest.DEFAULT_COUNT);
+        this(func, seed, new Configured());
+    }
+
+    /**
+     * Ctor with default count.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param profile Run profile, scaling the default count
+     */
+    public PrngTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Profile profile
+    ) {
+        this(func, seed, profile.samples(PrngTest.DEFAULT_COUNT));
     }
 
     /**
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Footprint;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.jfr.Tally;
+import com.github.fabriciofx.shah.jfr.TestEvent;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+
+/**
+ * Recorded test.
+ *
+ * <p>Compute the metric of a test inside a {@link TestEvent}, so that a
+ * flight recording shows the cost of each test. The numbers of keys and of
+ * bytes are the ones hashed by the loops of the test, counted by a
+ * {@link Tally}. A test hashing without a loop only tells its number of
+ * keys, as the number of hashes of its {@link Footprint}. When no
+ * recording is running, only the event allocation is added to the
+ * test.</p>
+ *
+ * @param <T> Type of the test metric
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class RecordedTest<T> implements Test<T> {
+    /**
+     * Name of the hash function.
+     */
+    private final String function;
+
+    /**
+     * Test.
+     */
+    private final Test<T> origin;
+
+    /**
+     * Test parameters.
+     */
+    private final Object[] params;
+
+    /**
+     * Ctor.
+     * @param function Name of the hash function
+     * @param origin Test
+     * @param params Test parameters
+     */
+    public RecordedTest(
+        final String function,
+        final Test<T> origin,
+        final Object... params
+    ) {
+        this.function = function;
+        this.origin = origin;
+        this.params = params.clone();
+    }
+
+    @Override
+    public T metric() {
+        final TestEvent event = new TestEvent();
+        final Tally tally = new Tally(event.isEnabled());
+        event.begin();
+        final T metric = tally.during(this.origin::metric);
+        long keys = tally.keys();
+        if (keys == 0L && this.origin instanceof Footprint) {
+            keys = ((Footprint) this.origin).hashes();
+        }
+        final StringJoiner joiner = new StringJoiner(", ");
+        for (final Object param : this.params) {
+            if (param instanceof Seed) {
+                joiner.add(HexFormat.of().formatHex(((Seed) param).asBytes()));
+            } else {
+                joiner.add(String.valueOf(param));
+            }
+        }
+        event.record(
+            this.origin.getClass(),
+            this.function,
+            joiner.toString(),
+            keys,
+            tally.bytes()
+        );
+        return metric;
+    }
+}
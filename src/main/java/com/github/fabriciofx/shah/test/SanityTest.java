@@ -6,14 +6,18 @@ package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Prng;
+import com.github.fabriciofx.shah.Profile;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.key.Flipped;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.key.Randomized;
 import com.github.fabriciofx.shah.metric.Ratio;
+import com.github.fabriciofx.shah.profile.Configured;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.seed.Seed64;
-import java.util.Random;
 import java.util.function.BiFunction;
 
 /**
@@ -46,6 +50,11 @@ import java.util.function.BiFunction;
     "PMD.UnnecessaryLocalRule"
 })
 public final class SanityTest implements Test<Ratio> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 64;
+
     /**
      * Minimum key length in bytes.
      */
@@ -86,6 +95,11 @@ public final class SanityTest implements Test<Ratio> {
      */
     private final int repetitions;
 
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -96,13 +110,49 @@ public final class SanityTest implements Test<Ratio> {
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed,
         final int max
+    ) {
+        this(func, seed, max, new Configured());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param max Maximum key length to test
+     * @param profile Run profile, scaling the default repetitions
+     */
+    public SanityTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int max,
+        final Profile profile
+    ) {
+        this(func, seed, max, profile, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param max Maximum key length to test
+     * @param profile Run profile, scaling the default repetitions
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SanityTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int max,
+        final Profile profile,
+        final Runner runner
     ) {
         this(
             func,
             seed,
             max,
             SanityTest.DEFAULT_INITIAL,
-            SanityTest.DEFAULT_REPS
+            profile.samples(SanityTest.DEFAULT_REPS),
+            runner
         );
     }
 
@@ -121,41 +171,95 @@ public final class SanityTest implements Test<Ratio> {
         final int max,
         final Seed initial,
         final int repetitions
+    ) {
+        this(func, seed, max, initial, repetitions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param max Maximum key length to test
+     * @param initial Random seed for reproducibility
+     * @param repetitions Number of repetitions
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SanityTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int max,
+        final Seed initial,
+        final int repetitions,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.max = max;
         this.initial = initial;
         this.repetitions = repetitions;
+        this.runner = runner;
     }
 
     @Override
     public Ratio metric() {
-        final Random random = this.initial.random();
-        int checks = 0;
-        int failures = 0;
-        for (int rep = 0; rep < this.repetitions; ++rep) {
-            for (int len = SanityTest.MIN_SIZE; len <= this.max; ++len) {
-                final Key key = new Randomized(new KeyOf(len), random);
-                final Hash original = this.func.apply(key, this.seed);
-                for (int bit = 0; bit < key.bits(); ++bit) {
-                    final Key flip = new Flipped(key, bit);
-                    final Hash flipped = this.func.apply(flip, this.seed);
-                    ++checks;
-                    if (original.equals(flipped)) {
-                        ++failures;
-                    }
-                    final Hash restored = this.func.apply(
-                        new Flipped(flip, bit),
-                        this.seed
+        final Prng prng = this.initial.prng();
+        final int lengths = this.max - SanityTest.MIN_SIZE + 1;
+        final int[] totals = this.runner.reduce(
+            this.repetitions * lengths,
+            SanityTest.GRAIN,
+            (from, to) -> {
+                final int[] part = new int[2];
+                for (int idx = from; idx < to; ++idx) {
+                    final Key key = new Randomized(
+                        new KeyOf(SanityTest.MIN_SIZE + idx % lengths),
+                        prng.split(idx)
                     );
-                    ++checks;
-                    if (!original.equals(restored)) {
-                        ++failures;
-                    }
+                    SanityTest.sum(part, this.check(key));
                 }
+                return part;
+            },
+            SanityTest::sum
+        );
+        return new Ratio(totals[0], totals[1]);
+    }
+
+    /**
+     * Check bit sensitivity and determinism of a key.
+     * @param key The key
+     * @return The number of checks and the number of failures
+     */
+    private int[] check(final Key key) {
+        final int[] result = new int[2];
+        final Hash original = this.func.apply(key, this.seed);
+        for (int bit = 0; bit < key.bits(); ++bit) {
+            final Key flip = new Flipped(key, bit);
+            final Hash flipped = this.func.apply(flip, this.seed);
+            ++result[0];
+            if (original.equals(flipped)) {
+                ++result[1];
+            }
+            final Hash restored = this.func.apply(
+                new Flipped(flip, bit),
+                this.seed
+            );
+            ++result[0];
+            if (!original.equals(restored)) {
+                ++result[1];
             }
         }
-        return new Ratio(checks, failures);
+        return result;
+    }
+
+    /**
+     * Sum two pairs of (checks, failures).
+     * @param first First pair, which receives the sum
+     * @param second Second pair
+     * @return The first pair
+     */
+    private static int[] sum(final int[] first, final int... second) {
+        first[0] += second[0];
+        first[1] += second[1];
+        return first;
     }
 }
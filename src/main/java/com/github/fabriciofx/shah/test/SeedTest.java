@@ -7,12 +7,18 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.seed.Seed64;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -41,6 +47,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class SeedTest implements Test<Collisions> {
+    /**
+     * Number of seeds per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * Default key text from SMHasher.
      */
@@ -62,6 +73,16 @@ public final class SeedTest implements Test<Collisions> {
      */
     private final Key key;
 
+    /**
+     * Runner of the chunks of seeds.
+     */
+    private final Runner runner;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor with SMHasher default text.
      * @param func The hash function under test, accepting (key, seed)
@@ -74,6 +95,22 @@ public final class SeedTest implements Test<Collisions> {
         this(func, count, new KeyOf(SeedTest.DEFAULT_TEXT));
     }
 
+    /**
+     * Ctor with SMHasher default text.
+     * @param func The hash function under test, accepting (key, seed)
+     * @param count Number of seeds to test
+     * @param runner Runner of the chunks of seeds
+     * @param listener Listener of the progress
+     */
+    public SeedTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final int count,
+        final Runner runner,
+        final Listener listener
+    ) {
+        this(func, count, new KeyOf(SeedTest.DEFAULT_TEXT), runner, listener);
+    }
+
     /**
      * Ctor.
      * @param func The hash function under test, accepting (key, seed)
@@ -84,18 +121,74 @@ public final class SeedTest implements Test<Collisions> {
         final BiFunction<Key, Seed, Hash> func,
         final int count,
         final Key key
+    ) {
+        this(func, count, key, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test, accepting (key, seed)
+     * @param count Number of seeds to test
+     * @param key The fixed key to hash with varying seeds
+     * @param runner Runner of the chunks of seeds
+     */
+    public SeedTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final int count,
+        final Key key,
+        final Runner runner
+    ) {
+        this(func, count, key, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test, accepting (key, seed)
+     * @param count Number of seeds to test
+     * @param key The fixed key to hash with varying seeds
+     * @param runner Runner of the chunks of seeds
+     * @param listener Listener of the progress
+     */
+    public SeedTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final int count,
+        final Key key,
+        final Runner runner,
+        final Listener listener
     ) {
         this.func = func;
         this.count = count;
         this.key = key;
+        this.runner = runner;
+        this.listener = listener;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
-        for (int seed = 0; seed < this.count; ++seed) {
-            hashes.add(this.func.apply(this.key, new Seed64(seed)));
-        }
-        return new Collisions(hashes);
+        this.listener.phase("hash", this.count);
+        final Collisions collisions = new Collisions(
+            this.runner.reduce(
+                this.count,
+                SeedTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf(
+                        new ArrayList<>(to - from)
+                    );
+                    for (int seed = from; seed < to; ++seed) {
+                        hashes.add(this.func.apply(this.key, new Seed64(seed)));
+                    }
+                    this.listener.advance(
+                        to - from,
+                        (long) (to - from) * this.key.size()
+                    );
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
+        this.listener.phase("sort", this.count);
+        collisions.value();
+        this.listener.phase("done", 0L);
+        return collisions;
     }
 }
@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.metric.Partial;
+import com.github.fabriciofx.shah.metric.avalanche.Matrix;
+import com.github.fabriciofx.shah.runner.Serial;
+import com.github.fabriciofx.shah.runner.Slice;
+import com.github.fabriciofx.shah.stat.Quantile;
+import java.util.function.BiFunction;
+
+/**
+ * Sequential avalanche test.
+ *
+ * <p>Run the {@link AvalancheTest} on a growing number of repetitions,
+ * doubling them at each look, and stop as soon as the worst bias is known
+ * to be above or below the threshold at the configured confidence. The
+ * result is a {@link Partial} metric with the number of repetitions
+ * actually used.</p>
+ *
+ * <p>After {@code n} repetitions the bias of every cell is within
+ * {@code z / sqrt(n)} of the true one, where {@code z} is the normal
+ * quantile of the confidence split among all the cells and all the looks
+ * (Bonferroni correction), so looking several times does not raise the
+ * error rate. A broken function, like one that ignores its input, fails at
+ * the first look; a good one passes once the interval is narrow enough,
+ * which needs about {@code (z / threshold)^2} repetitions. If neither is
+ * decided, all the repetitions are used and the metric is the one of the
+ * {@link AvalancheTest}.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
+public final class SequentialAvalancheTest implements Test<Partial<Matrix>> {
+    /**
+     * Number of repetitions of the first look.
+     */
+    private static final int FIRST = 1_024;
+
+    /**
+     * SMHasher worst bias threshold.
+     */
+    private static final double THRESHOLD = 0.01;
+
+    /**
+     * Default confidence of the decision.
+     */
+    private static final double CONFIDENCE = 0.99;
+
+    /**
+     * The hash function under test.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Seed for the hash function.
+     */
+    private final Seed seed;
+
+    /**
+     * Size in key.
+     */
+    private final int size;
+
+    /**
+     * Initial value for key generation.
+     */
+    private final Seed initial;
+
+    /**
+     * Maximum number of repetitions.
+     */
+    private final int repetitions;
+
+    /**
+     * Worst bias threshold.
+     */
+    private final double threshold;
+
+    /**
+     * Confidence of the decision.
+     */
+    private final double confidence;
+
+    /**
+     * Runner of the chunks of repetitions.
+     */
+    private final Runner runner;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function.
+     * @param size Size in key
+     * @param initial Initial value for key generation
+     * @param repetitions Maximum number of repetitions
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SequentialAvalancheTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions
+    ) {
+        this(func, seed, size, initial, repetitions, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function.
+     * @param size Size in key
+     * @param initial Initial value for key generation
+     * @param repetitions Maximum number of repetitions
+     * @param runner Runner of the chunks of repetitions
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SequentialAvalancheTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final Runner runner
+    ) {
+        this(
+            func,
+            seed,
+            size,
+            initial,
+            repetitions,
+            SequentialAvalancheTest.THRESHOLD,
+            SequentialAvalancheTest.CONFIDENCE,
+            runner
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Seed for the hash function.
+     * @param size Size in key
+     * @param initial Initial value for key generation
+     * @param repetitions Maximum number of repetitions
+     * @param threshold Worst bias threshold, e.g. 0.01
+     * @param confidence Confidence of the decision, e.g. 0.99
+     * @param runner Runner of the chunks of repetitions
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SequentialAvalancheTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final double threshold,
+        final double confidence,
+        final Runner runner
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.repetitions = repetitions;
+        this.threshold = threshold;
+        this.confidence = confidence;
+        this.runner = runner;
+    }
+
+    @Override
+    public Partial<Matrix> metric() {
+        final Key probe = new KeyOf(this.size);
+        final Hash hash = this.func.apply(probe, this.seed);
+        final int cells = probe.bits() * hash.bits();
+        final int looks = SequentialAvalancheTest.looks(this.repetitions);
+        final double z = new Quantile(
+            1.0 - (1.0 - this.confidence) / (2.0 * cells * looks)
+        ).value();
+        Matrix matrix = null;
+        int from = 0;
+        boolean decided = false;
+        while (!decided && from < this.repetitions) {
+            final int to = (int) Math.min(
+                Math.max(2L * from, SequentialAvalancheTest.FIRST),
+                this.repetitions
+            );
+            final Matrix part = new AvalancheTest(
+                this.func,
+                this.seed,
+                this.size,
+                this.initial,
+                this.repetitions,
+                new Slice(from, to, this.runner)
+            ).metric();
+            if (matrix == null) {
+                matrix = part;
+            } else {
+                matrix = matrix.merge(part);
+            }
+            from = to;
+            final double worst = matrix.bias().max();
+            final double margin = z / Math.sqrt(from);
+            decided = worst - margin > this.threshold
+                || worst + margin < this.threshold;
+        }
+        return new Partial<>(matrix, from, this.repetitions);
+    }
+
+    /**
+     * Number of looks for a number of repetitions.
+     * @param repetitions Number of repetitions
+     * @return The number of looks
+     */
+    private static int looks(final int repetitions) {
+        int looks = 1;
+        long reps = SequentialAvalancheTest.FIRST;
+        while (reps < repetitions) {
+            reps *= 2L;
+            ++looks;
+        }
+        return looks;
+    }
+}
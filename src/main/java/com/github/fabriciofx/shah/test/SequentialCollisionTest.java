@@ -0,0 +1,255 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Hashes;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
+import com.github.fabriciofx.shah.hashes.HashesOf;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.Partial;
+import com.github.fabriciofx.shah.runner.Serial;
+import com.github.fabriciofx.shah.runner.Slice;
+import com.github.fabriciofx.shah.stat.Expected;
+import com.github.fabriciofx.shah.stat.Quantile;
+import java.util.ArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * Sequential collision test.
+ *
+ * <p>Hash a growing prefix of the keys of the {@link CollisionTest},
+ * doubling it at each look, and stop as soon as the number of collisions is
+ * known to be above or below {@code threshold} times the expected one at
+ * the configured confidence. The result is a {@link Partial} metric with
+ * the number of keys actually hashed.</p>
+ *
+ * <p>The number of collisions is about Poisson, so its square root has a
+ * standard deviation of 1/2 whatever its mean: the confidence interval of
+ * the mean is {@code (sqrt(c) -/+ z / 2)^2}, where {@code z} is the normal
+ * quantile of the confidence split among all the looks (Bonferroni
+ * correction). A function that collides on every key fails at the first
+ * look. A good wide hash expects almost no collisions, so its pass can only
+ * be decided with all the keys and the metric is then the one of the
+ * {@link CollisionTest}.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
+public final class SequentialCollisionTest implements
+    Test<Partial<Collisions>> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
+    /**
+     * Number of keys of the first look.
+     */
+    private static final int FIRST = 16_384;
+
+    /**
+     * SMHasher collision ratio threshold.
+     */
+    private static final double THRESHOLD = 2.0;
+
+    /**
+     * Default confidence of the decision.
+     */
+    private static final double CONFIDENCE = 0.99;
+
+    /**
+     * The hash under test.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Maximum number of keys.
+     */
+    private final int count;
+
+    /**
+     * Collision ratio threshold.
+     */
+    private final double threshold;
+
+    /**
+     * Confidence of the decision.
+     */
+    private final double confidence;
+
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
+    /**
+     * Ctor.
+     * @param func The hash under test
+     * @param seed Hash function seed
+     * @param size Key's size
+     * @param initial Key's seed
+     * @param count Maximum number of keys
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SequentialCollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count
+    ) {
+        this(func, seed, size, initial, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash under test
+     * @param seed Hash function seed
+     * @param size Key's size
+     * @param initial Key's seed
+     * @param count Maximum number of keys
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SequentialCollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner
+    ) {
+        this(
+            func,
+            seed,
+            size,
+            initial,
+            count,
+            SequentialCollisionTest.THRESHOLD,
+            SequentialCollisionTest.CONFIDENCE,
+            runner
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash under test
+     * @param seed Hash function seed
+     * @param size Key's size
+     * @param initial Key's seed
+     * @param count Maximum number of keys
+     * @param threshold Collision ratio threshold, e.g. 2.0
+     * @param confidence Confidence of the decision, e.g. 0.99
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SequentialCollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final double threshold,
+        final double confidence,
+        final Runner runner
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.threshold = threshold;
+        this.confidence = confidence;
+        this.runner = runner;
+    }
+
+    @Override
+    public Partial<Collisions> metric() {
+        final int bits = this.func.apply(new KeyOf(this.size), this.seed)
+            .bits();
+        final int looks = SequentialCollisionTest.looks(this.count);
+        final double half = new Quantile(
+            1.0 - (1.0 - this.confidence) / (2.0 * looks)
+        ).value() / 2.0;
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Loop loop = new Specialized(this.func, this.seed);
+        final Hashes hashes = new HashesOf(
+            new ArrayList<>(Math.min(SequentialCollisionTest.FIRST, this.count))
+        );
+        Collisions collisions = new Collisions(0, 0, bits);
+        int from = 0;
+        boolean decided = false;
+        while (!decided && from < this.count) {
+            final int to = (int) Math.min(
+                Math.max(2L * from, SequentialCollisionTest.FIRST),
+                this.count
+            );
+            new Concat().apply(
+                hashes,
+                new Slice(from, to, this.runner).reduce(
+                    this.count,
+                    SequentialCollisionTest.GRAIN,
+                    (start, end) -> {
+                        final Hashes part = new HashesOf(
+                            new ArrayList<>(end - start)
+                        );
+                        loop.run(keys, start, end, part::add);
+                        return part;
+                    },
+                    new Concat()
+                )
+            );
+            from = to;
+            collisions = new Collisions(hashes);
+            final double root = Math.sqrt(collisions.value());
+            final double limit = this.threshold
+                * new Expected(from, bits).value();
+            final double lower = Math.max(0.0, root - half);
+            decided = lower * lower > limit
+                || (root + half) * (root + half) < limit;
+        }
+        return new Partial<>(collisions, from, this.count);
+    }
+
+    /**
+     * Number of looks for a number of keys.
+     * @param count Number of keys
+     * @return The number of looks
+     */
+    private static int looks(final int count) {
+        int looks = 1;
+        long keys = SequentialCollisionTest.FIRST;
+        while (keys < count) {
+            keys *= 2L;
+            ++looks;
+        }
+        return looks;
+    }
+}
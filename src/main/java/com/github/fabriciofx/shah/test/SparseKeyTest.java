@@ -7,11 +7,14 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.scalar.LongAsBytes;
 import java.util.function.BiFunction;
 
@@ -40,6 +43,11 @@ import java.util.function.BiFunction;
     "PMD.UnnecessaryLocalRule"
 })
 public final class SparseKeyTest implements Test<Collisions> {
+    /**
+     * Number of popcount levels per chunk.
+     */
+    private static final int GRAIN = 1;
+
     /**
      * The hash under test.
      */
@@ -60,6 +68,11 @@ public final class SparseKeyTest implements Test<Collisions> {
      */
     private final int max;
 
+    /**
+     * Runner of the chunks of popcount levels.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -72,37 +85,75 @@ public final class SparseKeyTest implements Test<Collisions> {
         final Seed seed,
         final int total,
         final int max
+    ) {
+        this(func, seed, total, max, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param total Total key length in bits
+     * @param max Maximum number of bits set to 1
+     * @param runner Runner of the chunks of popcount levels
+     */
+    public SparseKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int total,
+        final int max,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.total = total;
         this.max = max;
+        this.runner = runner;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
         final long mask;
         if (this.total == 64) {
             mask = -1L;
         } else {
             mask = (1L << this.total) - 1;
         }
-        for (int bits = 0; bits <= this.max; ++bits) {
-            long combination = (1L << bits) - 1;
-            while ((combination & ~mask) == 0) {
-                final Key key = new KeyOf(new LongAsBytes(combination).value());
-                hashes.add(this.func.apply(key, this.seed));
-                final long smallest = combination & -combination;
-                final long ripple = combination + smallest;
-                if (ripple == 0) {
-                    break;
-                }
-                long ones = combination ^ ripple;
-                ones = (ones >>> 2) / smallest;
-                combination = ripple | ones;
+        return new Collisions(
+            this.runner.reduce(
+                this.max + 1,
+                SparseKeyTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf();
+                    for (int bits = from; bits < to; ++bits) {
+                        this.level(hashes, bits, mask);
+                    }
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
+    }
+
+    /**
+     * Hash all keys with exactly {@code bits} bits set, in increasing order.
+     * @param hashes Where to add the hashes
+     * @param bits Number of bits set
+     * @param mask Mask of the usable key bits
+     */
+    private void level(final Hashes hashes, final int bits, final long mask) {
+        long combination = (1L << bits) - 1;
+        while ((combination & ~mask) == 0) {
+            final Key key = new KeyOf(new LongAsBytes(combination).value());
+            hashes.add(this.func.apply(key, this.seed));
+            final long smallest = combination & -combination;
+            final long ripple = combination + smallest;
+            if (ripple == 0) {
+                break;
             }
+            long ones = combination ^ ripple;
+            ones = (ones >>> 2) / smallest;
+            combination = ripple | ones;
         }
-        return new Collisions(hashes);
     }
 }
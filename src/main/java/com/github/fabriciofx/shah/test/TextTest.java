@@ -7,11 +7,14 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.runner.Serial;
 import java.util.function.BiFunction;
 
 /**
@@ -37,6 +40,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class TextTest implements Test<Collisions> {
+    /**
+     * Number of varying positions per chunk.
+     */
+    private static final int GRAIN = 16;
+
     /**
      * The hash under test.
      */
@@ -62,6 +70,11 @@ public final class TextTest implements Test<Collisions> {
      */
     private final int varying;
 
+    /**
+     * Runner of the chunks of positions.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -77,17 +90,38 @@ public final class TextTest implements Test<Collisions> {
         final byte[] prefix,
         final byte[] suffix,
         final int varying
+    ) {
+        this(func, seed, prefix, suffix, varying, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param prefix Prefix bytes
+     * @param suffix Suffix bytes
+     * @param varying Number of varying positions
+     * @param runner Runner of the chunks of positions
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TextTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final byte[] prefix,
+        final byte[] suffix,
+        final int varying,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.prefix = prefix.clone();
         this.suffix = suffix.clone();
         this.varying = varying;
+        this.runner = runner;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
         final int size = this.prefix.length + this.varying
             + this.suffix.length;
         final byte[] base = new byte[size];
@@ -99,14 +133,43 @@ public final class TextTest implements Test<Collisions> {
             this.prefix.length + this.varying,
             this.suffix.length
         );
-        hashes.add(this.func.apply(new KeyOf(base), this.seed));
-        for (int pos = 0; pos < this.varying; ++pos) {
-            for (int value = 1; value < 256; ++value) {
-                final byte[] bytes = base.clone();
-                bytes[this.prefix.length + pos] = (byte) value;
-                hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
-            }
+        return new Collisions(
+            this.runner.reduce(
+                this.varying + 1,
+                TextTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf();
+                    for (int unit = from; unit < to; ++unit) {
+                        if (unit == 0) {
+                            hashes.add(
+                                this.func.apply(new KeyOf(base), this.seed)
+                            );
+                        } else {
+                            this.position(hashes, base, unit - 1);
+                        }
+                    }
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
+    }
+
+    /**
+     * Hash all keys with a non-zero byte at a varying position.
+     * @param hashes Where to add the hashes
+     * @param base Base key bytes
+     * @param pos Varying position
+     */
+    private void position(
+        final Hashes hashes,
+        final byte[] base,
+        final int pos
+    ) {
+        for (int value = 1; value < 256; ++value) {
+            final byte[] bytes = base.clone();
+            bytes[this.prefix.length + pos] = (byte) value;
+            hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
         }
-        return new Collisions(hashes);
     }
 }
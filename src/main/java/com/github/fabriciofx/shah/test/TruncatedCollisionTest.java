@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
+import com.github.fabriciofx.shah.metric.Truncated;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.function.BiFunction;
+
+/**
+ * Truncated collision test from SMHasher.
+ *
+ * <p>Hash random keys once and count the collisions of the low and high
+ * 16, 20, 24 and 32 bits of the hashes with {@link Truncated}, instead of
+ * running a {@link CollisionTest} for each width.</p>
+ *
+ * @see <a href="https://github.com/aappleby/smhasher">SMHasher</a>
+ * @since 0.0.1
+ */
+@SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
+public final class TruncatedCollisionTest implements Test<Truncated> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
+    /**
+     * The hash under test.
+     */
+    private final BiFunction<Key, Seed, Hash> func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys to hash.
+     */
+    private final int count;
+
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Key seed
+     * @param size Key size
+     * @param initial Test seed
+     * @param count Number of keys to hash
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TruncatedCollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count
+    ) {
+        this(func, seed, size, initial, count, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Key seed
+     * @param size Key size
+     * @param initial Test seed
+     * @param count Number of keys to hash
+     * @param runner Runner of the chunks of keys
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TruncatedCollisionTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Runner runner
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.runner = runner;
+    }
+
+    @Override
+    public Truncated metric() {
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Loop loop = new Specialized(this.func, this.seed);
+        final Truncated truncated = new Truncated(
+            this.runner.reduce(
+                keys.count(),
+                TruncatedCollisionTest.GRAIN,
+                (from, to) -> {
+                    final Indexed hashes = new Indexed(from, to - from);
+                    loop.run(keys, from, to, hashes::add);
+                    return hashes;
+                },
+                Indexed::merge
+            )
+        );
+        truncated.value();
+        return truncated;
+    }
+}
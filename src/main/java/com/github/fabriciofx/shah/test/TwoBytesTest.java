@@ -4,15 +4,23 @@
  */
 package com.github.fabriciofx.shah.test;
 
+import com.github.fabriciofx.shah.Footprint;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 
 /**
  * Two-bytes keyset test from SMHasher.
@@ -35,7 +43,17 @@ import java.util.function.BiFunction;
  * @checkstyle NestedForDepthCheck (200 lines)
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
-public final class TwoBytesTest implements Test<Collisions> {
+public final class TwoBytesTest implements Test<Collisions>, Footprint {
+    /**
+     * Number of rows per chunk.
+     */
+    private static final int GRAIN = 64;
+
+    /**
+     * Number of keys of a row with two non-zero bytes.
+     */
+    private static final int ROW = 255;
+
     /**
      * The hash under test.
      */
@@ -51,6 +69,21 @@ public final class TwoBytesTest implements Test<Collisions> {
      */
     private final int size;
 
+    /**
+     * Runner of the chunks of rows.
+     */
+    private final Runner runner;
+
+    /**
+     * Storage of the hashes of a chunk, by expected number of hashes.
+     */
+    private final IntFunction<Hashes> storage;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -61,42 +94,189 @@ public final class TwoBytesTest implements Test<Collisions> {
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed,
         final int size
+    ) {
+        this(func, seed, size, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length
+     * @param runner Runner of the chunks of rows
+     */
+    public TwoBytesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Runner runner
+    ) {
+        this(func, seed, size, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length
+     * @param runner Runner of the chunks of rows
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TwoBytesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Runner runner,
+        final Listener listener
+    ) {
+        this(
+            func,
+            seed,
+            size,
+            runner,
+            count -> new HashesOf(new ArrayList<>(count)),
+            listener
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length
+     * @param runner Runner of the chunks of rows
+     * @param storage Storage of the hashes, by expected number of hashes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TwoBytesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Runner runner,
+        final IntFunction<Hashes> storage
+    ) {
+        this(func, seed, size, runner, storage, new Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length
+     * @param runner Runner of the chunks of rows
+     * @param storage Storage of the hashes, by expected number of hashes
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TwoBytesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final Runner runner,
+        final IntFunction<Hashes> storage,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
+        this.runner = runner;
+        this.storage = storage;
+        this.listener = listener;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
-        final byte[] bytes = new byte[this.size];
-        hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
-        for (int pos = 0; pos < this.size; ++pos) {
-            for (int val = 1; val < 256; ++val) {
-                bytes[pos] = (byte) val;
-                hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
-                bytes[pos] = 0;
-            }
-        }
-        for (int first = 0; first < this.size; ++first) {
-            for (int second = first + 1; second < this.size; ++second) {
-                for (int one = 1; one < 256; ++one) {
-                    bytes[first] = (byte) one;
-                    for (int two = 1; two < 256; ++two) {
-                        bytes[second] = (byte) two;
-                        hashes.add(
-                            this.func.apply(
-                                new KeyOf(bytes),
-                                this.seed
-                            )
-                        );
+        this.listener.phase("hash", this.hashes());
+        final Collisions collisions = new Collisions(
+            this.runner.reduce(
+                1 + this.size * (this.size - 1) / 2 * TwoBytesTest.ROW,
+                TwoBytesTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = this.storage.apply(
+                        (to - from) * TwoBytesTest.ROW
+                    );
+                    for (int row = from; row < to; ++row) {
+                        final int keys = this.row(hashes, row);
+                        this.listener.advance(keys, (long) keys * this.size);
                     }
-                    bytes[second] = 0;
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
+        this.listener.phase("sort", this.hashes());
+        collisions.value();
+        this.listener.phase("done", 0L);
+        return collisions;
+    }
+
+    @Override
+    public long hashes() {
+        return 1L + this.size * 255L
+            + this.size * (this.size - 1L) / 2L
+            * TwoBytesTest.ROW * TwoBytesTest.ROW;
+    }
+
+    @Override
+    public long sorted() {
+        return this.hashes();
+    }
+
+    @Override
+    public int width() {
+        return this.func.apply(new KeyOf(this.size), this.seed).bits()
+            / Byte.SIZE;
+    }
+
+    @Override
+    public long counters() {
+        return 0L;
+    }
+
+    @Override
+    public long chunk() {
+        return (long) TwoBytesTest.GRAIN * TwoBytesTest.ROW * Long.BYTES;
+    }
+
+    /**
+     * Hash the keys of a row. Row zero is the zero-filled key followed by
+     * all keys with a single non-zero byte, the other rows are the keys with
+     * two non-zero bytes at a given pair of positions and a given value of
+     * the first byte, so a chunk is small enough for a deadline to stop the
+     * test soon.
+     * @param hashes Where to add the hashes
+     * @param row Row index
+     * @return Number of keys hashed
+     */
+    private int row(final Hashes hashes, final int row) {
+        final byte[] bytes = new byte[this.size];
+        final int keys;
+        if (row == 0) {
+            keys = 1 + this.size * 255;
+            hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
+            for (int pos = 0; pos < this.size; ++pos) {
+                for (int val = 1; val < 256; ++val) {
+                    bytes[pos] = (byte) val;
+                    hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
+                    bytes[pos] = 0;
                 }
-                bytes[first] = 0;
+            }
+        } else {
+            int first = 0;
+            int pair = (row - 1) / TwoBytesTest.ROW;
+            while (pair >= this.size - first - 1) {
+                pair -= this.size - first - 1;
+                ++first;
+            }
+            final int second = first + 1 + pair;
+            keys = TwoBytesTest.ROW;
+            bytes[first] = (byte) (1 + (row - 1) % TwoBytesTest.ROW);
+            for (int two = 1; two < 256; ++two) {
+                bytes[second] = (byte) two;
+                hashes.add(this.func.apply(new KeyOf(bytes), this.seed));
             }
         }
-        return new Collisions(hashes);
+        return keys;
     }
 }
@@ -5,17 +5,26 @@
 package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Family;
+import com.github.fabriciofx.shah.Footprint;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Listener;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.family.FamilyOf;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.key.Rotated;
+import com.github.fabriciofx.shah.progress.Silent;
+import com.github.fabriciofx.shah.runner.Serial;
 import com.github.fabriciofx.shah.stat.Expected;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 
 /**
  * Windowed key test from SMHasher.
@@ -43,7 +52,12 @@ import java.util.function.BiFunction;
  * @checkstyle ParameterNumberCheck (200 lines)
  */
 @SuppressWarnings({"PMD.TestClassWithoutTestCases", "PMD.UnnecessaryLocalRule"})
-public final class WindowedKeyTest implements Test<Family> {
+public final class WindowedKeyTest implements Test<Family>, Footprint {
+    /**
+     * Number of keys of a window per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * Threshold.
      */
@@ -74,6 +88,21 @@ public final class WindowedKeyTest implements Test<Family> {
      */
     private final int width;
 
+    /**
+     * Runner of the chunks of the keys of a window.
+     */
+    private final Runner runner;
+
+    /**
+     * Storage of the hashes of a window, by expected number of hashes.
+     */
+    private final IntFunction<Hashes> storage;
+
+    /**
+     * Listener of the progress.
+     */
+    private final Listener listener;
+
     /**
      * Ctor.
      *
@@ -87,15 +116,161 @@ public final class WindowedKeyTest implements Test<Family> {
         final Seed seed,
         final int size,
         final int width
+    ) {
+        this(func, seed, size, width, new Serial());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length in bytes
+     * @param width Window width in bits
+     * @param runner Runner of the chunks of the keys of a window
+     */
+    public WindowedKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final int width,
+        final Runner runner
+    ) {
+        this(func, seed, size, width, runner, new Silent());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length in bytes
+     * @param width Window width in bits
+     * @param runner Runner of the chunks of the keys of a window
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WindowedKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final int width,
+        final Runner runner,
+        final Listener listener
+    ) {
+        this(
+            func,
+            seed,
+            size,
+            width,
+            runner,
+            count -> new HashesOf(new ArrayList<>(count)),
+            listener
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length in bytes
+     * @param width Window width in bits
+     * @param runner Runner of the chunks of the keys of a window
+     * @param storage Storage of the hashes, by expected number of hashes
+     */
+    public WindowedKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final int width,
+        final Runner runner,
+        final IntFunction<Hashes> storage
+    ) {
+        this(func, seed, size, width, runner, storage, new Silent());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param size Key length in bytes
+     * @param width Window width in bits
+     * @param runner Runner of the chunks of the keys of a window
+     * @param storage Storage of the hashes, by expected number of hashes
+     * @param listener Listener of the progress
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WindowedKeyTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int size,
+        final int width,
+        final Runner runner,
+        final IntFunction<Hashes> storage,
+        final Listener listener
     ) {
         this.func = func;
         this.seed = seed;
         this.size = size;
         this.width = width;
+        this.runner = runner;
+        this.storage = storage;
+        this.listener = listener;
     }
 
     @Override
     public Family metric() {
+        final int width = this.grown();
+        final int total = 1 << width;
+        this.listener.phase(
+            "hash",
+            (this.size * (long) Byte.SIZE + 1L) * total
+        );
+        final List<Hashes> windows = new ArrayList<>(
+            this.size * Byte.SIZE + 1
+        );
+        for (int start = 0; start <= this.size * Byte.SIZE; ++start) {
+            windows.add(this.window(start, width, total));
+        }
+        final Family family = new FamilyOf(windows);
+        this.listener.phase("done", 0L);
+        return family;
+    }
+
+    @Override
+    public long hashes() {
+        return (this.size * (long) Byte.SIZE + 1L) * this.sorted();
+    }
+
+    @Override
+    public long sorted() {
+        return 1L << this.grown();
+    }
+
+    @Override
+    public int width() {
+        return this.func.apply(new KeyOf(this.size), this.seed).bits()
+            / Byte.SIZE;
+    }
+
+    @Override
+    public long counters() {
+        return 0L;
+    }
+
+    @Override
+    public long chunk() {
+        return (long) WindowedKeyTest.GRAIN * Long.BYTES;
+    }
+
+    /**
+     * Grow the window width until the expected number of collisions of its
+     * keys reaches the threshold, up to the maximum width.
+     * @return The window width in bits
+     */
+    private int grown() {
         final Hash probe = this.func.apply(new KeyOf(this.size), this.seed);
         int window = this.width;
         int keys = 1 << window;
@@ -106,20 +281,43 @@ public final class WindowedKeyTest implements Test<Family> {
             keys *= 2;
             window += 1;
         }
-        final int bits = this.size * Byte.SIZE;
-        final Family family = new FamilyOf();
-        for (int start = 0; start <= bits; ++start) {
-            final Hashes hashes = new HashesOf();
-            for (int value = 0; value < keys; ++value) {
-                hashes.add(
-                    this.func.apply(
-                        new Rotated(new KeyOf(this.size), value, window, start),
-                        this.seed
-                    )
+        return window;
+    }
+
+    /**
+     * Hash all keys of a window, in chunks of its keys, so a chunk is small
+     * enough for a deadline to stop the test soon.
+     * @param start First bit of the window
+     * @param window Window width in bits
+     * @param keys Number of keys
+     * @return The hashes
+     */
+    private Hashes window(final int start, final int window, final int keys) {
+        return this.runner.reduce(
+            keys,
+            WindowedKeyTest.GRAIN,
+            (from, to) -> {
+                final Hashes hashes = this.storage.apply(to - from);
+                for (int value = from; value < to; ++value) {
+                    hashes.add(
+                        this.func.apply(
+                            new Rotated(
+                                new KeyOf(this.size),
+                                value,
+                                window,
+                                start
+                            ),
+                            this.seed
+                        )
+                    );
+                }
+                this.listener.advance(
+                    to - from,
+                    (long) (to - from) * this.size
                 );
-            }
-            family.add(hashes);
-        }
-        return family;
+                return hashes;
+            },
+            new Concat()
+        );
     }
 }
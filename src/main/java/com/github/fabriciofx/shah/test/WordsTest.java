@@ -5,14 +5,20 @@
 package com.github.fabriciofx.shah.test;
 
 import com.github.fabriciofx.shah.Hash;
-import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Loop;
+import com.github.fabriciofx.shah.Runner;
+import com.github.fabriciofx.shah.Scalar;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
 import com.github.fabriciofx.shah.collection.Words;
-import com.github.fabriciofx.shah.hashes.HashesOf;
-import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import com.github.fabriciofx.shah.keys.KeysOf;
+import com.github.fabriciofx.shah.loop.Specialized;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -21,12 +27,23 @@ import java.util.function.BiFunction;
  * <p>Measures the collisions ratio of random words hashes. Returns the
  * collisions metric among all generated hashes.</p>
  *
+ * <p>The words can also be given as keys, e.g.
+ * {@link com.github.fabriciofx.shah.keys.RandomWords}, generated in a
+ * byte arena with no string per word, or a
+ * {@link com.github.fabriciofx.shah.keys.Stored} keyset of the words
+ * generated once for all the functions.</p>
+ *
  * @see <a href="https://github.com/rurban/smhasher">SMHasher</a>
  * @since 0.0.1
  * @checkstyle ParameterNumberCheck (200 lines)
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class WordsTest implements Test<Collisions> {
+    /**
+     * Number of words per chunk.
+     */
+    private static final int GRAIN = 16_384;
+
     /**
      * The hash function under test.
      */
@@ -38,9 +55,14 @@ public final class WordsTest implements Test<Collisions> {
     private final Seed seed;
 
     /**
-     * Words.
+     * The words as keys.
+     */
+    private final Scalar<Keys> keys;
+
+    /**
+     * Runner of the chunks of words.
      */
-    private final Words words;
+    private final Runner runner;
 
     /**
      * Ctor.
@@ -52,18 +74,91 @@ public final class WordsTest implements Test<Collisions> {
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed,
         final Words words
+    ) {
+        this(func, seed, words, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The key's seed
+     * @param words The words
+     * @param runner Runner of the chunks of words
+     */
+    public WordsTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Words words,
+        final Runner runner
+    ) {
+        this(func, seed, () -> new KeysOf(new ArrayList<>(words)), runner);
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The key's seed
+     * @param keys The words as keys
+     */
+    public WordsTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Keys keys
+    ) {
+        this(func, seed, keys, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The key's seed
+     * @param keys The words as keys
+     * @param runner Runner of the chunks of words
+     */
+    public WordsTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Keys keys,
+        final Runner runner
+    ) {
+        this(func, seed, () -> keys, runner);
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The key's seed
+     * @param keys The words as keys
+     * @param runner Runner of the chunks of words
+     */
+    private WordsTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final Scalar<Keys> keys,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
-        this.words = words;
+        this.keys = keys;
+        this.runner = runner;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
-        for (final String word : this.words) {
-            hashes.add(this.func.apply(new KeyOf(word), this.seed));
-        }
-        return new Collisions(hashes);
+        final Keys words = this.keys.value();
+        final Loop loop = new Specialized(this.func, this.seed);
+        return new Collisions(
+            this.runner.reduce(
+                words.count(),
+                WordsTest.GRAIN,
+                (from, to) -> {
+                    final Indexed hashes = new Indexed(from, to - from);
+                    loop.run(words, from, to, hashes::add);
+                    return hashes;
+                },
+                Indexed::merge
+            ),
+            words
+        );
     }
 }
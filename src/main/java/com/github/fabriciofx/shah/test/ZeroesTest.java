@@ -7,11 +7,15 @@ package com.github.fabriciofx.shah.test;
 import com.github.fabriciofx.shah.Hash;
 import com.github.fabriciofx.shah.Hashes;
 import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Runner;
 import com.github.fabriciofx.shah.Seed;
 import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.hashes.Concat;
 import com.github.fabriciofx.shah.hashes.HashesOf;
 import com.github.fabriciofx.shah.key.KeyOf;
 import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.runner.Serial;
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 
 /**
@@ -37,6 +41,11 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class ZeroesTest implements Test<Collisions> {
+    /**
+     * Number of keys per chunk.
+     */
+    private static final int GRAIN = 1_024;
+
     /**
      * The hash under test.
      */
@@ -52,6 +61,11 @@ public final class ZeroesTest implements Test<Collisions> {
      */
     private final int max;
 
+    /**
+     * Runner of the chunks of keys.
+     */
+    private final Runner runner;
+
     /**
      * Ctor.
      * @param func The hash function under test
@@ -62,18 +76,46 @@ public final class ZeroesTest implements Test<Collisions> {
         final BiFunction<Key, Seed, Hash> func,
         final Seed seed,
         final int max
+    ) {
+        this(func, seed, max, new Serial());
+    }
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed The hash function seed
+     * @param max Maximum key size to test
+     * @param runner Runner of the chunks of keys
+     */
+    public ZeroesTest(
+        final BiFunction<Key, Seed, Hash> func,
+        final Seed seed,
+        final int max,
+        final Runner runner
     ) {
         this.func = func;
         this.seed = seed;
         this.max = max;
+        this.runner = runner;
     }
 
     @Override
     public Collisions metric() {
-        final Hashes hashes = new HashesOf();
-        for (int size = 0; size <= this.max; ++size) {
-            hashes.add(this.func.apply(new KeyOf(size), this.seed));
-        }
-        return new Collisions(hashes);
+        return new Collisions(
+            this.runner.reduce(
+                this.max + 1,
+                ZeroesTest.GRAIN,
+                (from, to) -> {
+                    final Hashes hashes = new HashesOf(
+                        new ArrayList<>(to - from)
+                    );
+                    for (int size = from; size < to; ++size) {
+                        hashes.add(this.func.apply(new KeyOf(size), this.seed));
+                    }
+                    return hashes;
+                },
+                new Concat()
+            )
+        );
     }
 }
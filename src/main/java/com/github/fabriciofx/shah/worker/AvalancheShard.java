@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Task;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.runner.Slice;
+import com.github.fabriciofx.shah.test.AvalancheTest;
+
+/**
+ * AvalancheShard.
+ *
+ * <p>Run the repetitions {@code [from, to)} of a
+ * {@link ShardedAvalancheTest} and return their flips matrix, which the
+ * coordinator adds to the flips of the other shards.</p>
+ *
+ * @since 0.0.1
+ */
+public final class AvalancheShard implements Task<int[][]> {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The hash function under test.
+     */
+    private final Reflected func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of repetitions of the whole test.
+     */
+    private final int repetitions;
+
+    /**
+     * First repetition of the shard.
+     */
+    private final int from;
+
+    /**
+     * Repetition after the last one of the shard.
+     */
+    private final int to;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param repetitions Number of repetitions of the whole test
+     * @param from First repetition of the shard
+     * @param to Repetition after the last one of the shard
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public AvalancheShard(
+        final Reflected func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final int from,
+        final int to
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.repetitions = repetitions;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public int[][] result() {
+        return new AvalancheTest(
+            this.func,
+            this.seed,
+            this.size,
+            this.initial,
+            this.repetitions,
+            new Slice(this.from, this.to)
+        ).metric().flips();
+    }
+}
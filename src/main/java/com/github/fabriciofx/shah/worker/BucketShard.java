@@ -0,0 +1,172 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Task;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * BucketShard.
+ *
+ * <p>Count the collisions of a bucket of a {@link ShardedCollisionTest}:
+ * read the hashes that every {@link CollisionShard} wrote to the bucket,
+ * sort them and count the equal neighbours. A worker only holds one
+ * bucket, about 1/256 of the hashes, at a time. Hashes of up to 8 bytes
+ * are sorted as {@code long}s.</p>
+ *
+ * @since 0.0.1
+ */
+public final class BucketShard implements Task<Integer> {
+    /**
+     * Number of buckets, one per value of the first byte of a hash.
+     */
+    static final int BUCKETS = 256;
+
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Directory of the buckets.
+     */
+    private final String dir;
+
+    /**
+     * Number of shards that wrote the buckets.
+     */
+    private final int shards;
+
+    /**
+     * Index of the bucket.
+     */
+    private final int bucket;
+
+    /**
+     * Width of the hashes in bytes.
+     */
+    private final int width;
+
+    /**
+     * Ctor.
+     * @param dir Directory of the buckets
+     * @param shards Number of shards that wrote the buckets
+     * @param bucket Index of the bucket
+     * @param width Width of the hashes in bytes
+     */
+    public BucketShard(
+        final String dir,
+        final int shards,
+        final int bucket,
+        final int width
+    ) {
+        this.dir = dir;
+        this.shards = shards;
+        this.bucket = bucket;
+        this.width = width;
+    }
+
+    @Override
+    public Integer result() {
+        final byte[] bytes = this.read();
+        final int count = bytes.length / this.width;
+        int collisions = 0;
+        if (this.width <= Long.BYTES) {
+            final ByteBuffer buffer = ByteBuffer.wrap(
+                Arrays.copyOf(bytes, bytes.length + Long.BYTES)
+            ).order(ByteOrder.LITTLE_ENDIAN);
+            final long mask = -1L >>> (Long.SIZE - this.width * Byte.SIZE);
+            final long[] values = new long[count];
+            for (int idx = 0; idx < count; ++idx) {
+                values[idx] = buffer.getLong(idx * this.width) & mask;
+            }
+            Arrays.sort(values);
+            for (int idx = 1; idx < count; ++idx) {
+                if (values[idx] == values[idx - 1]) {
+                    ++collisions;
+                }
+            }
+        } else {
+            final byte[][] values = new byte[count][];
+            for (int idx = 0; idx < count; ++idx) {
+                values[idx] = Arrays.copyOfRange(
+                    bytes,
+                    idx * this.width,
+                    (idx + 1) * this.width
+                );
+            }
+            Arrays.sort(values, Arrays::compare);
+            for (int idx = 1; idx < count; ++idx) {
+                if (Arrays.equals(values[idx], values[idx - 1])) {
+                    ++collisions;
+                }
+            }
+        }
+        return collisions;
+    }
+
+    /**
+     * File of a bucket written by a shard.
+     * @param dir Directory of the buckets
+     * @param shard Index of the shard
+     * @param bucket Index of the bucket
+     * @return The file
+     */
+    static Path file(final String dir, final int shard, final int bucket) {
+        return Path.of(dir, String.format("%d-%d.hashes", shard, bucket));
+    }
+
+    /**
+     * Read the hashes of the bucket written by all the shards.
+     * @return The bytes of the hashes
+     */
+    private byte[] read() {
+        try {
+            long total = 0L;
+            for (int shard = 0; shard < this.shards; ++shard) {
+                final Path file = BucketShard.file(
+                    this.dir,
+                    shard,
+                    this.bucket
+                );
+                if (Files.exists(file)) {
+                    total += Files.size(file);
+                }
+            }
+            if (total > Integer.MAX_VALUE - Long.BYTES) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Bucket %d of %d bytes is too large",
+                        this.bucket,
+                        total
+                    )
+                );
+            }
+            final byte[] bytes = new byte[(int) total];
+            int pos = 0;
+            for (int shard = 0; shard < this.shards; ++shard) {
+                final Path file = BucketShard.file(
+                    this.dir,
+                    shard,
+                    this.bucket
+                );
+                if (Files.exists(file)) {
+                    final byte[] part = Files.readAllBytes(file);
+                    System.arraycopy(part, 0, bytes, pos, part.length);
+                    pos += part.length;
+                }
+            }
+            return bytes;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
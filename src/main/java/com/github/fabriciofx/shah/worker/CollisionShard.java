@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Task;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+/**
+ * CollisionShard.
+ *
+ * <p>Hash the keys {@code [from, to)} of a {@link ShardedCollisionTest}
+ * and append each hash, as its bytes, to the file of its bucket: the
+ * first byte of the hash. Equal hashes land in the same bucket whatever
+ * shard hashed them, so each bucket is counted apart by a
+ * {@link BucketShard}. The result is the width of the hashes in bytes, 0
+ * if the shard has no key.</p>
+ *
+ * @since 0.0.1
+ */
+public final class CollisionShard implements Task<Integer> {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Size of the write buffer of a bucket in bytes.
+     */
+    private static final int BUFFER = 8_192;
+
+    /**
+     * The hash function under test.
+     */
+    private final Reflected func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys of the whole test.
+     */
+    private final int count;
+
+    /**
+     * First key of the shard.
+     */
+    private final int from;
+
+    /**
+     * Key after the last one of the shard.
+     */
+    private final int to;
+
+    /**
+     * Directory of the buckets.
+     */
+    private final String dir;
+
+    /**
+     * Index of the shard.
+     */
+    private final int shard;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param count Number of keys of the whole test
+     * @param from First key of the shard
+     * @param to Key after the last one of the shard
+     * @param dir Directory of the buckets
+     * @param shard Index of the shard
+     * @checkstyle ParameterNumberCheck (15 lines)
+     */
+    public CollisionShard(
+        final Reflected func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final int from,
+        final int to,
+        final String dir,
+        final int shard
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.from = from;
+        this.to = to;
+        this.dir = dir;
+        this.shard = shard;
+    }
+
+    @Override
+    public Integer result() {
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final OutputStream[] buckets = new OutputStream[BucketShard.BUCKETS];
+        final int[] width = new int[1];
+        try {
+            new Specialized(this.func, this.seed).run(
+                keys,
+                this.from,
+                this.to,
+                hash -> {
+                    final byte[] bytes = hash.asBytes();
+                    width[0] = bytes.length;
+                    final int bucket = bytes[0] & 0xFF;
+                    try {
+                        if (buckets[bucket] == null) {
+                            buckets[bucket] = new BufferedOutputStream(
+                                Files.newOutputStream(
+                                    BucketShard.file(
+                                        this.dir,
+                                        this.shard,
+                                        bucket
+                                    )
+                                ),
+                                CollisionShard.BUFFER
+                            );
+                        }
+                        buckets[bucket].write(bytes);
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            );
+        } finally {
+            CollisionShard.close(buckets);
+        }
+        return width[0];
+    }
+
+    /**
+     * Close the files of the buckets.
+     * @param buckets The files, {@code null} for the empty buckets
+     */
+    private static void close(final OutputStream... buckets) {
+        for (final OutputStream bucket : buckets) {
+            if (bucket != null) {
+                try {
+                    bucket.close();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+    }
+}
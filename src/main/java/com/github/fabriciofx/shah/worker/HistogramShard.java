@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Task;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.Specialized;
+import com.github.fabriciofx.shah.metric.Histogram;
+
+/**
+ * HistogramShard.
+ *
+ * <p>Hash the keys {@code [from, to)} of a {@link ShardedDistributionTest}
+ * and count their windows in a {@link Histogram}, which the coordinator
+ * merges with the histograms of the other shards.</p>
+ *
+ * @since 0.0.1
+ */
+public final class HistogramShard implements Task<Histogram> {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The hash function under test.
+     */
+    private final Reflected func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys of the whole test.
+     */
+    private final int count;
+
+    /**
+     * First key of the shard.
+     */
+    private final int from;
+
+    /**
+     * Key after the last one of the shard.
+     */
+    private final int to;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param count Number of keys of the whole test
+     * @param from First key of the shard
+     * @param to Key after the last one of the shard
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public HistogramShard(
+        final Reflected func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final int from,
+        final int to
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public Histogram result() {
+        final Keys keys = new RandomKeys(this.size, this.initial, this.count);
+        final Histogram histogram = new Histogram();
+        new Specialized(this.func, this.seed).run(
+            keys,
+            this.from,
+            this.to,
+            histogram::add
+        );
+        return histogram;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.metric.avalanche.Matrix;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharded avalanche test.
+ *
+ * <p>The same keys and metric as
+ * {@link com.github.fabriciofx.shah.test.AvalancheTest}, with the
+ * repetitions sharded across {@link Workers}. Each worker returns the flips
+ * of its repetitions and the coordinator adds them up.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class ShardedAvalancheTest implements Test<Matrix> {
+    /**
+     * The hash function under test.
+     */
+    private final Reflected func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of repetitions.
+     */
+    private final int repetitions;
+
+    /**
+     * Workers.
+     */
+    private final Workers workers;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param repetitions Number of repetitions
+     * @param workers Workers
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ShardedAvalancheTest(
+        final Reflected func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int repetitions,
+        final Workers workers
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.repetitions = repetitions;
+        this.workers = workers;
+    }
+
+    @Override
+    public Matrix metric() {
+        final int shards = this.workers.count();
+        final List<AvalancheShard> tasks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; ++shard) {
+            tasks.add(
+                new AvalancheShard(
+                    this.func,
+                    this.seed,
+                    this.size,
+                    this.initial,
+                    this.repetitions,
+                    (int) ((long) this.repetitions * shard / shards),
+                    (int) ((long) this.repetitions * (shard + 1) / shards)
+                )
+            );
+        }
+        return new Matrix(
+            this.repetitions,
+            this.workers.reduce(
+                tasks,
+                (first, second) -> {
+                    for (int row = 0; row < first.length; ++row) {
+                        for (int col = 0; col < first[row].length; ++col) {
+                            first[row][col] += second[row][col];
+                        }
+                    }
+                    return first;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.metric.Collisions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Sharded collision test.
+ *
+ * <p>The same keys and metric as
+ * {@link com.github.fabriciofx.shah.test.CollisionTest}, with the keys
+ * sharded across {@link Workers}. Each worker hashes the keys of its
+ * shard and spills the hashes to 256 bucket files, by the first byte of
+ * the hash (see {@link CollisionShard}). Then the workers count the
+ * collisions of one bucket after another (see {@link BucketShard}) and
+ * the coordinator adds the counts, so neither the coordinator nor a
+ * worker ever holds more than a bucket of hashes. The buckets are spilled
+ * to a temporary directory, deleted at the end.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class ShardedCollisionTest implements Test<Collisions> {
+    /**
+     * The hash function under test.
+     */
+    private final Reflected func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys to hash.
+     */
+    private final int count;
+
+    /**
+     * Workers.
+     */
+    private final Workers workers;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param count Number of keys to hash
+     * @param workers Workers
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ShardedCollisionTest(
+        final Reflected func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Workers workers
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.workers = workers;
+    }
+
+    @Override
+    public Collisions metric() {
+        final Path dir;
+        try {
+            dir = Files.createTempDirectory("shah-collisions");
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        try {
+            return this.collisions(dir.toString());
+        } finally {
+            ShardedCollisionTest.delete(dir);
+        }
+    }
+
+    /**
+     * Spill the hashes to the buckets and count their collisions.
+     * @param dir Directory of the buckets
+     * @return The collisions
+     */
+    private Collisions collisions(final String dir) {
+        final int shards = this.workers.count();
+        final List<CollisionShard> tasks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; ++shard) {
+            tasks.add(
+                new CollisionShard(
+                    this.func,
+                    this.seed,
+                    this.size,
+                    this.initial,
+                    this.count,
+                    (int) ((long) this.count * shard / shards),
+                    (int) ((long) this.count * (shard + 1) / shards),
+                    dir,
+                    shard
+                )
+            );
+        }
+        final int width = this.workers.reduce(tasks, Math::max);
+        int collisions = 0;
+        if (width > 0) {
+            final List<BucketShard> buckets =
+                new ArrayList<>(BucketShard.BUCKETS);
+            for (int bucket = 0; bucket < BucketShard.BUCKETS; ++bucket) {
+                buckets.add(new BucketShard(dir, shards, bucket, width));
+            }
+            collisions = this.workers.reduce(buckets, Integer::sum);
+        }
+        return new Collisions(collisions, this.count, width * Byte.SIZE);
+    }
+
+    /**
+     * Delete the directory of the buckets.
+     * @param dir The directory
+     */
+    private static void delete(final Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder())
+                .toList()) {
+                Files.delete(file);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
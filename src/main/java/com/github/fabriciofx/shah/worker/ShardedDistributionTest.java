@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.Test;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.metric.DistributionScore;
+import com.github.fabriciofx.shah.metric.Histogram;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharded distribution test.
+ *
+ * <p>The same keys and metric as
+ * {@link com.github.fabriciofx.shah.test.DistributionTest}, with the keys
+ * sharded across {@link Workers}. Each worker returns the window
+ * {@link Histogram} of its shard and the coordinator merges them.</p>
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class ShardedDistributionTest implements Test<DistributionScore> {
+    /**
+     * The hash function under test.
+     */
+    private final Reflected func;
+
+    /**
+     * Hash function seed.
+     */
+    private final Seed seed;
+
+    /**
+     * Key's size.
+     */
+    private final int size;
+
+    /**
+     * Key's seed.
+     */
+    private final Seed initial;
+
+    /**
+     * Number of keys to hash.
+     */
+    private final int count;
+
+    /**
+     * Workers.
+     */
+    private final Workers workers;
+
+    /**
+     * Ctor.
+     * @param func The hash function under test
+     * @param seed Hash function seed
+     * @param size Key size
+     * @param initial Key seed
+     * @param count Number of keys to hash
+     * @param workers Workers
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ShardedDistributionTest(
+        final Reflected func,
+        final Seed seed,
+        final int size,
+        final Seed initial,
+        final int count,
+        final Workers workers
+    ) {
+        this.func = func;
+        this.seed = seed;
+        this.size = size;
+        this.initial = initial;
+        this.count = count;
+        this.workers = workers;
+    }
+
+    @Override
+    public DistributionScore metric() {
+        final int shards = this.workers.count();
+        final List<HistogramShard> tasks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; ++shard) {
+            tasks.add(
+                new HistogramShard(
+                    this.func,
+                    this.seed,
+                    this.size,
+                    this.initial,
+                    this.count,
+                    (int) ((long) this.count * shard / shards),
+                    (int) ((long) this.count * (shard + 1) / shards)
+                )
+            );
+        }
+        return new DistributionScore(
+            this.workers.reduce(tasks, Histogram::merge)
+        );
+    }
+}
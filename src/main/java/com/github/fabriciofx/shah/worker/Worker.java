@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Task;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Worker.
+ *
+ * <p>The main class of a worker JVM started by {@link Workers}. It reads
+ * {@link Task}s from its standard input and writes their results, or the
+ * exception that made them fail, to its standard output, until its input
+ * is closed. Anything printed by the tasks goes to the standard
+ * error.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Worker {
+    /**
+     * Ctor.
+     */
+    private Worker() {
+    }
+
+    /**
+     * Run the tasks.
+     * @param args Command line parameters, not used
+     * @throws IOException If the pipes to the coordinator fail
+     * @throws ClassNotFoundException If a task class is not found
+     */
+    @SuppressWarnings({
+        "PMD.AvoidCatchingGenericException",
+        "PMD.SystemPrintln"
+    })
+    public static void main(final String... args)
+        throws IOException, ClassNotFoundException {
+        final PrintStream stdout = System.out;
+        System.setOut(
+            new PrintStream(
+                new FileOutputStream(FileDescriptor.err),
+                true,
+                StandardCharsets.UTF_8
+            )
+        );
+        try (
+            ObjectInputStream input = new ObjectInputStream(
+                new BufferedInputStream(System.in)
+            );
+            ObjectOutputStream output = new ObjectOutputStream(
+                new BufferedOutputStream(stdout)
+            )
+        ) {
+            output.flush();
+            while (true) {
+                final Task<?> task;
+                try {
+                    task = (Task<?>) input.readObject();
+                } catch (final EOFException ex) {
+                    break;
+                }
+                Object result;
+                try {
+                    result = task.result();
+                } catch (final RuntimeException ex) {
+                    result = ex;
+                }
+                output.writeObject(result);
+                output.reset();
+                output.flush();
+            }
+        }
+    }
+}
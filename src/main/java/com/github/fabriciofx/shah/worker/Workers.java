@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.Task;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+/**
+ * Workers.
+ *
+ * <p>A pool of local worker JVMs, started for each reduction. The tasks
+ * are sent to the workers over their standard input, round-robin, and
+ * their results come back over their standard output; they are merged in
+ * task order, so the result does not depend on the number of workers.
+ * Every worker has its own heap, so the tasks together can hold more data
+ * than a single JVM.</p>
+ *
+ * @since 0.0.1
+ */
+public final class Workers {
+    /**
+     * Number of workers.
+     */
+    private final int count;
+
+    /**
+     * Command line starting a worker.
+     */
+    private final List<String> command;
+
+    /**
+     * Ctor with one worker per available processor.
+     */
+    public Workers() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor starting workers with the same JVM and class path as this one.
+     * @param count Number of workers
+     */
+    public Workers(final int count) {
+        this(
+            count,
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp",
+            System.getProperty("java.class.path"),
+            Worker.class.getName()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param count Number of workers
+     * @param command Command line starting a worker, which must run
+     *  {@link Worker} with the classes of the tasks in its class path
+     */
+    public Workers(final int count, final String... command) {
+        this.count = count;
+        this.command = Arrays.asList(command);
+    }
+
+    /**
+     * Number of workers.
+     * @return The number of workers
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Run the tasks on the workers and merge their results in task order.
+     * @param tasks The tasks
+     * @param merge Merge two results, the first one preceding the second one
+     * @param <T> Type of the result
+     * @return The merged result
+     */
+    public <T extends Serializable> T reduce(
+        final List<? extends Task<T>> tasks,
+        final BinaryOperator<T> merge
+    ) {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("No tasks to run");
+        }
+        final int size = Math.max(1, Math.min(this.count, tasks.size()));
+        final List<Process> processes = new ArrayList<>(size);
+        try {
+            final List<ObjectInputStream> inputs = new ArrayList<>(size);
+            for (int idx = 0; idx < size; ++idx) {
+                final Process process = new ProcessBuilder(this.command)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+                processes.add(process);
+                try (ObjectOutputStream output = new ObjectOutputStream(
+                    new BufferedOutputStream(process.getOutputStream())
+                )) {
+                    for (int task = idx; task < tasks.size(); task += size) {
+                        output.writeObject(tasks.get(task));
+                    }
+                }
+            }
+            for (final Process process : processes) {
+                inputs.add(
+                    new ObjectInputStream(
+                        new BufferedInputStream(process.getInputStream())
+                    )
+                );
+            }
+            T result = Workers.<T>next(inputs.get(0));
+            for (int task = 1; task < tasks.size(); ++task) {
+                result = merge.apply(
+                    result,
+                    Workers.<T>next(inputs.get(task % size))
+                );
+            }
+            for (final Process process : processes) {
+                process.waitFor();
+            }
+            return result;
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Workers have failed", ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running", ex);
+        } finally {
+            for (final Process process : processes) {
+                process.destroy();
+            }
+        }
+    }
+
+    /**
+     * Read the next result of a worker.
+     * @param input Standard output of the worker
+     * @param <T> Type of the result
+     * @return The result
+     * @throws IOException If the worker has exited
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T next(final ObjectInputStream input)
+        throws IOException {
+        final Object result;
+        try {
+            result = input.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IllegalStateException("Unknown result of worker", ex);
+        }
+        if (result instanceof RuntimeException) {
+            throw new IllegalStateException(
+                "Task has failed on worker",
+                (RuntimeException) result
+            );
+        }
+        return (T) result;
+    }
+}
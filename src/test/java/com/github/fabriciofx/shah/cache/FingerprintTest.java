@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cache;
+
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import java.util.ArrayList;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Fingerprint tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class FingerprintTest {
+    @Test
+    void fingerprintTheSameParametersAlike() {
+        new Assertion<>(
+            "must give the same key to the same parameters",
+            new Fingerprint(
+                () -> "func",
+                CollisionTest.class,
+                new Seed32(12_345),
+                16,
+                0.5,
+                "keys",
+                new byte[]{1, 2}
+            ).value(),
+            new IsEqual<>(
+                new Fingerprint(
+                    () -> "func",
+                    CollisionTest.class,
+                    new Seed32(12_345),
+                    16,
+                    0.5,
+                    "keys",
+                    new byte[]{1, 2}
+                ).value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void tellNumbersFromTheirText() {
+        new Assertion<>(
+            "must not give a number the key of its text",
+            new Fingerprint(() -> "func", CollisionTest.class, 16).value(),
+            new IsNot<>(
+                new IsEqual<>(
+                    new Fingerprint(
+                        () -> "func",
+                        CollisionTest.class,
+                        "16"
+                    ).value()
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectParameterWithoutEncoding() {
+        new Assertion<>(
+            "must reject a parameter without a defined encoding",
+            () -> new Fingerprint(
+                () -> "func",
+                CollisionTest.class,
+                new ArrayList<>(0)
+            ).value(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
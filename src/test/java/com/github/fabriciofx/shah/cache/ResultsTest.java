@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cache;
+
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.func.donothing.DoNothing32;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.DistributionScore;
+import com.github.fabriciofx.shah.metric.Partial;
+import com.github.fabriciofx.shah.metric.Truncated;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.seed.Seed64;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import com.github.fabriciofx.shah.test.DistributionTest;
+import com.github.fabriciofx.shah.test.SequentialCollisionTest;
+import com.github.fabriciofx.shah.test.TruncatedCollisionTest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Results tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ResultsTest {
+    @Test
+    void returnStoredResult(@TempDir final Path dir) {
+        new Results(dir).value("key", () -> 42L);
+        new Assertion<>(
+            "must return the stored result without computing it",
+            new Results(dir).value("key", () -> 0L),
+            new IsEqual<>(42L)
+        ).affirm();
+    }
+
+    @Test
+    void computeAgainAfterInvalidation(@TempDir final Path dir) {
+        final Results results = new Results(dir);
+        results.value("key", () -> 42L);
+        results.invalidate("key");
+        new Assertion<>(
+            "must compute the result again",
+            results.value("key", () -> 7L),
+            new IsEqual<>(7L)
+        ).affirm();
+    }
+
+    @Test
+    void evictLeastRecentlyUsedResults(@TempDir final Path dir)
+        throws IOException {
+        new Results(dir).value("first", () -> 1L);
+        final Results results = new Results(
+            dir,
+            2L * Files.size(dir.resolve("first.result"))
+        );
+        results.value("second", () -> 2L);
+        Files.setLastModifiedTime(
+            dir.resolve("first.result"),
+            FileTime.fromMillis(1_000L)
+        );
+        Files.setLastModifiedTime(
+            dir.resolve("second.result"),
+            FileTime.fromMillis(2_000L)
+        );
+        results.value("first", () -> 0L);
+        results.value("third", () -> 3L);
+        new Assertion<>(
+            "must evict the result not used for the longest time",
+            new boolean[]{
+                Files.exists(dir.resolve("first.result")),
+                Files.exists(dir.resolve("second.result")),
+                Files.exists(dir.resolve("third.result")),
+            },
+            new IsEqual<>(new boolean[]{true, false, true})
+        ).affirm();
+    }
+
+    @Test
+    void storeCollisionsWithTheirCollidingKeys(@TempDir final Path dir) {
+        final Collisions computed = new CollisionTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000
+        ).metric();
+        new Results(dir).value("collisions", () -> computed);
+        final Collisions stored = new Results(dir).value(
+            "collisions",
+            () -> new Collisions(0, 0, 32)
+        );
+        new Assertion<>(
+            "must store the collision ratio and the colliding keys",
+            new double[]{
+                stored.ratio().value(),
+                stored.colliding().size(),
+            },
+            new IsEqual<>(
+                new double[]{
+                    computed.ratio().value(),
+                    computed.colliding().size(),
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void storeTruncatedCollisions(@TempDir final Path dir) {
+        final Truncated computed = new TruncatedCollisionTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000
+        ).metric();
+        new Results(dir).value("truncated", () -> computed);
+        new Assertion<>(
+            "must store the collisions of every slice",
+            new Results(dir).<Truncated>value("truncated", () -> null)
+                .worst().value(),
+            new IsEqual<>(computed.worst().value())
+        ).affirm();
+    }
+
+    @Test
+    void storeDistributionScore(@TempDir final Path dir) {
+        final DistributionScore computed = new DistributionTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000
+        ).metric();
+        new Results(dir).value("distribution", () -> computed);
+        new Assertion<>(
+            "must store the distribution score",
+            new Results(dir)
+                .<DistributionScore>value("distribution", () -> null)
+                .value(),
+            new IsEqual<>(computed.value())
+        ).affirm();
+    }
+
+    @Test
+    void storePartialCollisions(@TempDir final Path dir) {
+        new Results(dir).value(
+            "partial",
+            () -> new SequentialCollisionTest(
+                (key, seed) -> new DoNothing32().hash(),
+                new Seed32(0),
+                4,
+                new Seed64(0L),
+                1_000_000
+            ).metric()
+        );
+        new Assertion<>(
+            "must store the samples used by the partial metric",
+            new Results(dir)
+                .<Partial<Collisions>>value("partial", () -> null)
+                .samples(),
+            new IsEqual<>(16_384L)
+        ).affirm();
+    }
+}
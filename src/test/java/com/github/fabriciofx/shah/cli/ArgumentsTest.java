@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Arguments tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ArgumentsTest {
+    @Test
+    void separateOptionsFromFunctions() {
+        final Arguments arguments = new Arguments(
+            "--profile=quick",
+            "com.example.First",
+            "--threads=2",
+            "com.example.Second"
+        );
+        new Assertion<>(
+            "must keep the function names in order",
+            arguments.functions(),
+            new IsEqual<>(List.of("com.example.First", "com.example.Second"))
+        ).affirm();
+    }
+
+    @Test
+    void rejectUnknownOption() {
+        new Assertion<>(
+            "must reject an unknown option",
+            () -> new Arguments("--colour=red"),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
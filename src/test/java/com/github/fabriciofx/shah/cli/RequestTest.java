@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.cli;
+
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Request tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class RequestTest {
+    @Test
+    void parseTestNames() {
+        new Assertion<>(
+            "must split the test names",
+            new Request(
+                "jar=/tmp/my.jar func=com.example.MyHash32 tests=zeroes,prng"
+            ).tests(),
+            new IsEqual<>(List.of("zeroes", "prng"))
+        ).affirm();
+    }
+
+    @Test
+    void rejectMissingJar() {
+        new Assertion<>(
+            "must reject a request without jar",
+            () -> new Request("func=com.example.MyHash32"),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
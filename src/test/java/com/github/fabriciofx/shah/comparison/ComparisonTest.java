@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.comparison;
+
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.func.jenkins.OaatHash32;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.sink.CollisionSink;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Comparison tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ComparisonTest {
+    @Test
+    void countTheSameCollisionsAsCollisionTest() {
+        final Map<String, BiFunction<Key, Seed, Hash>> funcs =
+            new LinkedHashMap<>();
+        funcs.put("oaat", (key, seed) -> new OaatHash32(key).hash());
+        funcs.put(
+            "murmur3",
+            (key, seed) -> new Murmur3Hash32(key, seed).hash()
+        );
+        final Report report = new Comparison(
+            new RandomKeys(16, new Seed32(54_321), 100_000),
+            new Seed32(12_345),
+            funcs,
+            new Parallel(4),
+            new CollisionSink()
+        ).metric();
+        new Assertion<>(
+            "must count the same collisions as CollisionTest",
+            ((Collisions) report.metrics("murmur3").get(0)).value(),
+            new IsEqual<>(
+                new CollisionTest(
+                    (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                    new Seed32(12_345),
+                    16,
+                    new Seed32(54_321),
+                    100_000
+                ).metric().value()
+            )
+        ).affirm();
+    }
+}
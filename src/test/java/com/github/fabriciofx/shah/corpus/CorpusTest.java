@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.corpus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Corpus tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CorpusTest {
+    @Test
+    void readLinesAcrossParts(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("corpus.txt");
+        Files.writeString(file, "alpha\r\nbeta\ngamma\ndelta");
+        final Corpus corpus = new Corpus(file, new Lines(), 8L);
+        final List<String> keys = new ArrayList<>();
+        for (int part = 0; part < corpus.parts(); ++part) {
+            corpus.keys(
+                part,
+                key -> keys.add(
+                    new String(key.asBytes(), StandardCharsets.US_ASCII)
+                )
+            );
+        }
+        new Assertion<>(
+            "must read every line once, without its end",
+            keys,
+            new IsEqual<>(List.of("alpha", "beta", "gamma", "delta"))
+        ).affirm();
+    }
+
+    @Test
+    void readPrefixedKeysAcrossParts(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("corpus.bin");
+        Files.write(
+            file,
+            new byte[]{
+                2, 0, 0, 0, 'a', 'b', 0, 0, 0, 0, 3, 0, 0, 0, 'c', 'd', 'e',
+            }
+        );
+        final Corpus corpus = new Corpus(file, new Prefixed(), 4L);
+        final List<String> keys = new ArrayList<>();
+        for (int part = 0; part < corpus.parts(); ++part) {
+            corpus.keys(
+                part,
+                key -> keys.add(
+                    new String(key.asBytes(), StandardCharsets.US_ASCII)
+                )
+            );
+        }
+        new Assertion<>(
+            "must read every prefixed key once",
+            keys,
+            new IsEqual<>(List.of("ab", "", "cde"))
+        ).affirm();
+    }
+}
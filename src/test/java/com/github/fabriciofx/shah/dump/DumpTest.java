@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.dump;
+
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.hash.Hash64;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.Truncated;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import com.github.fabriciofx.shah.test.TruncatedCollisionTest;
+import java.nio.file.Path;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Dump tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class DumpTest {
+    @Test
+    void readWrittenHashesSorted(@TempDir final Path dir) {
+        final Indexed hashes = new Indexed(10, 2);
+        hashes.add(new Hash64(0x0123_4567_89AB_CDEFL));
+        hashes.add(new Hash64(42L));
+        final Dump dump = new Dump(dir.resolve("hashes.dump"));
+        dump.write(Map.of("function", "Test64"), hashes);
+        final byte[] bytes = new byte[Long.BYTES];
+        dump.hashes().read(0, bytes);
+        new Assertion<>(
+            "must read the lowest written hash first",
+            bytes,
+            new IsEqual<>(new Hash64(42L).asBytes())
+        ).affirm();
+    }
+
+    @Test
+    void readKeyIndices(@TempDir final Path dir) {
+        final Indexed hashes = new Indexed(10, 2);
+        hashes.add(new Hash64(1L));
+        hashes.add(new Hash64(2L));
+        final Dump dump = new Dump(dir.resolve("hashes.dump"));
+        dump.write(Map.of("function", "Test64"), hashes);
+        new Assertion<>(
+            "must read the key index of a hash",
+            dump.hashes().key(1),
+            new IsEqual<>(11)
+        ).affirm();
+    }
+
+    @Test
+    void readHeader(@TempDir final Path dir) {
+        final Dump dump = new Dump(dir.resolve("hashes.dump"));
+        dump.write(Map.of("function", "Test64"), new Indexed());
+        new Assertion<>(
+            "must read the header",
+            dump.header().get("function"),
+            new IsEqual<>("Test64")
+        ).affirm();
+    }
+
+    @Test
+    void findTheCollidingKeysOfTheLiveTest(@TempDir final Path dir) {
+        final Dump dump = new Dumped(
+            "Murmur3Hash32",
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000,
+            dir.resolve("murmur3.dump"),
+            new Parallel(4)
+        ).metric();
+        final Collisions live = new CollisionTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000
+        ).metric();
+        new Assertion<>(
+            "must find the colliding keys of the live test in the dump",
+            new Collisions(dump.hashes(), dump.keys())
+                .colliding().get(2).get(1).asBytes(),
+            new IsEqual<>(live.colliding().get(2).get(1).asBytes())
+        ).affirm();
+    }
+
+    @Test
+    void countTheTruncatedCollisionsOfTheLiveTest(@TempDir final Path dir) {
+        final Dump dump = new Dumped(
+            "Murmur3Hash32",
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            100_000,
+            dir.resolve("murmur3.dump"),
+            new Parallel(4)
+        ).metric();
+        new Assertion<>(
+            "must count the truncated collisions of the live test",
+            new Truncated(dump.hashes()).worst().value(),
+            new IsEqual<>(
+                new TruncatedCollisionTest(
+                    (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                    new Seed32(12_345),
+                    16,
+                    new Seed32(54_321),
+                    100_000
+                ).metric().worst().value()
+            )
+        ).affirm();
+    }
+}
@@ -5,8 +5,8 @@
 package com.github.fabriciofx.shah.func.jenkins;
 
 import com.github.fabriciofx.shah.IsLessThan;
-import com.github.fabriciofx.shah.collection.Words;
 import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.keys.RandomWords;
 import com.github.fabriciofx.shah.seed.Seed32;
 import com.github.fabriciofx.shah.test.AppendedZeroesTest;
 import com.github.fabriciofx.shah.test.AvalancheTest;
@@ -379,7 +379,7 @@ final class Lookup2Hash32Test {
             new WordsTest(
                 (key, seed) -> new Lookup2Hash32(key, seed).hash(),
                 new Seed32(12_345),
-                new Words(100_000, 2, 10)
+                new RandomWords(100_000, 2, 10)
             ).metric().ratio().value(),
             new IsLessThan(2.0, "words collision ratio")
         ).affirm();
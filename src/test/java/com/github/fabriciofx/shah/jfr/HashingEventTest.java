@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.jfr;
+
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.loop.LoopOf;
+import com.github.fabriciofx.shah.seed.Seed32;
+import java.io.IOException;
+import java.nio.file.Path;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Hashing event tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class HashingEventTest {
+    @Test
+    void recordBytesHashedByLoop(@TempDir final Path dir) throws IOException {
+        final Keys keys = new RandomKeys(16, new Seed32(54_321), 1_000);
+        final Path file = dir.resolve("hashing.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HashingEvent.class);
+            recording.start();
+            new LoopOf(
+                (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                new Seed32(12_345)
+            ).run(keys, 0, keys.count(), hash -> { });
+            recording.stop();
+            recording.dump(file);
+        }
+        long bytes = 0L;
+        for (final RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            bytes += event.getLong("bytes");
+        }
+        new Assertion<>(
+            "must record the bytes hashed",
+            bytes,
+            new IsEqual<>(16_000L)
+        ).affirm();
+    }
+}
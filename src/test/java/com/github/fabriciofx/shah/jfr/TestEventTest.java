@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.jfr;
+
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import com.github.fabriciofx.shah.test.RecordedTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test event tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class TestEventTest {
+    @Test
+    void recordKeysAndBytesHashedByRunner(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TestEvent.class);
+            recording.start();
+            new RecordedTest<>(
+                "murmur3-32",
+                new CollisionTest(
+                    (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                    new Seed32(12_345),
+                    16,
+                    new Seed32(54_321),
+                    100_000,
+                    new Parallel(4)
+                )
+            ).metric();
+            recording.stop();
+            recording.dump(file);
+        }
+        long keys = 0L;
+        long bytes = 0L;
+        for (final RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if ("com.github.fabriciofx.shah.Test".equals(
+                event.getEventType().getName()
+            )) {
+                keys += event.getLong("keys");
+                bytes += event.getLong("bytes");
+            }
+        }
+        new Assertion<>(
+            "must record the keys and bytes hashed on every thread",
+            new long[]{keys, bytes},
+            new IsEqual<>(new long[]{100_000L, 1_600_000L})
+        ).affirm();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.job;
+
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.report.JsonLines;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Reported tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ReportedTest {
+    @Test
+    void writeRecordOfMetric() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new Reported<>(
+            new JobOf<>("collision", () -> new Collisions(4, 65_536, 32), 1L),
+            new JsonLines(bytes)
+        ).metric();
+        new Assertion<>(
+            "must write the name, the time and the summary of the metric",
+            ReportedTest.untimed(bytes),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"job\":\"collision\",\"millis\":0,\"collisions\":4,",
+                    "\"ratio\":8.000122072175174}\n"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writeRecordOfFailedMetric() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new Assertion<>(
+            "must throw the error of the metric again",
+            () -> new Reported<>(
+                new JobOf<>(
+                    "broken",
+                    () -> {
+                        throw new IllegalStateException("no keys");
+                    },
+                    1L
+                ),
+                new JsonLines(bytes)
+            ).metric(),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "must write the error of the metric",
+            ReportedTest.untimed(bytes),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"job\":\"broken\",\"millis\":0,",
+                    "\"error\":\"java.lang.IllegalStateException: no keys\"}\n"
+                )
+            )
+        ).affirm();
+    }
+
+    /**
+     * The records written, with a time of zero.
+     * @param bytes The bytes written
+     * @return The records
+     */
+    private static String untimed(final ByteArrayOutputStream bytes) {
+        return bytes.toString(StandardCharsets.UTF_8)
+            .replaceAll("\"millis\":\\d+", "\"millis\":0");
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.key;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Chars tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CharsTest {
+    @Test
+    void encodeAsciiTextLikeString() {
+        new Assertion<>(
+            "must encode an ASCII text like a string key",
+            new Chars(new StringBuilder("words")).asBytes(),
+            new IsEqual<>(new KeyOf("words").asBytes())
+        ).affirm();
+    }
+
+    @Test
+    void encodeOtherTextInUtf() {
+        new Assertion<>(
+            "must encode a non-ASCII text in UTF-8",
+            new Chars(new StringBuilder("ação")).asBytes(),
+            new IsEqual<>(new KeyOf("ação").asBytes())
+        ).affirm();
+    }
+}
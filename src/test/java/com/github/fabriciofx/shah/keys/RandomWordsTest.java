@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.keys;
+
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.seed.Seed64;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * RandomWords tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class RandomWordsTest {
+    @Test
+    void generateDistinctWords() {
+        final RandomWords words = new RandomWords(3000, 2, 3);
+        final Set<String> distinct = new HashSet<>();
+        for (int idx = 0; idx < words.count(); ++idx) {
+            distinct.add(
+                new String(
+                    words.item(idx).asBytes(),
+                    StandardCharsets.US_ASCII
+                )
+            );
+        }
+        new Assertion<>(
+            "must generate distinct words",
+            distinct.size(),
+            new IsEqual<>(3000)
+        ).affirm();
+    }
+
+    @Test
+    void generateSameWordsInParallel() {
+        new Assertion<>(
+            "must generate the same words in any number of threads",
+            new RandomWords(
+                50_000,
+                2,
+                20,
+                new Seed64(7L),
+                new Parallel(4)
+            ).item(49_999).asBytes(),
+            new IsEqual<>(
+                new RandomWords(50_000, 2, 20, new Seed64(7L))
+                    .item(49_999)
+                    .asBytes()
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.keys;
+
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.runner.Parallel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Stored tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class StoredTest {
+    @Test
+    void readStoredKey(@TempDir final Path dir) {
+        new Assertion<>(
+            "must read the key from the keyset",
+            new Stored(
+                dir,
+                "letters",
+                Map.of("count", "3"),
+                new KeysOf(List.of("a", "bc", "def"))
+            ).item(1).asBytes(),
+            new IsEqual<>(new KeyOf("bc").asBytes())
+        ).affirm();
+    }
+
+    @Test
+    void notGenerateStoredKeysetAgain(@TempDir final Path dir) {
+        new Stored(
+            dir,
+            "letters",
+            Map.of("count", "2"),
+            new KeysOf(List.of("a", "bc"))
+        ).count();
+        new Assertion<>(
+            "must read the keyset generated before",
+            new Stored(
+                dir,
+                "letters",
+                Map.of("count", "2"),
+                () -> {
+                    throw new IllegalStateException("generated again");
+                }
+            ).count(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void generateKeysetAgainForOtherParameters(@TempDir final Path dir) {
+        new Stored(
+            dir,
+            "letters",
+            Map.of("count", "2"),
+            new KeysOf(List.of("a", "bc"))
+        ).count();
+        new Assertion<>(
+            "must not read a keyset of other parameters",
+            new Stored(
+                dir,
+                "letters",
+                Map.of("count", "3"),
+                new KeysOf(List.of("a", "bc", "def"))
+            ).count(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void generateKeysetOnceForAllThreads(@TempDir final Path dir) {
+        final AtomicInteger generated = new AtomicInteger();
+        final Stored stored = new Stored(
+            dir,
+            "numbers",
+            Map.of("count", "10000"),
+            () -> {
+                generated.incrementAndGet();
+                return new KeysOf(
+                    10_000,
+                    idx -> new KeyOf(Integer.toString(idx))
+                );
+            }
+        );
+        new Parallel(4).reduce(
+            10_000,
+            100,
+            (from, to) -> stored.item(to - 1).size(),
+            Integer::sum
+        );
+        new Assertion<>(
+            "must generate the keyset once for all the threads",
+            generated.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.loop;
+
+import com.github.fabriciofx.shah.Func;
+import com.github.fabriciofx.shah.Hash;
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.Keys;
+import com.github.fabriciofx.shah.Seed;
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.func.jenkins.OaatHash32;
+import com.github.fabriciofx.shah.keys.RandomKeys;
+import com.github.fabriciofx.shah.seed.Seed32;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Specialized tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class SpecializedTest {
+    @Test
+    void hashTheSameAsThePlainLoop() {
+        final Keys keys = new RandomKeys(16, new Seed32(54_321), 1_000);
+        final List<Hash> plain = new ArrayList<>(keys.count());
+        final List<Hash> specialized = new ArrayList<>(keys.count());
+        new LoopOf(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345)
+        ).run(keys, 0, keys.count(), plain::add);
+        new Specialized(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345)
+        ).run(keys, 0, keys.count(), specialized::add);
+        new Assertion<>(
+            "must hash the same as the plain loop",
+            specialized,
+            new IsEqual<>(plain)
+        ).affirm();
+    }
+
+    @Test
+    void shareTheCopyOfTheSameFunction() {
+        final Keys keys = new RandomKeys(16, new Seed32(54_321), 100);
+        final Set<Class<?>> loops = new HashSet<>();
+        final BiFunction<Key, Seed, Hash> func = (key, seed) -> {
+            loops.add(
+                StackWalker.getInstance(
+                    EnumSet.of(
+                        StackWalker.Option.RETAIN_CLASS_REFERENCE,
+                        StackWalker.Option.SHOW_HIDDEN_FRAMES
+                    )
+                ).walk(
+                    frames -> frames
+                        .map(StackWalker.StackFrame::getDeclaringClass)
+                        .filter(
+                            type -> type.getName().startsWith(
+                                LoopOf.class.getName()
+                            )
+                        )
+                        .findFirst()
+                        .orElseThrow()
+                )
+            );
+            return new Murmur3Hash32(key, seed).hash();
+        };
+        new Specialized(func, new Seed32(12_345))
+            .run(keys, 0, keys.count(), hash -> { });
+        new Specialized(func, new Seed32(67_890))
+            .run(keys, 0, keys.count(), hash -> { });
+        new Assertion<>(
+            "must run the loops of a function in the same copy",
+            loops.size(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void runEachReflectedFunctionInItsOwnCopy() {
+        final Keys keys = new RandomKeys(16, new Seed32(54_321), 100);
+        final Set<Class<?>> loops = new HashSet<>();
+        final List<Class<? extends Func>> funcs = List.of(
+            Murmur3Hash32.class,
+            OaatHash32.class,
+            Murmur3Hash32.class
+        );
+        for (final Class<? extends Func> type : funcs) {
+            new Specialized(new Reflected(type), new Seed32(12_345)).run(
+                keys,
+                0,
+                keys.count(),
+                hash -> loops.add(
+                    StackWalker.getInstance(
+                        EnumSet.of(
+                            StackWalker.Option.RETAIN_CLASS_REFERENCE,
+                            StackWalker.Option.SHOW_HIDDEN_FRAMES
+                        )
+                    ).walk(
+                        frames -> frames
+                            .map(StackWalker.StackFrame::getDeclaringClass)
+                            .filter(
+                                loop -> loop.getName().startsWith(
+                                    FuncLoop.class.getName()
+                                )
+                            )
+                            .findFirst()
+                            .orElseThrow()
+                    )
+                )
+            );
+        }
+        new Assertion<>(
+            "must run each reflected function in a copy of its own",
+            loops.size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
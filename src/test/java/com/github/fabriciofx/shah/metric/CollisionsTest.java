@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.metric;
+
+import com.github.fabriciofx.shah.hash.Hash32;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import com.github.fabriciofx.shah.key.KeyOf;
+import com.github.fabriciofx.shah.keys.KeysOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Collisions tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CollisionsTest {
+    @Test
+    void mergeCollisionsOfIndependentTrials() {
+        new Assertion<>(
+            "must add up the collisions of independent trials",
+            new Collisions(3, 100_000, 32)
+                .merge(new Collisions(1, 100_000, 32))
+                .value(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void poolTheRatioOfIndependentTrials() {
+        final Collisions one = new Collisions(3, 100_000, 32);
+        final Collisions two = new Collisions(1, 100_000, 32);
+        new Assertion<>(
+            "must pool the ratio of independent trials",
+            one.merge(two).ratio().value(),
+            new IsEqual<>(one.ratio().merge(two.ratio()).value())
+        ).affirm();
+    }
+
+    @Test
+    void generateTheCollidingKeysAgain() {
+        final Indexed hashes = new Indexed();
+        hashes.add(new Hash32(7));
+        hashes.add(new Hash32(1));
+        hashes.add(new Hash32(7));
+        hashes.add(new Hash32(3));
+        new Assertion<>(
+            "must give the keys of the colliding hashes",
+            new Collisions(
+                hashes,
+                new KeysOf(4, idx -> new KeyOf(new byte[]{(byte) idx}))
+            ).colliding().get(0).get(1).asBytes(),
+            new IsEqual<>(new byte[]{2})
+        ).affirm();
+    }
+
+    @Test
+    void keepTheFirstKeysOfAHugeGroup() {
+        final Indexed hashes = new Indexed();
+        for (int idx = 0; idx < 1_000; ++idx) {
+            hashes.add(new Hash32(7));
+        }
+        new Assertion<>(
+            "must keep only the first keys of a group of colliding keys",
+            new Collisions(
+                hashes,
+                new KeysOf(1_000, idx -> new KeyOf(new byte[]{(byte) idx}))
+            ).colliding().get(0).size(),
+            new IsEqual<>(16)
+        ).affirm();
+    }
+}
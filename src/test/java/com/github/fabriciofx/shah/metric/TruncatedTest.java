@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.metric;
+
+import com.github.fabriciofx.shah.hash.Hash32;
+import com.github.fabriciofx.shah.hashes.Indexed;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Truncated tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class TruncatedTest {
+    @Test
+    void countCollisionsOfTheLowBits() {
+        final Indexed hashes = new Indexed();
+        hashes.add(new Hash32(0x0001_1234));
+        hashes.add(new Hash32(0x0002_1234));
+        hashes.add(new Hash32(0x0003_5678));
+        new Assertion<>(
+            "must count the hashes sharing their low 16 bits",
+            new Truncated(hashes, 16).value().get("low-16").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void countCollisionsOfTheHighBits() {
+        final Indexed hashes = new Indexed();
+        hashes.add(new Hash32(0x1234_0001));
+        hashes.add(new Hash32(0x1234_0002));
+        hashes.add(new Hash32(0x1235_0002));
+        new Assertion<>(
+            "must count the hashes sharing their high 16 bits",
+            new Truncated(hashes, 16).value().get("high-16").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
@@ -9,6 +9,7 @@ import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
 import com.github.fabriciofx.shah.seed.Seed32;
 import com.github.fabriciofx.shah.test.AvalancheTest;
 import java.util.Arrays;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsTrue;
@@ -60,4 +61,30 @@ final class MatrixTest {
             new IsGreaterThanOrEqualTo(0.50, "probability")
         ).affirm();
     }
+
+    @Test
+    void mergeFlipsAndRepetitions() {
+        final Matrix merged = new Matrix(2, new int[]{1, 2}, new int[]{0, 2})
+            .merge(new Matrix(3, new int[]{2, 1}, new int[]{3, 0}));
+        new Assertion<>(
+            "must merge the flips and the repetitions",
+            Arrays.deepEquals(
+                merged.value(),
+                new double[][]{{0.6, 0.6}, {0.6, 0.4}}
+            ),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void mergeAsTheWholeRepetitions() {
+        final Matrix whole = new Matrix(4, new int[]{1, 3}, new int[]{2, 4});
+        new Assertion<>(
+            "must merge parts into the matrix of the whole repetitions",
+            new Matrix(1, new int[]{1, 1}, new int[]{0, 1})
+                .merge(new Matrix(3, new int[]{0, 2}, new int[]{2, 3}))
+                .probability(),
+            new IsEqual<>(whole.probability())
+        ).affirm();
+    }
 }
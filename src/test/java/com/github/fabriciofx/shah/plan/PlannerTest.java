@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.plan;
+
+import com.github.fabriciofx.shah.Footprint;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.DifferentialTest;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Planner tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class PlannerTest {
+    @Test
+    void chooseHeapStorageWhenItFits() {
+        new Assertion<>(
+            "must choose the heap storage when it fits",
+            new Planner(1L << 30, 4).plan(PlannerTest.test()).storage().name(),
+            new IsEqual<>("heap")
+        ).affirm();
+    }
+
+    @Test
+    void chooseCompactStorageWhenHeapDoesNotFit() {
+        final Footprint test = PlannerTest.test();
+        final Storage compact = new CompactStorage();
+        new Assertion<>(
+            "must choose the compact storage when the heap does not fit",
+            new Planner(
+                compact.held(test) + compact.sorting(test),
+                4
+            ).plan(test).storage().name(),
+            new IsEqual<>("compact")
+        ).affirm();
+    }
+
+    @Test
+    void rejectTestThatDoesNotFit() {
+        new Assertion<>(
+            "must reject a test that does not fit in the budget",
+            () -> new Planner(1_024L, 4).plan(PlannerTest.test()),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    /**
+     * Differential test with 256 sets of 100,000 hashes.
+     * @return The test
+     */
+    private static DifferentialTest test() {
+        return new DifferentialTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            32,
+            new Seed32(54_321),
+            100_000
+        );
+    }
+}
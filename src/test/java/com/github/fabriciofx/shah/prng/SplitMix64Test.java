@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.prng;
+
+import com.github.fabriciofx.shah.Prng;
+import java.util.Arrays;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * SplitMix64 tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class SplitMix64Test {
+    @Test
+    void generateReferenceValue() {
+        new Assertion<>(
+            "must generate the reference SplitMix64 value for seed 0",
+            new SplitMix64(0L).nextLong(),
+            new IsEqual<>(0xe220a8397b1dcdafL)
+        ).affirm();
+    }
+
+    @Test
+    void fillBytesInLittleEndian() {
+        final long value = new SplitMix64(42L).nextLong();
+        final byte[] bytes = new byte[Long.BYTES];
+        new SplitMix64(42L).nextBytes(bytes);
+        boolean equal = true;
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            if (bytes[idx] != (byte) (value >>> (idx * Byte.SIZE))) {
+                equal = false;
+            }
+        }
+        new Assertion<>(
+            "must fill bytes with the next value in little-endian order",
+            equal,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void splitTheSameStreamForTheSameIndex() {
+        final Prng root = new SplitMix64(12_345L);
+        final byte[] first = new byte[37];
+        final byte[] second = new byte[37];
+        root.split(7L).nextBytes(first);
+        root.split(7L).nextBytes(second);
+        new Assertion<>(
+            "must split the same stream for the same index",
+            Arrays.equals(first, second),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void splitDifferentStreamsForDifferentIndexes() {
+        final Prng root = new SplitMix64(12_345L);
+        new Assertion<>(
+            "must split different streams for different indexes",
+            root.split(1L).nextLong() != root.split(2L).nextLong(),
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.profile;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Calibrated tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CalibratedTest {
+    @Test
+    void keepStandardSamples() {
+        new Assertion<>(
+            "must keep the samples of the standard profile",
+            new Standard().samples(1_000_000),
+            new IsEqual<>(1_000_000)
+        ).affirm();
+    }
+
+    @Test
+    void quadrupleSamplesToDetectHalfTheBias() {
+        new Assertion<>(
+            "must take four times the samples to detect half the bias",
+            new Calibrated("half", 0.002_5).samples(100_000),
+            new IsEqual<>(400_000)
+        ).affirm();
+    }
+
+    @Test
+    void chooseProfileByName() {
+        new Assertion<>(
+            "must choose the profile by its name",
+            new Configured("quick", new Quick(), new Thorough())
+                .samples(1_600_000),
+            new IsEqual<>(100_000)
+        ).affirm();
+    }
+}
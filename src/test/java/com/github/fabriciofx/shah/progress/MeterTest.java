@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+import java.time.Duration;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Meter tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class MeterTest {
+    @Test
+    void restartCountingAtEachPhase() {
+        final Meter meter = new Meter();
+        meter.phase("hash", 100L);
+        meter.advance(60L, 480L);
+        meter.phase("sort", 100L);
+        meter.advance(10L, 0L);
+        new Assertion<>(
+            "must count only the units of the current phase",
+            meter.done(),
+            new IsEqual<>(10L)
+        ).affirm();
+    }
+
+    @Test
+    void estimateNothingLeftWhenPhaseIsDone() {
+        final Meter meter = new Meter();
+        meter.phase("hash", 100L);
+        meter.advance(100L, 800L);
+        new Assertion<>(
+            "must estimate no time left",
+            meter.eta(),
+            new IsEqual<>(Duration.ZERO)
+        ).affirm();
+    }
+}
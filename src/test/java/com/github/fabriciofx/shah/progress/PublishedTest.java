@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.progress;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Published tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class PublishedTest {
+    @Test
+    void registerOnlyWhenFirstPhaseStarts() throws JMException {
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final Published published = new Published(
+            "murmur3/collision-16",
+            new Meter(),
+            server
+        );
+        new Assertion<>(
+            "must not register before the first phase",
+            server.isRegistered(PublishedTest.name("murmur3/collision-16")),
+            new IsEqual<>(false)
+        ).affirm();
+        published.phase("hash", 100L);
+        new Assertion<>(
+            "must register on the first phase",
+            server.isRegistered(PublishedTest.name("murmur3/collision-16")),
+            new IsEqual<>(true)
+        ).affirm();
+        published.close();
+    }
+
+    @Test
+    void publishTheProgressOfTheCurrentPhase() throws JMException {
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        try (Published published = new Published("seed", new Meter(), server)) {
+            published.phase("hash", 100L);
+            published.advance(40L, 320L);
+            new Assertion<>(
+                "must publish the units done",
+                server.getAttribute(PublishedTest.name("seed"), "Keys"),
+                new IsEqual<>(40L)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void withdrawOnClose() throws JMException {
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final Published published = new Published(
+            "two-bytes",
+            new Meter(),
+            server
+        );
+        published.phase("hash", 100L);
+        published.close();
+        new Assertion<>(
+            "must unregister on close",
+            server.isRegistered(PublishedTest.name("two-bytes")),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    /**
+     * Object name of the MBean of a progress.
+     * @param name Name of the progress
+     * @return The object name
+     * @throws JMException If the name is malformed
+     */
+    private static ObjectName name(final String name) throws JMException {
+        return new ObjectName(
+            String.format(
+                "com.github.fabriciofx.shah:type=Progress,name=%s",
+                ObjectName.quote(name)
+            )
+        );
+    }
+}
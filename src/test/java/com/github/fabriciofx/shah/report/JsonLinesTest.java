@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * JSON Lines tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class JsonLinesTest {
+    @Test
+    void writeOneRecordPerLine() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonLines lines = new JsonLines(bytes)) {
+            lines.write(Map.of("job", "collision"));
+            lines.write(Map.of("job", "avalanche"));
+        }
+        new Assertion<>(
+            "must write each record on its own line",
+            bytes.toString(StandardCharsets.UTF_8),
+            new IsEqual<>("{\"job\":\"collision\"}\n{\"job\":\"avalanche\"}\n")
+        ).affirm();
+    }
+
+    @Test
+    void flushEachRecord() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (
+            JsonLines lines = new JsonLines(
+                new BufferedOutputStream(bytes, 1 << 16)
+            )
+        ) {
+            lines.write(Map.of("millis", 812));
+            new Assertion<>(
+                "must flush the record as soon as it is written",
+                bytes.toString(StandardCharsets.UTF_8),
+                new IsEqual<>("{\"millis\":812}\n")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void appendToFile(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("report.jsonl");
+        try (JsonLines lines = new JsonLines(file)) {
+            lines.write(Map.of("job", "collision"));
+        }
+        try (JsonLines lines = new JsonLines(file)) {
+            lines.write(Map.of("job", "avalanche"));
+        }
+        new Assertion<>(
+            "must append the records to the file",
+            Files.readString(file),
+            new IsEqual<>("{\"job\":\"collision\"}\n{\"job\":\"avalanche\"}\n")
+        ).affirm();
+    }
+}
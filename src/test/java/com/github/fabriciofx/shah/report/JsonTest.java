@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.Verdict;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Json tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class JsonTest {
+    @Test
+    void writeRecordOnOneLine() {
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("job", "say \"hi\"\n");
+        record.put("ratio", Double.NaN);
+        record.put("items", List.of(1, true));
+        new Assertion<>(
+            "must write an escaped JSON object",
+            new Json(record).value(),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"job\":\"say \\\"hi\\\"\\u000a\",",
+                    "\"ratio\":null,\"items\":[1,true]}"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void summarizeCollisions() {
+        new Assertion<>(
+            "must summarize the collisions and their ratio",
+            new Json(new Summary(new Collisions(4, 65_536, 32)).value())
+                .value(),
+            new IsEqual<>("{\"collisions\":4,\"ratio\":8.000122072175174}")
+        ).affirm();
+    }
+
+    @Test
+    void summarizeVerdict() {
+        new Assertion<>(
+            "must summarize the metric and whether it passed",
+            new Json(
+                new Summary(
+                    new Verdict<>(new Collisions(4, 65_536, 32), 8.0, 2.0)
+                ).value()
+            ).value(),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"collisions\":4,\"ratio\":8.000122072175174,",
+                    "\"score\":8.0,\"limit\":2.0,\"pass\":false}"
+                )
+            )
+        ).affirm();
+    }
+}
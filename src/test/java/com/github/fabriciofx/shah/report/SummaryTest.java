@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.report;
+
+import com.github.fabriciofx.shah.Metric;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.Partial;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Summary tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class SummaryTest {
+    @Test
+    void summarizePartialMetric() {
+        new Assertion<>(
+            "must summarize the metric and its samples",
+            new Json(
+                new Summary(
+                    new Partial<>(new Collisions(4, 65_536, 32), 10L, 40L)
+                ).value()
+            ).value(),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"collisions\":4,\"ratio\":8.000122072175174,",
+                    "\"samples\":10,\"total\":40}"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void summarizeListOfMetrics() {
+        new Assertion<>(
+            "must summarize each metric of the list",
+            new Json(
+                new Summary(List.of(new Collisions(4, 65_536, 32), 3))
+                    .value()
+            ).value(),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"items\":[{\"collisions\":4,",
+                    "\"ratio\":8.000122072175174},{\"value\":3}]}"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void summarizeOtherMetricByItsValue() {
+        new Assertion<>(
+            "must summarize the text of the value",
+            new Json(
+                new Summary(
+                    (Metric<StringBuilder>) () -> new StringBuilder("ok")
+                ).value()
+            ).value(),
+            new IsEqual<>("{\"value\":\"ok\"}")
+        ).affirm();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Cancellable tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CancellableTest {
+    @Test
+    void stopAtCancellation() {
+        final Token token = new Token();
+        final Cancellable runner = new Cancellable(token, new Parallel(4));
+        new Assertion<>(
+            "must merge only the chunks done before the cancellation",
+            runner.reduce(
+                1_000,
+                10,
+                (from, to) -> {
+                    if (to >= 500) {
+                        token.cancel();
+                    }
+                    return to - from;
+                },
+                Integer::sum
+            ).longValue(),
+            new IsEqual<>(runner.samples())
+        ).affirm();
+    }
+
+    @Test
+    void countAllSamplesWhenNotCancelled() {
+        final Cancellable runner = new Cancellable(new Token());
+        runner.reduce(1_000, 10, (from, to) -> to - from, Integer::sum);
+        new Assertion<>(
+            "must count all the samples when not cancelled",
+            runner.samples(),
+            new IsEqual<>(runner.total())
+        ).affirm();
+    }
+}
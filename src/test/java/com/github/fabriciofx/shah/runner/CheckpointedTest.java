@@ -0,0 +1,195 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.Key;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Checkpointed tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CheckpointedTest {
+    @Test
+    void resumeAsAnUninterruptedRun(@TempDir final Path dir) {
+        final Path file = dir.resolve("run.ckpt");
+        CheckpointedTest.crash(file, "run");
+        new Assertion<>(
+            "must resume as an uninterrupted run",
+            new Checkpointed(
+                file,
+                () -> "run",
+                2,
+                new Parallel(4)
+            ).reduce(
+                1_000,
+                7,
+                CheckpointedTest::units,
+                CheckpointedTest::concat
+            ),
+            new IsEqual<>(
+                new Serial().reduce(
+                    1_000,
+                    7,
+                    CheckpointedTest::units,
+                    CheckpointedTest::concat
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void skipTheChunksAlreadyRun(@TempDir final Path dir) {
+        final Path file = dir.resolve("run.ckpt");
+        CheckpointedTest.crash(file, "run");
+        final AtomicInteger chunks = new AtomicInteger();
+        new Checkpointed(file, () -> "run", 2, new Serial()).reduce(
+            1_000,
+            7,
+            (from, to) -> {
+                chunks.incrementAndGet();
+                return CheckpointedTest.units(from, to);
+            },
+            CheckpointedTest::concat
+        );
+        new Assertion<>(
+            "must run only the 71 chunks after the checkpoint",
+            chunks.get(),
+            new IsEqual<>(71)
+        ).affirm();
+    }
+
+    @Test
+    void refuseCheckpointOfAnotherRun(@TempDir final Path dir) {
+        final Path file = dir.resolve("run.ckpt");
+        CheckpointedTest.crash(file, "run");
+        new Assertion<>(
+            "must not resume the checkpoint of another run",
+            () -> new Checkpointed(file, () -> "other", 2, new Serial())
+                .reduce(
+                    1_000,
+                    7,
+                    CheckpointedTest::units,
+                    CheckpointedTest::concat
+                ),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void checkpointCollisionsWithTheirKeys(@TempDir final Path dir) {
+        final Collisions checkpointed = new CollisionTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000,
+            new Checkpointed(
+                dir.resolve("collision.ckpt"),
+                () -> "collision",
+                2,
+                new Serial()
+            )
+        ).metric();
+        final Collisions plain = new CollisionTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000
+        ).metric();
+        new Assertion<>(
+            "must find the same colliding keys through a checkpoint",
+            CheckpointedTest.hex(checkpointed),
+            new IsEqual<>(CheckpointedTest.hex(plain))
+        ).affirm();
+    }
+
+    /**
+     * Run a workload that crashes at its unit 500, leaving a checkpoint.
+     * @param file Checkpoint file
+     * @param identity Identity of the run
+     */
+    private static void crash(final Path file, final String identity) {
+        new Assertion<>(
+            "must stop at the crash",
+            () -> new Checkpointed(file, () -> identity, 2, new Serial())
+                .reduce(
+                    1_000,
+                    7,
+                    (from, to) -> {
+                        if (from >= 500) {
+                            throw new IllegalStateException("crash");
+                        }
+                        return CheckpointedTest.units(from, to);
+                    },
+                    CheckpointedTest::concat
+                ),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    /**
+     * Units of a chunk.
+     * @param from First unit
+     * @param to Unit after the last one
+     * @return The units
+     */
+    private static ArrayList<Integer> units(final int from, final int to) {
+        final ArrayList<Integer> part = new ArrayList<>(to - from);
+        for (int idx = from; idx < to; ++idx) {
+            part.add(idx);
+        }
+        return part;
+    }
+
+    /**
+     * Concatenate two lists of units.
+     * @param first First units
+     * @param second Second units
+     * @return The first units
+     */
+    private static ArrayList<Integer> concat(
+        final ArrayList<Integer> first,
+        final List<Integer> second
+    ) {
+        first.addAll(second);
+        return first;
+    }
+
+    /**
+     * The colliding keys in hex.
+     * @param collisions The collisions
+     * @return The groups of colliding keys
+     */
+    private static List<List<String>> hex(final Collisions collisions) {
+        final List<List<String>> groups = new ArrayList<>(0);
+        for (final List<Key> colliding : collisions.colliding()) {
+            final List<String> group = new ArrayList<>(colliding.size());
+            for (final Key key : colliding) {
+                group.add(HexFormat.of().formatHex(key.asBytes()));
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+}
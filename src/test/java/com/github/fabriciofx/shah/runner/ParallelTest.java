@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.runner;
+
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.AvalancheTest;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Parallel tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ParallelTest {
+    @Test
+    void mergeChunksInOrder() {
+        final List<Integer> units = new Parallel(4).reduce(
+            1_000,
+            7,
+            (from, to) -> {
+                final List<Integer> part = new ArrayList<>(to - from);
+                for (int idx = from; idx < to; ++idx) {
+                    part.add(idx);
+                }
+                return part;
+            },
+            (first, second) -> {
+                first.addAll(second);
+                return first;
+            }
+        );
+        boolean ordered = units.size() == 1_000;
+        for (int idx = 0; idx < units.size(); ++idx) {
+            if (units.get(idx) != idx) {
+                ordered = false;
+            }
+        }
+        new Assertion<>(
+            "must merge all chunks in order",
+            ordered,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void computeTheSameMatrixAsSerial() {
+        final double[][] serial = new AvalancheTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            8,
+            new Seed32(54_321),
+            10_000,
+            new Serial()
+        ).metric().value();
+        final double[][] parallel = new AvalancheTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            8,
+            new Seed32(54_321),
+            10_000,
+            new Parallel(4)
+        ).metric().value();
+        new Assertion<>(
+            "must compute the same avalanche matrix as serial",
+            Arrays.deepEquals(serial, parallel),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void countTheSameCollisionsAsSerial() {
+        new Assertion<>(
+            "must count the same collisions as serial",
+            new CollisionTest(
+                (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                new Seed32(12_345),
+                16,
+                new Seed32(54_321),
+                100_000,
+                new Parallel(4)
+            ).metric().value(),
+            new IsEqual<>(
+                new CollisionTest(
+                    (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                    new Seed32(12_345),
+                    16,
+                    new Seed32(54_321),
+                    100_000,
+                    new Serial()
+                ).metric().value()
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.sink;
+
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.DistributionScore;
+import com.github.fabriciofx.shah.runner.Parallel;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import com.github.fabriciofx.shah.test.DistributionTest;
+import com.github.fabriciofx.shah.test.FanOutTest;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * HistogramSink tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class HistogramSinkTest {
+    @Test
+    void scoreAsDistributionTest() {
+        final List<Object> metrics = new FanOutTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000,
+            new Parallel(4),
+            new HistogramSink()
+        ).metric();
+        new Assertion<>(
+            "must score the same distribution as DistributionTest",
+            ((DistributionScore) metrics.get(0)).value(),
+            new IsEqual<>(
+                new DistributionTest(
+                    (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                    new Seed32(12_345),
+                    16,
+                    new Seed32(54_321),
+                    200_000
+                ).metric().value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countTheSameCollisionsAsCollisionTest() {
+        final List<Object> metrics = new FanOutTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000,
+            new HistogramSink(),
+            new CollisionSink()
+        ).metric();
+        new Assertion<>(
+            "must count the same collisions as CollisionTest",
+            ((Collisions) metrics.get(1)).value(),
+            new IsEqual<>(
+                new CollisionTest(
+                    (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+                    new Seed32(12_345),
+                    16,
+                    new Seed32(54_321),
+                    200_000
+                ).metric().value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void scoreTheSameInEveryRun() {
+        final FanOutTest test = new FanOutTest(
+            (key, seed) -> new Murmur3Hash32(key, seed).hash(),
+            new Seed32(12_345),
+            16,
+            new Seed32(54_321),
+            200_000,
+            new Parallel(4),
+            new HistogramSink()
+        );
+        final double first = ((DistributionScore) test.metric().get(0))
+            .value();
+        new Assertion<>(
+            "must not count the hashes of a previous run",
+            ((DistributionScore) test.metric().get(0)).value(),
+            new IsEqual<>(first)
+        ).affirm();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.suite;
+
+import com.github.fabriciofx.shah.job.JobOf;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Suite tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class SuiteTest {
+    @Test
+    void returnMetricsInTheOrderOfTheJobs() {
+        final Map<String, Object> metrics = new Suite(
+            2,
+            new JobOf<>("cheap", () -> 1, 1L),
+            new JobOf<>("expensive", () -> 2, 1_000L),
+            new JobOf<>("medium", () -> 3, 10L)
+        ).value();
+        new Assertion<>(
+            "must return the metrics by name in the order of the jobs",
+            metrics.keySet().toString(),
+            new IsEqual<>("[cheap, expensive, medium]")
+        ).affirm();
+    }
+
+    @Test
+    void returnTheMetricOfEachJob() {
+        final Map<String, Object> metrics = new Suite(
+            2,
+            new JobOf<>("first", () -> "a", 4L, 32),
+            new JobOf<>("second", () -> "b", 8L, 64)
+        ).value();
+        final List<Object> values = Arrays.asList(
+            metrics.get("first"),
+            metrics.get("second")
+        );
+        new Assertion<>(
+            "must return the metric of each job",
+            values,
+            new IsEqual<>(Arrays.asList("a", "b"))
+        ).affirm();
+    }
+}
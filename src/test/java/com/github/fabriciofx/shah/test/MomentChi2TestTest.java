@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.IsLessThan;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.runner.Serial;
+import com.github.fabriciofx.shah.runner.Token;
+import com.github.fabriciofx.shah.seed.Seed32;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Moment chi-squared test tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class MomentChi2TestTest {
+    @Test
+    void passWithTheKeysHashedBeforeCancellation() {
+        final Token token = new Token();
+        final AtomicInteger hashed = new AtomicInteger();
+        new Assertion<>(
+            "must divide the moments by the keys actually hashed",
+            new BoundedTest<>(
+                runner -> new MomentChi2Test(
+                    (key, seed) -> {
+                        if (hashed.incrementAndGet() > 20_000) {
+                            token.cancel();
+                        }
+                        return new Murmur3Hash32(key, seed).hash();
+                    },
+                    new Seed32(12_345),
+                    4,
+                    2,
+                    1_000_000,
+                    runner
+                ),
+                token,
+                new Serial()
+            ).metric().value(),
+            new IsLessThan(500.0, "moment chi-squared")
+        ).affirm();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.func.donothing.DoNothing32;
+import com.github.fabriciofx.shah.metric.Partial;
+import com.github.fabriciofx.shah.metric.avalanche.Matrix;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.seed.Seed64;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Sequential avalanche test tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class SequentialAvalancheTestTest {
+    @Test
+    void failBrokenFunctionAtFirstLook() {
+        final Partial<Matrix> partial = new SequentialAvalancheTest(
+            (key, seed) -> new DoNothing32().hash(),
+            new Seed32(0),
+            4,
+            new Seed64(0L),
+            300_000
+        ).metric();
+        new Assertion<>(
+            "must stop after the first look",
+            partial.samples(),
+            new IsEqual<>(1_024L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.test;
+
+import com.github.fabriciofx.shah.func.donothing.DoNothing32;
+import com.github.fabriciofx.shah.metric.Collisions;
+import com.github.fabriciofx.shah.metric.Partial;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.seed.Seed64;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Sequential collision test tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class SequentialCollisionTestTest {
+    @Test
+    void failBrokenFunctionAtFirstLook() {
+        final Partial<Collisions> partial = new SequentialCollisionTest(
+            (key, seed) -> new DoNothing32().hash(),
+            new Seed32(0),
+            4,
+            new Seed64(0L),
+            1_000_000
+        ).metric();
+        new Assertion<>(
+            "must stop after the first look",
+            partial.samples(),
+            new IsEqual<>(16_384L)
+        ).affirm();
+    }
+}
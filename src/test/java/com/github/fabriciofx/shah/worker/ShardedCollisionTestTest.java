@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.shah.worker;
+
+import com.github.fabriciofx.shah.func.Reflected;
+import com.github.fabriciofx.shah.func.appleby.Murmur3Hash32;
+import com.github.fabriciofx.shah.seed.Seed32;
+import com.github.fabriciofx.shah.test.CollisionTest;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Sharded collision test tests.
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ShardedCollisionTestTest {
+    @Test
+    void countTheSameCollisionsAsInProcess() {
+        new Assertion<>(
+            "must count the same collisions as in process",
+            new ShardedCollisionTest(
+                new Reflected(Murmur3Hash32.class),
+                new Seed32(12_345),
+                4,
+                new Seed32(54_321),
+                100_000,
+                new Workers(2)
+            ).metric().value(),
+            new IsEqual<>(
+                new CollisionTest(
+                    new Reflected(Murmur3Hash32.class),
+                    new Seed32(12_345),
+                    4,
+                    new Seed32(54_321),
+                    100_000
+                ).metric().value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countNoCollisionWithoutKeys() {
+        new Assertion<>(
+            "must count no collision without keys",
+            new ShardedCollisionTest(
+                new Reflected(Murmur3Hash32.class),
+                new Seed32(12_345),
+                4,
+                new Seed32(54_321),
+                0,
+                new Workers(2)
+            ).metric().value(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}